@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.Objects;
+
+/**
+ * Cache key for the authorized APIs and the authorized scopes of an application, indexed by application ID.
+ */
+public class AuthorizedAPIAppCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = -1684503027365170443L;
+
+    private final String appId;
+
+    public AuthorizedAPIAppCacheKey(String appId) {
+
+        this.appId = appId;
+    }
+
+    public String getAppId() {
+
+        return appId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+
+        AuthorizedAPIAppCacheKey that = (AuthorizedAPIAppCacheKey) o;
+
+        return Objects.equals(appId, that.appId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        int result = super.hashCode();
+        result = 31 * result + (appId != null ? appId.hashCode() : 0);
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache for the authorized APIs of the applications.
+ */
+public class AuthorizedAPIListCache extends BaseCache<AuthorizedAPIAppCacheKey, AuthorizedAPIListCacheEntry> {
+
+    private static final String CACHE_NAME = "AuthorizedAPIListCache";
+    private static final AuthorizedAPIListCache instance = new AuthorizedAPIListCache();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private AuthorizedAPIListCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get instance of AuthorizedAPIListCache.
+     *
+     * @return Instance of AuthorizedAPIListCache.
+     */
+    public static AuthorizedAPIListCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Record a lookup of the cache.
+     *
+     * @param hit Whether the entry was found in the cache.
+     */
+    public void recordLookup(boolean hit) {
+
+        if (hit) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+    }
+
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    /**
+     * Get the ratio of the lookups which found the entry in the cache.
+     *
+     * @return Hit ratio, or 0 if the cache has not been looked up yet.
+     */
+    public double getHitRatio() {
+
+        long hits = hitCount.get();
+        long lookups = hits + missCount.get();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
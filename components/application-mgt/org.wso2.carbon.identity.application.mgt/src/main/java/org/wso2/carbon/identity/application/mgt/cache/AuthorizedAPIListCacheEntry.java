@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.cache;
+
+import org.wso2.carbon.identity.application.common.model.AuthorizationDetailsType;
+import org.wso2.carbon.identity.application.common.model.AuthorizedAPI;
+import org.wso2.carbon.identity.application.common.model.Scope;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache entry for the authorized APIs of an application.
+ * The authorized APIs returned by the DAO are enriched by the callers, hence every read returns a copy of the
+ * cached authorized APIs.
+ */
+public class AuthorizedAPIListCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -1684503027365170445L;
+
+    private final List<AuthorizedAPI> authorizedAPIs;
+
+    public AuthorizedAPIListCacheEntry(List<AuthorizedAPI> authorizedAPIs) {
+
+        this.authorizedAPIs = copy(authorizedAPIs);
+    }
+
+    /**
+     * Get a copy of the cached authorized APIs.
+     *
+     * @return Authorized APIs.
+     */
+    public List<AuthorizedAPI> getAuthorizedAPIs() {
+
+        return copy(authorizedAPIs);
+    }
+
+    private static List<AuthorizedAPI> copy(List<AuthorizedAPI> authorizedAPIs) {
+
+        List<AuthorizedAPI> copies = new ArrayList<>(authorizedAPIs.size());
+        for (AuthorizedAPI authorizedAPI : authorizedAPIs) {
+            List<Scope> scopes = null;
+            if (authorizedAPI.getScopes() != null) {
+                scopes = new ArrayList<>(authorizedAPI.getScopes().size());
+                for (Scope scope : authorizedAPI.getScopes()) {
+                    scopes.add(new Scope(scope.getId(), scope.getName(), scope.getDisplayName(),
+                            scope.getDescription(), scope.getApiID(), scope.getOrgID()));
+                }
+            }
+            List<AuthorizationDetailsType> authorizationDetailsTypes = null;
+            if (authorizedAPI.getAuthorizationDetailsTypes() != null) {
+                authorizationDetailsTypes = new ArrayList<>(authorizedAPI.getAuthorizationDetailsTypes().size());
+                for (AuthorizationDetailsType type : authorizedAPI.getAuthorizationDetailsTypes()) {
+                    authorizationDetailsTypes.add(new AuthorizationDetailsType(type.getId(), type.getType(),
+                            type.getName(), type.getDescription(), type.getSchema()));
+                }
+            }
+            AuthorizedAPI copy = new AuthorizedAPI(authorizedAPI.getAppId(), authorizedAPI.getAPIId(),
+                    authorizedAPI.getPolicyId(), scopes, authorizedAPI.getType(), authorizationDetailsTypes);
+            copy.setAPIIdentifier(authorizedAPI.getAPIIdentifier());
+            copy.setAPIName(authorizedAPI.getAPIName());
+            copies.add(copy);
+        }
+        return copies;
+    }
+}
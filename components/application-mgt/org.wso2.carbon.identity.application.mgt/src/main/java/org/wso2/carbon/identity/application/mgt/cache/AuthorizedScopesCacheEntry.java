@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.cache;
+
+import org.wso2.carbon.identity.application.common.model.AuthorizedScopes;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cache entry for the authorized scopes of an application.
+ * The scopes are kept in immutable arrays indexed by the authorization policy, and every read returns new
+ * {@link AuthorizedScopes} objects, hence the callers can not modify the cached scopes.
+ */
+public class AuthorizedScopesCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -1684503027365170444L;
+
+    private final String[] policyIds;
+    private final String[][] scopes;
+
+    public AuthorizedScopesCacheEntry(List<AuthorizedScopes> authorizedScopes) {
+
+        policyIds = new String[authorizedScopes.size()];
+        scopes = new String[authorizedScopes.size()][];
+        for (int i = 0; i < authorizedScopes.size(); i++) {
+            AuthorizedScopes policyScopes = authorizedScopes.get(i);
+            policyIds[i] = policyScopes.getPolicyId();
+            scopes[i] = policyScopes.getScopes() == null ? null : policyScopes.getScopes().toArray(new String[0]);
+        }
+    }
+
+    /**
+     * Get a copy of the cached authorized scopes.
+     *
+     * @return Authorized scopes per authorization policy.
+     */
+    public List<AuthorizedScopes> getAuthorizedScopes() {
+
+        List<AuthorizedScopes> authorizedScopes = new ArrayList<>(policyIds.length);
+        for (int i = 0; i < policyIds.length; i++) {
+            authorizedScopes.add(new AuthorizedScopes(policyIds[i],
+                    scopes[i] == null ? null : new ArrayList<>(Arrays.asList(scopes[i]))));
+        }
+        return authorizedScopes;
+    }
+}
@@ -26,9 +26,14 @@ import org.wso2.carbon.identity.application.common.model.AuthorizationDetailsTyp
 import org.wso2.carbon.identity.application.common.model.AuthorizedAPI;
 import org.wso2.carbon.identity.application.common.model.AuthorizedScopes;
 import org.wso2.carbon.identity.application.common.model.Scope;
+import org.wso2.carbon.identity.application.mgt.cache.AuthorizedAPIAppCacheKey;
 import org.wso2.carbon.identity.application.mgt.cache.AuthorizedAPICache;
 import org.wso2.carbon.identity.application.mgt.cache.AuthorizedAPICacheEntry;
 import org.wso2.carbon.identity.application.mgt.cache.AuthorizedAPICacheKey;
+import org.wso2.carbon.identity.application.mgt.cache.AuthorizedAPIListCache;
+import org.wso2.carbon.identity.application.mgt.cache.AuthorizedAPIListCacheEntry;
+import org.wso2.carbon.identity.application.mgt.cache.AuthorizedScopesCache;
+import org.wso2.carbon.identity.application.mgt.cache.AuthorizedScopesCacheEntry;
 import org.wso2.carbon.identity.application.mgt.dao.AuthorizedAPIDAO;
 
 import java.util.List;
@@ -41,6 +46,8 @@ public class CacheBackedAuthorizedAPIDAOImpl implements AuthorizedAPIDAO {
     private final AuthorizedAPIDAO authorizedAPIDAO;
 
     private static AuthorizedAPICache authorizedAPICache;
+    private static AuthorizedScopesCache authorizedScopesCache;
+    private static AuthorizedAPIListCache authorizedAPIListCache;
 
     private static final Log LOG = LogFactory.getLog(CacheBackedAuthorizedAPIDAOImpl.class);
 
@@ -48,20 +55,43 @@ public class CacheBackedAuthorizedAPIDAOImpl implements AuthorizedAPIDAO {
 
         this.authorizedAPIDAO = authorizedAPIDAO;
         authorizedAPICache = AuthorizedAPICache.getInstance();
+        authorizedScopesCache = AuthorizedScopesCache.getInstance();
+        authorizedAPIListCache = AuthorizedAPIListCache.getInstance();
     }
 
     @Override
     public void addAuthorizedAPI(String applicationId, String apiId, String policyId, List<Scope> scopes, int tenantId)
             throws IdentityApplicationManagementException {
 
+        clearApplicationAuthorizedAPIsFromCache(applicationId, tenantId);
         authorizedAPIDAO.addAuthorizedAPI(applicationId, apiId, policyId, scopes, tenantId);
+        // Clear again, as a concurrent read may have cached the old values before the write was committed.
+        clearApplicationAuthorizedAPIsFromCache(applicationId, tenantId);
     }
 
     @Override
     public List<AuthorizedAPI> getAuthorizedAPIs(String applicationId, int tenantId)
             throws IdentityApplicationManagementException {
 
-        return authorizedAPIDAO.getAuthorizedAPIs(applicationId, tenantId);
+        if (StringUtils.isBlank(applicationId)) {
+            return authorizedAPIDAO.getAuthorizedAPIs(applicationId, tenantId);
+        }
+        AuthorizedAPIAppCacheKey cacheKey = new AuthorizedAPIAppCacheKey(applicationId);
+        AuthorizedAPIListCacheEntry cacheEntry = authorizedAPIListCache.getValueFromCache(cacheKey, tenantId);
+        authorizedAPIListCache.recordLookup(cacheEntry != null);
+        if (cacheEntry != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Authorized API list found in cache for application id: " + applicationId +
+                        " in tenant id: " + tenantId);
+            }
+            return cacheEntry.getAuthorizedAPIs();
+        }
+        List<AuthorizedAPI> authorizedAPIs = authorizedAPIDAO.getAuthorizedAPIs(applicationId, tenantId);
+        if (authorizedAPIs != null) {
+            authorizedAPIListCache.addToCacheOnRead(cacheKey, new AuthorizedAPIListCacheEntry(authorizedAPIs),
+                    tenantId);
+        }
+        return authorizedAPIs;
     }
 
     @Override
@@ -76,14 +106,35 @@ public class CacheBackedAuthorizedAPIDAOImpl implements AuthorizedAPIDAO {
             throws IdentityApplicationManagementException {
 
         clearAuthorizedAPIFromCache(appId, apiId, tenantId);
+        clearApplicationAuthorizedAPIsFromCache(appId, tenantId);
         authorizedAPIDAO.deleteAuthorizedAPI(appId, apiId, tenantId);
+        clearAuthorizedAPIFromCache(appId, apiId, tenantId);
+        clearApplicationAuthorizedAPIsFromCache(appId, tenantId);
     }
 
     @Override
     public List<AuthorizedScopes> getAuthorizedScopes(String applicationId, int tenantId)
             throws IdentityApplicationManagementException {
 
-        return authorizedAPIDAO.getAuthorizedScopes(applicationId, tenantId);
+        if (StringUtils.isBlank(applicationId)) {
+            return authorizedAPIDAO.getAuthorizedScopes(applicationId, tenantId);
+        }
+        AuthorizedAPIAppCacheKey cacheKey = new AuthorizedAPIAppCacheKey(applicationId);
+        AuthorizedScopesCacheEntry cacheEntry = authorizedScopesCache.getValueFromCache(cacheKey, tenantId);
+        authorizedScopesCache.recordLookup(cacheEntry != null);
+        if (cacheEntry != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Authorized scopes found in cache for application id: " + applicationId +
+                        " in tenant id: " + tenantId);
+            }
+            return cacheEntry.getAuthorizedScopes();
+        }
+        List<AuthorizedScopes> authorizedScopes = authorizedAPIDAO.getAuthorizedScopes(applicationId, tenantId);
+        if (authorizedScopes != null) {
+            authorizedScopesCache.addToCacheOnRead(cacheKey, new AuthorizedScopesCacheEntry(authorizedScopes),
+                    tenantId);
+        }
+        return authorizedScopes;
     }
 
     @Override
@@ -154,11 +205,22 @@ public class CacheBackedAuthorizedAPIDAOImpl implements AuthorizedAPIDAO {
         }
     }
 
+    private void clearApplicationAuthorizedAPIsFromCache(String appId, int tenantId) {
+
+        if (StringUtils.isNotBlank(appId)) {
+            AuthorizedAPIAppCacheKey cacheKey = new AuthorizedAPIAppCacheKey(appId);
+            authorizedScopesCache.clearCacheEntry(cacheKey, tenantId);
+            authorizedAPIListCache.clearCacheEntry(cacheKey, tenantId);
+        }
+    }
+
     @Override
     public void addAuthorizedAPI(String applicationId, AuthorizedAPI authorizedAPI, int tenantId)
             throws IdentityApplicationManagementException {
 
+        clearApplicationAuthorizedAPIsFromCache(applicationId, tenantId);
         this.authorizedAPIDAO.addAuthorizedAPI(applicationId, authorizedAPI, tenantId);
+        clearApplicationAuthorizedAPIsFromCache(applicationId, tenantId);
     }
 
     @Override
@@ -167,8 +229,11 @@ public class CacheBackedAuthorizedAPIDAOImpl implements AuthorizedAPIDAO {
             throws IdentityApplicationManagementException {
 
         clearAuthorizedAPIFromCache(appId, apiId, tenantId);
+        clearApplicationAuthorizedAPIsFromCache(appId, tenantId);
         this.authorizedAPIDAO.patchAuthorizedAPI(appId, apiId, scopesToAdd, scopesToRemove,
                 authorizationDetailsTypesToAdd, authorizationDetailsTypesToRemove, tenantId);
+        clearAuthorizedAPIFromCache(appId, apiId, tenantId);
+        clearApplicationAuthorizedAPIsFromCache(appId, tenantId);
     }
 
     @Override
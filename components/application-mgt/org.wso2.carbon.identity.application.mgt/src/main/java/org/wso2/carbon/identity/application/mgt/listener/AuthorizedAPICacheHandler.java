@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.mgt.listener;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.mgt.cache.AuthorizedAPICache;
+import org.wso2.carbon.identity.application.mgt.cache.AuthorizedAPIListCache;
+import org.wso2.carbon.identity.application.mgt.cache.AuthorizedScopesCache;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+/**
+ * Event handler for API resource management operations to clear the authorized API caches.
+ * The authorized APIs and scopes of the applications contain the scopes of the API resources, hence when the scopes
+ * of an API resource change or an API resource is deleted, the cached authorized APIs of the tenant become stale.
+ */
+public class AuthorizedAPICacheHandler extends AbstractEventHandler {
+
+    private static final Log LOG = LogFactory.getLog(AuthorizedAPICacheHandler.class);
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        switch (event.getEventName()) {
+            case IdentityEventConstants.Event.POST_DELETE_API_RESOURCE:
+            case IdentityEventConstants.Event.POST_UPDATE_API_RESOURCE:
+            case IdentityEventConstants.Event.POST_PUT_API_RESOURCE_SCOPES:
+            case IdentityEventConstants.Event.POST_DELETE_API_RESOURCE_SCOPES:
+            case IdentityEventConstants.Event.POST_DELETE_SCOPE:
+            case IdentityEventConstants.Event.POST_UPDATE_SCOPE_METADATA:
+                clearAuthorizedAPICaches(
+                        (String) event.getEventProperties().get(IdentityEventConstants.EventProperty.TENANT_DOMAIN));
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Clear the authorized API caches of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    private void clearAuthorizedAPICaches(String tenantDomain) {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            LOG.warn("Tenant domain is missing in event properties. Cannot clear authorized API caches.");
+            return;
+        }
+        AuthorizedAPICache.getInstance().clear(tenantDomain);
+        AuthorizedScopesCache.getInstance().clear(tenantDomain);
+        AuthorizedAPIListCache.getInstance().clear(tenantDomain);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cleared authorized API caches for tenant: " + tenantDomain);
+        }
+    }
+
+    @Override
+    public String getName() {
+
+        return "AuthorizedAPICacheHandler";
+    }
+}
@@ -255,6 +255,43 @@ public class AuthorizedAPIManagementServiceImplTest {
         }
     }
 
+    @Test(priority = 3)
+    public void testGetAuthorizedScopesAfterPatch() throws Exception {
+
+        String appId = addApplication();
+        APIResource apiResource = addTestAPIResource("test-get-scopes-patch");
+        AuthorizedAPI authorizedAPI = new AuthorizedAPI.AuthorizedAPIBuilder()
+                .apiId(apiResource.getId())
+                .appId(appId)
+                .policyId("RBAC")
+                .scopes(apiResource.getScopes())
+                .build();
+        authorizedAPIManagementService.addAuthorizedAPI(appId, authorizedAPI, tenantDomain);
+
+        List<AuthorizedScopes> authorizedScopesList = authorizedAPIManagementService.getAuthorizedScopes(appId,
+                tenantDomain);
+        Assert.assertEquals(authorizedScopesList.size(), 1);
+        Assert.assertEquals(authorizedScopesList.get(0).getScopes().size(), 2);
+        // Modifying the returned scopes should not affect the subsequent lookups.
+        authorizedScopesList.get(0).getScopes().clear();
+        List<AuthorizedAPI> authorizedAPIs = authorizedAPIManagementService.getAuthorizedAPIs(appId, tenantDomain);
+        authorizedAPIs.get(0).getScopes().clear();
+
+        authorizedScopesList = authorizedAPIManagementService.getAuthorizedScopes(appId, tenantDomain);
+        Assert.assertEquals(authorizedScopesList.get(0).getScopes().size(), 2);
+        authorizedAPIs = authorizedAPIManagementService.getAuthorizedAPIs(appId, tenantDomain);
+        Assert.assertEquals(authorizedAPIs.get(0).getScopes().size(), 2);
+
+        authorizedAPIManagementService.patchAuthorizedAPI(appId, apiResource.getId(), Collections.emptyList(),
+                Collections.singletonList(apiResource.getScopes().get(0).getName()), Collections.emptyList(),
+                Collections.emptyList(), tenantDomain);
+
+        authorizedScopesList = authorizedAPIManagementService.getAuthorizedScopes(appId, tenantDomain);
+        Assert.assertEquals(authorizedScopesList.get(0).getScopes().size(), 1);
+        authorizedAPIs = authorizedAPIManagementService.getAuthorizedAPIs(appId, tenantDomain);
+        Assert.assertEquals(authorizedAPIs.get(0).getScopes().size(), 1);
+    }
+
     @Test(priority = 4)
     public void testDeleteAuthorizedAPI() throws Exception {
 
@@ -59,7 +59,10 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManager;
+import org.wso2.carbon.idp.mgt.cache.IdPCacheByAuthProperty;
+import org.wso2.carbon.idp.mgt.cache.IdPCacheByHRI;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByName;
+import org.wso2.carbon.idp.mgt.cache.IdPCacheByResourceId;
 import org.wso2.carbon.idp.mgt.internal.IdpMgtServiceComponentHolder;
 import org.wso2.carbon.idp.mgt.util.MetadataConverter;
 import org.wso2.carbon.registry.core.Collection;
@@ -142,7 +145,10 @@ public class ApplicationIdentityProviderMgtListenerTest {
     @AfterMethod
     public void after() {
 
+        IdPCacheByResourceId.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
         IdPCacheByName.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        IdPCacheByHRI.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
+        IdPCacheByAuthProperty.getInstance().clear(SUPER_TENANT_DOMAIN_NAME);
     }
 
     @Test(description = "Test the general workflow of the pre-update IDP listener during a normal IDP update.")
@@ -44,6 +44,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -74,20 +75,24 @@ import static org.wso2.carbon.identity.framework.async.operation.status.mgt.inte
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.CREATED_AT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.CURSOR_KEY;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.FAILED_COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.INITIATED_ORG_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.INITIATED_USER_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.LAST_MODIFIED;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.OPERATION_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.OPERATION_TYPE;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.PARTIALLY_COMPLETED_COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.POLICY;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.RESIDENT_RESOURCE_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.STATUS;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.STATUS_MESSAGE;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.SUBJECT_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.SUBJECT_TYPE;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.SUCCESS_COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.TARGET_ORG_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.SQLPlaceholders.UNIT_OPERATION_ID;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.UPDATE_ASYNC_OPERATION;
+import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.constant.SQLConstants.UPDATE_UNIT_OPERATION_STATUS_COUNT;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.util.AsyncOperationStatusMgtExceptionHandler.handleServerException;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.util.AsyncOperationStatusMgtExceptionHandler.throwRuntimeException;
 import static org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.util.FilterQueryBuilderUtil.buildFilterQuery;
@@ -145,9 +150,10 @@ public class AsyncOperationOperationStatusMgtDAOImpl implements AsyncOperationSt
             throws AsyncOperationStatusMgtException {
 
         Timestamp currentTimestamp = new Timestamp(new Date().getTime());
+        Map<String, UnitOperationStatusCount> statusCounts = countUnitOperationStatuses(queue);
         NamedJdbcTemplate jdbcTemplate = AsyncOperationStatusMgtDbUtil.getNewTemplate();
         try {
-            jdbcTemplate.withTransaction(template ->
+            jdbcTemplate.withTransaction(template -> {
                 template.executeBatchInsert(CREATE_ASYNC_OPERATION_UNIT_BATCH, statement -> {
                     for (UnitOperationInitDTO context : queue) {
                         statement.setString(UNIT_OPERATION_ID, UUID.randomUUID().toString());
@@ -159,7 +165,21 @@ public class AsyncOperationOperationStatusMgtDAOImpl implements AsyncOperationSt
                         statement.setTimeStamp(CREATED_AT, currentTimestamp, null);
                         statement.addBatch();
                     }
-                }, null));
+                }, null);
+                // Keep the unit operation status counts of the operations in sync with the added unit operations.
+                if (!statusCounts.isEmpty()) {
+                    template.executeBatchInsert(UPDATE_UNIT_OPERATION_STATUS_COUNT, statement -> {
+                        for (Map.Entry<String, UnitOperationStatusCount> entry : statusCounts.entrySet()) {
+                            statement.setInt(SUCCESS_COUNT, entry.getValue().getSuccess());
+                            statement.setInt(FAILED_COUNT, entry.getValue().getFailed());
+                            statement.setInt(PARTIALLY_COMPLETED_COUNT, entry.getValue().getPartiallyCompleted());
+                            statement.setString(OPERATION_ID, entry.getKey());
+                            statement.addBatch();
+                        }
+                    }, null);
+                }
+                return null;
+            });
         } catch (TransactionException e) {
             throw handleServerException(ERROR_WHILE_PERSISTING_ASYNC_OPERATION_STATUS_UNIT, e);
         }
@@ -309,29 +329,40 @@ public class AsyncOperationOperationStatusMgtDAOImpl implements AsyncOperationSt
         });
     }
 
+    private static Map<String, UnitOperationStatusCount> countUnitOperationStatuses(
+            ConcurrentLinkedQueue<UnitOperationInitDTO> queue) {
+
+        Map<String, UnitOperationStatusCount> statusCounts = new HashMap<>();
+        for (UnitOperationInitDTO unitOperation : queue) {
+            if (unitOperation.getUnitOperationStatus() == null) {
+                continue;
+            }
+            OperationStatus status = toOperationStatus(unitOperation.getUnitOperationStatus());
+            if (status == null) {
+                continue;
+            }
+            UnitOperationStatusCount statusCount =
+                    statusCounts.computeIfAbsent(unitOperation.getOperationId(), k -> new UnitOperationStatusCount());
+            addToStatusCount(statusCount, status, 1);
+        }
+        return statusCounts;
+    }
+
+    /**
+     * Get the unit operation status counts of an operation by grouping its unit operations. Used for the operations
+     * created before the status counts were kept on the operation record.
+     */
     private UnitOperationStatusCount getUnitOperationStatusCount(String operationId, String requestInitiatedOrgId)
-            throws  DataAccessException {
+            throws DataAccessException {
 
         UnitOperationStatusCount countObj = new UnitOperationStatusCount();
         NamedJdbcTemplate jdbcTemplate = AsyncOperationStatusMgtDbUtil.getNewTemplate();
 
         jdbcTemplate.executeQuery(GET_UNIT_OPERATION_STATUS_COUNT, (resultSet, rowNumber) -> {
 
-            OperationStatus status = OperationStatus.valueOf(resultSet.getString(STATUS));
-            int count = resultSet.getInt(COUNT);
-
-            switch (status) {
-                case SUCCESS:
-                    countObj.setSuccess(count);
-                    break;
-                case FAILED:
-                    countObj.setFailed(count);
-                    break;
-                case PARTIALLY_COMPLETED:
-                    countObj.setPartiallyCompleted(count);
-                    break;
-                default:
-                    break;
+            OperationStatus status = toOperationStatus(resultSet.getString(STATUS));
+            if (status != null) {
+                addToStatusCount(countObj, status, resultSet.getInt(COUNT));
             }
             return null;
         },
@@ -342,6 +373,33 @@ public class AsyncOperationOperationStatusMgtDAOImpl implements AsyncOperationSt
         return countObj;
     }
 
+    private static void addToStatusCount(UnitOperationStatusCount statusCount, OperationStatus status, int count) {
+
+        switch (status) {
+            case SUCCESS:
+                statusCount.setSuccess(statusCount.getSuccess() + count);
+                break;
+            case FAILED:
+                statusCount.setFailed(statusCount.getFailed() + count);
+                break;
+            case PARTIALLY_COMPLETED:
+                statusCount.setPartiallyCompleted(statusCount.getPartiallyCompleted() + count);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static OperationStatus toOperationStatus(String status) {
+
+        try {
+            return OperationStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Unknown unit operation status: " + status + ". The status is not counted.");
+            return null;
+        }
+    }
+
     private static String getOperationsStatusSqlStmt(FilterQueryBuilder filterQueryBuilder)
             throws AsyncOperationStatusMgtServerException {
 
@@ -388,6 +446,18 @@ public class AsyncOperationOperationStatusMgtDAOImpl implements AsyncOperationSt
     private OperationResponseDTO createOperationResponseDTO(ResultSet resultSet)
             throws SQLException, DataAccessException {
 
+        UnitOperationStatusCount unitStatusCount = new UnitOperationStatusCount();
+        unitStatusCount.setSuccess(resultSet.getInt(SUCCESS_COUNT));
+        boolean countsMissing = resultSet.wasNull();
+        unitStatusCount.setFailed(resultSet.getInt(FAILED_COUNT));
+        countsMissing |= resultSet.wasNull();
+        unitStatusCount.setPartiallyCompleted(resultSet.getInt(PARTIALLY_COMPLETED_COUNT));
+        countsMissing |= resultSet.wasNull();
+        if (countsMissing) {
+            // The operation was created before the status counts were kept on the operation record.
+            unitStatusCount = getUnitOperationStatusCount(resultSet.getString(OPERATION_ID),
+                    resultSet.getString(INITIATED_ORG_ID));
+        }
         return new OperationResponseDTO.Builder()
                 .operationId(resultSet.getString(OPERATION_ID))
                 .cursorKey(resultSet.getInt(CURSOR_KEY))
@@ -401,8 +471,7 @@ public class AsyncOperationOperationStatusMgtDAOImpl implements AsyncOperationSt
                 .operationPolicy(resultSet.getString(POLICY))
                 .createdTime(Timestamp.valueOf(resultSet.getString(CREATED_AT)))
                 .modifiedTime(Timestamp.valueOf(resultSet.getString(LAST_MODIFIED)))
-                .unitStatusCount(getUnitOperationStatusCount(resultSet.getString(OPERATION_ID),
-                        resultSet.getString(INITIATED_ORG_ID)))
+                .unitStatusCount(unitStatusCount)
                 .build();
     }
 
@@ -24,43 +24,102 @@ import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.excepti
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.dao.AsyncOperationStatusMgtDAO;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * In-memory queue to store async operations, with database fallback.
+ * <p>
+ * Producers append the operations to a lock-free queue and never write to the database while holding a lock. A
+ * dedicated flusher thread drains the queue and persists the operations in batches of the threshold size, either when
+ * the threshold is reached or periodically. The number of buffered operations is bounded by the capacity. When the
+ * buffer is full because the database is slow, a producer waits for the flusher for a while and then persists its
+ * operation directly. A batch that fails to persist is retried with an exponential backoff, and it is dropped after
+ * a number of failed attempts to release the buffer capacity it holds. The buffered operations are flushed when the
+ * buffer is shut down.
  */
 public class AsyncOperationDataBuffer {
 
     private static final Log LOG = LogFactory.getLog(AsyncOperationDataBuffer.class);
+    private static final int DEFAULT_CAPACITY_FACTOR = 10;
+    private static final long BACKPRESSURE_WAIT_MILLIS = 1000L;
+    private static final long SHUTDOWN_WAIT_SECONDS = 30L;
+    private static final int MAX_FLUSH_ATTEMPTS = 5;
+    private static final long INITIAL_RETRY_BACKOFF_MILLIS = 1000L;
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 60000L;
+
     private final ConcurrentLinkedQueue<UnitOperationInitDTO> queue = new ConcurrentLinkedQueue<>();
     private final AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO;
     private final int threshold;
     private final int flushIntervalSeconds;
-    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final Semaphore capacity;
+    private final AtomicInteger bufferedCount = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicBoolean shutdown = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AsyncOperationDataBufferFlusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The batch waiting to be retried after a failed flush. Only accessed within the flush.
+    private ConcurrentLinkedQueue<UnitOperationInitDTO> failedBatch;
+    private int failedFlushAttempts;
+    private long nextRetryTimeNanos;
+
+    // Metrics.
+    private final AtomicLong flushedBatchCount = new AtomicLong();
+    private final AtomicLong flushedOperationCount = new AtomicLong();
+    private final AtomicLong totalFlushLatencyNanos = new AtomicLong();
+    private final AtomicLong maxFlushLatencyNanos = new AtomicLong();
+    private final AtomicLong directlyPersistedCount = new AtomicLong();
+    private final AtomicLong droppedOperationCount = new AtomicLong();
 
     public AsyncOperationDataBuffer(AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO, int threshold,
                                     int flushIntervalSeconds) {
 
+        this(asyncOperationStatusMgtDAO, threshold, flushIntervalSeconds, threshold * DEFAULT_CAPACITY_FACTOR);
+    }
+
+    public AsyncOperationDataBuffer(AsyncOperationStatusMgtDAO asyncOperationStatusMgtDAO, int threshold,
+                                    int flushIntervalSeconds, int capacity) {
+
         this.asyncOperationStatusMgtDAO = asyncOperationStatusMgtDAO;
         this.threshold = threshold;
         this.flushIntervalSeconds = flushIntervalSeconds;
+        this.capacity = new Semaphore(Math.max(capacity, threshold));
 
         startPeriodicFlushTask();
     }
 
     /**
-     * Add an operation to the queue. If queue exceeds threshold, persist to DB.
+     * Add an operation to the queue. If queue reaches the threshold, the flusher persists the queued operations to
+     * the DB. If the queue is full, the operation is persisted to the DB by the caller.
      *
      * @param operation The operation to add.
      */
-    public synchronized void add(UnitOperationInitDTO operation) throws AsyncOperationStatusMgtException {
+    public void add(UnitOperationInitDTO operation) throws AsyncOperationStatusMgtException {
 
+        if (shutdown.get() || !acquireCapacity()) {
+            persistDirectly(operation);
+            return;
+        }
         queue.offer(operation);
-        if (queue.size() >= threshold) {
-            persistToDatabase();
+        int size = bufferedCount.incrementAndGet();
+        if (shutdown.get()) {
+            // The buffer was shut down while adding the operation.
+            flush();
+        } else if (size >= threshold) {
+            requestFlush();
         }
     }
 
@@ -79,27 +138,251 @@ public class AsyncOperationDataBuffer {
      *
      * @return The next operation, or null if the queue is empty.
      */
-    public synchronized UnitOperationInitDTO dequeue() {
+    public UnitOperationInitDTO dequeue() {
 
-        return queue.poll();
+        UnitOperationInitDTO operation = queue.poll();
+        if (operation != null) {
+            release(1);
+        }
+        return operation;
     }
 
     /**
-     * Shuts down the scheduled task.
+     * Shuts down the flusher and persists the remaining operations to the database.
      */
     public void shutdown() {
 
+        if (!shutdown.compareAndSet(false, true)) {
+            return;
+        }
         scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                LOG.warn("Timed out while waiting for the unit operation records flush to complete.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // The flusher is stopped, hence the remaining operations are flushed by the caller.
+        flush();
+    }
+
+    /**
+     * Get the number of operations waiting in the queue.
+     *
+     * @return Number of buffered operations.
+     */
+    public int getBufferedCount() {
+
+        return bufferedCount.get();
     }
 
     /**
-     * Persist queued operations to the database in batch.
+     * Get the number of batches persisted to the database.
+     *
+     * @return Number of flushed batches.
      */
-    private synchronized void persistToDatabase() throws AsyncOperationStatusMgtException {
+    public long getFlushedBatchCount() {
+
+        return flushedBatchCount.get();
+    }
+
+    /**
+     * Get the number of operations persisted to the database in batches.
+     *
+     * @return Number of flushed operations.
+     */
+    public long getFlushedOperationCount() {
+
+        return flushedOperationCount.get();
+    }
+
+    /**
+     * Get the average size of the batches persisted to the database.
+     *
+     * @return Average batch size.
+     */
+    public double getAverageBatchSize() {
+
+        long batches = flushedBatchCount.get();
+        return batches == 0 ? 0 : (double) flushedOperationCount.get() / batches;
+    }
+
+    /**
+     * Get the average time taken to persist a batch to the database.
+     *
+     * @return Average flush latency in milliseconds.
+     */
+    public double getAverageFlushLatencyMillis() {
+
+        long batches = flushedBatchCount.get();
+        return batches == 0 ? 0 : totalFlushLatencyNanos.get() / (batches * 1_000_000.0);
+    }
+
+    /**
+     * Get the maximum time taken to persist a batch to the database.
+     *
+     * @return Maximum flush latency in milliseconds.
+     */
+    public long getMaxFlushLatencyMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxFlushLatencyNanos.get());
+    }
+
+    /**
+     * Get the number of operations persisted by the callers as the buffer was full or shut down.
+     *
+     * @return Number of directly persisted operations.
+     */
+    public long getDirectlyPersistedCount() {
+
+        return directlyPersistedCount.get();
+    }
 
-        if (!queue.isEmpty()) {
-            asyncOperationStatusMgtDAO.registerAsyncStatusUnit(queue);
-            queue.clear();
+    /**
+     * Get the number of operations dropped as they could not be persisted after the maximum number of attempts.
+     *
+     * @return Number of dropped operations.
+     */
+    public long getDroppedOperationCount() {
+
+        return droppedOperationCount.get();
+    }
+
+    private boolean acquireCapacity() {
+
+        if (capacity.tryAcquire()) {
+            return true;
+        }
+        // The buffer is full. Wake up the flusher and wait for it to free some capacity.
+        requestFlush();
+        try {
+            return capacity.tryAcquire(BACKPRESSURE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void release(int count) {
+
+        bufferedCount.addAndGet(-count);
+        capacity.release(count);
+    }
+
+    private void requestFlush() {
+
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flushBuffer);
+            } catch (RejectedExecutionException e) {
+                // The buffer is shut down. The remaining operations are flushed by the shutdown.
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    private void persistDirectly(UnitOperationInitDTO operation) throws AsyncOperationStatusMgtException {
+
+        directlyPersistedCount.incrementAndGet();
+        ConcurrentLinkedQueue<UnitOperationInitDTO> batch = new ConcurrentLinkedQueue<>();
+        batch.offer(operation);
+        asyncOperationStatusMgtDAO.registerAsyncStatusUnit(batch);
+    }
+
+    private void flushBuffer() {
+
+        flushRequested.set(false);
+        flush();
+    }
+
+    /**
+     * Persist queued operations to the database in batches. Called by the flusher thread, or by the callers once the
+     * buffer is shut down. Never throws, as an exception would cancel the periodic flush.
+     */
+    private synchronized void flush() {
+
+        if (failedBatch != null) {
+            if (!shutdown.get() && System.nanoTime() - nextRetryTimeNanos < 0) {
+                // Back off until the next retry of the failed batch.
+                return;
+            }
+            ConcurrentLinkedQueue<UnitOperationInitDTO> batch = failedBatch;
+            failedBatch = null;
+            if (!persistBatch(batch)) {
+                return;
+            }
+        }
+        while (!queue.isEmpty()) {
+            ConcurrentLinkedQueue<UnitOperationInitDTO> batch = new ConcurrentLinkedQueue<>();
+            int batchSize = 0;
+            UnitOperationInitDTO operation;
+            while (batchSize < threshold && (operation = queue.poll()) != null) {
+                batch.offer(operation);
+                batchSize++;
+            }
+            if (batchSize == 0 || !persistBatch(batch)) {
+                return;
+            }
+        }
+    }
+
+    private boolean persistBatch(ConcurrentLinkedQueue<UnitOperationInitDTO> batch) {
+
+        int batchSize = batch.size();
+        long startTime = System.nanoTime();
+        try {
+            asyncOperationStatusMgtDAO.registerAsyncStatusUnit(batch);
+        } catch (AsyncOperationStatusMgtException | RuntimeException e) {
+            handleFailedBatch(batch, e);
+            return false;
+        }
+        failedFlushAttempts = 0;
+        recordFlush(batchSize, System.nanoTime() - startTime);
+        release(batchSize);
+        return true;
+    }
+
+    private void handleFailedBatch(ConcurrentLinkedQueue<UnitOperationInitDTO> batch, Exception e) {
+
+        int batchSize = batch.size();
+        failedFlushAttempts++;
+        if (failedFlushAttempts >= MAX_FLUSH_ATTEMPTS || shutdown.get()) {
+            LOG.error("Dropping " + batchSize + " unit operation records of the operations " + getOperationIds(batch)
+                    + " after " + failedFlushAttempts + " failed attempts to flush them to the database.", e);
+            failedFlushAttempts = 0;
+            droppedOperationCount.addAndGet(batchSize);
+            release(batchSize);
+            return;
+        }
+        // Keep the operations to be retried after the backoff. They still hold the buffer capacity, hence the
+        // producers persist directly while the database is unavailable.
+        long backoffMillis = Math.min(INITIAL_RETRY_BACKOFF_MILLIS << (failedFlushAttempts - 1),
+                MAX_RETRY_BACKOFF_MILLIS);
+        failedBatch = batch;
+        nextRetryTimeNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis);
+        LOG.error("Error while flushing " + batchSize + " unit operation records to the database. Retrying in " +
+                backoffMillis + " ms.", e);
+    }
+
+    private static Set<String> getOperationIds(ConcurrentLinkedQueue<UnitOperationInitDTO> batch) {
+
+        Set<String> operationIds = new LinkedHashSet<>();
+        for (UnitOperationInitDTO operation : batch) {
+            operationIds.add(operation.getOperationId());
+        }
+        return operationIds;
+    }
+
+    private void recordFlush(int batchSize, long latencyNanos) {
+
+        flushedBatchCount.incrementAndGet();
+        flushedOperationCount.addAndGet(batchSize);
+        totalFlushLatencyNanos.addAndGet(latencyNanos);
+        maxFlushLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Flushed " + batchSize + " unit operation records to the database in " +
+                    TimeUnit.NANOSECONDS.toMillis(latencyNanos) + " ms. Buffered records: " + bufferedCount.get());
         }
     }
 
@@ -108,17 +391,7 @@ public class AsyncOperationDataBuffer {
      */
     private void startPeriodicFlushTask() {
 
-        scheduler.scheduleAtFixedRate(() -> {
-            if (!queue.isEmpty()) {
-                try {
-                    persistToDatabase();
-                } catch (AsyncOperationStatusMgtException e) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.error("Error while flushing unit operation records to the database.", e);
-                    }
-                }
-            }
-        }, flushIntervalSeconds, flushIntervalSeconds, TimeUnit.SECONDS);
+        scheduler.scheduleAtFixedRate(this::flush, flushIntervalSeconds, flushIntervalSeconds, TimeUnit.SECONDS);
     }
 
 }
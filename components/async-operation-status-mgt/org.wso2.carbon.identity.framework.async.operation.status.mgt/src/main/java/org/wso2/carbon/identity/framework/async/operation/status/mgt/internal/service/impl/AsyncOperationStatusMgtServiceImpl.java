@@ -97,6 +97,14 @@ public class AsyncOperationStatusMgtServiceImpl implements AsyncOperationStatusM
         return instance;
     }
 
+    /**
+     * Flush the buffered unit operation records to the database and stop the buffer.
+     */
+    public void shutdown() {
+
+        operationDataBuffer.shutdown();
+    }
+
     @Override
     public String registerOperationStatus(OperationInitDTO record, boolean updateIfExists)
             throws AsyncOperationStatusMgtException {
@@ -21,16 +21,20 @@ package org.wso2.carbon.identity.framework.async.operation.status.mgt.queue;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtServerException;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.dao.AsyncOperationStatusMgtDAO;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.internal.queue.AsyncOperationDataBuffer;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -93,6 +97,67 @@ public class AsyncOperationDataBufferTest {
         assertTrue(dataBuffer.isEmpty());
     }
 
+    @Test
+    void testShutdownFlushesBufferedOperations() throws Exception {
+
+        AsyncOperationStatusMgtDAO dao = mock(AsyncOperationStatusMgtDAO.class);
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(dao, threshold, 60);
+        buffer.add(new UnitOperationInitDTO());
+        buffer.add(new UnitOperationInitDTO());
+
+        buffer.shutdown();
+
+        verify(dao, times(1)).registerAsyncStatusUnit(any());
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.getBufferedCount());
+        assertEquals(1, buffer.getFlushedBatchCount());
+        assertEquals(2, buffer.getFlushedOperationCount());
+    }
+
+    @Test
+    void testAddWhenBufferIsFullPersistsDirectly() throws Exception {
+
+        AsyncOperationStatusMgtDAO dao = mock(AsyncOperationStatusMgtDAO.class);
+        CountDownLatch flushFailed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushFailed.countDown();
+            throw new AsyncOperationStatusMgtServerException("Database unavailable.");
+        }).doNothing().when(dao).registerAsyncStatusUnit(any());
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(dao, 1, 60, 1);
+        // The flush of the first operation fails, hence the operation keeps holding the buffer capacity until the
+        // failed batch is retried after the backoff.
+        buffer.add(new UnitOperationInitDTO());
+        assertTrue(flushFailed.await(5, TimeUnit.SECONDS));
+
+        buffer.add(new UnitOperationInitDTO());
+
+        assertEquals(1, buffer.getDirectlyPersistedCount());
+        assertEquals(1, buffer.getBufferedCount());
+        buffer.shutdown();
+        assertEquals(0, buffer.getBufferedCount());
+        assertEquals(0, buffer.getDroppedOperationCount());
+    }
+
+    @Test
+    void testFailedBatchIsDroppedOnShutdown() throws Exception {
+
+        AsyncOperationStatusMgtDAO dao = mock(AsyncOperationStatusMgtDAO.class);
+        CountDownLatch flushFailed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushFailed.countDown();
+            throw new IllegalStateException("Unexpected error.");
+        }).when(dao).registerAsyncStatusUnit(any());
+        AsyncOperationDataBuffer buffer = new AsyncOperationDataBuffer(dao, 1, 60, 1);
+        buffer.add(new UnitOperationInitDTO());
+        assertTrue(flushFailed.await(5, TimeUnit.SECONDS));
+
+        buffer.shutdown();
+
+        // A failed batch is not kept for a retry once the buffer is shut down. It is dropped, releasing the capacity.
+        assertEquals(0, buffer.getBufferedCount());
+        assertEquals(1, buffer.getDroppedOperationCount());
+    }
+
     private void emptyBuffer() {
 
         while (!dataBuffer.isEmpty()) {
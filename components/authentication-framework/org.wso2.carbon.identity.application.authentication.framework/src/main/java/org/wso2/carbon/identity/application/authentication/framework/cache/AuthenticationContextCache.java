@@ -43,6 +43,7 @@ public class AuthenticationContextCache extends
     private static final Log log = LogFactory.getLog(AuthenticationContextCache.class);
     private static volatile AuthenticationContextCache instance;
     private final boolean isTemporarySessionDataPersistEnabled;
+    private final SessionDataLoadCoalescer<AuthenticationContextCacheEntry> sessionDataLoadCoalescer;
 
     /**
      * Private constructor which will not allow to create objects of this class from outside.
@@ -55,6 +56,7 @@ public class AuthenticationContextCache extends
         } else {
             isTemporarySessionDataPersistEnabled = false;
         }
+        sessionDataLoadCoalescer = new SessionDataLoadCoalescer<>(AUTHENTICATION_CONTEXT_CACHE_NAME);
     }
 
     /**
@@ -82,6 +84,7 @@ public class AuthenticationContextCache extends
     public void addToCache(AuthenticationContextCacheKey key, AuthenticationContextCacheEntry entry) {
 
         super.addToCache(key, entry);
+        sessionDataLoadCoalescer.invalidate(key.getContextId());
         if (isTemporarySessionDataPersistEnabled) {
             persistSessionData(key, entry, "");
         }
@@ -90,6 +93,7 @@ public class AuthenticationContextCache extends
     public void addToCacheOnRead(AuthenticationContextCacheKey key, AuthenticationContextCacheEntry entry) {
 
         super.addToCacheOnRead(key, entry);
+        sessionDataLoadCoalescer.invalidate(key.getContextId());
         if (isTemporarySessionDataPersistEnabled) {
             persistSessionData(key, entry, "[AddToCacheOnRead]");
         }
@@ -107,16 +111,11 @@ public class AuthenticationContextCache extends
             log.debug("Found a valid AuthenticationContextCacheEntry corresponding to the session data key : " +
                     key.getContextId() + " from the cache. ");
         }
-        if (entry == null && isTemporarySessionDataPersistEnabled) {
-            entry = (AuthenticationContextCacheEntry) SessionDataStore.getInstance().
-                    getSessionData(key.getContextId(), AUTHENTICATION_CONTEXT_CACHE_NAME);
-            if (log.isDebugEnabled()) {
-                log.debug("Found a valid AuthenticationContextCacheEntry corresponding to the session data key : " +
-                        key.getContextId() + " from the data store. ");
-            }
-
-            // Update the cache again with the new value.
-            super.addToCacheOnRead(key, entry);
+        if (entry != null) {
+            sessionDataLoadCoalescer.recordCacheHit();
+        } else if (isTemporarySessionDataPersistEnabled) {
+            // Concurrent misses of the same context share a single session data store read.
+            entry = sessionDataLoadCoalescer.load(key.getContextId(), () -> getValueFromSessionDataStore(key));
         }
         if (entry != null) {
             try {
@@ -142,6 +141,37 @@ public class AuthenticationContextCache extends
         return entry;
     }
 
+    /**
+     * Get the helper which coalesces the session data store reads of this cache. Exposes the hit, miss and
+     * coalesced load counters of the cache.
+     *
+     * @return Session data load coalescer.
+     */
+    public SessionDataLoadCoalescer<AuthenticationContextCacheEntry> getSessionDataLoadCoalescer() {
+
+        return sessionDataLoadCoalescer;
+    }
+
+    /**
+     * Retrieves a cache entry from the session data store and adds it back to the cache.
+     *
+     * @param key CacheKey
+     * @return Entry from the session data store.
+     */
+    private AuthenticationContextCacheEntry getValueFromSessionDataStore(AuthenticationContextCacheKey key) {
+
+        AuthenticationContextCacheEntry entry = (AuthenticationContextCacheEntry) SessionDataStore.getInstance().
+                getSessionData(key.getContextId(), AUTHENTICATION_CONTEXT_CACHE_NAME);
+        if (log.isDebugEnabled()) {
+            log.debug("Found a valid AuthenticationContextCacheEntry corresponding to the session data key : " +
+                    key.getContextId() + " from the data store. ");
+        }
+
+        // Update the cache again with the new value.
+        super.addToCacheOnRead(key, entry);
+        return entry;
+    }
+
     /**
      * Clears a cache entry.
      *
@@ -48,10 +48,12 @@ public class SessionContextCache extends BaseCache<SessionContextCacheKey, Sessi
     private static final Log log = LogFactory.getLog(SessionContextCache.class);
 
     private static volatile SessionContextCache instance;
+    private final SessionDataLoadCoalescer<SessionContextCacheEntry> sessionDataLoadCoalescer;
 
     private SessionContextCache() {
 
         super(SESSION_CONTEXT_CACHE_NAME);
+        sessionDataLoadCoalescer = new SessionDataLoadCoalescer<>(SESSION_CONTEXT_CACHE_NAME);
     }
 
     public static SessionContextCache getInstance() {
@@ -79,6 +81,7 @@ public class SessionContextCache extends BaseCache<SessionContextCacheKey, Sessi
         }
         entry.setAccessedTime();
         super.addToCache(key, entry, resolveLoginTenantDomain(loginTenantDomain));
+        sessionDataLoadCoalescer.invalidate(key.getContextId());
         optimizeAndStoreSessionData(key, entry);
     }
 
@@ -100,6 +103,7 @@ public class SessionContextCache extends BaseCache<SessionContextCacheKey, Sessi
         }
         entry.setAccessedTime();
         super.addToCacheOnRead(key, entry, resolveLoginTenantDomain(loginTenantDomain));
+        sessionDataLoadCoalescer.invalidate(key.getContextId());
         optimizeAndStoreSessionData(key, entry);
     }
 
@@ -150,7 +154,9 @@ public class SessionContextCache extends BaseCache<SessionContextCacheKey, Sessi
         SessionContextCacheEntry cacheEntry = super.getValueFromCache(key, resolveLoginTenantDomain(loginTenantDomain));
 
         // Retrieve session from the database if its not in cache
-        if (cacheEntry == null) {
+        if (cacheEntry != null) {
+            sessionDataLoadCoalescer.recordCacheHit();
+        } else {
             if (log.isDebugEnabled()) {
                 log.debug("Session corresponding to the key : " + key.getContextId() + " cannot be found in the" +
                         " cache. Trying to get from db.");
@@ -180,13 +186,29 @@ public class SessionContextCache extends BaseCache<SessionContextCacheKey, Sessi
     }
 
     /**
-     * Retrieve session from the database.
+     * Get the helper which coalesces the session data store reads of this cache. Exposes the hit, miss and
+     * coalesced load counters of the cache.
+     *
+     * @return Session data load coalescer.
+     */
+    public SessionDataLoadCoalescer<SessionContextCacheEntry> getSessionDataLoadCoalescer() {
+
+        return sessionDataLoadCoalescer;
+    }
+
+    /**
+     * Retrieve session from the database. Concurrent misses of the same session share a single database read.
      *
      * @param key Session context cache key.
      * @return Session context cache entry.
      */
     private SessionContextCacheEntry getSessionFromDB(SessionContextCacheKey key) {
 
+        return sessionDataLoadCoalescer.load(key.getContextId(), () -> loadSessionFromDB(key));
+    }
+
+    private SessionContextCacheEntry loadSessionFromDB(SessionContextCacheKey key) {
+
         SessionContextCacheEntry cacheEntry = null;
         SessionContextDO sessionContextDO = SessionDataStore.getInstance().
                 getSessionContextData(key.getContextId(), SESSION_CONTEXT_CACHE_NAME);
@@ -247,7 +269,9 @@ public class SessionContextCache extends BaseCache<SessionContextCacheKey, Sessi
 
         SessionContextCacheEntry cacheEntry = super.getValueFromCache(key, resolveLoginTenantDomain(loginTenantDomain));
         // Retrieve session from the database if it's not in the cache.
-        if (cacheEntry == null) {
+        if (cacheEntry != null) {
+            sessionDataLoadCoalescer.recordCacheHit();
+        } else {
             if (log.isDebugEnabled()) {
                 log.debug("Session corresponding to the key : " + key.getContextId() + " cannot be found in the" +
                         " cache. Trying to get from db.");
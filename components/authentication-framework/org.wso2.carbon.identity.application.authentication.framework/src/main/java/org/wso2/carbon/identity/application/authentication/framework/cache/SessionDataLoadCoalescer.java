@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.cache;
+
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.utils.ConfigurationContextService;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Node local helper used by the session related caches when falling back to the session data store.
+ * <p>
+ * Concurrent cache misses for the same context key share a single session data store read and deserialization
+ * (single-flight loading). Optionally, keys which are known to be absent or expired in the session data store are
+ * remembered for a short period, so that repeated lookups for them do not reach the database.
+ * The negative entries are never replicated and are cleared as soon as the key is added to the cache on this node.
+ * Since an add on another node does not clear them, the negative cache is not used when clustering is enabled. Whether
+ * clustering is enabled is checked on first use, once the server configuration context is available.
+ *
+ * @param <V> Loaded cache entry type.
+ */
+public class SessionDataLoadCoalescer<V> {
+
+    private static final Log log = LogFactory.getLog(SessionDataLoadCoalescer.class);
+
+    private static final String CONFIG_PREFIX = "JDBCPersistenceManager.SessionDataPersist.ReadCoalescing.";
+    private static final String ENABLE = CONFIG_PREFIX + "Enable";
+    private static final String NEGATIVE_CACHE_ENABLE = CONFIG_PREFIX + "NegativeCache.Enable";
+    private static final String NEGATIVE_CACHE_TIMEOUT = CONFIG_PREFIX + "NegativeCache.Timeout";
+    private static final String NEGATIVE_CACHE_CAPACITY = CONFIG_PREFIX + "NegativeCache.Capacity";
+    private static final long DEFAULT_NEGATIVE_CACHE_TIMEOUT_MILLIS = 2000;
+    private static final int DEFAULT_NEGATIVE_CACHE_CAPACITY = 10000;
+    private static final int INVALIDATION_STRIPES = 64;
+
+    private final String cacheName;
+    private final boolean coalescingEnabled;
+    private final boolean negativeCacheConfigured;
+    // Null until the clustering check is done.
+    private volatile Boolean negativeCacheEnabled;
+    private final long negativeCacheTimeoutMillis;
+    private final int negativeCacheCapacity;
+    private final ConcurrentMap<String, CompletableFuture<V>> inFlightLoads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> absentKeys = new ConcurrentHashMap<>();
+    // Striped invalidation counters, so that a load which raced with an add of the same key is not recorded absent.
+    private final AtomicLongArray invalidationCounts = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder storeLoads = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder negativeCacheHits = new LongAdder();
+
+    /**
+     * Create a coalescer configured from the identity configuration.
+     *
+     * @param cacheName Name of the cache which uses the coalescer. Used for logging.
+     */
+    public SessionDataLoadCoalescer(String cacheName) {
+
+        this(cacheName, !"false".equalsIgnoreCase(IdentityUtil.getProperty(ENABLE)),
+                Boolean.parseBoolean(IdentityUtil.getProperty(NEGATIVE_CACHE_ENABLE)),
+                parseLong(IdentityUtil.getProperty(NEGATIVE_CACHE_TIMEOUT), DEFAULT_NEGATIVE_CACHE_TIMEOUT_MILLIS),
+                (int) parseLong(IdentityUtil.getProperty(NEGATIVE_CACHE_CAPACITY), DEFAULT_NEGATIVE_CACHE_CAPACITY));
+    }
+
+    SessionDataLoadCoalescer(String cacheName, boolean coalescingEnabled, boolean negativeCacheEnabled,
+                             long negativeCacheTimeoutMillis, int negativeCacheCapacity) {
+
+        this.cacheName = cacheName;
+        this.coalescingEnabled = coalescingEnabled;
+        this.negativeCacheConfigured = negativeCacheEnabled && negativeCacheTimeoutMillis > 0 &&
+                negativeCacheCapacity > 0;
+        if (!negativeCacheConfigured) {
+            this.negativeCacheEnabled = Boolean.FALSE;
+        }
+        this.negativeCacheTimeoutMillis = negativeCacheTimeoutMillis;
+        this.negativeCacheCapacity = negativeCacheCapacity;
+    }
+
+    /**
+     * Load the value for the given key from the session data store. If another thread is already loading the same
+     * key, wait for and return its result instead of loading it again.
+     *
+     * @param key    Context key.
+     * @param loader Loader which reads the value from the session data store.
+     * @return Loaded value or null if the key is not available in the session data store.
+     */
+    public V load(String key, Supplier<V> loader) {
+
+        cacheMisses.increment();
+        if (isKnownAbsent(key)) {
+            negativeCacheHits.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Key : " + key + " is known to be absent in the session data store for cache : "
+                        + cacheName);
+            }
+            return null;
+        }
+        if (!coalescingEnabled) {
+            return loadFromStore(key, loader);
+        }
+
+        CompletableFuture<V> loadFuture = new CompletableFuture<>();
+        CompletableFuture<V> inFlightLoad = inFlightLoads.putIfAbsent(key, loadFuture);
+        if (inFlightLoad != null) {
+            coalescedLoads.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Waiting for the in-flight session data store load of key : " + key + " for cache : "
+                        + cacheName);
+            }
+            try {
+                return inFlightLoad.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        try {
+            V value = loadFromStore(key, loader);
+            loadFuture.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            loadFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, loadFuture);
+        }
+    }
+
+    /**
+     * Record a cache lookup which was served by the cache itself.
+     */
+    public void recordCacheHit() {
+
+        cacheHits.increment();
+    }
+
+    /**
+     * Remove any negative entry of the given key. Should be called whenever the key is added to the cache.
+     *
+     * @param key Context key.
+     */
+    public void invalidate(String key) {
+
+        if (negativeCacheConfigured) {
+            invalidationCounts.incrementAndGet(getInvalidationStripe(key));
+            absentKeys.remove(key);
+        }
+    }
+
+    public long getCacheHitCount() {
+
+        return cacheHits.sum();
+    }
+
+    public long getCacheMissCount() {
+
+        return cacheMisses.sum();
+    }
+
+    public long getStoreLoadCount() {
+
+        return storeLoads.sum();
+    }
+
+    public long getCoalescedLoadCount() {
+
+        return coalescedLoads.sum();
+    }
+
+    public long getNegativeCacheHitCount() {
+
+        return negativeCacheHits.sum();
+    }
+
+    public int getNegativeCacheSize() {
+
+        return absentKeys.size();
+    }
+
+    private V loadFromStore(String key, Supplier<V> loader) {
+
+        storeLoads.increment();
+        int stripe = getInvalidationStripe(key);
+        long invalidationCountBeforeLoad = invalidationCounts.get(stripe);
+        V value = loader.get();
+        if (value == null && invalidationCountBeforeLoad == invalidationCounts.get(stripe)) {
+            markAbsent(key);
+        }
+        return value;
+    }
+
+    private static int getInvalidationStripe(String key) {
+
+        return (key.hashCode() & Integer.MAX_VALUE) % INVALIDATION_STRIPES;
+    }
+
+    private boolean isKnownAbsent(String key) {
+
+        if (!isNegativeCacheEnabled()) {
+            return false;
+        }
+        Long expiry = absentKeys.get(key);
+        if (expiry == null) {
+            return false;
+        }
+        if (expiry < System.currentTimeMillis()) {
+            absentKeys.remove(key, expiry);
+            return false;
+        }
+        return true;
+    }
+
+    private void markAbsent(String key) {
+
+        if (!isNegativeCacheEnabled()) {
+            return;
+        }
+        if (absentKeys.size() >= negativeCacheCapacity) {
+            evictExpired();
+            if (absentKeys.size() >= negativeCacheCapacity) {
+                return;
+            }
+        }
+        absentKeys.put(key, System.currentTimeMillis() + negativeCacheTimeoutMillis);
+    }
+
+    private void evictExpired() {
+
+        long currentTime = System.currentTimeMillis();
+        Iterator<Map.Entry<String, Long>> iterator = absentKeys.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue() < currentTime) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private boolean isNegativeCacheEnabled() {
+
+        Boolean enabled = negativeCacheEnabled;
+        if (enabled != null) {
+            return enabled;
+        }
+        ConfigurationContextService configurationContextService =
+                FrameworkServiceDataHolder.getInstance().getConfigurationContextService();
+        ConfigurationContext serverConfigContext = configurationContextService == null ? null :
+                configurationContextService.getServerConfigContext();
+        if (serverConfigContext == null || serverConfigContext.getAxisConfiguration() == null) {
+            // The clustering configuration is not available yet. Do not use the negative cache until it is.
+            return false;
+        }
+        enabled = serverConfigContext.getAxisConfiguration().getClusteringAgent() == null;
+        if (!enabled) {
+            log.warn("Session data store negative cache is disabled for cache : " + cacheName
+                    + " as clustering is enabled.");
+        }
+        negativeCacheEnabled = enabled;
+        return enabled;
+    }
+
+    private static long parseLong(String value, long defaultValue) {
+
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid session data read coalescing configuration value: " + value + ". Using the default " +
+                    "value: " + defaultValue);
+            return defaultValue;
+        }
+    }
+}
@@ -21,26 +21,40 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.lang.management.ManagementFactory;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Supervises the execution of any script engine, and kills the thread if the time taken is too much.
+ * <p>
+ * The executions being supervised are kept in a concurrent registry. A single monitoring thread scans the registry
+ * at a fixed tick, samples the elapsed time and the allocated memory of each execution, and enforces the limits.
+ * Hence starting and completing the supervision of an execution does not schedule or cancel any task. The execution
+ * times of the completed executions are recorded in a histogram per tenant.
+ * <p>
+ * Thread allocated memory counting is a JVM wide setting. When a memory limit is set, it is turned on for the
+ * lifetime of the supervisor and restored on shutdown.
  */
 public class JSExecutionSupervisor {
 
     private static final Log LOG = LogFactory.getLog(JSExecutionSupervisor.class);
     private static final String JS_EXECUTION_MONITOR = "JS-Exec-Monitor";
+    // Upper bounds of the execution time histogram buckets in milliseconds. The last bucket has no upper bound.
+    private static final long[] EXECUTION_TIME_BUCKET_BOUNDS_IN_MILLIS = {10L, 25L, 50L, 100L, 250L, 500L, 1000L,
+            2500L, 5000L};
     private final long timeoutInMillis;
     private final long memoryLimitInBytes;
     private final boolean timeoutCheckEnabled;
     private long taskExecutionRateInMillis = 50L;
-    private Map<String, TaskHolder> currentScriptExecutions = new HashMap<>();
-    private ScheduledExecutorService monitoringService;
+    private final ConcurrentMap<String, MonitoringTask> currentScriptExecutions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder[]> executionTimeHistograms = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService monitoringService;
+    private ThreadMXBean memoryCounter;
+    private boolean memoryCountingTurnedOn;
     private static final int MONITOR_TYPE_TIME = 0;
     private static final int MONITOR_TYPE_MEMORY = 1;
     private static final int WARN_THRESHOLD = 70;
@@ -59,7 +73,8 @@ public class JSExecutionSupervisor {
      * Create JS execution supervisor with timeout check. If timeoutCheckEnabled is false, no time based supervision
      * will be done.
      *
-     * @param threadCount         Thread count for the monitoring service.
+     * @param threadCount         Thread count for the monitoring service. A single monitoring thread scans all the
+     *                            executions, hence this value is no longer used.
      * @param timeoutCheckEnabled Whether time based supervision should be done.
      * @param timeoutInMillis     Timeout in milliseconds. If the `timeoutCheckEnabled` is false, this value will
      *                            be ignored.
@@ -76,12 +91,17 @@ public class JSExecutionSupervisor {
 
         if (memoryLimit > 0) {
             this.memoryLimitInBytes = memoryLimit;
+            turnOnThreadMemoryCounting();
         } else {
             // We are not checking for memory usage.
             memoryLimitInBytes = -1;
         }
 
-        monitoringService = new ScheduledThreadPoolExecutor(threadCount, r -> new Thread(r, JS_EXECUTION_MONITOR));
+        monitoringService = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, JS_EXECUTION_MONITOR));
+        if (taskExecutionRateInMillis > 0) {
+            monitoringService.scheduleAtFixedRate(this::superviseExecutions, taskExecutionRateInMillis,
+                    taskExecutionRateInMillis, TimeUnit.MILLISECONDS);
+        }
     }
 
     /**
@@ -90,6 +110,9 @@ public class JSExecutionSupervisor {
     public void shutdown() {
 
         monitoringService.shutdown();
+        if (memoryCountingTurnedOn) {
+            memoryCounter.setThreadAllocatedMemoryEnabled(false);
+        }
     }
 
     /**
@@ -122,10 +145,7 @@ public class JSExecutionSupervisor {
 
         MonitoringTask monitoringTask = new MonitoringTask(Thread.currentThread(), identifier, serviceProvider,
                 tenantDomain, elapsedTimeInMillis, consumedMemoryInBytes);
-        ScheduledFuture<?> monitoredFuture = monitoringService.
-                scheduleAtFixedRate(monitoringTask, taskExecutionRateInMillis, taskExecutionRateInMillis,
-                        TimeUnit.MILLISECONDS);
-        currentScriptExecutions.put(identifier, new TaskHolder(monitoringTask, monitoredFuture));
+        currentScriptExecutions.put(identifier, monitoringTask);
     }
 
     /**
@@ -136,49 +156,128 @@ public class JSExecutionSupervisor {
      */
     public JSExecutionMonitorData completed(String identifier) {
 
-        TaskHolder taskHolder = currentScriptExecutions.remove(identifier);
-        if (taskHolder == null) {
+        MonitoringTask task = currentScriptExecutions.remove(identifier);
+        if (task == null) {
             // Nothing to be done as there was no such task with the given identifier.
             return null;
         }
+        return complete(task);
+    }
 
-        ScheduledFuture<?> monitoredFuture = taskHolder.getScheduledFuture();
-        if (taskHolder.getScheduledFuture() != null) {
-            monitoredFuture.cancel(true);
-        }
+    /**
+     * Get the number of adaptive auth executions being supervised.
+     *
+     * @return Number of active executions.
+     */
+    public int getActiveExecutionCount() {
 
-        MonitoringTask task = taskHolder.getMonitoringTask();
-        long elapsedTime = 0L;
-        long consumedMemory = 0L;
-        if (task != null) {
-            elapsedTime = task.getTotalElapsedTime();
-            consumedMemory = task.getTotalConsumedMemory();
-            task.turnOffThreadMemoryCounting();
-        }
+        return currentScriptExecutions.size();
+    }
 
-        return new JSExecutionMonitorData(elapsedTime, consumedMemory);
+    /**
+     * Get the upper bounds of the buckets of the execution time histograms. The histograms have an additional last
+     * bucket without an upper bound.
+     *
+     * @return Upper bounds of the buckets in milliseconds.
+     */
+    public static long[] getExecutionTimeBucketBounds() {
+
+        return EXECUTION_TIME_BUCKET_BOUNDS_IN_MILLIS.clone();
     }
 
-    private class TaskHolder {
+    /**
+     * Get the histogram of the execution times of the completed adaptive auth executions of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Number of executions in each bucket of {@link #getExecutionTimeBucketBounds()}, followed by the
+     * number of executions which exceeded the last bound.
+     */
+    public long[] getExecutionTimeHistogram(String tenantDomain) {
+
+        long[] histogram = new long[EXECUTION_TIME_BUCKET_BOUNDS_IN_MILLIS.length + 1];
+        LongAdder[] buckets = tenantDomain == null ? null : executionTimeHistograms.get(tenantDomain);
+        if (buckets != null) {
+            for (int i = 0; i < buckets.length; i++) {
+                histogram[i] = buckets[i].sum();
+            }
+        }
+        return histogram;
+    }
 
-        private MonitoringTask monitoringTask;
-        private ScheduledFuture<?> scheduledFuture;
+    /**
+     * Remove the execution time histogram of the given tenant. Called when the tenant is unloaded.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void removeExecutionTimeHistogram(String tenantDomain) {
 
-        public TaskHolder(MonitoringTask monitoringTask, ScheduledFuture<?> scheduledFuture) {
+        if (tenantDomain != null) {
+            executionTimeHistograms.remove(tenantDomain);
+        }
+    }
 
-            this.monitoringTask = monitoringTask;
-            this.scheduledFuture = scheduledFuture;
+    /**
+     * Check the executions being supervised against the limits. Runs in the monitoring thread at every tick.
+     */
+    private void superviseExecutions() {
+
+        for (MonitoringTask task : currentScriptExecutions.values()) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // The monitoring thread should keep supervising the other executions.
+                LOG.error("Error while supervising the adaptive auth script execution: " + task.id, e);
+            }
         }
+    }
 
-        public MonitoringTask getMonitoringTask() {
+    private JSExecutionMonitorData complete(MonitoringTask task) {
 
-            return monitoringTask;
+        long elapsedTime = task.getTotalElapsedTime();
+        long consumedMemory = task.getTotalConsumedMemory();
+        recordExecutionTime(task.tenantDomain, task.getElapsedTime());
+        return new JSExecutionMonitorData(elapsedTime, consumedMemory);
+    }
+
+    private void turnOnThreadMemoryCounting() {
+
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof ThreadMXBean)) {
+            LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
+                    "supervision will not be done for adaptive auth script executions.");
+            return;
+        }
+        ThreadMXBean threadMemoryCounter = (ThreadMXBean) threadMXBean;
+        try {
+            if (!threadMemoryCounter.isThreadAllocatedMemoryEnabled()) {
+                threadMemoryCounter.setThreadAllocatedMemoryEnabled(true);
+                memoryCountingTurnedOn = true;
+            }
+            memoryCounter = threadMemoryCounter;
+        } catch (UnsupportedOperationException e) {
+            LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
+                    "supervision will not be done for adaptive auth script executions.", e);
         }
+    }
 
-        public ScheduledFuture<?> getScheduledFuture() {
+    private void recordExecutionTime(String tenantDomain, long executionTimeInMillis) {
 
-            return scheduledFuture;
+        if (tenantDomain == null) {
+            return;
+        }
+        LongAdder[] buckets = executionTimeHistograms.computeIfAbsent(tenantDomain, key -> {
+            LongAdder[] newBuckets = new LongAdder[EXECUTION_TIME_BUCKET_BOUNDS_IN_MILLIS.length + 1];
+            for (int i = 0; i < newBuckets.length; i++) {
+                newBuckets[i] = new LongAdder();
+            }
+            return newBuckets;
+        });
+        int bucket = 0;
+        while (bucket < EXECUTION_TIME_BUCKET_BOUNDS_IN_MILLIS.length &&
+                executionTimeInMillis > EXECUTION_TIME_BUCKET_BOUNDS_IN_MILLIS[bucket]) {
+            bucket++;
         }
+        buckets[bucket].increment();
     }
 
     private class MonitoringTask implements Runnable {
@@ -191,7 +290,6 @@ public class JSExecutionSupervisor {
         private long elapsedTimeInMillis;
         private long startMemoryInBytes;
         private long consumedMemoryInBytes;
-        private ThreadMXBean memoryCounter = null;
 
         public MonitoringTask(Thread originalThread, String id, String serviceProvider, String tenantDomain,
                               long elapsedTimeInMillis) {
@@ -211,20 +309,7 @@ public class JSExecutionSupervisor {
             this.consumedMemoryInBytes = consumedMemoryInBytes;
 
             if (memoryLimitInBytes > 0) {
-                java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
-                if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
-                    memoryCounter = (ThreadMXBean) threadMXBean;
-                    try {
-                        turnOnThreadMemoryCounting();
-                        startMemoryInBytes = getCurrentMemory(originalThread.getId());
-                    } catch (UnsupportedOperationException e) {
-                        LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
-                                "supervision will not be done for adaptive auth script executions.", e);
-                    }
-                } else {
-                    LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
-                            "supervision will not be done for adaptive auth script executions.");
-                }
+                startMemoryInBytes = getCurrentMemory(originalThread.getId());
             }
         }
 
@@ -279,11 +364,13 @@ public class JSExecutionSupervisor {
             Throwable throwable = new Throwable();
             throwable.setStackTrace(stackTraceElements);
             LOG.warn(warnLog, throwable);
+            // Marking current monitoring task as complete. The execution might have been completed concurrently.
+            if (!currentScriptExecutions.remove(id, this)) {
+                return;
+            }
+            complete(this);
             originalThread.interrupt();
             originalThread.stop();
-
-            // Marking current monitoring task as complete.
-            completed(id);
         }
 
         private void printThresholdReachedWarnLog(int monitorType, long consumedResourceValue) {
@@ -304,7 +391,12 @@ public class JSExecutionSupervisor {
 
         private long getTotalElapsedTime() {
 
-            return (System.currentTimeMillis() - timeCreated) + elapsedTimeInMillis;
+            return getElapsedTime() + elapsedTimeInMillis;
+        }
+
+        private long getElapsedTime() {
+
+            return System.currentTimeMillis() - timeCreated;
         }
 
         private long getTotalConsumedMemory() {
@@ -320,20 +412,6 @@ public class JSExecutionSupervisor {
             return 0L;
         }
 
-        private void turnOnThreadMemoryCounting() {
-
-            if (memoryCounter != null) {
-                memoryCounter.setThreadAllocatedMemoryEnabled(true);
-            }
-        }
-
-        private void turnOffThreadMemoryCounting() {
-
-            if (memoryCounter != null) {
-                memoryCounter.setThreadAllocatedMemoryEnabled(false);
-            }
-        }
-
         private boolean isTimeBasedWarnThresholdReached(long elapsedTime) {
 
             return ((elapsedTime * 100) / timeoutInMillis) >= WARN_THRESHOLD;
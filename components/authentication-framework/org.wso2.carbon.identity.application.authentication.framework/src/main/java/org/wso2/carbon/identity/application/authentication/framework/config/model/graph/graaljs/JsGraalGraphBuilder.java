@@ -25,7 +25,6 @@ import org.apache.commons.logging.LogFactory;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.PolyglotException;
-import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 import org.wso2.carbon.identity.application.authentication.framework.AsyncProcess;
 import org.wso2.carbon.identity.application.authentication.framework.AuthenticationDecisionEvaluator;
@@ -47,7 +46,6 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
 import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
 
-import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
@@ -68,7 +66,6 @@ import static org.wso2.carbon.identity.application.authentication.framework.util
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_FUNC_SEND_ERROR;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_FUNC_SHOW_PROMPT;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
-import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_SOURCE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.PROP_CURRENT_NODE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.STEP_OPTIONS;
 
@@ -156,23 +153,16 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
                 functionMap.forEach(bindings::putMember);
             }
             currentBuilder.set(this);
-            context.eval(Source
-                    .newBuilder(POLYGLOT_LANGUAGE,
-                            FrameworkServiceDataHolder.getInstance().getCodeForRequireFunction(),
-                            POLYGLOT_SOURCE)
-                    .build());
-            context.eval(Source
-                    .newBuilder(POLYGLOT_LANGUAGE,
-                            FrameworkServiceDataHolder.getInstance().getCodeForSecretsFunction(),
-                            POLYGLOT_SOURCE)
-                    .build());
+            JsGraalSourceCache sourceCache = JsGraalSourceCache.getInstance();
+            context.eval(sourceCache.getSource(FrameworkServiceDataHolder.getInstance().getCodeForRequireFunction()));
+            context.eval(sourceCache.getSource(FrameworkServiceDataHolder.getInstance().getCodeForSecretsFunction()));
 
             String identifier = UUID.randomUUID().toString();
             Optional<JSExecutionMonitorData> optionalScriptExecutionData;
 
             try {
                 startScriptExecutionMonitor(identifier, authenticationContext);
-                context.eval(Source.newBuilder(POLYGLOT_LANGUAGE, script, POLYGLOT_SOURCE).build());
+                context.eval(sourceCache.getSource(getScriptSourceKey(authenticationContext), script));
 
                 Value onLoginRequestFn = bindings.getMember(JS_FUNC_ON_LOGIN_REQUEST);
                 if (onLoginRequestFn == null) {
@@ -197,18 +187,26 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
             if (log.isDebugEnabled()) {
                 log.debug("Error in executing the Javascript.", e);
             }
-        } catch (IOException e) {
-            result.setBuildSuccessful(false);
-            result.setErrorReason("Error in building  the Javascript source" + e.getMessage());
-            if (log.isDebugEnabled()) {
-                log.debug("Error in building the Javascript source", e);
-            }
         } finally {
             clearCurrentBuilder(context);
         }
         return this;
     }
 
+    /**
+     * Get the key of the adaptive script source of the application being authenticated.
+     *
+     * @param authenticationContext Authentication context.
+     * @return Source key.
+     */
+    private static String getScriptSourceKey(AuthenticationContext authenticationContext) {
+
+        String application = authenticationContext.getServiceProviderResourceId() != null ?
+                authenticationContext.getServiceProviderResourceId() :
+                authenticationContext.getServiceProviderName();
+        return authenticationContext.getTenantDomain() + ":" + application;
+    }
+
     @Override
     public AuthenticationDecisionEvaluator getScriptEvaluator(BaseSerializableJsFunction fn) {
 
@@ -608,11 +606,8 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
                 TODO: Need to improve the JsSerializable implementation to persist this function in the context
                  without re-evaluating.
                  */
-                context.eval(Source
-                        .newBuilder(POLYGLOT_LANGUAGE,
-                                FrameworkServiceDataHolder.getInstance().getCodeForSecretsFunction(),
-                                POLYGLOT_SOURCE)
-                        .build());
+                context.eval(JsGraalSourceCache.getInstance().getSource(
+                        FrameworkServiceDataHolder.getInstance().getCodeForSecretsFunction()));
                 JsFunctionRegistry jsFunctionRegistrar =
                         FrameworkServiceDataHolder.getInstance().getJsFunctionRegistry();
                 if (jsFunctionRegistrar != null) {
@@ -749,9 +744,9 @@ public class JsGraalGraphBuilder extends JsGraphBuilder {
         }
     }
 
-    private void removeDefaultFunctions(Context context) throws IOException {
+    private void removeDefaultFunctions(Context context) {
 
-        context.eval(Source.newBuilder(POLYGLOT_LANGUAGE, REMOVE_FUNCTIONS, POLYGLOT_SOURCE).build());
+        context.eval(JsGraalSourceCache.getInstance().getSource(REMOVE_FUNCTIONS));
     }
 
     private JSExecutionSupervisor getJSExecutionSupervisor() {
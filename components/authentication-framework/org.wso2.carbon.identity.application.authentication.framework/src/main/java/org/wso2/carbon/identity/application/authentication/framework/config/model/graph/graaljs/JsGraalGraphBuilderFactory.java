@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.application.authentication.framework.config.mod
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.ResourceLimits;
 import org.graalvm.polyglot.Value;
@@ -44,9 +45,11 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SCRIPT_STATEMENTS_LIMIT;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SHARED_ENGINE_ENABLE;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_FUNC_SELECT_ACR_FROM;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.JS_LOG;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
@@ -55,12 +58,21 @@ import static org.wso2.carbon.identity.application.authentication.framework.util
  * Factory to create a Javascript based sequence builder.
  * This factory is there to reuse of GraalJS Polyglot Context and any related expensive objects.
  * <p>
+ * The polyglot contexts are created on a polyglot engine shared by the node, so that the code parsed and compiled
+ * for a script source is reused by the subsequent authentication requests. Each authentication request still gets
+ * its own context, with the same host access and resource limits.
+ * <p>
  * Since Nashorn is deprecated in JDK 11 and onwards. We are introducing GraalJS engine.
  */
 public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<Context> {
 
     private static final Log LOG = LogFactory.getLog(JsGraalGraphBuilderFactory.class);
     private static final String JS_BINDING_CURRENT_CONTEXT = "JS_BINDING_CURRENT_CONTEXT";
+    private static final String WARN_INTERPRETER_ONLY_OPTION = "engine.WarnInterpreterOnly";
+    private static final HostAccess HOST_ACCESS = buildHostAccess();
+    // Resource limits by the statement limit, so that the contexts sharing the engine use the same limits.
+    private static final Map<Integer, ResourceLimits> RESOURCE_LIMITS = new ConcurrentHashMap<>();
+    private static volatile Engine sharedEngine;
     private int javascriptResourceLimit = 0;
 
     public void init() {
@@ -106,11 +118,16 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     public Context createEngine(AuthenticationContext authenticationContext) {
 
-        Context context = Context.newBuilder(POLYGLOT_LANGUAGE)
+        Context.Builder contextBuilder = Context.newBuilder(POLYGLOT_LANGUAGE)
                 .allowHostAccess(getHostAccess())
-                .resourceLimits(getResourceLimits())
-                .option("engine.WarnInterpreterOnly", "false")
-                .build();
+                .resourceLimits(getResourceLimits());
+        Engine engine = getSharedEngine();
+        if (engine != null) {
+            contextBuilder.engine(engine);
+        } else {
+            contextBuilder.option(WARN_INTERPRETER_ONLY_OPTION, "false");
+        }
+        Context context = contextBuilder.build();
 
         Value bindings = context.getBindings(POLYGLOT_LANGUAGE);
         bindings.putMember(JS_FUNC_SELECT_ACR_FROM, new GraalSelectAcrFromFunction());
@@ -120,13 +137,68 @@ public class JsGraalGraphBuilderFactory implements JsGenericGraphBuilderFactory<
 
     public ResourceLimits getResourceLimits() {
 
-        ResourceLimits.Builder resourceLimitsBuilder = ResourceLimits.newBuilder();
-        resourceLimitsBuilder.statementLimit(javascriptResourceLimit, null);
-        return resourceLimitsBuilder.build();
+        return RESOURCE_LIMITS.computeIfAbsent(javascriptResourceLimit, statementLimit -> {
+            ResourceLimits.Builder resourceLimitsBuilder = ResourceLimits.newBuilder();
+            resourceLimitsBuilder.statementLimit(statementLimit, null);
+            return resourceLimitsBuilder.build();
+        });
     }
 
     public HostAccess getHostAccess() {
 
+        return HOST_ACCESS;
+    }
+
+    /**
+     * Get the polyglot engine shared by the contexts of this node.
+     *
+     * @return Shared engine or null if sharing the engine is disabled.
+     */
+    public static Engine getSharedEngine() {
+
+        if (sharedEngine == null && isSharedEngineEnabled()) {
+            synchronized (JsGraalGraphBuilderFactory.class) {
+                if (sharedEngine == null) {
+                    LOG.debug("Creating the shared GraalJS polyglot engine.");
+                    sharedEngine = Engine.newBuilder()
+                            .option(WARN_INTERPRETER_ONLY_OPTION, "false")
+                            .build();
+                }
+            }
+        }
+        return sharedEngine;
+    }
+
+    /**
+     * Close the polyglot engine shared by the contexts of this node and release its native resources. The cached
+     * sources parsed on the engine are removed as well. A new engine is created when a context is created again.
+     */
+    public static void closeSharedEngine() {
+
+        Engine engine;
+        synchronized (JsGraalGraphBuilderFactory.class) {
+            engine = sharedEngine;
+            sharedEngine = null;
+        }
+        JsGraalSourceCache.getInstance().clear();
+        if (engine != null) {
+            LOG.debug("Closing the shared GraalJS polyglot engine.");
+            try {
+                // Cancel the scripts which are still executing, as the engine is no longer used.
+                engine.close(true);
+            } catch (RuntimeException e) {
+                LOG.warn("Error while closing the shared GraalJS polyglot engine.", e);
+            }
+        }
+    }
+
+    private static boolean isSharedEngineEnabled() {
+
+        return !"false".equalsIgnoreCase(IdentityUtil.getProperty(GRAALJS_SHARED_ENGINE_ENABLE));
+    }
+
+    private static HostAccess buildHostAccess() {
+
         /*
          * We need to map the graaljs proxy objects be exposed as their abstract classes to be able to use the current
          * functional interfaces we have for existing conditional authentication functions.
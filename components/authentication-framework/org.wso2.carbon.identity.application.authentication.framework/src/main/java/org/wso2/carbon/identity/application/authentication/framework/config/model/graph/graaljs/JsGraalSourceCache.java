@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.graalvm.polyglot.Source;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.DEFAULT_GRAALJS_SOURCE_CACHE_SIZE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.GRAALJS_SOURCE_CACHE_SIZE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_LANGUAGE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.POLYGLOT_SOURCE;
+
+/**
+ * Node local cache of the polyglot sources evaluated by the GraalJS graph builders.
+ * <p>
+ * The sources are keyed by the application and the script content, hence an updated script gets a new source while
+ * the stale source of the application is replaced. When the contexts share a polyglot engine, evaluating the same
+ * source object again reuses the code parsed and compiled by the engine instead of parsing the script again.
+ */
+public class JsGraalSourceCache {
+
+    private static final Log LOG = LogFactory.getLog(JsGraalSourceCache.class);
+    private static final JsGraalSourceCache instance = new JsGraalSourceCache();
+
+    private final ConcurrentMap<String, Source> sources = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    private JsGraalSourceCache() {
+
+        this(getConfiguredCapacity());
+    }
+
+    JsGraalSourceCache(int capacity) {
+
+        this.capacity = capacity;
+    }
+
+    public static JsGraalSourceCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the source of the given script.
+     *
+     * @param sourceKey Key identifying the owner of the script, such as the application of an adaptive script.
+     * @param script    Script content.
+     * @return Source of the script.
+     */
+    public Source getSource(String sourceKey, String script) {
+
+        if (capacity <= 0 || sourceKey == null) {
+            return buildSource(script);
+        }
+        Source source = sources.get(sourceKey);
+        if (source != null && source.getCharacters().toString().equals(script)) {
+            return source;
+        }
+        source = buildSource(script);
+        if (sources.size() >= capacity && !sources.containsKey(sourceKey)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("GraalJS source cache reached its capacity: " + capacity + ". Clearing the cache.");
+            }
+            sources.clear();
+        }
+        sources.put(sourceKey, source);
+        return source;
+    }
+
+    /**
+     * Get the source of a script which is identified by its content, such as the common functions evaluated for
+     * every application.
+     *
+     * @param script Script content.
+     * @return Source of the script.
+     */
+    public Source getSource(String script) {
+
+        return getSource(script, script);
+    }
+
+    /**
+     * Remove all the cached sources.
+     */
+    public void clear() {
+
+        sources.clear();
+    }
+
+    private static Source buildSource(String script) {
+
+        return Source.newBuilder(POLYGLOT_LANGUAGE, script, POLYGLOT_SOURCE).cached(true).buildLiteral();
+    }
+
+    private static int getConfiguredCapacity() {
+
+        String capacity = IdentityUtil.getProperty(GRAALJS_SOURCE_CACHE_SIZE);
+        if (StringUtils.isBlank(capacity)) {
+            return DEFAULT_GRAALJS_SOURCE_CACHE_SIZE;
+        }
+        try {
+            return Integer.parseInt(capacity.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn("Error while parsing the GraalJS source cache size. Defaulting to " +
+                    DEFAULT_GRAALJS_SOURCE_CACHE_SIZE, e);
+            return DEFAULT_GRAALJS_SOURCE_CACHE_SIZE;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.handler.claims.impl;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, precomputed mappings between a set of external claims and the local claims, used while mapping the
+ * claims of a user during the authentication.
+ * <p>
+ * A plan is compiled either from the claims of a claim dialect or from the custom claim mappings of an identity
+ * provider, and holds the mappings in both directions along with the default values of the claims.
+ */
+public final class ClaimMappingPlan {
+
+    private final Map<String, String> externalToLocalClaimMappings;
+    private final Map<String, String> localToExternalClaimMappings;
+    private final Map<String, String> defaultValues;
+
+    private ClaimMappingPlan(Map<String, String> externalToLocalClaimMappings,
+                             Map<String, String> localToExternalClaimMappings, Map<String, String> defaultValues) {
+
+        this.externalToLocalClaimMappings = Collections.unmodifiableMap(externalToLocalClaimMappings);
+        this.localToExternalClaimMappings = Collections.unmodifiableMap(localToExternalClaimMappings);
+        this.defaultValues = Collections.unmodifiableMap(defaultValues);
+    }
+
+    /**
+     * Compile the plan of the given external claims of a claim dialect.
+     *
+     * @param externalClaims External claims of the dialect.
+     * @return Claim mapping plan.
+     */
+    public static ClaimMappingPlan compileExternalClaims(Collection<ExternalClaim> externalClaims) {
+
+        Map<String, String> externalToLocalClaimMappings = new HashMap<>(externalClaims.size() * 2);
+        Map<String, String> localToExternalClaimMappings = new HashMap<>(externalClaims.size() * 2);
+        for (ExternalClaim externalClaim : externalClaims) {
+            externalToLocalClaimMappings.put(externalClaim.getClaimURI(), externalClaim.getMappedLocalClaim());
+            localToExternalClaimMappings.put(externalClaim.getMappedLocalClaim(), externalClaim.getClaimURI());
+        }
+        return new ClaimMappingPlan(externalToLocalClaimMappings, localToExternalClaimMappings, new HashMap<>());
+    }
+
+    /**
+     * Compile the plan of the given mappings of external claims to local claims, such as the mappings of the local
+     * claim dialect which maps each local claim to itself.
+     *
+     * @param externalToLocalClaimMappings Mappings of the external claim URIs to the local claim URIs.
+     * @return Claim mapping plan.
+     */
+    public static ClaimMappingPlan compileClaimMappings(Map<String, String> externalToLocalClaimMappings) {
+
+        Map<String, String> localToExternalClaimMappings = new HashMap<>(externalToLocalClaimMappings.size() * 2);
+        for (Map.Entry<String, String> claimMapping : externalToLocalClaimMappings.entrySet()) {
+            localToExternalClaimMappings.put(claimMapping.getValue(), claimMapping.getKey());
+        }
+        return new ClaimMappingPlan(new HashMap<>(externalToLocalClaimMappings), localToExternalClaimMappings,
+                new HashMap<>());
+    }
+
+    /**
+     * Compile the plan of the custom claim mappings of an identity provider.
+     *
+     * @param idPClaimMappings Claim mappings of the identity provider.
+     * @return Claim mapping plan.
+     */
+    public static ClaimMappingPlan compileIdPClaimMappings(ClaimMapping[] idPClaimMappings) {
+
+        Map<String, String> externalToLocalClaimMappings = new HashMap<>(idPClaimMappings.length * 2);
+        Map<String, String> localToExternalClaimMappings = new HashMap<>(idPClaimMappings.length * 2);
+        Map<String, String> defaultValues = new HashMap<>();
+        for (ClaimMapping claimMapping : idPClaimMappings) {
+            String localClaimURI = claimMapping.getLocalClaim().getClaimUri();
+            externalToLocalClaimMappings.put(claimMapping.getRemoteClaim().getClaimUri(), localClaimURI);
+            localToExternalClaimMappings.put(localClaimURI, claimMapping.getRemoteClaim().getClaimUri());
+            if (StringUtils.isNotBlank(claimMapping.getDefaultValue())) {
+                if (defaultValues.containsKey(localClaimURI)) {
+                    throw new IllegalStateException("Duplicate default value for the local claim: " +
+                            localClaimURI);
+                }
+                defaultValues.put(localClaimURI, claimMapping.getDefaultValue());
+            }
+        }
+        return new ClaimMappingPlan(externalToLocalClaimMappings, localToExternalClaimMappings, defaultValues);
+    }
+
+    /**
+     * Get the mappings of the external claims to the local claims.
+     *
+     * @return Unmodifiable map of external claim URI to local claim URI.
+     */
+    public Map<String, String> getExternalToLocalClaimMappings() {
+
+        return externalToLocalClaimMappings;
+    }
+
+    /**
+     * Get the mappings of the local claims to the external claims.
+     *
+     * @return Unmodifiable map of local claim URI to external claim URI.
+     */
+    public Map<String, String> getLocalToExternalClaimMappings() {
+
+        return localToExternalClaimMappings;
+    }
+
+    /**
+     * Get the mappings of the local claims to the given external claims. All the mappings are returned when no
+     * external claims are given.
+     *
+     * @param externalClaimURIs External claim URIs.
+     * @return Modifiable map of local claim URI to external claim URI.
+     */
+    public Map<String, String> getLocalToExternalClaimMappings(Set<String> externalClaimURIs) {
+
+        if (externalClaimURIs == null || externalClaimURIs.isEmpty()) {
+            return new HashMap<>(localToExternalClaimMappings);
+        }
+        Map<String, String> claimMappings = new HashMap<>(externalClaimURIs.size() * 2);
+        for (String externalClaimURI : externalClaimURIs) {
+            if (externalToLocalClaimMappings.containsKey(externalClaimURI)) {
+                claimMappings.put(externalToLocalClaimMappings.get(externalClaimURI), externalClaimURI);
+            }
+        }
+        return claimMappings;
+    }
+
+    /**
+     * Get the default values of the local claims.
+     *
+     * @return Unmodifiable map of local claim URI to default value.
+     */
+    public Map<String, String> getDefaultValues() {
+
+        return defaultValues;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.handler.claims.impl;
+
+import org.wso2.carbon.identity.application.authentication.framework.exception.FrameworkException;
+import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataHandler;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.IndexedClaimList;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.user.core.UserCoreConstants;
+
+import java.util.List;
+
+/**
+ * Provides the claim mapping plans of the claim dialects used by the claim handler.
+ * <p>
+ * The plan of a claim dialect is kept in the cache entry of the external claims of the dialect, which is invalidated
+ * by the claim metadata management on every change of the claims of the dialect. Hence the plan is evicted along with
+ * the claims and compiled again on the first use after a change. The local claim dialect maps each local claim to
+ * itself and its claims are copied and filtered per call by the claim metadata management, hence its plan is compiled
+ * per call.
+ */
+public class ClaimMappingPlanCache {
+
+    private static final ClaimMappingPlanCache instance = new ClaimMappingPlanCache();
+
+    private ClaimMappingPlanCache() {
+
+    }
+
+    public static ClaimMappingPlanCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the claim mapping plan of the given claim dialect.
+     *
+     * @param dialectURI   Claim dialect URI.
+     * @param tenantDomain Tenant domain.
+     * @return Claim mapping plan of the dialect.
+     * @throws FrameworkException If an error occurs while retrieving the claims of the dialect.
+     */
+    public ClaimMappingPlan getDialectPlan(String dialectURI, String tenantDomain) throws FrameworkException {
+
+        try {
+            if (UserCoreConstants.DEFAULT_CARBON_DIALECT.equals(dialectURI)) {
+                return ClaimMappingPlan.compileClaimMappings(ClaimMetadataHandler.getInstance()
+                        .getMappingsMapFromOtherDialectToCarbon(dialectURI, null, tenantDomain, false));
+            }
+            List<ExternalClaim> externalClaims =
+                    ClaimMetadataHandler.getInstance().getExternalClaims(dialectURI, tenantDomain);
+            if (externalClaims instanceof IndexedClaimList) {
+                return ((IndexedClaimList<ExternalClaim>) externalClaims).getDerivedValue(ClaimMappingPlan.class,
+                        ClaimMappingPlan::compileExternalClaims);
+            }
+            return ClaimMappingPlan.compileExternalClaims(externalClaims);
+        } catch (ClaimMetadataException e) {
+            throw new FrameworkException("Error while loading mappings.", e);
+        }
+    }
+}
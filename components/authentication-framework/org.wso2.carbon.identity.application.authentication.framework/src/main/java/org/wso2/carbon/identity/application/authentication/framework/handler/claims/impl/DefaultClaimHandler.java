@@ -50,8 +50,6 @@ import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
 import org.wso2.carbon.identity.base.IdentityConstants;
 import org.wso2.carbon.identity.central.log.mgt.utils.LogConstants;
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
-import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataHandler;
-import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.user.api.ClaimManager;
@@ -81,6 +79,7 @@ import java.util.stream.Collectors;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.ADD_USER_STORE_DOMAIN_TO_GROUPS_CLAIM;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.AdaptiveAuthentication.ALLOW_AUTHENTICATED_SUB_UPDATE;
+import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.FETCH_REQUESTED_LOCAL_CLAIMS_ONLY;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.Config.SEND_ONLY_LOCALLY_MAPPED_ROLES_OF_IDP;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.JSAttributes.PROP_USERNAME_UPDATED_EXTERNALLY;
 import static org.wso2.carbon.identity.core.util.IdentityUtil.getLocalGroupsClaimURI;
@@ -263,15 +262,15 @@ public class DefaultClaimHandler implements ClaimHandler {
         // claim mapping from local IDP to remote IDP : local-claim-uri / idp-claim-uri
 
         Map<String, String> localToIdPClaimMap = null;
-        Map<String, String> defaultValuesForClaims = new HashMap<>();
-
-        loadDefaultValuesForClaims(idPClaimMappings, defaultValuesForClaims);
+        // Custom claim mappings and the default claim values of the IdP.
+        ClaimMappingPlan idPClaimMappingPlan = ClaimMappingPlan.compileIdPClaimMappings(idPClaimMappings);
+        Map<String, String> defaultValuesForClaims = idPClaimMappingPlan.getDefaultValues();
 
         if (idPStandardDialect != null || useDefaultIdpDialect) {
-            localToIdPClaimMap = getLocalToIdpClaimMappingWithStandardDialect(remoteClaims, idPClaimMappings, context,
-                    idPStandardDialect);
+            localToIdPClaimMap = getLocalToIdpClaimMappingWithStandardDialect(remoteClaims, idPClaimMappingPlan,
+                    context, idPStandardDialect);
         } else if (idPClaimMappings.length > 0) {
-            localToIdPClaimMap = FrameworkUtils.getClaimMappings(idPClaimMappings, true);
+            localToIdPClaimMap = idPClaimMappingPlan.getLocalToExternalClaimMappings();
             if (useLocalClaimDialectForClaimMappings() && enableMergingCustomClaimMappingsWithDefaultMappings()) {
                 localToIdPClaimMap = filterLocaltoIdPClaimMap(localToIdPClaimMap, remoteClaims.keySet());
                 getMergedLocalIdpClaimMappings(authenticator.getClaimDialectURI(),
@@ -599,8 +598,9 @@ public class DefaultClaimHandler implements ClaimHandler {
             // since we don't know required claim mappings in advance
             // Key:value -> carbon_dialect:standard_dialect
             try {
-                localToSPClaimMappings = getClaimMappings(spStandardDialect, null,
-                                                          context.getTenantDomain(), true);
+                localToSPClaimMappings = ClaimMappingPlanCache.getInstance()
+                        .getDialectPlan(spStandardDialect, context.getTenantDomain())
+                        .getLocalToExternalClaimMappings();
             } catch (Exception e) {
                 throw new FrameworkException("Error occurred while getting all claim mappings from " +
                                              spStandardDialect + " dialect to " +
@@ -657,9 +657,9 @@ public class DefaultClaimHandler implements ClaimHandler {
             idPStandardDialect = ApplicationConstants.LOCAL_IDP_DEFAULT_CLAIM_DIALECT;
         }
         try {
-            Map<String, String> localToIdpClaimMappingWithStandardDialect =
-                    getClaimMappings(idPStandardDialect, remoteClaims.keySet(),
-                            tenantDomain, true);
+            Map<String, String> localToIdpClaimMappingWithStandardDialect = ClaimMappingPlanCache.getInstance()
+                    .getDialectPlan(idPStandardDialect, tenantDomain)
+                    .getLocalToExternalClaimMappings(remoteClaims.keySet());
             localToIdPClaimMap.putAll(localToIdpClaimMappingWithStandardDialect.entrySet().stream()
                     .filter(x -> !localToIdPClaimMap.containsKey(x.getKey()))
                     .collect(Collectors.toMap(Entry::getKey, Entry::getValue)));
@@ -673,7 +673,7 @@ public class DefaultClaimHandler implements ClaimHandler {
     }
 
     private Map<String, String> getLocalToIdpClaimMappingWithStandardDialect(Map<String, String> remoteClaims,
-                                                                             ClaimMapping[] idPClaimMappings,
+                                                                             ClaimMappingPlan idPClaimMappingPlan,
                                                                              AuthenticationContext context,
                                                                              String idPStandardDialect)
             throws FrameworkException {
@@ -683,8 +683,9 @@ public class DefaultClaimHandler implements ClaimHandler {
         }
 
         try {
-            localToIdPClaimMap = getClaimMappings(idPStandardDialect,
-                                                  remoteClaims.keySet(), context.getTenantDomain(), true);
+            localToIdPClaimMap = ClaimMappingPlanCache.getInstance()
+                    .getDialectPlan(idPStandardDialect, context.getTenantDomain())
+                    .getLocalToExternalClaimMappings(remoteClaims.keySet());
         } catch (Exception e) {
             throw new FrameworkException("Error occurred while getting claim mappings for " +
                                          "received remote claims from " +
@@ -693,22 +694,13 @@ public class DefaultClaimHandler implements ClaimHandler {
                                          context.getTenantDomain() + " to handle federated claims", e);
         }
         // adding remote claims with default values also to the key set because they may not come from the federated IdP
-        localToIdPClaimMap.putAll(Arrays.stream(idPClaimMappings).filter(claimMapping -> StringUtils.
-                isNotBlank(claimMapping.getDefaultValue()) && !localToIdPClaimMap.containsKey(claimMapping.
-                getLocalClaim().getClaimUri())).collect(Collectors.toMap(claimMapping -> claimMapping.getLocalClaim().
-                getClaimUri(), ClaimMapping::getDefaultValue)));
+        for (Entry<String, String> defaultValue : idPClaimMappingPlan.getDefaultValues().entrySet()) {
+            localToIdPClaimMap.putIfAbsent(defaultValue.getKey(), defaultValue.getValue());
+        }
 
         return localToIdPClaimMap;
     }
 
-    private void loadDefaultValuesForClaims(ClaimMapping[] idPClaimMappings,
-                                            Map<String, String> defaultValuesForClaims) {
-
-        defaultValuesForClaims.putAll(Arrays.asList(idPClaimMappings).stream().filter(claimMapping -> StringUtils.
-                isNotBlank(claimMapping.getDefaultValue())).collect(Collectors.toMap(claimMapping -> claimMapping.
-                getLocalClaim().getClaimUri(), claimMapping -> claimMapping.getDefaultValue())));
-    }
-
     /**
      * @param sequenceConfig         Sequence config.
      * @param locallyMappedUserRoles String of user roles mapped according to Service Provider role mappings
@@ -773,7 +765,14 @@ public class DefaultClaimHandler implements ClaimHandler {
         Map<String, String> spRequestedClaims = new HashMap<>();
 
         // Retrieve all non-null user claim values against local claim uris.
-        allLocalClaims = retrieveAllNunNullUserClaimValues(authenticatedUser, claimManager, appConfig, userStore);
+        Set<String> localClaimProjection = null;
+        if (isFetchRequestedLocalClaimsOnly() &&
+                !FrameworkConstants.RequestType.CLAIM_TYPE_OPENID.equals(context.getRequestType())) {
+            // OpenID requests return all the claims mapped to the standard dialect, hence not projected.
+            localClaimProjection = getLocalClaimProjection(appConfig);
+        }
+        allLocalClaims = retrieveAllNunNullUserClaimValues(authenticatedUser, claimManager, appConfig, userStore,
+                localClaimProjection);
 
         boolean useAppAssociatedRoles = isAppRoleResolverExists() || !CarbonConstants.ENABLE_LEGACY_AUTHZ_RUNTIME;
         boolean isRoleClaimRequested = (requestedClaimMappings.get(FrameworkConstants.ROLES_CLAIM) != null);
@@ -924,8 +923,9 @@ public class DefaultClaimHandler implements ClaimHandler {
                                                                  String tenantDomain) throws FrameworkException {
         if (spStandardDialect != null) {
             try {
-                spToLocalClaimMappings = getClaimMappings(spStandardDialect, null,
-                                                          context.getTenantDomain(), false);
+                spToLocalClaimMappings = ClaimMappingPlanCache.getInstance()
+                        .getDialectPlan(spStandardDialect, context.getTenantDomain())
+                        .getExternalToLocalClaimMappings();
             } catch (Exception e) {
                 throw new FrameworkException("Error occurred while getting all claim mappings from " +
                                              spStandardDialect + " dialect to " +
@@ -942,8 +942,9 @@ public class DefaultClaimHandler implements ClaimHandler {
                                                                   String tenantDomain) throws FrameworkException {
         if (spStandardDialect != null) {
             try {
-                spToLocalClaimMappings = getClaimMappings(spStandardDialect, null,
-                        context.getTenantDomain(), true);
+                spToLocalClaimMappings = ClaimMappingPlanCache.getInstance()
+                        .getDialectPlan(spStandardDialect, context.getTenantDomain())
+                        .getLocalToExternalClaimMappings();
             } catch (Exception e) {
                 throw new FrameworkException("Error occurred while getting all claim mappings from " +
                         ApplicationConstants.LOCAL_IDP_DEFAULT_CLAIM_DIALECT + " dialect to " +
@@ -953,9 +954,71 @@ public class DefaultClaimHandler implements ClaimHandler {
         return spToLocalClaimMappings;
     }
 
-    private Map<String, String> retrieveAllNunNullUserClaimValues(AuthenticatedUser authenticatedUser,
+    /**
+     * Get the local claims to be retrieved from the user store for the user of the given application. These are the
+     * local claims mapped, requested or marked as mandatory by the application along with its subject and role
+     * claims, and the role, group and IdP type claims used while handling the claims. The requested and mandatory
+     * claims of the application are filtered per request, hence the projection is computed per request.
+     *
+     * @param appConfig Application configuration.
+     * @return Local claim URIs.
+     */
+    protected Set<String> getLocalClaimProjection(ApplicationConfig appConfig) {
+
+        Set<String> localClaimURIs = new HashSet<>();
+        Map<String, String> spToLocalClaimMappings = appConfig.getClaimMappings();
+        addMappedLocalClaims(localClaimURIs, spToLocalClaimMappings);
+        addMappedLocalClaims(localClaimURIs, appConfig.getRequestedClaimMappings());
+        addMappedLocalClaims(localClaimURIs, appConfig.getMandatoryClaimMappings());
+        addLocalClaim(localClaimURIs, appConfig.getSubjectClaimUri(), spToLocalClaimMappings);
+        addLocalClaim(localClaimURIs, appConfig.getRoleClaim(), spToLocalClaimMappings);
+
+        localClaimURIs.add(getLocalGroupsClaimURI());
+        localClaimURIs.add(FrameworkConstants.ROLES_CLAIM);
+        localClaimURIs.add(UserCoreConstants.USER_STORE_GROUPS_CLAIM);
+        localClaimURIs.add(FrameworkConstants.IDP_TYPE_CLAIM);
+        return localClaimURIs;
+    }
+
+    private void addMappedLocalClaims(Set<String> localClaimURIs, Map<String, String> claimMappings) {
+
+        if (claimMappings == null) {
+            return;
+        }
+        for (String localClaimURI : claimMappings.values()) {
+            if (StringUtils.isNotBlank(localClaimURI)) {
+                localClaimURIs.add(localClaimURI);
+            }
+        }
+    }
+
+    private void addLocalClaim(Set<String> localClaimURIs, String claimURI,
+                               Map<String, String> spToLocalClaimMappings) {
+
+        if (StringUtils.isBlank(claimURI)) {
+            return;
+        }
+        // The claim can either be a local claim or a claim of the application dialect.
+        localClaimURIs.add(claimURI);
+        if (spToLocalClaimMappings != null && StringUtils.isNotBlank(spToLocalClaimMappings.get(claimURI))) {
+            localClaimURIs.add(spToLocalClaimMappings.get(claimURI));
+        }
+    }
+
+    /**
+     * Retrieve the non-null claim values of the user against the local claim URIs.
+     *
+     * @param authenticatedUser    Authenticated user.
+     * @param claimManager         Claim manager of the tenant of the user.
+     * @param appConfig            Application configuration.
+     * @param userStore            User store manager of the tenant of the user.
+     * @param localClaimProjection Local claims to retrieve, or null to retrieve all the local claims.
+     * @return Claim values of the user against the local claim URIs.
+     * @throws FrameworkException If an error occurs while retrieving the claim values.
+     */
+    protected Map<String, String> retrieveAllNunNullUserClaimValues(AuthenticatedUser authenticatedUser,
             ClaimManager claimManager, ApplicationConfig appConfig,
-            AbstractUserStoreManager userStore) throws FrameworkException {
+            AbstractUserStoreManager userStore, Set<String> localClaimProjection) throws FrameworkException {
 
         String tenantDomain = authenticatedUser.getTenantDomain();
 
@@ -967,7 +1030,12 @@ public class DefaultClaimHandler implements ClaimHandler {
             List<String> localClaimURIs = new ArrayList<>();
             for (org.wso2.carbon.user.api.ClaimMapping mapping : claimMappings) {
                 String claimURI = mapping.getClaim().getClaimUri();
-                localClaimURIs.add(claimURI);
+                if (localClaimProjection == null || localClaimProjection.contains(claimURI)) {
+                    localClaimURIs.add(claimURI);
+                }
+            }
+            if (localClaimURIs.isEmpty()) {
+                return new HashMap<>();
             }
             allLocalClaims = userStore.getUserClaimValuesWithID(authenticatedUser.getUserId(),
                     localClaimURIs.toArray(new String[0]), null);
@@ -1178,34 +1246,6 @@ public class DefaultClaimHandler implements ClaimHandler {
         }
     }
 
-    /**
-     * @param otherDialect
-     * @param keySet
-     * @param tenantDomain
-     * @param useLocalDialectAsKey
-     * @return
-     * @throws FrameworkException
-     */
-    private Map<String, String> getClaimMappings(String otherDialect, Set<String> keySet,
-                                                 String tenantDomain, boolean useLocalDialectAsKey)
-            throws FrameworkException {
-
-        Map<String, String> claimMapping = null;
-        try {
-            claimMapping = ClaimMetadataHandler.getInstance()
-                    .getMappingsMapFromOtherDialectToCarbon(otherDialect, keySet, tenantDomain,
-                                                            useLocalDialectAsKey);
-        } catch (ClaimMetadataException e) {
-            throw new FrameworkException("Error while loading mappings.", e);
-        }
-
-        if (claimMapping == null) {
-            claimMapping = new HashMap<>();
-        }
-
-        return claimMapping;
-    }
-
     /**
      * Returns the claim dialect URI based on the client type
      *
@@ -1330,6 +1370,17 @@ public class DefaultClaimHandler implements ClaimHandler {
         return FileBasedConfigurationBuilder.getInstance().isCustomClaimMappingsForAuthenticatorsAllowed();
     }
 
+    /**
+     * Checks whether only the local claims used by the application should be retrieved from the user store, instead
+     * of all the local claims of the user.
+     *
+     * @return True if only the local claims used by the application should be retrieved.
+     */
+    private boolean isFetchRequestedLocalClaimsOnly() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(FETCH_REQUESTED_LOCAL_CLAIMS_ONLY));
+    }
+
     /**
      * Checks if a configuration is available indicating to combine the custom claim
      * dialect with the federated authenticator's dialect when a custom dialect
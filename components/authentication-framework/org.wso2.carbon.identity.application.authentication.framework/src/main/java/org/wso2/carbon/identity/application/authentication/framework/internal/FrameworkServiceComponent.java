@@ -51,6 +51,7 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JSExecutionSupervisor;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsFunctionRegistryImpl;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsGenericGraphBuilderFactory;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs.JsGraalGraphBuilderFactory;
 import org.wso2.carbon.identity.application.authentication.framework.dao.impl.CacheBackedLongWaitStatusDAO;
 import org.wso2.carbon.identity.application.authentication.framework.dao.impl.LongWaitStatusDAOImpl;
 import org.wso2.carbon.identity.application.authentication.framework.exception.FrameworkException;
@@ -79,11 +80,13 @@ import org.wso2.carbon.identity.application.authentication.framework.internal.im
 import org.wso2.carbon.identity.application.authentication.framework.internal.impl.ServerSessionManagementServiceImpl;
 import org.wso2.carbon.identity.application.authentication.framework.internal.impl.UserSessionManagementServiceImpl;
 import org.wso2.carbon.identity.application.authentication.framework.listener.AuthenticationEndpointTenantActivityListener;
+import org.wso2.carbon.identity.application.authentication.framework.listener.JSExecutionSupervisorContextObserver;
 import org.wso2.carbon.identity.application.authentication.framework.listener.SessionContextMgtListener;
 import org.wso2.carbon.identity.application.authentication.framework.services.PostAuthenticationMgtService;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.processor.SessionExtenderProcessor;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.request.SessionExtenderRequestFactory;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.response.SessionExtenderResponseFactory;
+import org.wso2.carbon.identity.application.authentication.framework.store.CompressingJavaSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.JavaSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.LongWaitStatusStoreService;
 import org.wso2.carbon.identity.application.authentication.framework.store.PushedAuthDataStore;
@@ -116,6 +119,8 @@ import org.wso2.carbon.idp.mgt.IdpManager;
 import org.wso2.carbon.idp.mgt.listener.IdentityProviderMgtListener;
 import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
 import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.utils.Axis2ConfigurationContextObserver;
+import org.wso2.carbon.utils.ConfigurationContextService;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -209,6 +214,10 @@ public class FrameworkServiceComponent {
                 serverSessionManagementService, null);
         dataHolder.setServerSessionManagementService(serverSessionManagementService);
         setAdaptiveAuthExecutionSupervisor();
+        if (dataHolder.getJsExecutionSupervisor() != null) {
+            bundleContext.registerService(Axis2ConfigurationContextObserver.class.getName(),
+                    new JSExecutionSupervisorContextObserver(), null);
+        }
 
         boolean tenantDropdownEnabled = ConfigurationFacade.getInstance().getTenantDropdownEnabled();
 
@@ -319,7 +328,7 @@ public class FrameworkServiceComponent {
         FrameworkServiceDataHolder.getInstance().setUserSessionMappingEnabled(FrameworkUtils
                 .isUserSessionMappingEnabled());
         if (FrameworkServiceDataHolder.getInstance().getSessionSerializer() == null) {
-            FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+            FrameworkServiceDataHolder.getInstance().setSessionSerializer(getDefaultSessionSerializer());
         }
 
         // Set skip local user search for authentication flow handlers enabled.
@@ -332,6 +341,23 @@ public class FrameworkServiceComponent {
         // to make sure the server doesn't start up if any activation failures
     }
 
+    /**
+     * Get the session serializer used when no session serializer service is registered.
+     *
+     * @return Compressing Java session serializer if configured, Java session serializer otherwise.
+     */
+    private static SessionSerializer getDefaultSessionSerializer() {
+
+        String serializerType = IdentityUtil.getProperty(FrameworkConstants.Config.SESSION_SERIALIZER_TYPE);
+        if (FrameworkConstants.Config.SESSION_SERIALIZER_TYPE_COMPRESSED_JAVA.equalsIgnoreCase(serializerType)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Using compressing Java session serializer.");
+            }
+            return new CompressingJavaSessionSerializer();
+        }
+        return new JavaSessionSerializer();
+    }
+
     private void setAdaptiveAuthExecutionSupervisor() {
 
         String isEnabled = IdentityUtil.getProperty(
@@ -409,6 +435,7 @@ public class FrameworkServiceComponent {
         if (FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor() != null) {
             FrameworkServiceDataHolder.getInstance().getJsExecutionSupervisor().shutdown();
         }
+        JsGraalGraphBuilderFactory.closeSharedEngine();
     }
 
     protected void unsetRealmService(RealmService realmService) {
@@ -419,6 +446,29 @@ public class FrameworkServiceComponent {
         FrameworkServiceDataHolder.getInstance().setRealmService(null);
     }
 
+    @Reference(
+            name = "config.context.service",
+            service = ConfigurationContextService.class,
+            cardinality = ReferenceCardinality.MANDATORY,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetConfigurationContextService"
+    )
+    protected void setConfigurationContextService(ConfigurationContextService configurationContextService) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("ConfigurationContextService is set in the Application Authentication Framework bundle");
+        }
+        FrameworkServiceDataHolder.getInstance().setConfigurationContextService(configurationContextService);
+    }
+
+    protected void unsetConfigurationContextService(ConfigurationContextService configurationContextService) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("ConfigurationContextService is unset in the Application Authentication Framework bundle");
+        }
+        FrameworkServiceDataHolder.getInstance().setConfigurationContextService(null);
+    }
+
     @Reference(
             name = "application.authenticator",
             service = ApplicationAuthenticator.class,
@@ -526,7 +576,7 @@ public class FrameworkServiceComponent {
 
     protected void unsetSessionSerializer(SessionSerializer sessionSerializer) {
 
-        FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+        FrameworkServiceDataHolder.getInstance().setSessionSerializer(getDefaultSessionSerializer());
 
         if (log.isDebugEnabled()) {
             log.debug("Removed session serializer.");
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.listener;
+
+import org.apache.axis2.context.ConfigurationContext;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JSExecutionSupervisor;
+import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+import org.wso2.carbon.utils.AbstractAxis2ConfigurationContextObserver;
+
+/**
+ * Removes the adaptive auth script execution statistics of a tenant from the execution supervisor when the tenant
+ * is unloaded.
+ */
+public class JSExecutionSupervisorContextObserver extends AbstractAxis2ConfigurationContextObserver {
+
+    @Override
+    public void terminatingConfigurationContext(ConfigurationContext configurationContext) {
+
+        JSExecutionSupervisor jsExecutionSupervisor = FrameworkServiceDataHolder.getInstance()
+                .getJsExecutionSupervisor();
+        if (jsExecutionSupervisor != null) {
+            jsExecutionSupervisor.removeExecutionTimeHistogram(
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Session Serializer which compresses the Java serialized session objects with Deflate.
+ * <p>
+ * The session object graph is written with standard Java serialization, hence the same class compatibility rules
+ * apply as for the {@link JavaSessionSerializer}. The compressed payload is prefixed with a short header carrying the
+ * format version, so that rows written by the {@link JavaSessionSerializer} can still be read.
+ * <p>
+ * The serialized bytes are exposed to the caller without copying the internal buffer.
+ */
+public class CompressingJavaSessionSerializer implements SessionSerializer {
+
+    static final byte[] MAGIC = {'W', 'S'};
+    static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_LENGTH = 3;
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    @Override
+    public InputStream serializeSessionObject(Object value) throws SessionSerializerException {
+
+        ExposedByteArrayOutputStream baos = new ExposedByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        baos.write(MAGIC, 0, MAGIC.length);
+        baos.write(FORMAT_VERSION);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (ObjectOutputStream oos = new HeaderlessObjectOutputStream(new DeflaterOutputStream(baos, deflater))) {
+            oos.writeObject(value);
+        } catch (IOException e) {
+            throw new SessionSerializerException("Error while serializing the session object", e);
+        } finally {
+            deflater.end();
+        }
+        return baos.toInputStream();
+    }
+
+    @Override
+    public Object deSerializeSessionObject(InputStream inputStream) throws SessionSerializerException {
+
+        try {
+            PushbackInputStream pushbackInputStream = new PushbackInputStream(inputStream, HEADER_LENGTH);
+            byte[] header = new byte[HEADER_LENGTH];
+            int read = readFully(pushbackInputStream, header);
+            if (read < HEADER_LENGTH || header[0] != MAGIC[0] || header[1] != MAGIC[1]) {
+                // Rows written by the Java session serializer start with the Java serialization stream magic.
+                pushbackInputStream.unread(header, 0, read);
+                try (ObjectInputStream ois = new ObjectInputStream(pushbackInputStream)) {
+                    return ois.readObject();
+                }
+            }
+            if (header[2] != FORMAT_VERSION) {
+                throw new SessionSerializerException("Unsupported session object format version: " + header[2],
+                        null);
+            }
+            try (ObjectInputStream ois = new HeaderlessObjectInputStream(
+                    new InflaterInputStream(pushbackInputStream))) {
+                return ois.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new SessionSerializerException("Error while de serializing the session object", e);
+        }
+    }
+
+    private static int readFully(InputStream inputStream, byte[] buffer) throws IOException {
+
+        int total = 0;
+        while (total < buffer.length) {
+            int count = inputStream.read(buffer, total, buffer.length - total);
+            if (count < 0) {
+                break;
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Object output stream which omits the stream header, as it is replaced by the serializer header.
+     */
+    private static class HeaderlessObjectOutputStream extends ObjectOutputStream {
+
+        HeaderlessObjectOutputStream(OutputStream out) throws IOException {
+
+            super(out);
+        }
+
+        @Override
+        protected void writeStreamHeader() {
+
+            // The stream header is replaced by the serializer header.
+        }
+    }
+
+    /**
+     * Object input stream which reads the stream written by {@link HeaderlessObjectOutputStream}.
+     */
+    private static class HeaderlessObjectInputStream extends ObjectInputStream {
+
+        HeaderlessObjectInputStream(InputStream in) throws IOException {
+
+            super(in);
+        }
+
+        @Override
+        protected void readStreamHeader() {
+
+            // The stream header is replaced by the serializer header.
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+
+            try {
+                return super.resolveClass(desc);
+            } catch (ClassNotFoundException e) {
+                ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+                if (contextClassLoader == null) {
+                    throw e;
+                }
+                return Class.forName(desc.getName(), false, contextClassLoader);
+            }
+        }
+    }
+
+    /**
+     * Byte array output stream which exposes its buffer as an input stream without copying it.
+     */
+    private static class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+
+        ExposedByteArrayOutputStream(int size) {
+
+            super(size);
+        }
+
+        InputStream toInputStream() {
+
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
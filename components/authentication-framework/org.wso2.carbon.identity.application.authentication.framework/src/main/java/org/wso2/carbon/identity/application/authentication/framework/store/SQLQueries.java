@@ -67,6 +67,32 @@ public class SQLQueries {
             "SELECT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" + SESSION_CONTEXT_CACHE_NAME
                     + "' AND EXPIRY_TIME < ?";
 
+    /**
+     * Queries to retrieve a page of expired sessions in the expiry time and session ID order, used to paginate over
+     * the expired sessions by the expiry time and the session ID of the last session of the previous page. The page
+     * size is set in place of the %d placeholder.
+     */
+    private static final String TERMINATED_SESSIONS_PAGE_FILTER =
+            "FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" + SESSION_CONTEXT_CACHE_NAME + "' AND " +
+                    "EXPIRY_TIME < ? AND (EXPIRY_TIME > ? OR (EXPIRY_TIME = ? AND SESSION_ID > ?)) " +
+                    "ORDER BY EXPIRY_TIME, SESSION_ID";
+
+    public static final String SQL_SELECT_TERMINATED_SESSIONS_PAGE_MYSQL =
+            "SELECT SESSION_ID, EXPIRY_TIME " + TERMINATED_SESSIONS_PAGE_FILTER + " LIMIT %d";
+
+    public static final String SQL_SELECT_TERMINATED_SESSIONS_PAGE_DB2 =
+            "SELECT SESSION_ID, EXPIRY_TIME " + TERMINATED_SESSIONS_PAGE_FILTER + " FETCH FIRST %d ROWS ONLY";
+
+    public static final String SQL_SELECT_TERMINATED_SESSIONS_PAGE_MSSQL =
+            "SELECT TOP %d SESSION_ID, EXPIRY_TIME " + TERMINATED_SESSIONS_PAGE_FILTER;
+
+    public static final String SQL_SELECT_TERMINATED_SESSIONS_PAGE_INFORMIX =
+            "SELECT FIRST %d SESSION_ID, EXPIRY_TIME " + TERMINATED_SESSIONS_PAGE_FILTER;
+
+    public static final String SQL_SELECT_TERMINATED_SESSIONS_PAGE_ORACLE =
+            "SELECT SESSION_ID, EXPIRY_TIME FROM (SELECT SESSION_ID, EXPIRY_TIME " + TERMINATED_SESSIONS_PAGE_FILTER +
+                    ") WHERE ROWNUM <= %d";
+
     /**
      * Query to retrieve user session mapping.
      */
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind task to persist and remove session data in batches.
+ * Operations are drained from the session context queue until either the configured batch size is reached or the
+ * configured batch window elapses, and the collected operations are written to the session store in one transaction.
+ */
+public class SessionDataBatchPersistTask implements Runnable {
+
+    private static final Log log = LogFactory.getLog(SessionDataBatchPersistTask.class);
+    private static volatile boolean running;
+    private final BlockingDeque<SessionContextDO> sessionContextQueue;
+    private final int batchSize;
+    private final long batchWindowNanos;
+
+    public SessionDataBatchPersistTask(BlockingDeque<SessionContextDO> sessionContextQueue, int batchSize,
+                                       long batchWindowMillis) {
+
+        this.sessionContextQueue = sessionContextQueue;
+        this.batchSize = batchSize;
+        this.batchWindowNanos = TimeUnit.MILLISECONDS.toNanos(batchWindowMillis);
+    }
+
+    @Override
+    public void run() {
+
+        log.debug("Session Context batch persist consumer is started");
+
+        running = true;
+        while (running) {
+            try {
+                SessionContextDO first = sessionContextQueue.pollFirst(batchWindowNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<SessionContextDO> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                collectBatch(batch);
+                persistBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("Session Context batch persist consumer is interrupted.", e);
+                break;
+            }
+        }
+        flushRemaining();
+    }
+
+    public static void shutdown() {
+
+        running = false;
+    }
+
+    /**
+     * Fill the batch with queued operations until the batch size is reached or the batch window elapses.
+     *
+     * @param batch Batch which already contains the first operation of the window.
+     * @throws InterruptedException If the thread is interrupted while waiting for operations.
+     */
+    private void collectBatch(List<SessionContextDO> batch) throws InterruptedException {
+
+        long deadline = System.nanoTime() + batchWindowNanos;
+        while (batch.size() < batchSize) {
+            if (sessionContextQueue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            SessionContextDO next = sessionContextQueue.pollFirst(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * Persist the operations which are still in the queue when the consumer is stopped.
+     */
+    private void flushRemaining() {
+
+        List<SessionContextDO> batch = new ArrayList<>(batchSize);
+        while (sessionContextQueue.drainTo(batch, batchSize) > 0) {
+            persistBatch(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private void persistBatch(List<SessionContextDO> batch) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Session Data batch persisting Task is started to run for " + batch.size() + " operations");
+        }
+        try {
+            SessionDataStore.getInstance().persistSessionDataBatch(batch);
+        } catch (RuntimeException e) {
+            // Keep the consumer alive, a failed batch should not stop the persistence of later operations.
+            log.error("Error while persisting session data batch of size: " + batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime statistics of the write-behind session data persistence.
+ */
+public class SessionDataPersistStatistics {
+
+    private final LongAdder enqueuedOperations = new LongAdder();
+    private final LongAdder rejectedOperations = new LongAdder();
+    private final LongAdder coalescedOperations = new LongAdder();
+    private final LongAdder persistedOperations = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder totalBatchLatencyNanos = new LongAdder();
+    private final AtomicLong maxBatchLatencyNanos = new AtomicLong();
+    private final AtomicLong lastBatchLatencyNanos = new AtomicLong();
+    private final AtomicLong lastQueueLagNanos = new AtomicLong();
+
+    void recordEnqueued() {
+
+        enqueuedOperations.increment();
+    }
+
+    void recordRejected() {
+
+        rejectedOperations.increment();
+    }
+
+    void recordCoalesced(int count) {
+
+        coalescedOperations.add(count);
+    }
+
+    void recordFailedBatch() {
+
+        failedBatches.increment();
+    }
+
+    void recordBatch(int persistedCount, long latencyNanos, long queueLagNanos) {
+
+        batches.increment();
+        persistedOperations.add(persistedCount);
+        totalBatchLatencyNanos.add(latencyNanos);
+        lastBatchLatencyNanos.set(latencyNanos);
+        lastQueueLagNanos.set(queueLagNanos);
+        maxBatchLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    /**
+     * Number of operations accepted into the write-behind queue.
+     */
+    public long getEnqueuedOperations() {
+
+        return enqueuedOperations.sum();
+    }
+
+    /**
+     * Number of operations which could not be queued within the offer timeout and were persisted by the caller.
+     */
+    public long getRejectedOperations() {
+
+        return rejectedOperations.sum();
+    }
+
+    /**
+     * Number of operations dropped because a later operation for the same key and type was in the same batch.
+     */
+    public long getCoalescedOperations() {
+
+        return coalescedOperations.sum();
+    }
+
+    public long getPersistedOperations() {
+
+        return persistedOperations.sum();
+    }
+
+    public long getFailedBatches() {
+
+        return failedBatches.sum();
+    }
+
+    public long getBatches() {
+
+        return batches.sum();
+    }
+
+    public long getAverageBatchLatencyNanos() {
+
+        long count = batches.sum();
+        return count == 0 ? 0 : totalBatchLatencyNanos.sum() / count;
+    }
+
+    public long getMaxBatchLatencyNanos() {
+
+        return maxBatchLatencyNanos.get();
+    }
+
+    public long getLastBatchLatencyNanos() {
+
+        return lastBatchLatencyNanos.get();
+    }
+
+    /**
+     * Time the oldest operation of the last batch spent in the queue before it was written to the database.
+     */
+    public long getLastQueueLagNanos() {
+
+        return lastQueueLagNanos.get();
+    }
+}
@@ -42,6 +42,11 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.ExecutorService;
@@ -202,6 +207,12 @@ public class SessionDataStore {
     private static boolean periodicTempDataCleanupEnabled = true;
     private static boolean sessionAndTempDataSeparationEnabled = false;
     private static boolean checkExistingEntryForDeleteOperationInsert = false;
+    private static boolean writeBehindEnabled = false;
+    private static int writeBehindBatchSize = 500;
+    private static long writeBehindBatchWindow = 100;
+    private static int writeBehindQueueCapacity = 10000;
+    private static long writeBehindOfferTimeout = 50;
+    private static final SessionDataPersistStatistics persistStatistics = new SessionDataPersistStatistics();
 
     static {
         try {
@@ -213,6 +224,29 @@ public class SessionDataStore {
                 maxSessionDataPoolSize = Integer.parseInt(maxPoolSizeValue);
             }
 
+            writeBehindEnabled = Boolean.parseBoolean(
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.WriteBehind.Enable"));
+            String batchSizeValue =
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.WriteBehind.BatchSize");
+            if (StringUtils.isNotBlank(batchSizeValue)) {
+                writeBehindBatchSize = Integer.parseInt(batchSizeValue);
+            }
+            String batchWindowValue =
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.WriteBehind.BatchWindow");
+            if (StringUtils.isNotBlank(batchWindowValue)) {
+                writeBehindBatchWindow = Long.parseLong(batchWindowValue);
+            }
+            String queueCapacityValue =
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.WriteBehind.QueueCapacity");
+            if (StringUtils.isNotBlank(queueCapacityValue)) {
+                writeBehindQueueCapacity = Integer.parseInt(queueCapacityValue);
+            }
+            String offerTimeoutValue =
+                    IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.WriteBehind.OfferTimeout");
+            if (StringUtils.isNotBlank(offerTimeoutValue)) {
+                writeBehindOfferTimeout = Long.parseLong(offerTimeoutValue);
+            }
+
             String isTempDataCleanupEnabledVal
                     = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.TempDataCleanup.Enable");
             if (StringUtils.isNotBlank(isTempDataCleanupEnabledVal)) {
@@ -243,7 +277,19 @@ public class SessionDataStore {
             }
             log.warn("One or more pool size configurations cause NumberFormatException. Default values would be used");
         }
-        if (maxSessionDataPoolSize > 0) {
+        if (maxSessionDataPoolSize > 0 && writeBehindEnabled && writeBehindBatchSize > 0
+                && writeBehindQueueCapacity > 0) {
+            log.info(String.format("Thread pool size for session write-behind persistent consumer : %d, batch size : " +
+                    "%d, batch window : %d ms, queue capacity : %d", maxSessionDataPoolSize, writeBehindBatchSize,
+                    writeBehindBatchWindow, writeBehindQueueCapacity));
+            sessionContextQueue = new LinkedBlockingDeque<>(writeBehindQueueCapacity);
+            ExecutorService threadPool = Executors.newFixedThreadPool(maxSessionDataPoolSize);
+            for (int i = 0; i < maxSessionDataPoolSize; i++) {
+                threadPool.execute(new SessionDataBatchPersistTask(sessionContextQueue, writeBehindBatchSize,
+                        writeBehindBatchWindow));
+            }
+        } else if (maxSessionDataPoolSize > 0) {
+            writeBehindEnabled = false;
             log.info("Thread pool size for session persistent consumer : " + maxSessionDataPoolSize);
             ExecutorService threadPool = Executors.newFixedThreadPool(maxSessionDataPoolSize);
             for (int i = 0; i < maxSessionDataPoolSize; i++) {
@@ -582,7 +628,14 @@ public class SessionDataStore {
         }
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
         if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
-            sessionContextQueue.push(new SessionContextDO(key, type, entry, nanoTime, tenantId));
+            SessionContextDO sessionContextDO = new SessionContextDO(key, type, entry, nanoTime, tenantId);
+            if (writeBehindEnabled) {
+                if (!enqueueWriteBehindOperation(sessionContextDO)) {
+                    persistSessionData(key, type, entry, nanoTime, tenantId);
+                }
+            } else {
+                sessionContextQueue.push(sessionContextDO);
+            }
         } else {
             persistSessionData(key, type, entry, nanoTime, tenantId);
         }
@@ -594,12 +647,64 @@ public class SessionDataStore {
         }
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
         if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
-            sessionContextQueue.push(new SessionContextDO(key, type, null, nanoTime));
+            SessionContextDO sessionContextDO = new SessionContextDO(key, type, null, nanoTime);
+            if (writeBehindEnabled) {
+                if (!enqueueWriteBehindOperation(sessionContextDO)) {
+                    removeSessionData(key, type, nanoTime);
+                }
+            } else {
+                sessionContextQueue.push(sessionContextDO);
+            }
         } else {
             removeSessionData(key, type, nanoTime);
         }
     }
 
+    /**
+     * Add an operation to the bounded write-behind queue. If the queue is full, the caller waits up to the configured
+     * offer timeout, which applies backpressure to the request threads when the database cannot keep up.
+     *
+     * @param sessionContextDO Operation to be queued.
+     * @return True if the operation is queued, false if the caller has to persist it synchronously.
+     */
+    private boolean enqueueWriteBehindOperation(SessionContextDO sessionContextDO) {
+
+        try {
+            if (sessionContextQueue.offerLast(sessionContextDO, writeBehindOfferTimeout, TimeUnit.MILLISECONDS)) {
+                persistStatistics.recordEnqueued();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        persistStatistics.recordRejected();
+        if (log.isDebugEnabled()) {
+            log.debug("Session data write-behind queue is full. Persisting the operation synchronously for key : "
+                    + sessionContextDO.getKey() + " type : " + sessionContextDO.getType());
+        }
+        return false;
+    }
+
+    /**
+     * Get the number of session data operations waiting in the persistence queue.
+     *
+     * @return Current depth of the session data persistence queue.
+     */
+    public int getSessionDataPersistQueueSize() {
+
+        return sessionContextQueue.size();
+    }
+
+    /**
+     * Get the statistics of the write-behind session data persistence.
+     *
+     * @return Write-behind persistence statistics.
+     */
+    public SessionDataPersistStatistics getSessionDataPersistStatistics() {
+
+        return persistStatistics;
+    }
+
     /**
      * Method to stop running tasks, when the component is deactivated.
      */
@@ -607,6 +712,7 @@ public class SessionDataStore {
 
         TempAuthContextDataDeleteTask.shutdown();
         SessionDataPersistTask.shutdown();
+        SessionDataBatchPersistTask.shutdown();
     }
 
     /**
@@ -760,6 +866,150 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Persist a batch of STORE and DELETE operations using JDBC batches in a single transaction. Operations for the
+     * same key and type are coalesced so that only the latest operation of the batch is written.
+     * If the batch fails, the operations are persisted one by one so that a single bad entry does not discard the
+     * whole batch.
+     *
+     * @param sessionContextDOs Session data operations to persist.
+     */
+    public void persistSessionDataBatch(List<SessionContextDO> sessionContextDOs) {
+
+        if (!enablePersist || sessionContextDOs == null || sessionContextDOs.isEmpty()) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        Collection<SessionContextDO> operations = coalesceSessionDataOperations(sessionContextDOs);
+        persistStatistics.recordCoalesced(sessionContextDOs.size() - operations.size());
+
+        Map<String, List<SessionContextDO>> storeOperations = new LinkedHashMap<>();
+        Map<String, List<SessionContextDO>> deleteOperations = new LinkedHashMap<>();
+        long oldestNanoTime = Long.MAX_VALUE;
+        for (SessionContextDO operation : operations) {
+            oldestNanoTime = Math.min(oldestNanoTime, operation.getNanoTime());
+            if (operation.getEntry() != null) {
+                storeOperations.computeIfAbsent(getSessionStoreDBQuery(sqlInsertSTORE, operation.getType()),
+                        k -> new ArrayList<>()).add(operation);
+            } else if (!checkExistingEntryForDeleteOperationInsert ||
+                    !validateLastOperationOnSessionData(operation.getKey(), operation.getType(), OPERATION_DELETE)) {
+                deleteOperations.computeIfAbsent(getSessionStoreDBQuery(sqlInsertDELETE, operation.getType()),
+                        k -> new ArrayList<>()).add(operation);
+            }
+        }
+
+        Connection connection;
+        try {
+            connection = IdentityDatabaseUtil.getSessionDBConnection(true);
+        } catch (IdentityRuntimeException e) {
+            log.error(e.getMessage(), e);
+            persistStatistics.recordFailedBatch();
+            return;
+        }
+        boolean committed = false;
+        try {
+            for (Map.Entry<String, List<SessionContextDO>> storeBatch : storeOperations.entrySet()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(storeBatch.getKey())) {
+                    for (SessionContextDO operation : storeBatch.getValue()) {
+                        setStoreOperationParameters(preparedStatement, operation);
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+            for (Map.Entry<String, List<SessionContextDO>> deleteBatch : deleteOperations.entrySet()) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(deleteBatch.getKey())) {
+                    for (SessionContextDO operation : deleteBatch.getValue()) {
+                        setDeleteOperationParameters(preparedStatement, operation);
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            committed = true;
+        } catch (SQLException | IOException | SessionSerializerException e) {
+            persistStatistics.recordFailedBatch();
+            log.error("Error while storing session data batch. Retrying the operations individually.", e);
+        } finally {
+            // Also release the connection when an unexpected runtime exception is thrown.
+            if (!committed) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+            }
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+        if (!committed) {
+            persistSessionDataIndividually(operations);
+            return;
+        }
+
+        long currentTime = FrameworkUtils.getCurrentStandardNano();
+        persistStatistics.recordBatch(operations.size(), System.nanoTime() - startTime,
+                Math.max(0, currentTime - oldestNanoTime));
+        if (log.isDebugEnabled()) {
+            log.debug("Persisted a batch of " + operations.size() + " SessionContextData operations to DB.");
+        }
+    }
+
+    /**
+     * Coalesce the given operations so that only the latest operation for each key and type remains. The order of the
+     * first appearance of each key and type is preserved.
+     *
+     * @param sessionContextDOs Session data operations.
+     * @return Coalesced session data operations.
+     */
+    static Collection<SessionContextDO> coalesceSessionDataOperations(List<SessionContextDO> sessionContextDOs) {
+
+        Map<String, SessionContextDO> latestOperations = new LinkedHashMap<>();
+        for (SessionContextDO sessionContextDO : sessionContextDOs) {
+            latestOperations.merge(sessionContextDO.getType() + ":" + sessionContextDO.getKey(), sessionContextDO,
+                    (existing, current) -> current.getNanoTime() >= existing.getNanoTime() ? current : existing);
+        }
+        return latestOperations.values();
+    }
+
+    private void persistSessionDataIndividually(Collection<SessionContextDO> operations) {
+
+        for (SessionContextDO operation : operations) {
+            if (operation.getEntry() != null) {
+                persistSessionData(operation.getKey(), operation.getType(), operation.getEntry(),
+                        operation.getNanoTime(), operation.getTenantId());
+            } else {
+                removeSessionData(operation.getKey(), operation.getType(), operation.getNanoTime());
+            }
+        }
+    }
+
+    private void setStoreOperationParameters(PreparedStatement preparedStatement, SessionContextDO operation)
+            throws SQLException, IOException, SessionSerializerException {
+
+        long validityPeriodNano = 0L;
+        if (operation.getEntry() instanceof CacheEntry) {
+            validityPeriodNano = ((CacheEntry) operation.getEntry()).getValidityPeriod();
+        }
+        if (validityPeriodNano == 0L) {
+            validityPeriodNano = getCleanupTimeout(operation.getType(), operation.getTenantId());
+        }
+        preparedStatement.setString(1, operation.getKey());
+        preparedStatement.setString(2, operation.getType());
+        preparedStatement.setString(3, OPERATION_STORE);
+        setBlobObject(preparedStatement, operation.getEntry(), 4);
+        preparedStatement.setLong(5, operation.getNanoTime());
+        preparedStatement.setLong(6, operation.getNanoTime() + validityPeriodNano);
+        preparedStatement.setInt(7, operation.getTenantId());
+    }
+
+    private void setDeleteOperationParameters(PreparedStatement preparedStatement, SessionContextDO operation)
+            throws SQLException {
+
+        preparedStatement.setString(1, operation.getKey());
+        preparedStatement.setString(2, operation.getType());
+        preparedStatement.setString(3, OPERATION_DELETE);
+        preparedStatement.setLong(4, operation.getNanoTime());
+        preparedStatement.setLong(5, operation.getNanoTime() +
+                getCleanupTimeout(operation.getType(), MultitenantConstants.INVALID_TENANT_ID));
+    }
+
     public void removeSessionData(String key, String type, long nanoTime) {
         if (!enablePersist) {
             return;
@@ -43,11 +43,18 @@ import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.LOCAL_IDP_NAME;
 
@@ -62,11 +69,29 @@ public class UserSessionStore {
     private static final String FEDERATED_USER_DOMAIN = "FEDERATED";
     private static final String DELETE_CHUNK_SIZE_PROPERTY = "JDBCPersistenceManager.SessionDataPersist" +
             ".UserSessionMapping.DeleteChunkSize";
+    private static final String CLEANUP_WORKERS_PROPERTY = "JDBCPersistenceManager.SessionDataPersist" +
+            ".UserSessionMapping.CleanUpWorkers";
+    private static final String CLEANUP_RATE_LIMIT_PROPERTY = "JDBCPersistenceManager.SessionDataPersist" +
+            ".UserSessionMapping.CleanUpRateLimit";
     private static final String IDN_AUTH_USER_SESSION_MAPPING_TABLE = "IDN_AUTH_USER_SESSION_MAPPING";
     private static final String IDN_AUTH_SESSION_APP_INFO_TABLE = "IDN_AUTH_SESSION_APP_INFO_TABLE";
     private static final String IDN_AUTH_SESSION_META_DATA_TABLE = "IDN_AUTH_SESSION_META_DATA";
+    private static final String MYSQL_DATABASE = "MySQL";
+    private static final String MARIA_DATABASE = "MariaDB";
+    private static final String H2_DATABASE = "H2";
+    private static final String DB2_DATABASE = "DB2";
+    private static final String MS_SQL_DATABASE = "MS SQL";
+    private static final String MICROSOFT_DATABASE = "Microsoft";
+    private static final String POSTGRESQL_DATABASE = "PostgreSQL";
+    private static final String INFORMIX_DATABASE = "Informix";
 
     private int deleteChunkSize = 10000;
+    // Number of chunks of expired sessions removed concurrently.
+    private int cleanUpWorkers = 1;
+    // Maximum number of expired sessions removed per second. Not limited if zero.
+    private int cleanUpRateLimit = 0;
+    // Last session up to which the expired sessions were removed. The next cleanup resumes after this session.
+    private volatile CleanUpCheckpoint cleanUpCheckpoint;
 
     private UserSessionStore() {
 
@@ -74,6 +99,21 @@ public class UserSessionStore {
         if (StringUtils.isNotBlank(deleteChunkSizeString)) {
             deleteChunkSize = Integer.parseInt(deleteChunkSizeString);
         }
+        String cleanUpWorkersString = IdentityUtil.getProperty(CLEANUP_WORKERS_PROPERTY);
+        if (StringUtils.isNotBlank(cleanUpWorkersString)) {
+            cleanUpWorkers = Math.max(1, Integer.parseInt(cleanUpWorkersString.trim()));
+        }
+        String cleanUpRateLimitString = IdentityUtil.getProperty(CLEANUP_RATE_LIMIT_PROPERTY);
+        if (StringUtils.isNotBlank(cleanUpRateLimitString)) {
+            cleanUpRateLimit = Math.max(0, Integer.parseInt(cleanUpRateLimitString.trim()));
+        }
+    }
+
+    UserSessionStore(int deleteChunkSize, int cleanUpWorkers, int cleanUpRateLimit) {
+
+        this.deleteChunkSize = deleteChunkSize;
+        this.cleanUpWorkers = Math.max(1, cleanUpWorkers);
+        this.cleanUpRateLimit = Math.max(0, cleanUpRateLimit);
     }
 
     public static UserSessionStore getInstance() {
@@ -429,6 +469,14 @@ public class UserSessionStore {
 
     /**
      * Removes all the expired session records from relevant tables.
+     * <p>
+     * The expired sessions are paginated in the expiry time and session ID order, using the last session of a page as
+     * the start of the next page, and the records of each page are removed and committed separately. Hence the cleanup
+     * holds neither the session IDs of all the expired sessions in memory nor the row locks of all the removed
+     * records. When more than one cleanup worker is configured, consecutive pages are removed concurrently.
+     * <p>
+     * The last removed session is kept as a checkpoint and the next cleanup resumes after it. Sessions which expire
+     * later come after the checkpoint in this order, hence the sessions before it are not scanned again.
      */
     public void removeExpiredSessionRecords() {
 
@@ -436,33 +484,234 @@ public class UserSessionStore {
             log.debug("Removing information of expired and deleted sessions.");
         }
 
-        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
-            Set<String> terminatedAuthSessionIds = getSessionsTerminated(connection);
-            String[] sessionsToRemove = new String[terminatedAuthSessionIds.size()];
-            terminatedAuthSessionIds.toArray(sessionsToRemove);
+        long currentTime = FrameworkUtils.getCurrentStandardNano();
+        ExecutorService executor = newCleanUpExecutor();
+        try {
+            long removedSessionCount = removeExpiredSessionRecords(currentTime, executor);
+            if (log.isDebugEnabled()) {
+                if (removedSessionCount == 0) {
+                    log.debug("No expired sessions found to remove.");
+                } else {
+                    log.debug("Removed the information of " + removedSessionCount + " expired sessions.");
+                }
+            }
+        } catch (SQLException e) {
+            log.error("Error while removing expired session information from the database. The next cleanup " +
+                    "resumes after the session: " + cleanUpCheckpoint, e);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Remove the records of the expired sessions after the cleanup checkpoint, page by page, and record the last
+     * session of each removed batch of pages as the cleanup checkpoint.
+     *
+     * @param currentTime Time used to decide whether a session is expired, in nanoseconds.
+     * @param executor    Executor to remove the pages concurrently, or null to remove them in the caller thread.
+     * @return Number of expired sessions removed.
+     * @throws SQLException If an error occurs while retrieving or removing the expired sessions.
+     */
+    private long removeExpiredSessionRecords(long currentTime, ExecutorService executor) throws SQLException {
+
+        long removedSessionCount = 0;
+        CleanUpCheckpoint lastSession = cleanUpCheckpoint;
+        boolean hasMoreSessions = true;
+        while (hasMoreSessions) {
+            long startTime = System.currentTimeMillis();
+            List<List<String>> pages = new ArrayList<>(cleanUpWorkers);
+            try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(false)) {
+                String query = getTerminatedSessionsQuery(connection);
+                while (pages.size() < cleanUpWorkers) {
+                    ExpiredSessionPage page = getSessionsTerminated(connection, query, currentTime, lastSession);
+                    if (!page.sessionIds.isEmpty()) {
+                        pages.add(page.sessionIds);
+                        lastSession = page.lastSession;
+                    }
+                    if (page.rowCount < deleteChunkSize) {
+                        hasMoreSessions = false;
+                        break;
+                    }
+                }
+            }
+            if (pages.isEmpty()) {
+                break;
+            }
+
+            int removedPageSessionCount = removeSessionRecords(pages, executor);
+            removedSessionCount += removedPageSessionCount;
+            cleanUpCheckpoint = lastSession;
+            if (log.isDebugEnabled()) {
+                log.debug("Removed the information of " + removedPageSessionCount + " expired sessions up to the " +
+                        "session: " + lastSession);
+            }
+            if (hasMoreSessions && !throttle(removedPageSessionCount, startTime)) {
+                break;
+            }
+        }
+        return removedSessionCount;
+    }
 
-            if (!terminatedAuthSessionIds.isEmpty()) {
+    /**
+     * Retrieve a page of sessions which have an expiry time less than the given time, after the given session in the
+     * expiry time and session ID order.
+     *
+     * @param connection  DB connection.
+     * @param query       Query to retrieve the page.
+     * @param currentTime Time used to decide whether a session is expired, in nanoseconds.
+     * @param lastSession Last session of the previous page, or null to retrieve the first page.
+     * @return Page of sessions.
+     * @throws SQLException If an error occurs while retrieving the session IDs.
+     */
+    private ExpiredSessionPage getSessionsTerminated(Connection connection, String query, long currentTime,
+                                                     CleanUpCheckpoint lastSession) throws SQLException {
 
-                if (log.isDebugEnabled()) {
-                    log.debug(terminatedAuthSessionIds.size() + " number of sessions should be removed from the " +
-                            "database. Removing in " + deleteChunkSize + " size batches.");
+        /*
+         * Retrieve only sessions which have an expiry time less than the current time.
+         * As the session cleanup task deletes only entries matching the same condition, in case sessions that are
+         * being marked as deleted are also retrieved that might load a huge amount of entries to the memory all the
+         * time. Yet those entries will be removed from the IDN_AUTH_USER_SESSION_MAPPING_TABLE table on the first
+         * execution, and there after every time the loop will be executed and the table will be scanned for a non
+         * existing entry.
+         */
+        ExpiredSessionPage page = new ExpiredSessionPage();
+        Set<String> terminatedSessionIds = new LinkedHashSet<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            long lastExpiryTime = lastSession == null ? Long.MIN_VALUE : lastSession.expiryTime;
+            preparedStatement.setLong(1, currentTime);
+            preparedStatement.setLong(2, lastExpiryTime);
+            preparedStatement.setLong(3, lastExpiryTime);
+            preparedStatement.setString(4, lastSession == null ? StringUtils.EMPTY : lastSession.sessionId);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String sessionId = resultSet.getString(1);
+                    // A session has a row per operation, hence the same session ID can be retrieved more than once.
+                    terminatedSessionIds.add(sessionId);
+                    page.lastSession = new CleanUpCheckpoint(resultSet.getLong(2), sessionId);
+                    page.rowCount++;
                 }
+            }
+        }
+        page.sessionIds = new ArrayList<>(terminatedSessionIds);
+        return page;
+    }
 
+    /**
+     * Get the query to retrieve a page of expired sessions, limited to the delete chunk size, for the database of the
+     * given connection.
+     *
+     * @param connection DB connection.
+     * @return Query to retrieve a page of expired sessions.
+     * @throws SQLException If an error occurs while retrieving the database metadata.
+     */
+    private String getTerminatedSessionsQuery(Connection connection) throws SQLException {
+
+        String driverName = connection.getMetaData().getDriverName();
+        String query;
+        if (driverName.contains(MYSQL_DATABASE) || driverName.contains(MARIA_DATABASE) ||
+                driverName.contains(H2_DATABASE) || driverName.contains(POSTGRESQL_DATABASE)) {
+            query = SQLQueries.SQL_SELECT_TERMINATED_SESSIONS_PAGE_MYSQL;
+        } else if (connection.getMetaData().getDatabaseProductName().contains(DB2_DATABASE)) {
+            query = SQLQueries.SQL_SELECT_TERMINATED_SESSIONS_PAGE_DB2;
+        } else if (driverName.contains(MS_SQL_DATABASE) || driverName.contains(MICROSOFT_DATABASE)) {
+            query = SQLQueries.SQL_SELECT_TERMINATED_SESSIONS_PAGE_MSSQL;
+        } else if (driverName.contains(INFORMIX_DATABASE)) {
+            query = SQLQueries.SQL_SELECT_TERMINATED_SESSIONS_PAGE_INFORMIX;
+        } else {
+            query = SQLQueries.SQL_SELECT_TERMINATED_SESSIONS_PAGE_ORACLE;
+        }
+        return String.format(query, deleteChunkSize);
+    }
+
+    /**
+     * Remove the records of the given pages of sessions, each page in its own transaction.
+     *
+     * @param pages    Pages of session IDs.
+     * @param executor Executor to remove the pages concurrently, or null to remove them in the caller thread.
+     * @return Number of sessions removed.
+     * @throws SQLException If an error occurs while removing a page.
+     */
+    private int removeSessionRecords(List<List<String>> pages, ExecutorService executor) throws SQLException {
+
+        int removedSessionCount = 0;
+        if (executor == null || pages.size() == 1) {
+            for (List<String> page : pages) {
+                removedSessionCount += removeSessionRecords(page);
+            }
+            return removedSessionCount;
+        }
+
+        List<Future<Integer>> futures = new ArrayList<>(pages.size());
+        for (List<String> page : pages) {
+            futures.add(executor.submit(() -> removeSessionRecords(page)));
+        }
+        SQLException error = null;
+        for (Future<Integer> future : futures) {
+            try {
+                removedSessionCount += future.get();
+            } catch (ExecutionException e) {
+                if (error == null) {
+                    error = e.getCause() instanceof SQLException ? (SQLException) e.getCause() :
+                            new SQLException("Error while removing expired session information.", e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while removing expired session information.", e);
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return removedSessionCount;
+    }
+
+    private int removeSessionRecords(List<String> sessionIds) throws SQLException {
+
+        String[] sessionsToRemove = sessionIds.toArray(new String[0]);
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
+            try {
                 deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_USER_SESSION_MAPPING_TABLE,
                         SQLQueries.SQL_DELETE_TERMINATED_SESSION_DATA);
                 deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_APP_INFO_TABLE,
                         SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_APP_INFO);
                 deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_META_DATA_TABLE,
                         SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_META_DATA);
-
                 IdentityDatabaseUtil.commitTransaction(connection);
-            } else {
-                if (log.isDebugEnabled()) {
-                    log.debug("No expired sessions found to remove.");
-                }
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                throw e;
             }
-        } catch (SQLException e) {
-            log.error("Error while removing expired session information from the database.", e);
+        }
+        return sessionsToRemove.length;
+    }
+
+    /**
+     * Wait until removing the given number of sessions conforms to the configured cleanup rate limit.
+     *
+     * @param removedSessionCount Number of sessions removed.
+     * @param startTime           Time the sessions started to be removed, in milliseconds.
+     * @return False if the cleanup is interrupted while waiting.
+     */
+    private boolean throttle(int removedSessionCount, long startTime) {
+
+        if (cleanUpRateLimit <= 0) {
+            return true;
+        }
+        long waitTime = TimeUnit.SECONDS.toMillis(removedSessionCount) / cleanUpRateLimit -
+                (System.currentTimeMillis() - startTime);
+        if (waitTime <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(waitTime);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Expired session cleanup is interrupted. The next cleanup resumes after the session: " +
+                    cleanUpCheckpoint);
+            return false;
         }
     }
 
@@ -497,31 +746,6 @@ public class UserSessionStore {
         }
     }
 
-    private Set<String> getSessionsTerminated(Connection connection) throws SQLException {
-
-        Set<String> terminatedSessionIds = new HashSet<>();
-
-        /**
-         * Retrieve only sessions which have an expiry time less than the current time.
-         * As the session cleanup task deletes only entries matching the same condition, in case sessions that are
-         * being marked as deleted are also retrieved that might load a huge amount of entries to the memory all the
-         * time. Yet those entries will be removed from the IDN_AUTH_USER_SESSION_MAPPING_TABLE table on the first
-         * execution, and there after every time the loop will be executed and the table will be scanned for a non
-         * existing entry.
-         */
-        try (PreparedStatement preparedStatement = connection.prepareStatement(SQLQueries
-                .SQL_SELECT_TERMINATED_SESSION_IDS)) {
-            preparedStatement.setLong(1, FrameworkUtils.getCurrentStandardNano());
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                while (resultSet.next()) {
-                    terminatedSessionIds.add(resultSet.getString(1));
-                }
-            }
-        }
-
-        return terminatedSessionIds;
-    }
-
     /**
      * This method is used to chunk-wise deletion of records of a given table.
      *
@@ -1387,4 +1611,73 @@ public class UserSessionStore {
             throw new UserSessionException("Error while retrieving information of user id: " + userId, e);
         }
     }
+
+    /**
+     * Create the executor of the expired session cleanup workers.
+     *
+     * @return Executor of the cleanup workers, or null if the pages are removed in the caller thread.
+     */
+    ExecutorService newCleanUpExecutor() {
+
+        return cleanUpWorkers > 1 ?
+                Executors.newFixedThreadPool(cleanUpWorkers, new SessionCleanUpThreadFactory()) : null;
+    }
+
+    /**
+     * Get the last session up to which the expired sessions were removed.
+     *
+     * @return Session ID of the checkpoint, or null if no expired sessions were removed.
+     */
+    String getCleanUpCheckpoint() {
+
+        CleanUpCheckpoint checkpoint = cleanUpCheckpoint;
+        return checkpoint == null ? null : checkpoint.sessionId;
+    }
+
+    /**
+     * Position of a session in the expiry time and session ID order of the expired session cleanup.
+     */
+    private static class CleanUpCheckpoint {
+
+        private final long expiryTime;
+        private final String sessionId;
+
+        CleanUpCheckpoint(long expiryTime, String sessionId) {
+
+            this.expiryTime = expiryTime;
+            this.sessionId = sessionId;
+        }
+
+        @Override
+        public String toString() {
+
+            return sessionId + " (expiry time: " + expiryTime + ")";
+        }
+    }
+
+    /**
+     * Page of expired sessions retrieved by the expired session cleanup.
+     */
+    private static class ExpiredSessionPage {
+
+        private List<String> sessionIds;
+        private CleanUpCheckpoint lastSession;
+        private int rowCount;
+    }
+
+    /**
+     * Thread factory of the expired session cleanup workers.
+     */
+    private static class SessionCleanUpThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, "UserSessionCleanUp-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
@@ -332,6 +332,7 @@ public abstract class FrameworkConstants {
                 + ".ReturnOnlyMappedLocalRoles";
         public static final String SEND_MANUALLY_ADDED_LOCAL_ROLES_OF_IDP = "FederatedRoleManagement"
                 + ".ReturnManuallyAddedLocalRoles";
+        public static final String FETCH_REQUESTED_LOCAL_CLAIMS_ONLY = "ClaimHandler.FetchRequestedLocalClaimsOnly";
 
         /**
          * Configuration name for setting the url for receiving tenant list upon any modification to a tenant
@@ -417,6 +418,13 @@ public abstract class FrameworkConstants {
         public static final String SESSION_DATA_STORAGE_OPTIMIZATION_ENABLED =
                 "JDBCPersistenceManager.SessionDataPersist.SessionDataStorageOptimization.Enable";
 
+        /**
+         * Configurations used to select the session serializer.
+         */
+        public static final String SESSION_SERIALIZER_TYPE =
+                "JDBCPersistenceManager.SessionDataPersist.Serializer.Type";
+        public static final String SESSION_SERIALIZER_TYPE_COMPRESSED_JAVA = "compressed_java";
+
         /**
          * Configuration to enable publishing the active session count in analytics event.
          */
@@ -743,6 +751,9 @@ public abstract class FrameworkConstants {
         public static final String GRAALJS_SCRIPT_STATEMENTS_LIMIT
                 = "AdaptiveAuth.GraalJS.ScriptStatementsLimit";
         public static final int DEFAULT_GRAALJS_SCRIPT_STATEMENTS_LIMIT = 0;
+        public static final String GRAALJS_SHARED_ENGINE_ENABLE = "AdaptiveAuth.GraalJS.SharedEngine.Enable";
+        public static final String GRAALJS_SOURCE_CACHE_SIZE = "AdaptiveAuth.GraalJS.SourceCacheSize";
+        public static final int DEFAULT_GRAALJS_SOURCE_CACHE_SIZE = 1000;
     }
 
     /**
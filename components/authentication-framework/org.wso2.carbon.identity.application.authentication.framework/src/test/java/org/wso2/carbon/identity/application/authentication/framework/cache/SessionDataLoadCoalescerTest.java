@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.cache;
+
+import org.apache.axis2.clustering.ClusteringAgent;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.axis2.engine.AxisConfiguration;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+import org.wso2.carbon.utils.ConfigurationContextService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for {@link SessionDataLoadCoalescer}.
+ */
+public class SessionDataLoadCoalescerTest {
+
+    private static final String CACHE_NAME = "TestCache";
+
+    @AfterMethod
+    public void tearDown() {
+
+        FrameworkServiceDataHolder.getInstance().setConfigurationContextService(null);
+    }
+
+    @Test
+    public void testConcurrentLoadsAreCoalesced() throws Exception {
+
+        SessionDataLoadCoalescer<Object> coalescer = new SessionDataLoadCoalescer<>(CACHE_NAME, true, false, 0, 0);
+        Object value = new Object();
+        AtomicInteger loaderInvocations = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        int threadCount = 5;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            results.add(executorService.submit(() -> coalescer.load("key", () -> {
+                loaderInvocations.incrementAndGet();
+                loaderStarted.countDown();
+                awaitQuietly(releaseLoader);
+                return value;
+            })));
+            loaderStarted.await(5, TimeUnit.SECONDS);
+            for (int i = 1; i < threadCount; i++) {
+                results.add(executorService.submit(() -> coalescer.load("key", () -> {
+                    loaderInvocations.incrementAndGet();
+                    return new Object();
+                })));
+            }
+            // Wait until the other threads are waiting for the in-flight load.
+            long deadline = System.currentTimeMillis() + 5000;
+            while (coalescer.getCoalescedLoadCount() < threadCount - 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            releaseLoader.countDown();
+
+            for (Future<Object> result : results) {
+                assertSame(result.get(5, TimeUnit.SECONDS), value);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(loaderInvocations.get(), 1);
+        assertEquals(coalescer.getStoreLoadCount(), 1);
+        assertEquals(coalescer.getCoalescedLoadCount(), threadCount - 1);
+    }
+
+    @Test
+    public void testNegativeCache() {
+
+        setConfigurationContextService(false);
+        SessionDataLoadCoalescer<Object> coalescer = new SessionDataLoadCoalescer<>(CACHE_NAME, true, true, 60000,
+                10);
+        AtomicInteger loaderInvocations = new AtomicInteger();
+
+        assertNull(coalescer.load("absentKey", () -> {
+            loaderInvocations.incrementAndGet();
+            return null;
+        }));
+        assertNull(coalescer.load("absentKey", () -> {
+            loaderInvocations.incrementAndGet();
+            return new Object();
+        }));
+        assertEquals(loaderInvocations.get(), 1);
+        assertEquals(coalescer.getNegativeCacheHitCount(), 1);
+
+        coalescer.invalidate("absentKey");
+        Object value = new Object();
+        assertSame(coalescer.load("absentKey", () -> value), value);
+        assertEquals(coalescer.getNegativeCacheSize(), 0);
+    }
+
+    @Test
+    public void testNegativeCacheDisabled() {
+
+        SessionDataLoadCoalescer<Object> coalescer = new SessionDataLoadCoalescer<>(CACHE_NAME, true, false, 60000,
+                10);
+        AtomicInteger loaderInvocations = new AtomicInteger();
+
+        coalescer.load("absentKey", () -> {
+            loaderInvocations.incrementAndGet();
+            return null;
+        });
+        coalescer.load("absentKey", () -> {
+            loaderInvocations.incrementAndGet();
+            return null;
+        });
+        assertEquals(loaderInvocations.get(), 2);
+        assertEquals(coalescer.getNegativeCacheHitCount(), 0);
+    }
+
+    @Test
+    public void testNegativeCacheDisabledWhenClustered() {
+
+        setConfigurationContextService(true);
+        SessionDataLoadCoalescer<Object> coalescer = new SessionDataLoadCoalescer<>(CACHE_NAME, true, true, 60000,
+                10);
+        assertEquals(loadAbsentKeyTwice(coalescer), 2);
+        assertEquals(coalescer.getNegativeCacheSize(), 0);
+    }
+
+    @Test
+    public void testNegativeCacheEnabledOnceClusteringIsKnown() {
+
+        SessionDataLoadCoalescer<Object> coalescer = new SessionDataLoadCoalescer<>(CACHE_NAME, true, true, 60000,
+                10);
+        // The configuration context is not available yet, hence the negative cache is not used.
+        assertEquals(loadAbsentKeyTwice(coalescer), 2);
+        assertEquals(coalescer.getNegativeCacheSize(), 0);
+
+        setConfigurationContextService(false);
+        assertEquals(loadAbsentKeyTwice(coalescer), 1);
+        assertEquals(coalescer.getNegativeCacheSize(), 1);
+    }
+
+    private static int loadAbsentKeyTwice(SessionDataLoadCoalescer<Object> coalescer) {
+
+        AtomicInteger loaderInvocations = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            coalescer.load("absentKey", () -> {
+                loaderInvocations.incrementAndGet();
+                return null;
+            });
+        }
+        return loaderInvocations.get();
+    }
+
+    private static void setConfigurationContextService(boolean clustered) {
+
+        ConfigurationContextService configurationContextService = mock(ConfigurationContextService.class);
+        ConfigurationContext configurationContext = mock(ConfigurationContext.class);
+        AxisConfiguration axisConfiguration = mock(AxisConfiguration.class);
+        when(configurationContextService.getServerConfigContext()).thenReturn(configurationContext);
+        when(configurationContext.getAxisConfiguration()).thenReturn(axisConfiguration);
+        when(axisConfiguration.getClusteringAgent()).thenReturn(clustered ? mock(ClusteringAgent.class) : null);
+        FrameworkServiceDataHolder.getInstance().setConfigurationContextService(configurationContextService);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
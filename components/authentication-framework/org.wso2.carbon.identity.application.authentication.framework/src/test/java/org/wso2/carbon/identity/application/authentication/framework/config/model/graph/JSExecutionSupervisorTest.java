@@ -21,8 +21,14 @@ import org.apache.commons.logging.LogFactory;
 import org.junit.Assert;
 import org.testng.annotations.Test;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Test class for JSExecutionSupervisor.
@@ -167,4 +173,79 @@ public class JSExecutionSupervisorTest {
             supervisor.shutdown();
         }
     }
+
+    @Test
+    public void testExecutionTimeHistogram() throws Exception {
+
+        JSExecutionSupervisor supervisor = new JSExecutionSupervisor(1, 2000L);
+        try {
+            String identifier = UUID.randomUUID().toString();
+            supervisor.monitor(identifier, "dummySP", "histogramTenant", 0L);
+            Thread.sleep(30L);
+            supervisor.completed(identifier);
+
+            long[] histogram = supervisor.getExecutionTimeHistogram("histogramTenant");
+            Assert.assertEquals(JSExecutionSupervisor.getExecutionTimeBucketBounds().length + 1, histogram.length);
+            long executionCount = 0L;
+            for (int i = 0; i < histogram.length; i++) {
+                executionCount += histogram[i];
+            }
+            Assert.assertEquals(1L, executionCount);
+            // The execution took at least 30ms, hence it is not counted in the first two buckets (10ms and 25ms).
+            Assert.assertEquals(0L, histogram[0] + histogram[1]);
+            Assert.assertEquals(0L, supervisor.getExecutionTimeHistogram("otherTenant")[0]);
+
+            supervisor.removeExecutionTimeHistogram("histogramTenant");
+            executionCount = 0L;
+            for (long bucketCount : supervisor.getExecutionTimeHistogram("histogramTenant")) {
+                executionCount += bucketCount;
+            }
+            Assert.assertEquals(0L, executionCount);
+        } finally {
+            supervisor.shutdown();
+        }
+    }
+
+    @Test
+    public void testMemoryCountingKeptOnAfterCompletion() {
+
+        JSExecutionSupervisor supervisor = new JSExecutionSupervisor(1, 2000L, 100000000L);
+        try {
+            String identifier = UUID.randomUUID().toString();
+            supervisor.monitor(identifier, "dummySP", "dummyTenant", 0L);
+            supervisor.completed(identifier);
+
+            com.sun.management.ThreadMXBean threadMXBean =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            Assert.assertTrue(threadMXBean.isThreadAllocatedMemoryEnabled());
+            Assert.assertTrue(threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId()) >= 0);
+        } finally {
+            supervisor.shutdown();
+        }
+    }
+
+    @Test
+    public void testConcurrentExecutions() throws Exception {
+
+        JSExecutionSupervisor supervisor = new JSExecutionSupervisor(1, 5000L);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<JSExecutionMonitorData>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(executorService.submit(() -> {
+                    String identifier = UUID.randomUUID().toString();
+                    supervisor.monitor(identifier, "dummySP", "concurrentTenant", 0L);
+                    Thread.sleep(1L);
+                    return supervisor.completed(identifier);
+                }));
+            }
+            for (Future<JSExecutionMonitorData> result : results) {
+                Assert.assertNotNull("The execution monitor result should not be null.", result.get());
+            }
+            Assert.assertEquals(0, supervisor.getActiveExecutionCount());
+        } finally {
+            executorService.shutdownNow();
+            supervisor.shutdown();
+        }
+    }
 }
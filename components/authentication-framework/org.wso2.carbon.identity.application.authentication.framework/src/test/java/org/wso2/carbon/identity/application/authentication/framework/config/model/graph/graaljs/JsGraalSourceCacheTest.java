@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph.graaljs;
+
+import org.graalvm.polyglot.Source;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Test class for JsGraalSourceCache test cases.
+ */
+public class JsGraalSourceCacheTest {
+
+    private static final String SCRIPT = "var onLoginRequest = function(context) { executeStep(1); };";
+    private static final String UPDATED_SCRIPT = "var onLoginRequest = function(context) { executeStep(2); };";
+
+    @Test
+    public void testSourceIsReusedForTheSameScript() {
+
+        JsGraalSourceCache sourceCache = new JsGraalSourceCache(10);
+
+        Source source = sourceCache.getSource("app1", SCRIPT);
+
+        assertSame(sourceCache.getSource("app1", SCRIPT), source);
+        assertEquals(source.getCharacters().toString(), SCRIPT);
+        assertSame(sourceCache.getSource(SCRIPT), sourceCache.getSource(SCRIPT));
+    }
+
+    @Test
+    public void testSourceIsReplacedWhenScriptChanges() {
+
+        JsGraalSourceCache sourceCache = new JsGraalSourceCache(10);
+        Source source = sourceCache.getSource("app1", SCRIPT);
+
+        Source updatedSource = sourceCache.getSource("app1", UPDATED_SCRIPT);
+
+        assertNotSame(updatedSource, source);
+        assertEquals(updatedSource.getCharacters().toString(), UPDATED_SCRIPT);
+        assertSame(sourceCache.getSource("app1", UPDATED_SCRIPT), updatedSource);
+    }
+
+    @Test
+    public void testClear() {
+
+        JsGraalSourceCache sourceCache = new JsGraalSourceCache(10);
+        Source source = sourceCache.getSource("app1", SCRIPT);
+
+        sourceCache.clear();
+
+        assertNotSame(sourceCache.getSource("app1", SCRIPT), source);
+    }
+
+    @Test
+    public void testCacheIsClearedWhenCapacityIsReached() {
+
+        JsGraalSourceCache sourceCache = new JsGraalSourceCache(2);
+        Source source1 = sourceCache.getSource("app1", SCRIPT);
+        Source source2 = sourceCache.getSource("app2", SCRIPT);
+        assertSame(sourceCache.getSource("app1", SCRIPT), source1);
+
+        sourceCache.getSource("app3", SCRIPT);
+
+        assertNotSame(sourceCache.getSource("app1", SCRIPT), source1);
+        assertNotSame(sourceCache.getSource("app2", SCRIPT), source2);
+    }
+
+    @Test
+    public void testSourcesAreNotCachedWhenDisabled() {
+
+        JsGraalSourceCache sourceCache = new JsGraalSourceCache(0);
+
+        assertNotSame(sourceCache.getSource("app1", SCRIPT), sourceCache.getSource("app1", SCRIPT));
+        assertNotSame(sourceCache.getSource("app1", SCRIPT), sourceCache.getSource(null, SCRIPT));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.handler.claims.impl;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.IndexedClaimList;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+public class ClaimMappingPlanTest {
+
+    private static final String OIDC_DIALECT = "http://wso2.org/oidc/claim";
+    private static final String LOCAL_EMAIL_CLAIM = "http://wso2.org/claims/emailaddress";
+    private static final String LOCAL_COUNTRY_CLAIM = "http://wso2.org/claims/country";
+
+    @Test
+    public void testCompileExternalClaims() {
+
+        List<ExternalClaim> externalClaims = Arrays.asList(
+                new ExternalClaim(OIDC_DIALECT, "email", LOCAL_EMAIL_CLAIM),
+                new ExternalClaim(OIDC_DIALECT, "country", LOCAL_COUNTRY_CLAIM));
+
+        ClaimMappingPlan plan = ClaimMappingPlan.compileExternalClaims(externalClaims);
+
+        Assert.assertEquals(plan.getExternalToLocalClaimMappings().get("email"), LOCAL_EMAIL_CLAIM);
+        Assert.assertEquals(plan.getLocalToExternalClaimMappings().get(LOCAL_COUNTRY_CLAIM), "country");
+        Assert.assertTrue(plan.getDefaultValues().isEmpty());
+    }
+
+    @Test
+    public void testPlanIsKeptInCachedExternalClaims() {
+
+        IndexedClaimList<ExternalClaim> externalClaims = new IndexedClaimList<>(Arrays.asList(
+                new ExternalClaim(OIDC_DIALECT, "email", LOCAL_EMAIL_CLAIM)));
+
+        ClaimMappingPlan plan =
+                externalClaims.getDerivedValue(ClaimMappingPlan.class, ClaimMappingPlan::compileExternalClaims);
+
+        Assert.assertSame(externalClaims.getDerivedValue(ClaimMappingPlan.class,
+                ClaimMappingPlan::compileExternalClaims), plan);
+        Assert.assertNotSame(new IndexedClaimList<>(externalClaims).getDerivedValue(ClaimMappingPlan.class,
+                ClaimMappingPlan::compileExternalClaims), plan);
+        Assert.assertEquals(plan.getExternalToLocalClaimMappings().get("email"), LOCAL_EMAIL_CLAIM);
+    }
+
+    @Test
+    public void testGetLocalToExternalClaimMappingsOfExternalClaims() {
+
+        ClaimMappingPlan plan = ClaimMappingPlan.compileExternalClaims(Arrays.asList(
+                new ExternalClaim(OIDC_DIALECT, "email", LOCAL_EMAIL_CLAIM),
+                new ExternalClaim(OIDC_DIALECT, "country", LOCAL_COUNTRY_CLAIM)));
+
+        Map<String, String> claimMappings =
+                plan.getLocalToExternalClaimMappings(new HashSet<>(Arrays.asList("email", "unknown")));
+        Assert.assertEquals(claimMappings, Collections.singletonMap(LOCAL_EMAIL_CLAIM, "email"));
+
+        // All the mappings are returned when no external claims are given, and the returned map is modifiable.
+        Map<String, String> allClaimMappings = plan.getLocalToExternalClaimMappings(Collections.emptySet());
+        Assert.assertEquals(allClaimMappings.size(), 2);
+        allClaimMappings.remove(LOCAL_EMAIL_CLAIM);
+        Assert.assertEquals(plan.getLocalToExternalClaimMappings().size(), 2);
+    }
+
+    @Test
+    public void testCompileIdPClaimMappings() {
+
+        ClaimMapping[] idPClaimMappings = new ClaimMapping[]{
+                ClaimMapping.build(LOCAL_EMAIL_CLAIM, "mail", null, true),
+                ClaimMapping.build(LOCAL_COUNTRY_CLAIM, "country", "LK", false)};
+
+        ClaimMappingPlan plan = ClaimMappingPlan.compileIdPClaimMappings(idPClaimMappings);
+
+        Assert.assertEquals(plan.getLocalToExternalClaimMappings().get(LOCAL_EMAIL_CLAIM), "mail");
+        Assert.assertEquals(plan.getExternalToLocalClaimMappings().get("country"), LOCAL_COUNTRY_CLAIM);
+        Assert.assertEquals(plan.getDefaultValues(), Collections.singletonMap(LOCAL_COUNTRY_CLAIM, "LK"));
+    }
+
+    @Test
+    public void testCompileClaimMappings() {
+
+        ClaimMappingPlan plan = ClaimMappingPlan.compileClaimMappings(
+                Collections.singletonMap(LOCAL_EMAIL_CLAIM, LOCAL_EMAIL_CLAIM));
+
+        Assert.assertEquals(plan.getLocalToExternalClaimMappings(Collections.singleton(LOCAL_EMAIL_CLAIM)),
+                Collections.singletonMap(LOCAL_EMAIL_CLAIM, LOCAL_EMAIL_CLAIM));
+        Assert.assertTrue(plan.getLocalToExternalClaimMappings(Collections.singleton(LOCAL_COUNTRY_CLAIM))
+                .isEmpty());
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.application.authentication.framework.handler.claims.impl;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
@@ -36,13 +37,28 @@ import org.wso2.carbon.identity.application.common.model.ClaimMapping;
 import org.wso2.carbon.identity.application.common.model.IdPGroup;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.user.api.Claim;
+import org.wso2.carbon.user.api.ClaimManager;
+import org.wso2.carbon.user.core.UserCoreConstants;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class DefaultClaimHandlerTest {
@@ -146,4 +162,82 @@ public class DefaultClaimHandlerTest {
             Assert.assertEquals(applicationRoles, mappedApplicationRoles);
         }
     }
+
+    @Test
+    public void testGetLocalClaimProjection() {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(IdentityUtil::getLocalGroupsClaimURI).thenReturn(UserCoreConstants.ROLE_CLAIM);
+
+            Map<String, String> claimMappings = new HashMap<>();
+            claimMappings.put("http://wso2.org/oidc/claim/email", "http://wso2.org/claims/emailaddress");
+            claimMappings.put("http://wso2.org/oidc/claim/username", "http://wso2.org/claims/username");
+            Map<String, String> requestedClaimMappings = new HashMap<>();
+            requestedClaimMappings.put("http://wso2.org/oidc/claim/email", "http://wso2.org/claims/emailaddress");
+            Map<String, String> mandatoryClaimMappings = new HashMap<>();
+            mandatoryClaimMappings.put("http://wso2.org/claims/mobile", "http://wso2.org/claims/mobile");
+
+            when(applicationConfig.getClaimMappings()).thenReturn(claimMappings);
+            when(applicationConfig.getRequestedClaimMappings()).thenReturn(requestedClaimMappings);
+            when(applicationConfig.getMandatoryClaimMappings()).thenReturn(mandatoryClaimMappings);
+            when(applicationConfig.getSubjectClaimUri()).thenReturn("http://wso2.org/oidc/claim/username");
+
+            Set<String> localClaimProjection = new DefaultClaimHandler().getLocalClaimProjection(applicationConfig);
+
+            Assert.assertTrue(localClaimProjection.contains("http://wso2.org/claims/emailaddress"));
+            Assert.assertTrue(localClaimProjection.contains("http://wso2.org/claims/username"));
+            Assert.assertTrue(localClaimProjection.contains("http://wso2.org/claims/mobile"));
+            Assert.assertTrue(localClaimProjection.contains(UserCoreConstants.ROLE_CLAIM));
+            Assert.assertTrue(localClaimProjection.contains(FrameworkConstants.ROLES_CLAIM));
+            Assert.assertTrue(localClaimProjection.contains(FrameworkConstants.IDP_TYPE_CLAIM));
+            Assert.assertFalse(localClaimProjection.contains("http://wso2.org/claims/country"));
+        }
+    }
+
+    @Test
+    public void testRetrieveAllNunNullUserClaimValuesWithProjection() throws Exception {
+
+        ClaimManager claimManager = mock(ClaimManager.class);
+        AbstractUserStoreManager userStoreManager = mock(AbstractUserStoreManager.class);
+        org.wso2.carbon.user.api.ClaimMapping[] claimMappings = {
+                mockLocalClaimMapping("http://wso2.org/claims/emailaddress"),
+                mockLocalClaimMapping("http://wso2.org/claims/username"),
+                mockLocalClaimMapping("http://wso2.org/claims/country")};
+        when(claimManager.getAllClaimMappings(ApplicationConstants.LOCAL_IDP_DEFAULT_CLAIM_DIALECT))
+                .thenReturn(claimMappings);
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        authenticatedUser.setUserId("f9fef46c-2fad-499b-bd9b-f31323f16767");
+        Map<String, String> claimValues = new HashMap<>();
+        claimValues.put("http://wso2.org/claims/emailaddress", "user@wso2.com");
+        when(userStoreManager.getUserClaimValuesWithID(eq(authenticatedUser.getUserId()), any(String[].class),
+                isNull())).thenReturn(claimValues);
+        Set<String> localClaimProjection = new HashSet<>(Arrays.asList("http://wso2.org/claims/emailaddress",
+                "http://wso2.org/claims/mobile"));
+
+        Map<String, String> localClaims = new DefaultClaimHandler().retrieveAllNunNullUserClaimValues(
+                authenticatedUser, claimManager, applicationConfig, userStoreManager, localClaimProjection);
+
+        // Only the projected claims which are mapped in the local dialect are requested from the user store.
+        ArgumentCaptor<String[]> requestedClaims = ArgumentCaptor.forClass(String[].class);
+        verify(userStoreManager).getUserClaimValuesWithID(eq(authenticatedUser.getUserId()),
+                requestedClaims.capture(), isNull());
+        Assert.assertEquals(requestedClaims.getValue(), new String[]{"http://wso2.org/claims/emailaddress"});
+        Assert.assertEquals(localClaims, claimValues);
+
+        // Without a projection, all the local claims are requested.
+        new DefaultClaimHandler().retrieveAllNunNullUserClaimValues(authenticatedUser, claimManager,
+                applicationConfig, userStoreManager, null);
+        verify(userStoreManager, times(2)).getUserClaimValuesWithID(eq(authenticatedUser.getUserId()),
+                requestedClaims.capture(), isNull());
+        Assert.assertEquals(requestedClaims.getValue().length, 3);
+    }
+
+    private org.wso2.carbon.user.api.ClaimMapping mockLocalClaimMapping(String claimURI) {
+
+        org.wso2.carbon.user.api.ClaimMapping claimMapping = mock(org.wso2.carbon.user.api.ClaimMapping.class);
+        Claim claim = mock(Claim.class);
+        when(claim.getClaimUri()).thenReturn(claimURI);
+        when(claimMapping.getClaim()).thenReturn(claim);
+        return claimMapping;
+    }
 }
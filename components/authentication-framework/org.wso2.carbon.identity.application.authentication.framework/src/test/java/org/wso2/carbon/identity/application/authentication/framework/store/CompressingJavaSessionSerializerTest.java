@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.SequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthHistory;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CompressingJavaSessionSerializer}.
+ */
+public class CompressingJavaSessionSerializerTest {
+
+    @Test
+    public void testSerializeAndDeserializeAuthenticationContext() throws Exception {
+
+        CompressingJavaSessionSerializer serializer = new CompressingJavaSessionSerializer();
+        AuthenticationContext context = buildAuthenticationContext();
+
+        AuthenticationContext deserialized = (AuthenticationContext) serializer.deSerializeSessionObject(
+                serializer.serializeSessionObject(context));
+
+        assertEquals(deserialized.getContextIdentifier(), context.getContextIdentifier());
+        assertEquals(deserialized.getSequenceConfig().getApplicationId(),
+                context.getSequenceConfig().getApplicationId());
+        assertEquals(deserialized.getAuthenticationStepHistory(), context.getAuthenticationStepHistory());
+        assertEquals(deserialized.getProperty("sampleProperty"), "sampleValue");
+    }
+
+    @Test
+    public void testCompressedFormatIsSmallerThanJavaSerialization() throws Exception {
+
+        AuthenticationContext context = buildAuthenticationContext();
+        int javaSize = new JavaSessionSerializer().serializeSessionObject(context).available();
+        int compressedSize = new CompressingJavaSessionSerializer().serializeSessionObject(context).available();
+
+        assertTrue(compressedSize < javaSize, "Compressed size: " + compressedSize + ", Java size: " + javaSize);
+    }
+
+    @Test
+    public void testDeserializeJavaSerializedObject() throws Exception {
+
+        AuthenticationContext context = buildAuthenticationContext();
+        InputStream javaSerialized = new JavaSessionSerializer().serializeSessionObject(context);
+
+        AuthenticationContext deserialized = (AuthenticationContext) new CompressingJavaSessionSerializer()
+                .deSerializeSessionObject(javaSerialized);
+
+        assertEquals(deserialized.getContextIdentifier(), context.getContextIdentifier());
+        assertEquals(deserialized.getAuthenticationStepHistory(), context.getAuthenticationStepHistory());
+    }
+
+    @Test(expectedExceptions = SessionSerializerException.class)
+    public void testDeserializeUnsupportedFormatVersion() throws Exception {
+
+        byte[] payload = {CompressingJavaSessionSerializer.MAGIC[0], CompressingJavaSessionSerializer.MAGIC[1],
+                CompressingJavaSessionSerializer.FORMAT_VERSION + 1};
+        new CompressingJavaSessionSerializer().deSerializeSessionObject(new ByteArrayInputStream(payload));
+    }
+
+    private AuthenticationContext buildAuthenticationContext() {
+
+        AuthenticationContext context = new AuthenticationContext();
+        context.setContextIdentifier("3e8a2d0c-5d41-4f6b-9c2e-7f1a1b2c3d4e");
+        SequenceConfig sequenceConfig = new SequenceConfig();
+        sequenceConfig.setApplicationId("sample-app");
+        context.setSequenceConfig(sequenceConfig);
+        context.addAuthenticationStepHistory(new AuthHistory("BasicAuthenticator", "LOCAL"));
+        context.addAuthenticationStepHistory(new AuthHistory("TOTPAuthenticator", "LOCAL"));
+        context.setProperty("sampleProperty", "sampleValue");
+        return context;
+    }
+}
@@ -41,6 +41,10 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -55,6 +59,7 @@ import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Test class that includes unit tests of Session Data Store.
@@ -231,6 +236,65 @@ public class SessionDataStoreTest extends DataStoreBaseTest {
         }
     }
 
+    @Test
+    public void testCoalesceSessionDataOperations() {
+
+        Object entry = new Object();
+        SessionContextDO store1 = new SessionContextDO("key1", "AppAuthFrameworkSessionContextCache", entry, 1000, 1);
+        SessionContextDO store2 = new SessionContextDO("key2", "AppAuthFrameworkSessionContextCache", entry, 1001, 1);
+        SessionContextDO delete1 = new SessionContextDO("key1", "AppAuthFrameworkSessionContextCache", null, 1002);
+        SessionContextDO store1OtherType = new SessionContextDO("key1", "AuthenticationContextCache", entry, 1003, 1);
+        SessionContextDO staleStore2 = new SessionContextDO("key2", "AppAuthFrameworkSessionContextCache", entry, 999,
+                1);
+
+        Collection<SessionContextDO> coalesced = SessionDataStore.coalesceSessionDataOperations(
+                Arrays.asList(store1, store2, delete1, store1OtherType, staleStore2));
+
+        List<SessionContextDO> result = new ArrayList<>(coalesced);
+        assertEquals(result.size(), 3);
+        assertEquals(result.get(0), delete1);
+        assertEquals(result.get(1), store2);
+        assertEquals(result.get(2), store1OtherType);
+    }
+
+    @Test(dependsOnMethods = "testRemoveExpiredSessionData")
+    public void testPersistSessionDataBatch() throws Exception {
+
+        Object entry1 = mock(Object.class, withSettings().serializable());
+        Object entry2 = mock(Object.class, withSettings().serializable());
+        List<SessionContextDO> batch = Arrays.asList(
+                new SessionContextDO("00000010", "sessionType", entry1, 40000, 1),
+                new SessionContextDO("00000011", "sessionType", entry2, 40001, 1),
+                new SessionContextDO("00000010", "sessionType", null, 40002),
+                new SessionContextDO("00000011", "sessionType", entry1, 40003, 1));
+
+        try (MockedStatic<CarbonContext> carbonContext = mockStatic(CarbonContext.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<IdPManagementUtil> idPManagementUtil = mockStatic(IdPManagementUtil.class);
+             MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+             MockedStatic<FrameworkServiceDataHolder> frameworkServiceDataHolder =
+                     mockStatic(FrameworkServiceDataHolder.class);
+             MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+            Connection connection = getConnection(DB_NAME);
+            mockIdentityDataBaseUtilConnection(connection, true, identityDatabaseUtil);
+            mockIdentityDataBaseUtilConnection(connection, false, identityDatabaseUtil);
+            mockCarbonContext(carbonContext);
+            mockIdentityUtils(identityTenantUtil, idPManagementUtil, identityUtil);
+            mockDataHolder(frameworkServiceDataHolder);
+
+            SessionDataStore sessionDataStore = SessionDataStore.getInstance();
+            long coalescedBefore = sessionDataStore.getSessionDataPersistStatistics().getCoalescedOperations();
+            sessionDataStore.persistSessionDataBatch(batch);
+
+            assertTrue(sessionDataStore.validateLastOperationOnSessionData("00000010", "sessionType",
+                    OPERATION_DELETE));
+            assertTrue(sessionDataStore.validateLastOperationOnSessionData("00000011", "sessionType",
+                    OPERATION_STORE));
+            assertEquals(sessionDataStore.getSessionDataPersistStatistics().getCoalescedOperations() -
+                    coalescedBefore, 2);
+        }
+    }
+
     private void mockCarbonContext(MockedStatic<CarbonContext> carbonContext) {
 
         CarbonContext mockCarbonContext = mock(CarbonContext.class);
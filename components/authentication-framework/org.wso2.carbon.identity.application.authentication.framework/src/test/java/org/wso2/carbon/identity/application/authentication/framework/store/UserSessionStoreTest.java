@@ -44,13 +44,19 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.spy;
 
@@ -413,6 +419,104 @@ public class UserSessionStoreTest extends DataStoreBaseTest {
         cleanupTestData();
     }
 
+    @Test(dependsOnMethods = {"testGetActiveSessionCountWithoutMaxSessionTimeout"})
+    public void testRemoveExpiredSessionRecords() throws Exception {
+
+        try (Connection ignored = mockExpiredSessionCleanUpConnection()) {
+            cleanupTestData();
+            for (String sessionId : new String[]{"session1", "session2", "session3"}) {
+                createUserSessionMapping("user1", sessionId);
+                addSessionMetadata(sessionId, String.valueOf(System.currentTimeMillis()));
+            }
+            createSessionWithExpiryTime("session1", 1L);
+            createSessionWithExpiryTime("session2", 1L);
+            createSessionWithExpiryTime("session3", Long.MAX_VALUE);
+
+            UserSessionStore.getInstance().removeExpiredSessionRecords();
+
+            Assert.assertEquals(getRecordCount("IDN_AUTH_USER_SESSION_MAPPING", "session1"), 0);
+            Assert.assertEquals(getRecordCount("IDN_AUTH_USER_SESSION_MAPPING", "session2"), 0);
+            Assert.assertEquals(getRecordCount("IDN_AUTH_USER_SESSION_MAPPING", "session3"), 1);
+            Assert.assertEquals(getRecordCount("IDN_AUTH_SESSION_META_DATA", "session1"), 0);
+            Assert.assertEquals(getRecordCount("IDN_AUTH_SESSION_META_DATA", "session3"), 1);
+            cleanupTestData();
+        }
+    }
+
+    @Test(dependsOnMethods = {"testRemoveExpiredSessionRecords"})
+    public void testRemoveExpiredSessionRecordsWithCleanUpWorkers() throws Exception {
+
+        try (Connection ignored = mockExpiredSessionCleanUpConnection()) {
+            cleanupTestData();
+            for (int i = 1; i <= 5; i++) {
+                createExpiredSession("session" + i, i);
+            }
+            createExpiredSession("session6", Long.MAX_VALUE);
+            UserSessionStore userSessionStore = spy(new UserSessionStore(2, 2, 0));
+            CleanUpWorkerExecutor executor = new CleanUpWorkerExecutor(2);
+            doReturn(executor).when(userSessionStore).newCleanUpExecutor();
+
+            userSessionStore.removeExpiredSessionRecords();
+
+            for (int i = 1; i <= 5; i++) {
+                Assert.assertEquals(getRecordCount("IDN_AUTH_USER_SESSION_MAPPING", "session" + i), 0);
+            }
+            Assert.assertEquals(getRecordCount("IDN_AUTH_USER_SESSION_MAPPING", "session6"), 1);
+            // The first two pages are removed concurrently by the workers, and the last page by the caller.
+            Assert.assertEquals(executor.getExecutedTaskCount(), 2);
+            Assert.assertTrue(executor.isShutdown());
+            Assert.assertEquals(userSessionStore.getCleanUpCheckpoint(), "session5");
+            cleanupTestData();
+        }
+    }
+
+    @Test(dependsOnMethods = {"testRemoveExpiredSessionRecords"})
+    public void testRemoveExpiredSessionRecordsWithRateLimit() throws Exception {
+
+        try (Connection ignored = mockExpiredSessionCleanUpConnection()) {
+            cleanupTestData();
+            for (int i = 1; i <= 3; i++) {
+                createExpiredSession("session" + i, i);
+            }
+            // One session per page and ten sessions per second, hence each page takes at least 100 milliseconds.
+            UserSessionStore userSessionStore = new UserSessionStore(1, 1, 10);
+
+            long startTime = System.nanoTime();
+            userSessionStore.removeExpiredSessionRecords();
+            long elapsedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+            Assert.assertTrue(elapsedTime >= 250, "Expired sessions were removed in " + elapsedTime + " ms.");
+            for (int i = 1; i <= 3; i++) {
+                Assert.assertEquals(getRecordCount("IDN_AUTH_USER_SESSION_MAPPING", "session" + i), 0);
+            }
+            cleanupTestData();
+        }
+    }
+
+    @Test(dependsOnMethods = {"testRemoveExpiredSessionRecords"})
+    public void testRemoveExpiredSessionRecordsFromCheckpoint() throws Exception {
+
+        try (Connection ignored = mockExpiredSessionCleanUpConnection()) {
+            cleanupTestData();
+            createExpiredSession("session1", 1L);
+            createExpiredSession("session2", 2L);
+            UserSessionStore userSessionStore = new UserSessionStore(10, 1, 0);
+
+            userSessionStore.removeExpiredSessionRecords();
+            Assert.assertEquals(userSessionStore.getCleanUpCheckpoint(), "session2");
+
+            // Sessions before the checkpoint are not scanned again, while the sessions expired later are removed.
+            createUserSessionMapping("user1", "session1");
+            createExpiredSession("session3", 3L);
+            userSessionStore.removeExpiredSessionRecords();
+
+            Assert.assertEquals(getRecordCount("IDN_AUTH_USER_SESSION_MAPPING", "session1"), 1);
+            Assert.assertEquals(getRecordCount("IDN_AUTH_USER_SESSION_MAPPING", "session3"), 0);
+            Assert.assertEquals(userSessionStore.getCleanUpCheckpoint(), "session3");
+            cleanupTestData();
+        }
+    }
+
     private void mockIdentityDataBaseUtilConnection(Connection connection, Boolean shouldApplyTransaction,
                                                     MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil)
             throws SQLException {
@@ -537,6 +641,57 @@ public class UserSessionStoreTest extends DataStoreBaseTest {
         }
     }
 
+    private void createSessionWithExpiryTime(String sessionId, long expiryTime) throws SQLException {
+
+        try (Connection connection = getConnection(DB_NAME)) {
+            String sql = "INSERT INTO IDN_AUTH_SESSION_STORE (SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED, " +
+                    "TENANT_ID, EXPIRY_TIME) VALUES (?, ?, ?, ?, ?, ?)";
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setString(1, sessionId);
+                stmt.setString(2, "AppAuthFrameworkSessionContextCache");
+                stmt.setString(3, "STORE");
+                stmt.setLong(4, System.currentTimeMillis());
+                stmt.setInt(5, TENANT_ID);
+                stmt.setLong(6, expiryTime);
+                stmt.executeUpdate();
+            }
+            connection.commit();
+        }
+    }
+
+    private Connection mockExpiredSessionCleanUpConnection() throws SQLException {
+
+        Connection connection = getConnection(DB_NAME);
+        mockIdentityDataBaseUtilConnection(connection, true, mockedIdentityDatabaseUtil);
+        mockIdentityDataBaseUtilConnection(connection, false, mockedIdentityDatabaseUtil);
+        mockedIdentityDatabaseUtil.when(() -> IdentityDatabaseUtil.commitTransaction(any(Connection.class)))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(0, Connection.class).commit();
+                    return null;
+                });
+        return connection;
+    }
+
+    private void createExpiredSession(String sessionId, long expiryTime) throws SQLException {
+
+        createUserSessionMapping("user1", sessionId);
+        createSessionWithExpiryTime(sessionId, expiryTime);
+    }
+
+    private int getRecordCount(String tableName, String sessionId) throws SQLException {
+
+        try (Connection connection = getConnection(DB_NAME)) {
+            String sql = "SELECT COUNT(*) FROM " + tableName + " WHERE SESSION_ID = ?";
+            try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                stmt.setString(1, sessionId);
+                try (ResultSet resultSet = stmt.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getInt(1);
+                }
+            }
+        }
+    }
+
     private void addSessionMetadata(String sessionId, String value) throws SQLException {
 
         try (Connection connection = getConnection(DB_NAME)) {
@@ -590,4 +745,75 @@ public class UserSessionStoreTest extends DataStoreBaseTest {
             connection.commit();
         }
     }
+
+    /**
+     * Executor of the cleanup workers, which mocks the database connections of each worker thread.
+     */
+    private static class CleanUpWorkerExecutor extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+        private final AtomicInteger executedTaskCount = new AtomicInteger();
+
+        CleanUpWorkerExecutor(int workers) {
+
+            this.delegate = Executors.newFixedThreadPool(workers);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+
+            delegate.execute(() -> {
+                try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class)) {
+                    identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getSessionDBConnection(true))
+                            .thenAnswer(invocation -> {
+                                Connection connection = getConnection(DB_NAME);
+                                connection.setAutoCommit(false);
+                                return connection;
+                            });
+                    identityDatabaseUtil.when(() -> IdentityDatabaseUtil.commitTransaction(any(Connection.class)))
+                            .thenAnswer(invocation -> {
+                                invocation.getArgument(0, Connection.class).commit();
+                                return null;
+                            });
+                    executedTaskCount.incrementAndGet();
+                    command.run();
+                }
+            });
+        }
+
+        int getExecutedTaskCount() {
+
+            return executedTaskCount.get();
+        }
+
+        @Override
+        public void shutdown() {
+
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
 }
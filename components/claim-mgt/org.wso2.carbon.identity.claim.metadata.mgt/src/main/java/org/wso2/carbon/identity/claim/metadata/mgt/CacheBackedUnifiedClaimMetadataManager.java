@@ -16,13 +16,14 @@
 
 package org.wso2.carbon.identity.claim.metadata.mgt;
 
-import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.carbon.identity.claim.metadata.mgt.cache.AssociatedClaimCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimDialectCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimMappingIndex;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimMappingIndexCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.ExternalClaimCacheKey;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.IndexedClaimList;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.LocalClaimCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.internal.IdentityClaimManagementServiceDataHolder;
@@ -30,6 +31,7 @@ import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
@@ -39,6 +41,7 @@ import org.wso2.carbon.user.api.UserStoreException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadataManager {
 
@@ -47,7 +50,8 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     ClaimDialectCache claimDialectCache = ClaimDialectCache.getInstance();
     LocalClaimCache localClaimCache = LocalClaimCache.getInstance();
     ExternalClaimCache externalClaimCache = ExternalClaimCache.getInstance();
-    AssociatedClaimCache associatedClaimCache = AssociatedClaimCache.getInstance();
+    ClaimMappingIndexCache claimMappingIndexCache = ClaimMappingIndexCache.getInstance();
+    private final Object claimMappingIndexLock = new Object();
 
     @Override
     public List<ClaimDialect> getClaimDialects(int tenantId) throws ClaimMetadataException {
@@ -126,8 +130,10 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
             if (log.isDebugEnabled()) {
                 log.debug("Cache miss for local claim list for tenant: " + tenantId);
             }
-            localClaimList = super.getLocalClaims(tenantId);
-            localClaimCache.addToCacheOnRead(tenantId, new ArrayList<>(localClaimList), tenantId);
+            IndexedClaimList<LocalClaim> indexedLocalClaimList =
+                    new IndexedClaimList<>(super.getLocalClaims(tenantId));
+            localClaimCache.addToCacheOnRead(tenantId, indexedLocalClaimList, tenantId);
+            localClaimList = indexedLocalClaimList;
         } else {
             if (log.isDebugEnabled()) {
                 log.debug("Cache hit for local claim list for tenant: " + tenantId);
@@ -140,9 +146,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     @Override
     public Optional<LocalClaim> getLocalClaim(String localClaimURI, int tenantId) throws ClaimMetadataException {
 
-        return getLocalClaims(tenantId).stream()
-                .filter(localClaim -> localClaimURI.equals(localClaim.getClaimURI()))
-                .findFirst();
+        return getClaim(getLocalClaims(tenantId), localClaimURI);
     }
 
     @Override
@@ -160,11 +164,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public void updateLocalClaim(LocalClaim localClaim, int tenantId) throws ClaimMetadataException {
 
         super.updateLocalClaim(localClaim, tenantId);
-        List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
-        for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
-            localClaimCache.clearCacheEntry(tenantIdToBeInvalidated, tenantIdToBeInvalidated);
-            associatedClaimCache.clearCacheEntry(localClaim.getClaimURI(), tenantIdToBeInvalidated);
-        }
+        removeLocalClaimCache(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaim.getClaimURI() + " is updated in tenant: " + tenantId +
                     ". Invalidated LocalClaimCache.");
@@ -190,11 +190,11 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
         for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
             localClaimCache.clearCacheEntry(tenantIdToBeInvalidated, tenantIdToBeInvalidated);
-            associatedClaimCache.clearCacheEntry(localClaimURI, tenantIdToBeInvalidated);
+            claimMappingIndexCache.clearCacheEntry(tenantIdToBeInvalidated, tenantIdToBeInvalidated);
         }
         if (log.isDebugEnabled()) {
             log.debug("Local claim: " + localClaimURI + " is deleted in tenant: " + tenantId +
-                    ". Invalidated LocalClaimCache.");
+                    ". Invalidated LocalClaimCache and ClaimMappingIndexCache.");
         }
     }
 
@@ -210,8 +210,10 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
                 log.debug("Cache miss for external claim list for dialect: " + externalClaimDialectURI + " in tenant: " +
                         tenantId);
             }
-            externalClaimList = super.getExternalClaims(externalClaimDialectURI, tenantId);
-            externalClaimCache.addToCacheOnRead(cacheKey, new ArrayList<>(externalClaimList), tenantId);
+            IndexedClaimList<ExternalClaim> indexedExternalClaimList =
+                    new IndexedClaimList<>(super.getExternalClaims(externalClaimDialectURI, tenantId));
+            externalClaimCache.addToCacheOnRead(cacheKey, indexedExternalClaimList, tenantId);
+            externalClaimList = indexedExternalClaimList;
         } else {
             if (log.isDebugEnabled()) {
                 log.debug("Cache hit for external claim list for dialect: " + externalClaimDialectURI + " in tenant: " +
@@ -226,9 +228,7 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public Optional<ExternalClaim> getExternalClaim(String externalClaimDialectURI, String externalClaimURI,
                                                     int tenantId) throws ClaimMetadataException {
 
-        return getExternalClaims(externalClaimDialectURI, tenantId).stream()
-                .filter(externalClaim -> externalClaimURI.equals(externalClaim.getClaimURI()))
-                .findFirst();
+        return getClaim(getExternalClaims(externalClaimDialectURI, tenantId), externalClaimURI);
     }
 
     @Override
@@ -240,8 +240,9 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
         for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
             externalClaimCache.clearCacheEntry(cacheKey, tenantIdToBeInvalidated);
-            associatedClaimCache.clearCacheEntry(externalClaim.getMappedLocalClaim(), tenantIdToBeInvalidated);
         }
+        updateClaimMappingIndex(tenantIdsToBeInvalidated, tenantId,
+                index -> index.withExternalClaim(externalClaim));
         if (log.isDebugEnabled()) {
             log.debug("External claim: " + externalClaim.getClaimDialectURI() + ":" + externalClaim.getClaimURI() +
                     " is added for tenant: " + tenantId + ". Invalidated ExternalClaimCache.");
@@ -257,8 +258,9 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
         for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
             externalClaimCache.clearCacheEntry(cacheKey, tenantIdToBeInvalidated);
-            associatedClaimCache.clearCacheEntry(externalClaim.getMappedLocalClaim(), tenantIdToBeInvalidated);
         }
+        updateClaimMappingIndex(tenantIdsToBeInvalidated, tenantId,
+                index -> index.withExternalClaim(externalClaim));
         if (log.isDebugEnabled()) {
             log.debug("External claim: " + externalClaim.getClaimDialectURI() + ":" + externalClaim.getClaimURI() +
                     " is updated in tenant: " + tenantId + ". Invalidated ExternalClaimCache.");
@@ -269,24 +271,18 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
     public void removeExternalClaim(String externalClaimDialectURI, String externalClaimURI, int tenantId)
             throws ClaimMetadataException {
 
-        List<ExternalClaim> externalClaimsList = getExternalClaims(externalClaimDialectURI, tenantId);
-        String mappedLocalClaim = null;
-        if (externalClaimsList != null) {
-            for (ExternalClaim externalClaim : externalClaimsList) {
-                if (externalClaim.getClaimURI().equals(externalClaimURI)) {
-                    mappedLocalClaim = externalClaim.getMappedLocalClaim();
-                }
-            }
-        }
         super.removeExternalClaim(externalClaimDialectURI, externalClaimURI, tenantId);
         ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
         List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
         for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
             externalClaimCache.clearCacheEntry(cacheKey, tenantIdToBeInvalidated);
-            if (StringUtils.isNotBlank(mappedLocalClaim)) {
-                associatedClaimCache.clearCacheEntry(mappedLocalClaim, tenantIdToBeInvalidated);
-            }
         }
+        // An inherited or a system default claim with the same URI becomes effective once the claim is removed.
+        Optional<ExternalClaim> effectiveExternalClaim = getExternalClaim(externalClaimDialectURI, externalClaimURI,
+                tenantId);
+        updateClaimMappingIndex(tenantIdsToBeInvalidated, tenantId, index -> effectiveExternalClaim
+                .map(index::withExternalClaim)
+                .orElseGet(() -> index.withoutExternalClaim(externalClaimDialectURI, externalClaimURI)));
         if (log.isDebugEnabled()) {
             log.debug("External claim: " + externalClaimDialectURI + ":" + externalClaimURI +
                     " is deleted in tenant: " + tenantId + ". Invalidated ExternalClaimCache.");
@@ -311,51 +307,113 @@ public class CacheBackedUnifiedClaimMetadataManager extends UnifiedClaimMetadata
         claimDialectCache.clearClaimDialects(tenantId);
         localClaimCache.clear(tenantId);
         externalClaimCache.clear(tenantId);
-        associatedClaimCache.clear(tenantId);
+        claimMappingIndexCache.clear(tenantId);
         if (log.isDebugEnabled()) {
             log.debug("All claim dialects are removed for tenant: " + tenantId +
-                    ". Invalidated ClaimDialectCache, LocalClaimCache and ExternalClaimCache.");
+                    ". Invalidated ClaimDialectCache, LocalClaimCache, ExternalClaimCache and ClaimMappingIndexCache.");
         }
     }
 
     @Override
     public List<Claim> getMappedExternalClaims(String localClaimURI, int tenantId) throws ClaimMetadataException {
 
-        List<Claim> associatedLocalClaims = associatedClaimCache.getValueFromCache(localClaimURI, tenantId);
-        if (associatedLocalClaims == null) {
+        return getClaimMappingIndex(tenantId).getMappedExternalClaims(localClaimURI);
+    }
+
+    @Override
+    public boolean isMappedLocalClaim(String localClaimURI, int tenantId) throws ClaimMetadataException {
+
+        return getClaimMappingIndex(tenantId).isMappedLocalClaim(localClaimURI);
+    }
+
+    @Override
+    public boolean isLocalClaimMappedWithinDialect(String mappedLocalClaim, String externalClaimDialectURI,
+                                                   int tenantId) throws ClaimMetadataException {
+
+        return getClaimMappingIndex(tenantId).isLocalClaimMappedWithinDialect(mappedLocalClaim,
+                externalClaimDialectURI);
+    }
+
+    /**
+     * Get the claim mapping index of the tenant. The index is built from the external claims of all the external
+     * claim dialects of the tenant when it is not found in the cache.
+     *
+     * @param tenantId Tenant ID.
+     * @return Claim mapping index.
+     * @throws ClaimMetadataException If an error occurs while retrieving the external claims.
+     */
+    private ClaimMappingIndex getClaimMappingIndex(int tenantId) throws ClaimMetadataException {
+
+        ClaimMappingIndex claimMappingIndex = claimMappingIndexCache.getValueFromCache(tenantId, tenantId);
+        if (claimMappingIndex != null) {
             if (log.isDebugEnabled()) {
-                log.debug(String.format("Cache miss for associated claims of local claim:%s in tenant:%s ",
-                        localClaimURI, tenantId));
+                log.debug("Cache hit for claim mapping index for tenant: " + tenantId);
             }
-            associatedLocalClaims = super.getMappedExternalClaims(localClaimURI, tenantId);
-            associatedClaimCache.addToCacheOnRead(localClaimURI, new ArrayList<>(associatedLocalClaims), tenantId);
-        } else {
-            if (log.isDebugEnabled()) {
-                log.debug(String.format("Cache hit for associated claims of local claim:%s in tenant:%s ",
-                        localClaimURI, tenantId));
+            return claimMappingIndex;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for claim mapping index for tenant: " + tenantId);
+        }
+        List<ExternalClaim> externalClaims = new ArrayList<>();
+        for (ClaimDialect claimDialect : getClaimDialects(tenantId)) {
+            if (ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equals(claimDialect.getClaimDialectURI())) {
+                continue;
+            }
+            externalClaims.addAll(getExternalClaims(claimDialect.getClaimDialectURI(), tenantId));
+        }
+        claimMappingIndex = ClaimMappingIndex.build(externalClaims);
+        claimMappingIndexCache.addToCacheOnRead(tenantId, claimMappingIndex, tenantId);
+        return claimMappingIndex;
+    }
+
+    /**
+     * Apply a change of an external claim to the cached claim mapping index of the tenant, and invalidate the claim
+     * mapping indexes of the other tenants affected by the change, such as the child organizations.
+     *
+     * @param tenantIds Tenants affected by the change.
+     * @param tenantId  Tenant of the external claim.
+     * @param update    Change of the claim mapping index.
+     */
+    private void updateClaimMappingIndex(List<Integer> tenantIds, int tenantId,
+                                         UnaryOperator<ClaimMappingIndex> update) {
+
+        for (Integer tenantIdToBeInvalidated : tenantIds) {
+            if (tenantIdToBeInvalidated != tenantId) {
+                claimMappingIndexCache.clearCacheEntry(tenantIdToBeInvalidated, tenantIdToBeInvalidated);
+            }
+        }
+        synchronized (claimMappingIndexLock) {
+            ClaimMappingIndex claimMappingIndex = claimMappingIndexCache.getValueFromCache(tenantId, tenantId);
+            if (claimMappingIndex != null) {
+                claimMappingIndexCache.addToCache(tenantId, update.apply(claimMappingIndex), tenantId);
             }
         }
-        return associatedLocalClaims;
     }
 
-    private void removeExternalClaimCache(String externalClaimDialectURI, int tenantId) throws ClaimMetadataException {
+    private void removeExternalClaimCache(String externalClaimDialectURI, int tenantId) {
 
         List<Integer> tenantIdsToBeInvalidated = getOrganizationsToBeInvalidated(tenantId);
         for (Integer tenantIdToBeInvalidated: tenantIdsToBeInvalidated) {
-            List<ExternalClaim> externalClaimsList;
-            List<String> mappedLocalClaim = new ArrayList<>();
-            externalClaimsList = getExternalClaims(externalClaimDialectURI, tenantIdToBeInvalidated);
-            if (externalClaimsList != null) {
-                for (ExternalClaim externalClaim : externalClaimsList) {
-                    mappedLocalClaim.add(externalClaim.getMappedLocalClaim());
-                }
-            }
             ExternalClaimCacheKey cacheKey = new ExternalClaimCacheKey(externalClaimDialectURI);
             externalClaimCache.clearCacheEntry(cacheKey, tenantIdToBeInvalidated);
-            for (String localClaim : mappedLocalClaim) {
-                associatedClaimCache.clearCacheEntry(localClaim, tenantIdToBeInvalidated);
-            }
+            claimMappingIndexCache.clearCacheEntry(tenantIdToBeInvalidated, tenantIdToBeInvalidated);
+        }
+    }
+
+    /**
+     * Get the claim with the given claim URI from the cached claims.
+     *
+     * @param claims   Cached claims.
+     * @param claimURI Claim URI.
+     * @return Claim.
+     */
+    private static <T extends Claim> Optional<T> getClaim(List<T> claims, String claimURI) {
+
+        if (claims instanceof IndexedClaimList) {
+            return ((IndexedClaimList<T>) claims).getClaim(claimURI);
         }
+        return claims.stream().filter(claim -> claimURI.equals(claim.getClaimURI())).findFirst();
     }
 
     /**
@@ -124,6 +124,22 @@ public class ClaimMetadataHandler {
         }
     }
 
+    /**
+     * Get the external claims of the given external claim dialect. The claim metadata management returns the cached
+     * list of the claims of the dialect, which is replaced when the claims of the dialect are changed. Hence the
+     * returned list should not be modified.
+     *
+     * @param externalClaimDialectURI External claim dialect URI.
+     * @param tenantDomain            Tenant domain.
+     * @return External claims of the dialect.
+     * @throws ClaimMetadataException If an error occurs while retrieving the external claims.
+     */
+    public List<ExternalClaim> getExternalClaims(String externalClaimDialectURI, String tenantDomain)
+            throws ClaimMetadataException {
+
+        return new ClaimMetadataManagementServiceImpl().getExternalClaims(externalClaimDialectURI, tenantDomain);
+    }
+
     /**
      * @param otherDialectURI
      * @param otherClaimURIs
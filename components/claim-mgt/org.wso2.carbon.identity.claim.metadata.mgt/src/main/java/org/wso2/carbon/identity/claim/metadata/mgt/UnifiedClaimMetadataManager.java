@@ -311,11 +311,15 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
             });
         });
 
+        // System claims are looked up by URI once, instead of scanning the system claims for every claim.
+        Map<String, LocalClaim> localClaimsInSystemMap = localClaimsInSystem.stream()
+                .collect(Collectors.toMap(LocalClaim::getClaimURI, Function.identity(), (first, second) -> first));
         for (LocalClaim localClaim : localClaimMap.values()) {
+            LocalClaim localClaimInSystem = localClaimsInSystemMap.get(localClaim.getClaimURI());
             // If FlowInitiator claim property is present in localClaimsInDB, set it to system value.
-            setFlowInitiatorClaimProperty(localClaim.getClaimURI(), tenantId, localClaim);
+            setFlowInitiatorClaimProperty(localClaim, localClaimInSystem);
             // If SharedProfileValueResolvingMethod is missing in localClaimsInDB, set it to default value.
-            setDefaultSharedProfileValueResolvingMethod(localClaim.getClaimURI(), tenantId, localClaim);
+            setDefaultSharedProfileValueResolvingMethod(localClaim, localClaimInSystem);
         }
 
         return new ArrayList<>(localClaimMap.values());
@@ -534,11 +538,11 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
         LocalClaim dbLocalClaim = localClaimInDB.orElse(null);
         LocalClaim systemDBClaim = localClaimInSystem.orElse(null);
         if (dbLocalClaim != null) {
-            if (isSystemDefaultLocalClaim(localClaimURI, tenantId)) {
+            if (systemDBClaim != null) {
                 markAsSystemClaim(dbLocalClaim);
             }
             // If SharedProfileValueResolvingMethod is missing in DB, set it to default value.
-            setDefaultSharedProfileValueResolvingMethod(localClaimURI, tenantId, dbLocalClaim);
+            setDefaultSharedProfileValueResolvingMethod(dbLocalClaim, systemDBClaim);
             if (systemDBClaim != null) {
                 for (Map.Entry<String, String> entry : systemDBClaim.getClaimProperties().entrySet()) {
                     if (!dbLocalClaim.getClaimProperties().containsKey(entry.getKey())) {
@@ -634,8 +638,14 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
         return copiedLocalClaim;
     }
 
-    private void setDefaultSharedProfileValueResolvingMethod(String localClaimURI, int tenantId,
-                                                             LocalClaim localClaimInDB) throws ClaimMetadataException {
+    /**
+     * Sets the shared profile value resolving method of a local claim to the default value if it is not set.
+     *
+     * @param localClaimInDB     The local claim to be updated.
+     * @param localClaimInSystem The system default claim with the same URI, or null if it is a custom claim.
+     */
+    private void setDefaultSharedProfileValueResolvingMethod(LocalClaim localClaimInDB,
+                                                             LocalClaim localClaimInSystem) {
 
         String sharedProfileValueResolvingMethod =
                 localClaimInDB.getClaimProperty(ClaimConstants.SHARED_PROFILE_VALUE_RESOLVING_METHOD);
@@ -643,20 +653,16 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
             return;
         }
         // If the claim is a system claim, get the default value set in the system default claim metadata.
-        if (isSystemDefaultLocalClaim(localClaimURI, tenantId)) {
-            Optional<LocalClaim> localClaimInSystem = this.systemDefaultClaimMetadataManager.getLocalClaim(
-                    localClaimURI, tenantId);
-            if (localClaimInSystem.isPresent()) {
-                String systemDefaultSharedProfileValueResolvingMethod = localClaimInSystem.get()
-                        .getClaimProperty(ClaimConstants.SHARED_PROFILE_VALUE_RESOLVING_METHOD);
-                if (StringUtils.isNotBlank(systemDefaultSharedProfileValueResolvingMethod)) {
-                    localClaimInDB.setClaimProperty(ClaimConstants.SHARED_PROFILE_VALUE_RESOLVING_METHOD,
-                            systemDefaultSharedProfileValueResolvingMethod);
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug(String.format("SharedProfileValueResolvingMethod is not defined for the system " +
-                                "claim: %s", localClaimURI));
-                    }
+        if (localClaimInSystem != null) {
+            String systemDefaultSharedProfileValueResolvingMethod =
+                    localClaimInSystem.getClaimProperty(ClaimConstants.SHARED_PROFILE_VALUE_RESOLVING_METHOD);
+            if (StringUtils.isNotBlank(systemDefaultSharedProfileValueResolvingMethod)) {
+                localClaimInDB.setClaimProperty(ClaimConstants.SHARED_PROFILE_VALUE_RESOLVING_METHOD,
+                        systemDefaultSharedProfileValueResolvingMethod);
+            } else {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug(String.format("SharedProfileValueResolvingMethod is not defined for the system " +
+                            "claim: %s", localClaimInDB.getClaimURI()));
                 }
             }
         } else {
@@ -666,21 +672,22 @@ public class UnifiedClaimMetadataManager implements ReadWriteClaimMetadataManage
         }
     }
 
-    private void setFlowInitiatorClaimProperty(String localClaimURI, int tenantId,
-                                               LocalClaim localClaimInDB) throws ClaimMetadataException {
+    /**
+     * Sets the flow initiator property of a system claim to the value of the system default claim.
+     *
+     * @param localClaimInDB     The local claim to be updated.
+     * @param localClaimInSystem The system default claim with the same URI, or null if it is a custom claim.
+     */
+    private void setFlowInitiatorClaimProperty(LocalClaim localClaimInDB, LocalClaim localClaimInSystem) {
 
-        if (!isSystemDefaultLocalClaim(localClaimURI, tenantId)) {
+        if (localClaimInSystem == null) {
             return;
         }
 
         // If the claim is a system claim, get the default value set in the system default claim metadata.
-        Optional<LocalClaim> localClaimInSystem = this.systemDefaultClaimMetadataManager.getLocalClaim(
-                localClaimURI, tenantId);
-        if (localClaimInSystem.isPresent()) {
-            String flowInitiatorProperty = localClaimInSystem.get().getClaimProperty(ClaimConstants.FLOW_INITIATOR);
-            if (StringUtils.isNotBlank(flowInitiatorProperty)) {
-                localClaimInDB.setClaimProperty(ClaimConstants.FLOW_INITIATOR, flowInitiatorProperty);
-            }
+        String flowInitiatorProperty = localClaimInSystem.getClaimProperty(ClaimConstants.FLOW_INITIATOR);
+        if (StringUtils.isNotBlank(flowInitiatorProperty)) {
+            localClaimInDB.setClaimProperty(ClaimConstants.FLOW_INITIATOR, flowInitiatorProperty);
         }
     }
 
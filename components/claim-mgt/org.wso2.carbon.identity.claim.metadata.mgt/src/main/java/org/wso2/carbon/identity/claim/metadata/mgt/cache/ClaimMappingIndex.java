@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bidirectional index of the mappings between the local claims and the external claims of a tenant.
+ * The index maps a local claim to the external claims mapped to it, and an external claim of a dialect to its mapped
+ * local claim. Instances are immutable. Updates return a new index, hence an index can be shared between threads.
+ */
+public class ClaimMappingIndex implements Serializable {
+
+    private static final long serialVersionUID = 4826731954120338597L;
+
+    // Local claim URI -> external claims mapped to the local claim.
+    private final Map<String, List<ExternalClaim>> externalClaimsByLocalClaim;
+    // External claim dialect URI -> (external claim URI -> mapped local claim URI).
+    private final Map<String, Map<String, String>> localClaimsByExternalClaim;
+
+    private ClaimMappingIndex(Map<String, List<ExternalClaim>> externalClaimsByLocalClaim,
+                              Map<String, Map<String, String>> localClaimsByExternalClaim) {
+
+        this.externalClaimsByLocalClaim = externalClaimsByLocalClaim;
+        this.localClaimsByExternalClaim = localClaimsByExternalClaim;
+    }
+
+    /**
+     * Build the index of the given external claims.
+     *
+     * @param externalClaims External claims of all the external claim dialects of the tenant.
+     * @return Claim mapping index.
+     */
+    public static ClaimMappingIndex build(Collection<ExternalClaim> externalClaims) {
+
+        Map<String, List<ExternalClaim>> externalClaimsByLocalClaim = new HashMap<>();
+        Map<String, Map<String, String>> localClaimsByExternalClaim = new HashMap<>();
+        for (ExternalClaim externalClaim : externalClaims) {
+            put(externalClaimsByLocalClaim, localClaimsByExternalClaim, externalClaim);
+        }
+        return new ClaimMappingIndex(externalClaimsByLocalClaim, localClaimsByExternalClaim);
+    }
+
+    /**
+     * Get the external claims mapped to the given local claim.
+     *
+     * @param localClaimURI Local claim URI.
+     * @return Mapped external claims.
+     */
+    public List<Claim> getMappedExternalClaims(String localClaimURI) {
+
+        List<ExternalClaim> externalClaims = externalClaimsByLocalClaim.get(localClaimURI);
+        if (externalClaims == null) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(externalClaims);
+    }
+
+    /**
+     * Check whether any external claim is mapped to the given local claim.
+     *
+     * @param localClaimURI Local claim URI.
+     * @return True if the local claim is mapped.
+     */
+    public boolean isMappedLocalClaim(String localClaimURI) {
+
+        return externalClaimsByLocalClaim.containsKey(localClaimURI);
+    }
+
+    /**
+     * Check whether an external claim of the given dialect is mapped to the given local claim.
+     *
+     * @param localClaimURI           Local claim URI.
+     * @param externalClaimDialectURI External claim dialect URI.
+     * @return True if the local claim is mapped within the dialect.
+     */
+    public boolean isLocalClaimMappedWithinDialect(String localClaimURI, String externalClaimDialectURI) {
+
+        List<ExternalClaim> externalClaims = externalClaimsByLocalClaim.get(localClaimURI);
+        if (externalClaims == null) {
+            return false;
+        }
+        for (ExternalClaim externalClaim : externalClaims) {
+            if (externalClaim.getClaimDialectURI().equals(externalClaimDialectURI)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the local claim mapped to the given external claim.
+     *
+     * @param externalClaimDialectURI External claim dialect URI.
+     * @param externalClaimURI        External claim URI.
+     * @return Mapped local claim URI, or null if the external claim is not found.
+     */
+    public String getMappedLocalClaim(String externalClaimDialectURI, String externalClaimURI) {
+
+        Map<String, String> localClaims = localClaimsByExternalClaim.get(externalClaimDialectURI);
+        return localClaims == null ? null : localClaims.get(externalClaimURI);
+    }
+
+    /**
+     * Get an index with the given external claim added, replacing the existing mapping of the external claim.
+     *
+     * @param externalClaim External claim.
+     * @return Updated index.
+     */
+    public ClaimMappingIndex withExternalClaim(ExternalClaim externalClaim) {
+
+        ClaimMappingIndex index = withoutExternalClaim(externalClaim.getClaimDialectURI(),
+                externalClaim.getClaimURI());
+        put(index.externalClaimsByLocalClaim, index.localClaimsByExternalClaim, externalClaim);
+        return index;
+    }
+
+    /**
+     * Get an index with the mapping of the given external claim removed.
+     *
+     * @param externalClaimDialectURI External claim dialect URI.
+     * @param externalClaimURI        External claim URI.
+     * @return Updated index.
+     */
+    public ClaimMappingIndex withoutExternalClaim(String externalClaimDialectURI, String externalClaimURI) {
+
+        Map<String, List<ExternalClaim>> externalClaimsByLocalClaim = new HashMap<>();
+        for (Map.Entry<String, List<ExternalClaim>> entry : this.externalClaimsByLocalClaim.entrySet()) {
+            externalClaimsByLocalClaim.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        Map<String, Map<String, String>> localClaimsByExternalClaim = new HashMap<>();
+        for (Map.Entry<String, Map<String, String>> entry : this.localClaimsByExternalClaim.entrySet()) {
+            localClaimsByExternalClaim.put(entry.getKey(), new HashMap<>(entry.getValue()));
+        }
+
+        Map<String, String> localClaims = localClaimsByExternalClaim.get(externalClaimDialectURI);
+        String localClaimURI = localClaims == null ? null : localClaims.remove(externalClaimURI);
+        if (localClaimURI != null) {
+            List<ExternalClaim> externalClaims = externalClaimsByLocalClaim.get(localClaimURI);
+            externalClaims.removeIf(externalClaim ->
+                    externalClaim.getClaimDialectURI().equals(externalClaimDialectURI) &&
+                            externalClaim.getClaimURI().equals(externalClaimURI));
+            if (externalClaims.isEmpty()) {
+                externalClaimsByLocalClaim.remove(localClaimURI);
+            }
+        }
+        return new ClaimMappingIndex(externalClaimsByLocalClaim, localClaimsByExternalClaim);
+    }
+
+    /**
+     * Get the number of external claims in the index.
+     *
+     * @return Number of external claims.
+     */
+    public int size() {
+
+        int size = 0;
+        for (Map<String, String> localClaims : localClaimsByExternalClaim.values()) {
+            size += localClaims.size();
+        }
+        return size;
+    }
+
+    private static void put(Map<String, List<ExternalClaim>> externalClaimsByLocalClaim,
+                            Map<String, Map<String, String>> localClaimsByExternalClaim,
+                            ExternalClaim externalClaim) {
+
+        if (externalClaim.getMappedLocalClaim() == null) {
+            return;
+        }
+        externalClaimsByLocalClaim.computeIfAbsent(externalClaim.getMappedLocalClaim(), k -> new ArrayList<>())
+                .add(externalClaim);
+        localClaimsByExternalClaim.computeIfAbsent(externalClaim.getClaimDialectURI(), k -> new HashMap<>())
+                .put(externalClaim.getClaimURI(), externalClaim.getMappedLocalClaim());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (https://www.wso2.com).
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -11,32 +11,29 @@
  * Unless required by applicable law or agreed to in writing,
  * software distributed under the License is distributed on an
  * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
- * KIND, either express or implied. See the License for the
+ * KIND, either express or implied.  See the License for the
  * specific language governing permissions and limitations
  * under the License.
  */
 
 package org.wso2.carbon.identity.claim.metadata.mgt.cache;
 
-import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
 import org.wso2.carbon.identity.core.cache.BaseCache;
 
-import java.util.ArrayList;
-
 /**
- * Cache implementation for AssociatedClaims for local claim.
+ * Cache implementation for the claim mapping index of a tenant.
  */
-public class AssociatedClaimCache extends BaseCache<String, ArrayList<Claim>> {
+public class ClaimMappingIndexCache extends BaseCache<Integer, ClaimMappingIndex> {
 
-    private static final AssociatedClaimCache instance = new AssociatedClaimCache();
-    private static final String CACHE_NAME = "AssociatedClaimCache";
+    private static final ClaimMappingIndexCache instance = new ClaimMappingIndexCache();
+    private static final String CACHE_NAME = "ClaimMappingIndexCache";
 
-    private AssociatedClaimCache() {
+    private ClaimMappingIndexCache() {
 
         super(CACHE_NAME);
     }
 
-    public static AssociatedClaimCache getInstance() {
+    public static ClaimMappingIndexCache getInstance() {
 
         return instance;
     }
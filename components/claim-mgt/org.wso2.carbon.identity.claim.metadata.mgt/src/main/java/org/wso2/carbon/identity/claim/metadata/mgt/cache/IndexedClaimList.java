@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Cached list of claims along with a claim URI index of the claims, such as the effective local claims of an
+ * organization merged from its organization hierarchy. The index, and any other values derived from the claims such
+ * as the claim mappings compiled by the consumers of the claims, are kept in the cache entry of the list, hence they
+ * are evicted and invalidated along with the list. The list should not be modified once it is cached.
+ *
+ * @param <T> Type of the claims.
+ */
+public class IndexedClaimList<T extends Claim> extends ArrayList<T> {
+
+    private static final long serialVersionUID = 4412630817390541712L;
+
+    private transient volatile Map<String, T> claimsByURI;
+    private transient volatile ConcurrentMap<Class<?>, Object> derivedValues;
+
+    public IndexedClaimList(Collection<? extends T> claims) {
+
+        super(claims);
+    }
+
+    /**
+     * Get the claim with the given claim URI.
+     *
+     * @param claimURI Claim URI.
+     * @return Claim.
+     */
+    public Optional<T> getClaim(String claimURI) {
+
+        Map<String, T> index = claimsByURI;
+        if (index == null) {
+            index = new HashMap<>(size() * 2);
+            for (T claim : this) {
+                index.putIfAbsent(claim.getClaimURI(), claim);
+            }
+            claimsByURI = index;
+        }
+        return Optional.ofNullable(index.get(claimURI));
+    }
+
+    /**
+     * Get the value of the given type derived from the claims, computing it on the first use.
+     *
+     * @param type    Type of the derived value.
+     * @param builder Function which derives the value from the claims.
+     * @param <V>     Type of the derived value.
+     * @return Value derived from the claims.
+     */
+    public <V> V getDerivedValue(Class<V> type, Function<? super IndexedClaimList<T>, ? extends V> builder) {
+
+        ConcurrentMap<Class<?>, Object> values = derivedValues;
+        if (values == null) {
+            synchronized (this) {
+                values = derivedValues;
+                if (values == null) {
+                    values = new ConcurrentHashMap<>();
+                    derivedValues = values;
+                }
+            }
+        }
+        return type.cast(values.computeIfAbsent(type, key -> builder.apply(this)));
+    }
+}
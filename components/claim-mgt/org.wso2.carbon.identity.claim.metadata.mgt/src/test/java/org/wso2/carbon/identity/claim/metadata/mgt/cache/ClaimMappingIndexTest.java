@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.Claim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit test class for ClaimMappingIndex.
+ */
+public class ClaimMappingIndexTest {
+
+    private static final String OIDC_DIALECT = "http://wso2.org/oidc/claim";
+    private static final String SCIM_DIALECT = "urn:ietf:params:scim:schemas:core:2.0:User";
+    private static final String LOCAL_EMAIL = "http://wso2.org/claims/emailaddress";
+    private static final String LOCAL_USERNAME = "http://wso2.org/claims/username";
+    private static final String LOCAL_COUNTRY = "http://wso2.org/claims/country";
+
+    private ClaimMappingIndex claimMappingIndex;
+
+    @BeforeMethod
+    public void setUp() {
+
+        claimMappingIndex = ClaimMappingIndex.build(Arrays.asList(
+                new ExternalClaim(OIDC_DIALECT, "email", LOCAL_EMAIL),
+                new ExternalClaim(OIDC_DIALECT, "username", LOCAL_USERNAME),
+                new ExternalClaim(SCIM_DIALECT, "emails", LOCAL_EMAIL)));
+    }
+
+    @Test
+    public void testLookups() {
+
+        List<Claim> mappedExternalClaims = claimMappingIndex.getMappedExternalClaims(LOCAL_EMAIL);
+        assertEquals(mappedExternalClaims.size(), 2);
+        assertTrue(claimMappingIndex.getMappedExternalClaims(LOCAL_COUNTRY).isEmpty());
+        assertTrue(claimMappingIndex.isMappedLocalClaim(LOCAL_USERNAME));
+        assertFalse(claimMappingIndex.isMappedLocalClaim(LOCAL_COUNTRY));
+        assertTrue(claimMappingIndex.isLocalClaimMappedWithinDialect(LOCAL_EMAIL, SCIM_DIALECT));
+        assertFalse(claimMappingIndex.isLocalClaimMappedWithinDialect(LOCAL_USERNAME, SCIM_DIALECT));
+        assertEquals(claimMappingIndex.getMappedLocalClaim(OIDC_DIALECT, "username"), LOCAL_USERNAME);
+        assertNull(claimMappingIndex.getMappedLocalClaim(SCIM_DIALECT, "username"));
+        assertEquals(claimMappingIndex.size(), 3);
+    }
+
+    @Test
+    public void testWithExternalClaim() {
+
+        ClaimMappingIndex updatedIndex = claimMappingIndex.withExternalClaim(
+                new ExternalClaim(SCIM_DIALECT, "country", LOCAL_COUNTRY));
+        assertTrue(updatedIndex.isLocalClaimMappedWithinDialect(LOCAL_COUNTRY, SCIM_DIALECT));
+        assertEquals(updatedIndex.size(), 4);
+        // The existing index is not modified.
+        assertFalse(claimMappingIndex.isMappedLocalClaim(LOCAL_COUNTRY));
+        assertEquals(claimMappingIndex.size(), 3);
+    }
+
+    @Test
+    public void testWithUpdatedExternalClaim() {
+
+        ClaimMappingIndex updatedIndex = claimMappingIndex.withExternalClaim(
+                new ExternalClaim(OIDC_DIALECT, "username", LOCAL_EMAIL));
+        assertFalse(updatedIndex.isMappedLocalClaim(LOCAL_USERNAME));
+        assertEquals(updatedIndex.getMappedExternalClaims(LOCAL_EMAIL).size(), 3);
+        assertEquals(updatedIndex.getMappedLocalClaim(OIDC_DIALECT, "username"), LOCAL_EMAIL);
+        assertEquals(updatedIndex.size(), 3);
+    }
+
+    @Test
+    public void testWithoutExternalClaim() {
+
+        ClaimMappingIndex updatedIndex = claimMappingIndex.withoutExternalClaim(SCIM_DIALECT, "emails");
+        assertFalse(updatedIndex.isLocalClaimMappedWithinDialect(LOCAL_EMAIL, SCIM_DIALECT));
+        assertTrue(updatedIndex.isLocalClaimMappedWithinDialect(LOCAL_EMAIL, OIDC_DIALECT));
+        assertNull(updatedIndex.getMappedLocalClaim(SCIM_DIALECT, "emails"));
+
+        updatedIndex = updatedIndex.withoutExternalClaim(OIDC_DIALECT, "email");
+        assertFalse(updatedIndex.isMappedLocalClaim(LOCAL_EMAIL));
+        assertEquals(updatedIndex.withoutExternalClaim(OIDC_DIALECT, "unknown").size(), 1);
+    }
+}
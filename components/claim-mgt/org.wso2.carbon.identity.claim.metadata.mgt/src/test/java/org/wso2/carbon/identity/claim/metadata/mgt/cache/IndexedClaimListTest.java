@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.Arrays;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit test class for IndexedClaimList.
+ */
+public class IndexedClaimListTest {
+
+    private static final String LOCAL_EMAIL = "http://wso2.org/claims/emailaddress";
+    private static final String LOCAL_USERNAME = "http://wso2.org/claims/username";
+
+    @Test
+    public void testGetClaim() {
+
+        LocalClaim emailClaim = new LocalClaim(LOCAL_EMAIL);
+        LocalClaim usernameClaim = new LocalClaim(LOCAL_USERNAME);
+        IndexedClaimList<LocalClaim> localClaims = new IndexedClaimList<>(
+                Arrays.asList(emailClaim, usernameClaim, new LocalClaim(LOCAL_EMAIL)));
+
+        assertEquals(localClaims.size(), 3);
+        assertSame(localClaims.getClaim(LOCAL_EMAIL).get(), emailClaim);
+        assertSame(localClaims.getClaim(LOCAL_USERNAME).get(), usernameClaim);
+        assertFalse(localClaims.getClaim("http://wso2.org/claims/country").isPresent());
+    }
+}
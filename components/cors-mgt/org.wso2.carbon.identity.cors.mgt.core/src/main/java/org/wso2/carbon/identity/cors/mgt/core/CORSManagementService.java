@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.cors.mgt.core;
 
+import org.apache.commons.lang.NotImplementedException;
 import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceException;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSApplication;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSConfiguration;
@@ -112,4 +113,19 @@ public interface CORSManagementService {
      */
     void setCORSConfiguration(CORSConfiguration corsConfiguration, String tenantDomain)
             throws CORSManagementServiceException;
+
+    /**
+     * Check whether the given origin is allowed for a tenant. The CORS origins of the ancestor organizations of the
+     * tenant are also considered, and the subdomains of the origins are allowed when the CORS configuration of the
+     * tenant allows subdomains.
+     *
+     * @param origin       The request origin.
+     * @param tenantDomain The tenant domain.
+     * @return True if the origin is allowed for the tenant.
+     * @throws CORSManagementServiceException
+     */
+    default boolean isAllowedOrigin(String origin, String tenantDomain) throws CORSManagementServiceException {
+
+        throw new NotImplementedException("This functionality is not implemented.");
+    }
 }
@@ -29,6 +29,7 @@ import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginByAppIdCa
 import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginCache;
 import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginCacheEntry;
 import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginCacheKey;
+import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginMatcherCache;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
 
 import java.util.Arrays;
@@ -292,5 +293,6 @@ public class CacheBackedCORSOriginDAO extends CORSOriginDAOImpl {
 
         CORSOriginCacheKey cacheKey = new CORSOriginCacheKey(tenantId);
         CORSOriginCache.getInstance().clearCacheEntry(cacheKey, tenantId);
+        CORSOriginMatcherCache.getInstance().clearCacheEntry(cacheKey, tenantId);
     }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.cors.mgt.core.internal.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.cors.mgt.core.internal.impl.CORSOriginMatcher;
+
+/**
+ * Compiled CORS origins cache entry. Holds the compiled origins configured in the tenant itself along with the IDs of
+ * the ancestor tenants in the organization hierarchy, whose origins are also allowed for the tenant.
+ */
+public class CORSOriginMatcherCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 2739518462930573842L;
+
+    private final CORSOriginMatcher corsOriginMatcher;
+    private final int[] ancestorTenantIds;
+
+    public CORSOriginMatcherCacheEntry(CORSOriginMatcher corsOriginMatcher, int[] ancestorTenantIds) {
+
+        this.corsOriginMatcher = corsOriginMatcher;
+        this.ancestorTenantIds = ancestorTenantIds;
+    }
+
+    public CORSOriginMatcher getCORSOriginMatcher() {
+
+        return corsOriginMatcher;
+    }
+
+    public int[] getAncestorTenantIds() {
+
+        return ancestorTenantIds;
+    }
+}
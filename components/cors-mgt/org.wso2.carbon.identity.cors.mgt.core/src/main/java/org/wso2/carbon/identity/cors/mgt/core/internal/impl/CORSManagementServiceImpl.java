@@ -35,6 +35,9 @@ import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceCli
 import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceException;
 import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceServerException;
 import org.wso2.carbon.identity.cors.mgt.core.internal.CORSManagementServiceHolder;
+import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginCacheKey;
+import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginMatcherCache;
+import org.wso2.carbon.identity.cors.mgt.core.internal.cache.CORSOriginMatcherCacheEntry;
 import org.wso2.carbon.identity.cors.mgt.core.internal.util.CORSConfigurationUtils;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSApplication;
 import org.wso2.carbon.identity.cors.mgt.core.model.CORSConfiguration;
@@ -244,6 +247,31 @@ public class CORSManagementServiceImpl implements CORSManagementService {
         getCORSConfigurationDAO().setCORSConfigurationByTenantDomain(corsConfiguration, tenantDomain);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAllowedOrigin(String origin, String tenantDomain) throws CORSManagementServiceException {
+
+        CORSConfiguration corsConfiguration = getCORSConfiguration(tenantDomain);
+        if (corsConfiguration.isAllowAnyOrigin()) {
+            return true;
+        }
+
+        int tenantId = getTenantId(tenantDomain);
+        CORSOriginMatcherCacheEntry cacheEntry = getCORSOriginMatcherCacheEntry(tenantId, tenantDomain);
+        if (cacheEntry.getCORSOriginMatcher().matches(origin, corsConfiguration.isAllowSubdomains())) {
+            return true;
+        }
+        for (int ancestorTenantId : cacheEntry.getAncestorTenantIds()) {
+            CORSOriginMatcherCacheEntry ancestorCacheEntry = getCORSOriginMatcherCacheEntry(ancestorTenantId, null);
+            if (ancestorCacheEntry.getCORSOriginMatcher().matches(origin, corsConfiguration.isAllowSubdomains())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns a CORSOriginDAO instance.
      *
@@ -327,6 +355,63 @@ public class CORSManagementServiceImpl implements CORSManagementService {
         }
     }
 
+    /**
+     * Get the compiled CORS origins of a tenant from the cache, compiling and caching them on a cache miss.
+     *
+     * @param tenantId     The tenant ID.
+     * @param tenantDomain The tenant domain, or null if the ancestors of the tenant need not be resolved.
+     * @return Compiled CORS origins of the tenant.
+     * @throws CORSManagementServiceException
+     */
+    private CORSOriginMatcherCacheEntry getCORSOriginMatcherCacheEntry(int tenantId, String tenantDomain)
+            throws CORSManagementServiceException {
+
+        CORSOriginCacheKey cacheKey = new CORSOriginCacheKey(tenantId);
+        CORSOriginMatcherCache cache = CORSOriginMatcherCache.getInstance();
+        CORSOriginMatcherCacheEntry cacheEntry = cache.getValueFromCache(cacheKey, tenantId);
+        // An entry cached while resolving an ancestor does not carry the ancestors of the tenant.
+        if (cacheEntry != null && (tenantDomain == null || cacheEntry.getAncestorTenantIds() != null)) {
+            return cacheEntry;
+        }
+
+        CORSOriginMatcher corsOriginMatcher = CORSOriginMatcher.compile(
+                getCORSOriginDAO().getCORSOriginsByTenantId(tenantId));
+        int[] ancestorTenantIds = tenantDomain == null ? null : getAncestorTenantIds(tenantDomain);
+        cacheEntry = new CORSOriginMatcherCacheEntry(corsOriginMatcher, ancestorTenantIds);
+        cache.addToCacheOnRead(cacheKey, cacheEntry, tenantId);
+        return cacheEntry;
+    }
+
+    /**
+     * Get the IDs of the tenants of the ancestor organizations of a tenant, starting from the immediate parent.
+     *
+     * @param tenantDomain The tenant domain.
+     * @return IDs of the ancestor tenants.
+     * @throws CORSManagementServiceException
+     */
+    private int[] getAncestorTenantIds(String tenantDomain) throws CORSManagementServiceException {
+
+        OrganizationManager organizationManager = CORSManagementServiceHolder.getInstance().getOrganizationManager();
+        try {
+            String organizationId = organizationManager.resolveOrganizationId(tenantDomain);
+            List<String> ancestorOrganizationIds = organizationManager.getAncestorOrganizationIds(organizationId);
+            if (ancestorOrganizationIds == null || ancestorOrganizationIds.size() <= 1) {
+                return new int[0];
+            }
+            // The first element is the organization itself.
+            int[] ancestorTenantIds = new int[ancestorOrganizationIds.size() - 1];
+            for (int i = 1; i < ancestorOrganizationIds.size(); i++) {
+                ancestorTenantIds[i - 1] = getTenantId(
+                        organizationManager.resolveTenantDomain(ancestorOrganizationIds.get(i)));
+            }
+            return ancestorTenantIds;
+        } catch (OrganizationManagementException e) {
+            throw new CORSManagementServiceException(
+                    String.format(ERROR_CODE_CORS_CONFIG_RETRIEVE.getDescription(), tenantDomain),
+                    ERROR_CODE_CORS_CONFIG_RETRIEVE.getCode(), e);
+        }
+    }
+
     private Optional<List<CORSOrigin>> getCorsOrigins(String orgId)
             throws OrganizationManagementException, CORSManagementServiceServerException {
 
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.cors.mgt.core.internal.impl;
+
+import org.wso2.carbon.identity.cors.mgt.core.exception.CORSManagementServiceClientException;
+import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
+import org.wso2.carbon.identity.cors.mgt.core.model.Origin;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Compiled form of the CORS origins of a tenant, used to check whether a request origin is allowed without scanning
+ * the origin list.
+ * <p>
+ * The configured origins are kept in a hash set both as configured and in their canonical form, i.e. the lower case
+ * scheme followed by the IDNA encoded lower case host and the non-default port. A subdomain of a configured origin is
+ * matched by looking up the canonical forms of the parent domains of the request origin host, hence a check takes at
+ * most one lookup per label of the host. Instances are immutable.
+ */
+public final class CORSOriginMatcher implements Serializable {
+
+    private static final long serialVersionUID = -3297851061632402247L;
+    private static final String SCHEME_SEPARATOR = "://";
+
+    private final Set<String> origins;
+
+    private CORSOriginMatcher(Set<String> origins) {
+
+        this.origins = origins;
+    }
+
+    /**
+     * Compile the given CORS origins.
+     *
+     * @param corsOrigins CORS origins.
+     * @return Compiled matcher of the origins.
+     */
+    public static CORSOriginMatcher compile(Collection<CORSOrigin> corsOrigins) {
+
+        Set<String> origins = new HashSet<>(corsOrigins.size() * 4);
+        for (CORSOrigin corsOrigin : corsOrigins) {
+            if (corsOrigin.getOrigin() == null) {
+                continue;
+            }
+            origins.add(corsOrigin.getOrigin());
+            String canonicalOrigin = getCanonicalOrigin(corsOrigin.getOrigin());
+            if (canonicalOrigin != null) {
+                origins.add(canonicalOrigin);
+            }
+        }
+        return new CORSOriginMatcher(Collections.unmodifiableSet(origins));
+    }
+
+    /**
+     * Check whether the given request origin matches a configured origin.
+     *
+     * @param origin          Request origin.
+     * @param allowSubdomains Whether the subdomains of the configured origins are allowed.
+     * @return True if the origin is allowed.
+     */
+    public boolean matches(String origin, boolean allowSubdomains) {
+
+        if (origin == null || origins.isEmpty()) {
+            return false;
+        }
+        if (origins.contains(origin)) {
+            return true;
+        }
+
+        Origin parsedOrigin = parse(origin);
+        if (parsedOrigin == null || parsedOrigin.getScheme() == null) {
+            return false;
+        }
+        String prefix = parsedOrigin.getScheme() + SCHEME_SEPARATOR;
+        String portSuffix = parsedOrigin.getPort() == -1 ? "" : ":" + parsedOrigin.getPort();
+        String host = parsedOrigin.getHost();
+        if (origins.contains(prefix + host + portSuffix)) {
+            return true;
+        }
+        if (!allowSubdomains) {
+            return false;
+        }
+        for (int index = host.indexOf('.'); index != -1; index = host.indexOf('.', index + 1)) {
+            if (origins.contains(prefix + host.substring(index + 1) + portSuffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether there are no configured origins.
+     *
+     * @return True if there are no configured origins.
+     */
+    public boolean isEmpty() {
+
+        return origins.isEmpty();
+    }
+
+    private static String getCanonicalOrigin(String origin) {
+
+        Origin parsedOrigin = parse(origin);
+        if (parsedOrigin == null || parsedOrigin.getScheme() == null) {
+            return null;
+        }
+        return parsedOrigin.getScheme() + SCHEME_SEPARATOR + parsedOrigin.getSuffix();
+    }
+
+    private static Origin parse(String origin) {
+
+        try {
+            return new Origin(origin);
+        } catch (CORSManagementServiceClientException e) {
+            return null;
+        }
+    }
+}
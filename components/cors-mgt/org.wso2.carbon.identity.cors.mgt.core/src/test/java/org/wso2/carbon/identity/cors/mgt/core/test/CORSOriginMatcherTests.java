@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.cors.mgt.core.test;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.cors.mgt.core.internal.impl.CORSOriginMatcher;
+import org.wso2.carbon.identity.cors.mgt.core.model.CORSOrigin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests the compiled CORS origin matcher.
+ */
+public class CORSOriginMatcherTests {
+
+    @Test
+    public void testExactMatch() {
+
+        CORSOriginMatcher matcher = compile("http://foo.com", "https://bar.com:8443");
+
+        assertTrue(matcher.matches("http://foo.com", false));
+        assertTrue(matcher.matches("https://bar.com:8443", false));
+        assertFalse(matcher.matches("https://foo.com", false));
+        assertFalse(matcher.matches("https://bar.com", false));
+        assertFalse(matcher.matches("http://baz.com", false));
+    }
+
+    @Test
+    public void testCanonicalMatch() {
+
+        CORSOriginMatcher matcher = compile("http://Foo.com");
+
+        assertTrue(matcher.matches("HTTP://FOO.COM", false));
+        assertTrue(matcher.matches("http://foo.com", false));
+    }
+
+    @Test
+    public void testSubdomainMatch() {
+
+        CORSOriginMatcher matcher = compile("https://foo.com", "http://bar.com:8080");
+
+        assertTrue(matcher.matches("https://app.foo.com", true));
+        assertTrue(matcher.matches("https://a.b.foo.com", true));
+        assertTrue(matcher.matches("http://app.bar.com:8080", true));
+        assertFalse(matcher.matches("http://app.bar.com", true));
+        assertFalse(matcher.matches("https://app.foo.com", false));
+        assertFalse(matcher.matches("https://appfoo.com", true));
+        assertFalse(matcher.matches("http://app.foo.com", true));
+    }
+
+    @Test
+    public void testInvalidOrigin() {
+
+        CORSOriginMatcher matcher = compile("http://foo.com");
+
+        assertFalse(matcher.matches(null, true));
+        assertFalse(matcher.matches("null", true));
+        assertFalse(matcher.matches("foo.com", true));
+        assertFalse(compile().matches("http://foo.com", true));
+    }
+
+    private CORSOriginMatcher compile(String... origins) {
+
+        List<CORSOrigin> corsOrigins = new ArrayList<>();
+        for (String origin : Arrays.asList(origins)) {
+            CORSOrigin corsOrigin = new CORSOrigin();
+            corsOrigin.setOrigin(origin);
+            corsOrigins.add(corsOrigin);
+        }
+        return CORSOriginMatcher.compile(corsOrigins);
+    }
+}
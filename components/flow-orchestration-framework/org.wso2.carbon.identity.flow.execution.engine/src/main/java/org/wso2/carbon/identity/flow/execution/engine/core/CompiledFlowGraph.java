@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.flow.execution.engine.core;
+
+import org.wso2.carbon.identity.flow.mgt.model.GraphConfig;
+import org.wso2.carbon.identity.flow.mgt.model.NodeConfig;
+import org.wso2.carbon.identity.flow.mgt.model.StepDTO;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.wso2.carbon.identity.flow.mgt.Constants.END_NODE_ID;
+
+/**
+ * Immutable, array indexed form of a flow graph used by the flow execution engine.
+ * The graph is compiled once per graph configuration and shared by all the executions of the flow. The state of an
+ * execution, such as the next and previous nodes selected while traversing the graph, is kept in the flow execution
+ * context, hence the node configurations of the graph are never modified during an execution.
+ */
+public final class CompiledFlowGraph {
+
+    private static final int NOT_FOUND = -1;
+
+    private final String id;
+    private final NodeConfig[] nodes;
+    private final StepDTO[] pageMappings;
+    private final Map<String, Integer> nodeIndexes;
+    private final int firstNodeIndex;
+    private final int endNodeIndex;
+
+    private CompiledFlowGraph(String id, NodeConfig[] nodes, StepDTO[] pageMappings,
+                              Map<String, Integer> nodeIndexes, int firstNodeIndex, int endNodeIndex) {
+
+        this.id = id;
+        this.nodes = nodes;
+        this.pageMappings = pageMappings;
+        this.nodeIndexes = nodeIndexes;
+        this.firstNodeIndex = firstNodeIndex;
+        this.endNodeIndex = endNodeIndex;
+    }
+
+    /**
+     * Compile the given graph configuration.
+     *
+     * @param graphConfig Graph configuration.
+     * @return Compiled flow graph.
+     */
+    public static CompiledFlowGraph compile(GraphConfig graphConfig) {
+
+        Map<String, NodeConfig> nodeConfigs = graphConfig.getNodeConfigs();
+        NodeConfig[] nodes = new NodeConfig[nodeConfigs.size()];
+        StepDTO[] pageMappings = new StepDTO[nodeConfigs.size()];
+        Map<String, Integer> nodeIndexes = new HashMap<>(nodeConfigs.size() * 2);
+        int index = 0;
+        for (Map.Entry<String, NodeConfig> entry : nodeConfigs.entrySet()) {
+            nodes[index] = entry.getValue();
+            pageMappings[index] = graphConfig.getNodePageMappings().get(entry.getKey());
+            nodeIndexes.put(entry.getKey(), index);
+            index++;
+        }
+        return new CompiledFlowGraph(graphConfig.getId(), nodes, pageMappings,
+                Collections.unmodifiableMap(nodeIndexes), indexOf(nodeIndexes, graphConfig.getFirstNodeId()),
+                indexOf(nodeIndexes, END_NODE_ID));
+    }
+
+    public String getId() {
+
+        return id;
+    }
+
+    /**
+     * Get the node with the given ID.
+     *
+     * @param nodeId Node ID.
+     * @return Node configuration, or null if the graph does not have a node with the given ID.
+     */
+    public NodeConfig getNode(String nodeId) {
+
+        int index = indexOf(nodeIndexes, nodeId);
+        return index == NOT_FOUND ? null : nodes[index];
+    }
+
+    public NodeConfig getFirstNode() {
+
+        return firstNodeIndex == NOT_FOUND ? null : nodes[firstNodeIndex];
+    }
+
+    public NodeConfig getEndNode() {
+
+        return endNodeIndex == NOT_FOUND ? null : nodes[endNodeIndex];
+    }
+
+    /**
+     * Get the page mapped to the node with the given ID.
+     *
+     * @param nodeId Node ID.
+     * @return Page mapping of the node, or null if the node does not have a page mapping.
+     */
+    public StepDTO getPageMapping(String nodeId) {
+
+        int index = indexOf(nodeIndexes, nodeId);
+        return index == NOT_FOUND ? null : pageMappings[index];
+    }
+
+    private static int indexOf(Map<String, Integer> nodeIndexes, String nodeId) {
+
+        if (nodeId == null) {
+            return NOT_FOUND;
+        }
+        Integer index = nodeIndexes.get(nodeId);
+        return index == null ? NOT_FOUND : index;
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.flow.execution.engine.exception.FlowEngineException;
 import org.wso2.carbon.identity.flow.execution.engine.exception.FlowEngineServerException;
+import org.wso2.carbon.identity.flow.execution.engine.graph.Node;
 import org.wso2.carbon.identity.flow.execution.engine.graph.PagePromptNode;
 import org.wso2.carbon.identity.flow.execution.engine.graph.TaskExecutionNode;
 import org.wso2.carbon.identity.flow.execution.engine.graph.UserChoiceDecisionNode;
@@ -36,7 +37,10 @@ import org.wso2.carbon.identity.flow.mgt.model.DataDTO;
 import org.wso2.carbon.identity.flow.mgt.model.GraphConfig;
 import org.wso2.carbon.identity.flow.mgt.model.NodeConfig;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.wso2.carbon.identity.flow.execution.engine.Constants.ERROR;
 import static org.wso2.carbon.identity.flow.execution.engine.Constants.ErrorMessages.ERROR_CODE_FIRST_NODE_NOT_FOUND;
@@ -64,8 +68,17 @@ public class FlowExecutionEngine {
 
     private static final FlowExecutionEngine instance = new FlowExecutionEngine();
 
+    // Graph configurations are cached and shared by the flows, hence the compiled graphs are kept against the
+    // graph configuration instances and released along with them.
+    private final Map<GraphConfig, CompiledFlowGraph> compiledGraphs = Collections.synchronizedMap(
+            new WeakHashMap<>());
+    private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+
     private FlowExecutionEngine() {
 
+        registerNode(new UserChoiceDecisionNode());
+        registerNode(new TaskExecutionNode());
+        registerNode(new PagePromptNode());
     }
 
     public static FlowExecutionEngine getInstance() {
@@ -73,6 +86,17 @@ public class FlowExecutionEngine {
         return instance;
     }
 
+    /**
+     * Register the node which executes the graph nodes of the type given by the name of the node.
+     * Nodes are shared by all the flow executions, hence the nodes should not keep any execution specific state.
+     *
+     * @param node Node.
+     */
+    public void registerNode(Node node) {
+
+        nodes.put(node.getName(), node);
+    }
+
     /**
      * Execute the  flow sequence.
      *
@@ -83,21 +107,22 @@ public class FlowExecutionEngine {
     public FlowExecutionStep execute(FlowExecutionContext context)
             throws FlowEngineException {
 
-        GraphConfig graph = context.getGraphConfig();
+        GraphConfig graphConfig = context.getGraphConfig();
         String tenantDomain = context.getTenantDomain();
         if (LOG.isDebugEnabled()) {
             LOG.debug("Starting the " + context.getFlowType() + " flow for the tenant: " + tenantDomain);
         }
-        if (graph.getFirstNodeId() == null) {
+        if (graphConfig.getFirstNodeId() == null) {
             throw handleServerException(context.getFlowType(), ERROR_CODE_FIRST_NODE_NOT_FOUND, context.getFlowType(),
-                    graph.getId(), tenantDomain);
+                    graphConfig.getId(), tenantDomain);
         }
 
+        CompiledFlowGraph graph = getCompiledGraph(graphConfig);
         NodeConfig currentNode = context.getCurrentNode();
         if (currentNode == null) {
             LOG.debug("Current node is not set. Setting the first node as the current node and starting the " +
                     " flow sequence.");
-            currentNode = graph.getNodeConfigs().get(graph.getFirstNodeId());
+            currentNode = graph.getFirstNode();
             context.setCurrentNode(currentNode);
         }
 
@@ -109,7 +134,7 @@ public class FlowExecutionEngine {
             }
             context.setCurrentNodeResponse(nodeResponse);
             if (STATUS_COMPLETE.equals(nodeResponse.getStatus())) {
-                currentNode = moveToNextNode(graph, currentNode);
+                currentNode = moveToNextNode(context, graph, currentNode);
                 context.setCurrentNode(currentNode);
                 continue;
             }
@@ -141,7 +166,7 @@ public class FlowExecutionEngine {
         }
 
         // If there are no more nodes to process, mark the flow as complete.
-        NodeConfig endNode = graph.getNodeConfigs().get(END_NODE_ID);
+        NodeConfig endNode = graph.getEndNode();
         if (endNode == null) {
             return new FlowExecutionStep.Builder()
                     .flowId(context.getContextIdentifier())
@@ -152,27 +177,42 @@ public class FlowExecutionEngine {
                             .build())
                     .build();
         }
-        return resolveStepForPrompt(graph, context.getGraphConfig().getNodeConfigs().get(END_NODE_ID),
-                context, context.getCurrentNodeResponse());
+        return resolveStepForPrompt(graph, endNode, context, context.getCurrentNodeResponse());
+    }
+
+    private CompiledFlowGraph getCompiledGraph(GraphConfig graphConfig) {
+
+        CompiledFlowGraph graph = compiledGraphs.get(graphConfig);
+        if (graph == null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Compiling the flow graph: " + graphConfig.getId());
+            }
+            graph = CompiledFlowGraph.compile(graphConfig);
+            compiledGraphs.put(graphConfig, graph);
+        }
+        return graph;
     }
 
     /**
-     * Set the current node as the previous node of the next node and return the next node.
+     * Set the current node as the previous node of the next node in the flow context and return the next node.
      *
+     * @param context     Flow context.
+     * @param graph       Flow graph.
      * @param currentNode Current node.
      * @return Next node.
      */
-    private NodeConfig moveToNextNode(GraphConfig graphConfig, NodeConfig currentNode) {
+    private NodeConfig moveToNextNode(FlowExecutionContext context, CompiledFlowGraph graph,
+                                      NodeConfig currentNode) {
 
-        String nextNodeId = currentNode.getNextNodeId();
-        NodeConfig nextNode = graphConfig.getNodeConfigs().get(nextNodeId);
+        String nextNodeId = context.getNextNodeId(currentNode);
+        NodeConfig nextNode = graph.getNode(nextNodeId);
         if (nextNode != null) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Current node " + currentNode.getId() + " is completed. "
                         + "Moving to the next node: " + nextNodeId
                         + " and setting " + currentNode.getId() + " as the previous node.");
             }
-            nextNode.setPreviousNodeId(currentNode.getId());
+            context.setPreviousNodeId(nextNode.getId(), currentNode.getId());
         }
         if (Constants.NodeTypes.DECISION.equals(currentNode.getType())) {
             // If the current node is a decision node, reset the next node ID to null.
@@ -180,7 +220,7 @@ public class FlowExecutionEngine {
                 LOG.debug("Current node " + currentNode.getId() + " is a decision node. " +
                         "Resetting the next node ID to null.");
             }
-            currentNode.setNextNodeId(null);
+            context.setNextNodeId(currentNode.getId(), null);
         }
         return nextNode;
     }
@@ -203,24 +243,19 @@ public class FlowExecutionEngine {
             return validationResponse;
         }
 
-        switch (nodeConfig.getType()) {
-            case Constants.NodeTypes.DECISION:
-                return new UserChoiceDecisionNode().execute(context, nodeConfig);
-            case Constants.NodeTypes.TASK_EXECUTION:
-                return new TaskExecutionNode().execute(context, nodeConfig);
-            case Constants.NodeTypes.PROMPT_ONLY:
-                return new PagePromptNode().execute(context, nodeConfig);
-            default:
-                throw handleServerException(context.getFlowType(), ERROR_CODE_UNSUPPORTED_NODE, nodeConfig.getType(),
-                        context.getFlowType(),
-                        context.getGraphConfig().getId(), context.getTenantDomain());
+        Node node = nodeConfig.getType() != null ? nodes.get(nodeConfig.getType()) : null;
+        if (node == null) {
+            throw handleServerException(context.getFlowType(), ERROR_CODE_UNSUPPORTED_NODE, nodeConfig.getType(),
+                    context.getFlowType(),
+                    context.getGraphConfig().getId(), context.getTenantDomain());
         }
+        return node.execute(context, nodeConfig);
     }
 
-    private FlowExecutionStep resolveStepForPrompt(GraphConfig graph, NodeConfig currentNode,
+    private FlowExecutionStep resolveStepForPrompt(CompiledFlowGraph graph, NodeConfig currentNode,
                                                    FlowExecutionContext context, NodeResponse nodeResponse) throws FlowEngineServerException {
 
-        DataDTO dataDTO = graph.getNodePageMappings().get(currentNode.getId()).getData();
+        DataDTO dataDTO = graph.getPageMapping(currentNode.getId()).getData();
 
         DataDTO finalDataDTO = null;
         if (dataDTO != null) {
@@ -48,14 +48,14 @@ public class PagePromptNode implements Node {
                 NodeEdge edge = nodeConfig.getEdges().get(0);
                 if (edge.getTriggeringActionId().equals(triggeredAction)) {
                     isPromptNodeSubmitted = true;
-                    if (nodeConfig.getNextNodeId() == null) {
-                        nodeConfig.setNextNodeId(edge.getTargetNodeId());
+                    if (context.getNextNodeId(nodeConfig) == null) {
+                        context.setNextNodeId(nodeConfig.getId(), edge.getTargetNodeId());
                     }
                 }
             }
             context.setCurrentActionId(null);
         }
-        if (isPromptNodeSubmitted && nodeConfig.getNextNodeId() != null) {
+        if (isPromptNodeSubmitted && context.getNextNodeId(nodeConfig) != null) {
             return new NodeResponse.Builder().status(STATUS_COMPLETE).build();
         }
         return new NodeResponse.Builder()
@@ -98,7 +98,7 @@ public class TaskExecutionNode implements Node {
         Executor mappedFlowExecutor = resolveExecutor(context.getFlowType(), config, context.getGraphConfig().getId(),
                 context.getTenantDomain());
         mappedFlowExecutor.rollback(context);
-        context.setCurrentNode(context.getGraphConfig().getNodeConfigs().get(config.getPreviousNodeId()));
+        context.setCurrentNode(context.getGraphConfig().getNodeConfigs().get(context.getPreviousNodeId(config)));
         // Ignore the response from executor for rollback.
         return new NodeResponse.Builder().status(STATUS_COMPLETE).build();
     }
@@ -211,7 +211,7 @@ public class TaskExecutionNode implements Node {
         }
 
         if (CollectionUtils.isNotEmpty(configs.getEdges())) {
-            configs.setNextNodeId(configs.getEdges().get(0).getTargetNodeId());
+            context.setNextNodeId(configs.getId(), configs.getEdges().get(0).getTargetNodeId());
         }
         return new NodeResponse.Builder().status(STATUS_COMPLETE).build();
     }
@@ -51,13 +51,13 @@ public class UserChoiceDecisionNode implements Node {
         if (triggeredAction != null) {
             for (NodeEdge edge : config.getEdges()) {
                 if (context.getCurrentActionId().equals(edge.getTriggeringActionId())) {
-                    config.setNextNodeId(edge.getTargetNodeId());
+                    context.setNextNodeId(config.getId(), edge.getTargetNodeId());
                     break;
                 }
             }
             context.setCurrentActionId(null);
         }
-        if (config.getNextNodeId() != null) {
+        if (context.getNextNodeId(config) != null) {
             return new NodeResponse.Builder().status(STATUS_COMPLETE).build();
         }
 
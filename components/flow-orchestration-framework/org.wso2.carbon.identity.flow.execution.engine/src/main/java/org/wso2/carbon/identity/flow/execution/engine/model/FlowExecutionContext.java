@@ -46,6 +46,8 @@ public class FlowExecutionContext implements Serializable {
     private Map<String, Set<String>> currentRequiredInputs = new HashMap<>();
     private List<NodeConfig> completedNodes = new ArrayList<>();
     private NodeConfig currentNode;
+    private Map<String, String> nextNodeIds = new HashMap<>();
+    private Map<String, String> previousNodeIds = new HashMap<>();
     private GraphConfig graphConfig;
     private FlowUser flowUser = new FlowUser();
     private String tenantDomain;
@@ -70,6 +72,79 @@ public class FlowExecutionContext implements Serializable {
         this.currentNode = currentNode;
     }
 
+    /**
+     * Get the ID of the node selected to follow the given node in this flow execution.
+     * If a next node was not selected during the execution, the next node of the node configuration is returned.
+     *
+     * @param nodeConfig Node configuration.
+     * @return Next node ID.
+     */
+    public String getNextNodeId(NodeConfig nodeConfig) {
+
+        String nextNodeId = nextNodeIds.get(nodeConfig.getId());
+        return nextNodeId != null ? nextNodeId : nodeConfig.getNextNodeId();
+    }
+
+    /**
+     * Set the ID of the node which follows the given node in this flow execution.
+     *
+     * @param nodeId     Node ID.
+     * @param nextNodeId Next node ID. Null to reset the next node.
+     */
+    public void setNextNodeId(String nodeId, String nextNodeId) {
+
+        if (nextNodeId == null) {
+            nextNodeIds.remove(nodeId);
+        } else {
+            nextNodeIds.put(nodeId, nextNodeId);
+        }
+    }
+
+    /**
+     * Get the ID of the node from which the flow moved to the given node in this flow execution.
+     * If the flow did not move to the node during the execution, the previous node of the node configuration is
+     * returned.
+     *
+     * @param nodeConfig Node configuration.
+     * @return Previous node ID.
+     */
+    public String getPreviousNodeId(NodeConfig nodeConfig) {
+
+        String previousNodeId = previousNodeIds.get(nodeConfig.getId());
+        return previousNodeId != null ? previousNodeId : nodeConfig.getPreviousNodeId();
+    }
+
+    /**
+     * Set the ID of the node from which the flow moved to the given node in this flow execution.
+     *
+     * @param nodeId         Node ID.
+     * @param previousNodeId Previous node ID.
+     */
+    public void setPreviousNodeId(String nodeId, String previousNodeId) {
+
+        previousNodeIds.put(nodeId, previousNodeId);
+    }
+
+    public Map<String, String> getNextNodeIds() {
+
+        return nextNodeIds;
+    }
+
+    public void setNextNodeIds(Map<String, String> nextNodeIds) {
+
+        this.nextNodeIds = nextNodeIds;
+    }
+
+    public Map<String, String> getPreviousNodeIds() {
+
+        return previousNodeIds;
+    }
+
+    public void setPreviousNodeIds(Map<String, String> previousNodeIds) {
+
+        this.previousNodeIds = previousNodeIds;
+    }
+
     public GraphConfig getGraphConfig() {
 
         return graphConfig;
@@ -81,9 +81,10 @@ public class InputValidationListener extends AbstractFlowExecutionListener {
             // hence assigning next node as the current node.
             if (currentNode != null && Constants.NodeTypes.PROMPT_ONLY.equalsIgnoreCase(currentNode.getType())) {
                 if (currentNode.getEdges() != null && !currentNode.getEdges().isEmpty()) {
-                    currentNode.setNextNodeId(currentNode.getEdges().get(0).getTargetNodeId());
+                    FlowExecutionContext.setNextNodeId(currentNode.getId(),
+                            currentNode.getEdges().get(0).getTargetNodeId());
                 }
-                currentNode = moveToNextNode(graphConfig, currentNode);
+                currentNode = moveToNextNode(FlowExecutionContext, graphConfig, currentNode);
                 FlowExecutionContext.setCurrentNode(currentNode);
             }
             InputValidationService.getInstance().prepareStepInputs(dataDTO, FlowExecutionContext);
@@ -94,17 +95,18 @@ public class InputValidationListener extends AbstractFlowExecutionListener {
     }
 
     /**
-     * Set the current node as the previous node of the next node and return the next node.
+     * Set the current node as the previous node of the next node in the flow context and return the next node.
      *
+     * @param context     Flow context.
      * @param currentNode Current node.
      * @return Next node.
      */
-    private NodeConfig moveToNextNode(GraphConfig graphConfig, NodeConfig currentNode) {
+    private NodeConfig moveToNextNode(FlowExecutionContext context, GraphConfig graphConfig, NodeConfig currentNode) {
 
-        String nextNodeId = currentNode.getNextNodeId();
+        String nextNodeId = context.getNextNodeId(currentNode);
         NodeConfig nextNode = graphConfig.getNodeConfigs().get(nextNodeId);
         if (nextNode != null) {
-            nextNode.setPreviousNodeId(currentNode.getId());
+            context.setPreviousNodeId(nextNode.getId(), currentNode.getId());
         }
         return nextNode;
     }
@@ -154,7 +154,7 @@ public class InputValidator {
             return currentConfig;
         }
 
-        String previousNodeId = currentConfig.getPreviousNodeId();
+        String previousNodeId = context.getPreviousNodeId(currentConfig);
         int depth = 0;
         while (previousNodeId != null && depth < DEFAULT_MAX_TRAVERSAL_DEPTH) {
             NodeConfig previousNode = context.getGraphConfig().getNodeConfigs().get(previousNodeId);
@@ -172,7 +172,7 @@ public class InputValidator {
                 }
                 return previousNode;
             }
-            previousNodeId = previousNode.getPreviousNodeId();
+            previousNodeId = context.getPreviousNodeId(previousNode);
             depth++;
         }
         if (LOG.isDebugEnabled()) {
@@ -110,7 +110,8 @@ public class PagePromptNodeTest {
         NodeResponse response = pagePromptNode.execute(context, nodeConfig);
 
         assertEquals(response.getStatus(), STATUS_COMPLETE);
-        assertEquals(nodeConfig.getNextNodeId(), TARGET_NODE_ID);
+        assertEquals(context.getNextNodeId(nodeConfig), TARGET_NODE_ID);
+        assertNull(nodeConfig.getNextNodeId());
         assertNull(context.getCurrentActionId());
     }
 
@@ -132,7 +133,7 @@ public class PagePromptNodeTest {
         NodeResponse response = pagePromptNode.execute(context, nodeConfig);
 
         assertEquals(response.getStatus(), STATUS_COMPLETE);
-        assertEquals(nodeConfig.getNextNodeId(), TARGET_NODE_ID);
+        assertEquals(context.getNextNodeId(nodeConfig), TARGET_NODE_ID);
         assertNull(context.getCurrentActionId());
     }
 
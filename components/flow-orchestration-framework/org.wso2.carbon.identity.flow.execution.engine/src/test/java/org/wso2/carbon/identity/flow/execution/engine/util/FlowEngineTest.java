@@ -18,7 +18,6 @@
 
 package org.wso2.carbon.identity.flow.execution.engine.util;
 
-import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -44,10 +43,11 @@ import java.util.Map;
 
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 import static org.wso2.carbon.identity.flow.execution.engine.Constants.ErrorMessages.ERROR_CODE_FIRST_NODE_NOT_FOUND;
 import static org.wso2.carbon.identity.flow.execution.engine.Constants.ErrorMessages.ERROR_CODE_REDIRECTION_URL_NOT_FOUND;
 import static org.wso2.carbon.identity.flow.execution.engine.Constants.ErrorMessages.ERROR_CODE_REQUIRED_DATA_NOT_FOUND;
@@ -112,14 +112,10 @@ public class FlowEngineTest {
     public void testContinueAfterPrompt() throws Exception {
 
         context.setCurrentActionId("button1");
-        try (MockedConstruction<TaskExecutionNode> mocked =
-                     mockConstruction(TaskExecutionNode.class, (mock, context) -> {
-                         NodeResponse nodeResponse = new NodeResponse.Builder()
-                                 .status("INCOMPLETE")
-                                 .type("VIEW")
-                                 .build();
-                         when(mock.execute(any(), any())).thenReturn(nodeResponse);
-                     })) {
+        try (AutoCloseable ignored = mockTaskExecutionNode(new NodeResponse.Builder()
+                .status("INCOMPLETE")
+                .type("VIEW")
+                .build())) {
 
             FlowExecutionStep step = FlowExecutionEngine.getInstance().execute(context);
 
@@ -134,13 +130,9 @@ public class FlowEngineTest {
 
         try (MockedStatic<FlowExecutionEngineUtils> utilsMockedStatic = mockStatic(
                 FlowExecutionEngineUtils.class);
-             MockedConstruction<TaskExecutionNode> mocked =
-                     mockConstruction(TaskExecutionNode.class, (mock, context) -> {
-                         NodeResponse nodeResponse = new NodeResponse.Builder()
-                                 .status("COMPLETE")
-                                 .build();
-                         when(mock.execute(any(), any())).thenReturn(nodeResponse);
-                     })) {
+             AutoCloseable ignored = mockTaskExecutionNode(new NodeResponse.Builder()
+                     .status("COMPLETE")
+                     .build())) {
 
             utilsMockedStatic.when(() -> FlowExecutionEngineUtils.resolveCompletionRedirectionUrl(context))
                     .thenReturn("https://localhost:3000/myapp/callback");
@@ -169,14 +161,10 @@ public class FlowEngineTest {
         FlowExecutionContext newContext = initiateFlowContext();
         newContext.setGraphConfig(graphWithRedirection);
 
-        try (MockedConstruction<TaskExecutionNode> mocked =
-                     mockConstruction(TaskExecutionNode.class, (mock, context) -> {
-                         NodeResponse nodeResponse = new NodeResponse.Builder()
-                                 .status(STATUS_INCOMPLETE)
-                                 .type(REDIRECTION)
-                                 .build();
-                         when(mock.execute(any(), any())).thenReturn(nodeResponse);
-                     })) {
+        try (AutoCloseable ignored = mockTaskExecutionNode(new NodeResponse.Builder()
+                .status(STATUS_INCOMPLETE)
+                .type(REDIRECTION)
+                .build())) {
 
             FlowExecutionEngine.getInstance().execute(newContext);
         } catch (FlowEngineServerException e) {
@@ -205,15 +193,11 @@ public class FlowEngineTest {
         Map<String, String> additionalTestInfo = new HashMap<>();
         additionalTestInfo.put(REDIRECT_URL, "https://test.com");
 
-        try (MockedConstruction<TaskExecutionNode> mocked =
-                     mockConstruction(TaskExecutionNode.class, (mock, context) -> {
-                         NodeResponse nodeResponse = new NodeResponse.Builder()
-                                 .status(STATUS_INCOMPLETE)
-                                 .type(REDIRECTION)
-                                 .additionalInfo(additionalTestInfo)
-                                 .build();
-                         when(mock.execute(any(), any())).thenReturn(nodeResponse);
-                     })) {
+        try (AutoCloseable ignored = mockTaskExecutionNode(new NodeResponse.Builder()
+                .status(STATUS_INCOMPLETE)
+                .type(REDIRECTION)
+                .additionalInfo(additionalTestInfo)
+                .build())) {
 
             FlowExecutionStep step = FlowExecutionEngine.getInstance().execute(newContext);
             assertEquals(step.getFlowStatus(), STATUS_INCOMPLETE);
@@ -243,16 +227,12 @@ public class FlowEngineTest {
         Map<String, String> additionalTestInfo = new HashMap<>();
         additionalTestInfo.put(WEBAUTHN_DATA, "{\"field1\":\"value1\",\"field2\":\"value2\"}");
 
-        try (MockedConstruction<TaskExecutionNode> mocked =
-                     mockConstruction(TaskExecutionNode.class, (mock, context) -> {
-                         NodeResponse nodeResponse = new NodeResponse.Builder()
-                                 .status(STATUS_INCOMPLETE)
-                                 .type(WEBAUTHN)
-                                 .additionalInfo(additionalTestInfo)
-                                 .requiredData(Arrays.asList("username", "email"))
-                                 .build();
-                         when(mock.execute(any(), any())).thenReturn(nodeResponse);
-                     })) {
+        try (AutoCloseable ignored = mockTaskExecutionNode(new NodeResponse.Builder()
+                .status(STATUS_INCOMPLETE)
+                .type(WEBAUTHN)
+                .additionalInfo(additionalTestInfo)
+                .requiredData(Arrays.asList("username", "email"))
+                .build())) {
 
             FlowExecutionStep step = FlowExecutionEngine.getInstance().execute(newContext);
             assertEquals(step.getFlowStatus(), STATUS_INCOMPLETE);
@@ -283,16 +263,12 @@ public class FlowEngineTest {
 
         Map<String, String> emptyAdditionalInfo = new HashMap<>();
 
-        try (MockedConstruction<TaskExecutionNode> mocked =
-                     mockConstruction(TaskExecutionNode.class, (mock, context) -> {
-                         NodeResponse nodeResponse = new NodeResponse.Builder()
-                                 .status(STATUS_INCOMPLETE)
-                                 .type(WEBAUTHN)
-                                 .additionalInfo(emptyAdditionalInfo)
-                                 .requiredData(Arrays.asList("username", "email"))
-                                 .build();
-                         when(mock.execute(any(), any())).thenReturn(nodeResponse);
-                     })) {
+        try (AutoCloseable ignored = mockTaskExecutionNode(new NodeResponse.Builder()
+                .status(STATUS_INCOMPLETE)
+                .type(WEBAUTHN)
+                .additionalInfo(emptyAdditionalInfo)
+                .requiredData(Arrays.asList("username", "email"))
+                .build())) {
 
             FlowExecutionEngine.getInstance().execute(newContext);
         } catch (FlowEngineServerException e) {
@@ -321,16 +297,12 @@ public class FlowEngineTest {
         Map<String, String> additionalTestInfo = new HashMap<>();
         additionalTestInfo.put("someKey", "someValue");
 
-        try (MockedConstruction<TaskExecutionNode> mocked =
-                     mockConstruction(TaskExecutionNode.class, (mock, context) -> {
-                         NodeResponse nodeResponse = new NodeResponse.Builder()
-                                 .status(STATUS_INCOMPLETE)
-                                 .type(INTERNAL_PROMPT)
-                                 .additionalInfo(additionalTestInfo)
-                                 .requiredData(Arrays.asList("firstName", "lastName", "password"))
-                                 .build();
-                         when(mock.execute(any(), any())).thenReturn(nodeResponse);
-                     })) {
+        try (AutoCloseable ignored = mockTaskExecutionNode(new NodeResponse.Builder()
+                .status(STATUS_INCOMPLETE)
+                .type(INTERNAL_PROMPT)
+                .additionalInfo(additionalTestInfo)
+                .requiredData(Arrays.asList("firstName", "lastName", "password"))
+                .build())) {
 
             FlowExecutionStep step = FlowExecutionEngine.getInstance().execute(newContext);
             assertEquals(step.getFlowStatus(), STATUS_INCOMPLETE);
@@ -361,15 +333,11 @@ public class FlowEngineTest {
         Map<String, String> additionalTestInfo = new HashMap<>();
         additionalTestInfo.put("someKey", "someValue");
 
-        try (MockedConstruction<TaskExecutionNode> mocked =
-                     mockConstruction(TaskExecutionNode.class, (mock, context) -> {
-                         NodeResponse nodeResponse = new NodeResponse.Builder()
-                                 .status(STATUS_INCOMPLETE)
-                                 .type(INTERNAL_PROMPT)
-                                 .additionalInfo(additionalTestInfo)
-                                 .build();
-                         when(mock.execute(any(), any())).thenReturn(nodeResponse);
-                     })) {
+        try (AutoCloseable ignored = mockTaskExecutionNode(new NodeResponse.Builder()
+                .status(STATUS_INCOMPLETE)
+                .type(INTERNAL_PROMPT)
+                .additionalInfo(additionalTestInfo)
+                .build())) {
 
             FlowExecutionEngine.getInstance().execute(newContext);
         } catch (FlowEngineServerException e) {
@@ -459,6 +427,33 @@ public class FlowEngineTest {
         }
     }
 
+    @Test
+    public void testSharedGraphIsNotModifiedByFlowExecutions() throws Exception {
+
+        GraphConfig sharedGraph = buildGraphWithDecision();
+        FlowExecutionContext firstContext = initiateFlowContext();
+        firstContext.setGraphConfig(sharedGraph);
+        FlowExecutionContext secondContext = initiateFlowContext();
+        secondContext.setGraphConfig(sharedGraph);
+
+        FlowExecutionEngine.getInstance().execute(firstContext);
+        FlowExecutionEngine.getInstance().execute(secondContext);
+        firstContext.setCurrentActionId("button1");
+        FlowExecutionEngine.getInstance().execute(firstContext);
+        assertEquals(firstContext.getCurrentNode().getId(), "promptNode");
+        assertEquals(firstContext.getPreviousNodeId(firstContext.getCurrentNode()), "decisionNode");
+
+        NodeConfig decisionNode = sharedGraph.getNodeConfigs().get("decisionNode");
+        NodeConfig promptNode = sharedGraph.getNodeConfigs().get("promptNode");
+        assertNull(decisionNode.getNextNodeId());
+        assertNull(promptNode.getPreviousNodeId());
+
+        FlowExecutionStep step = FlowExecutionEngine.getInstance().execute(secondContext);
+        assertEquals(step.getStepType(), "VIEW");
+        assertEquals(secondContext.getCurrentNode().getId(), "decisionNode");
+        assertNull(secondContext.getPreviousNodeId(promptNode));
+    }
+
     private GraphConfig buildGraphWithDecision() {
 
         NodeConfig decisionNode = new NodeConfig.Builder()
@@ -497,6 +492,15 @@ public class FlowEngineTest {
         return graph;
     }
 
+    private AutoCloseable mockTaskExecutionNode(NodeResponse nodeResponse) throws Exception {
+
+        TaskExecutionNode taskExecutionNode = mock(TaskExecutionNode.class);
+        when(taskExecutionNode.getName()).thenReturn(TASK_EXECUTION);
+        when(taskExecutionNode.execute(any(), any())).thenReturn(nodeResponse);
+        FlowExecutionEngine.getInstance().registerNode(taskExecutionNode);
+        return () -> FlowExecutionEngine.getInstance().registerNode(new TaskExecutionNode());
+    }
+
     private FlowExecutionContext initiateFlowContext() {
 
         FlowExecutionContext context = new FlowExecutionContext();
@@ -85,12 +85,13 @@ public class ThreadLocalAwareThreadPoolExecutor extends ThreadPoolExecutor {
         Map<String, String> contextMap = MDC.getCopyOfContextMap();
 
         return () -> {
+            // A rejected command can be run by the submitting thread, hence its MDC is restored afterwards.
+            Map<String, String> previousContextMap = MDC.getCopyOfContextMap();
             setMDCContext(contextMap);
             try {
                 command.run();
             } finally {
-                // Once the command is complete, clear MDC
-                MDC.clear();
+                setMDCContext(previousContextMap);
             }
         };
     }
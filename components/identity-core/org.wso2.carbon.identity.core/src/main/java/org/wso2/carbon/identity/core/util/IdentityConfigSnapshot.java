@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Snapshot of the identity.xml configuration with the placeholders of the property values resolved.
+ * <p>
+ * The placeholders are resolved when the snapshot is built, hence reading a property is a map lookup. A value which
+ * cannot be fully resolved at that point, for example as a server configuration or a system property it refers to is
+ * not available yet, is resolved again on each read until no placeholder is left, and only then kept. The typed
+ * accessors parse a resolved value once and return the parsed value on the subsequent reads. The configuration is
+ * reloaded by building a new snapshot.
+ */
+public final class IdentityConfigSnapshot {
+
+    private static final Log LOG = LogFactory.getLog(IdentityConfigSnapshot.class);
+    // Marks a property which is not configured or has an invalid value, so that the default value is returned.
+    private static final Object NOT_CONFIGURED = new Object();
+    private static final String PLACEHOLDER_PREFIX = "${";
+
+    private final Map<String, Object> configuration;
+    private final Map<String, String> properties;
+    private final Map<String, List<String>> listProperties;
+    private final ConcurrentMap<String, String> lateResolvedProperties = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Object> booleanProperties = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Object> intProperties = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Object> durationProperties = new ConcurrentHashMap<>();
+
+    private IdentityConfigSnapshot(Map<String, Object> configuration, Map<String, String> properties,
+                                   Map<String, List<String>> listProperties) {
+
+        this.configuration = configuration;
+        this.properties = properties;
+        this.listProperties = listProperties;
+    }
+
+    /**
+     * Build a snapshot of the given configuration.
+     *
+     * @param configuration Configuration read from the identity.xml.
+     * @return Configuration snapshot.
+     */
+    public static IdentityConfigSnapshot build(Map<String, Object> configuration) {
+
+        Map<String, String> properties = new HashMap<>();
+        Map<String, List<String>> listProperties = new HashMap<>();
+        for (Map.Entry<String, Object> entry : configuration.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            List<String> values = toStringList(entry.getValue());
+            listProperties.put(entry.getKey(), Collections.unmodifiableList(values));
+            if (values.isEmpty()) {
+                continue;
+            }
+            try {
+                String value = IdentityUtil.fillURLPlaceholders(values.get(0));
+                if (isResolved(value)) {
+                    properties.put(entry.getKey(), value);
+                }
+            } catch (RuntimeException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Placeholders of the property: " + entry.getKey() + " could not be resolved while " +
+                            "building the configuration snapshot. The property is resolved when it is read.", e);
+                }
+            }
+        }
+        return new IdentityConfigSnapshot(configuration, properties, listProperties);
+    }
+
+    /**
+     * Check whether the snapshot is built from the given configuration.
+     *
+     * @param configuration Configuration read from the identity.xml.
+     * @return True if the snapshot is built from the given configuration.
+     */
+    public boolean isBuiltFrom(Map<String, Object> configuration) {
+
+        return this.configuration == configuration;
+    }
+
+    /**
+     * Get the value of the given property with the placeholders resolved. If the property has a list of values, the
+     * first value is returned.
+     *
+     * @param key Property name.
+     * @return Property value, or null if the property is not configured.
+     */
+    public String getProperty(String key) {
+
+        String value = properties.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = lateResolvedProperties.get(key);
+        if (value != null) {
+            return value;
+        }
+        List<String> values = listProperties.get(key);
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        value = IdentityUtil.fillURLPlaceholders(values.get(0));
+        if (value != null && isResolved(value)) {
+            lateResolvedProperties.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Get the values of the given property. The placeholders of the values are not resolved.
+     *
+     * @param key Property name.
+     * @return Unmodifiable list of the property values, or an empty list if the property is not configured.
+     */
+    public List<String> getPropertyAsList(String key) {
+
+        List<String> values = listProperties.get(key);
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    /**
+     * Get the value of the given property as a boolean.
+     *
+     * @param key          Property name.
+     * @param defaultValue Value returned if the property is not configured.
+     * @return Property value.
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+
+        Object value = getParsedProperty(booleanProperties, key, key, Boolean::parseBoolean);
+        return value == NOT_CONFIGURED ? defaultValue : (Boolean) value;
+    }
+
+    /**
+     * Get the value of the given property as an integer.
+     *
+     * @param key          Property name.
+     * @param defaultValue Value returned if the property is not configured or is not an integer.
+     * @return Property value.
+     */
+    public int getInt(String key, int defaultValue) {
+
+        Object value = getParsedProperty(intProperties, key, key, property -> {
+            try {
+                return Integer.parseInt(property);
+            } catch (NumberFormatException e) {
+                LOG.warn("Invalid value: " + property + " configured for: " + key + ". Using the default value.");
+                return NOT_CONFIGURED;
+            }
+        });
+        return value == NOT_CONFIGURED ? defaultValue : (Integer) value;
+    }
+
+    /**
+     * Get the value of the given property as a duration. The property can be configured either as a number of the
+     * given unit or in the ISO-8601 duration format, such as PT15M.
+     *
+     * @param key          Property name.
+     * @param unit         Unit of the property when it is configured as a number.
+     * @param defaultValue Value returned if the property is not configured or is not a duration.
+     * @return Property value.
+     */
+    public Duration getDuration(String key, ChronoUnit unit, Duration defaultValue) {
+
+        Object value = getParsedProperty(durationProperties, key + ":" + unit.name(), key, property -> {
+            try {
+                return parseDuration(property, unit);
+            } catch (NumberFormatException | DateTimeException | ArithmeticException e) {
+                LOG.warn("Invalid value: " + property + " configured for: " + key + ". Using the default value.");
+                return NOT_CONFIGURED;
+            }
+        });
+        return value == NOT_CONFIGURED ? defaultValue : (Duration) value;
+    }
+
+    /**
+     * Get the parsed value of the given property from the given cache, parsing it if it is not cached. A value which
+     * still has placeholders is not cached, as it can be resolved differently later.
+     */
+    private Object getParsedProperty(ConcurrentMap<String, Object> cache, String cacheKey, String key,
+                                     Function<String, Object> parser) {
+
+        Object value = cache.get(cacheKey);
+        if (value != null) {
+            return value;
+        }
+        String property = getProperty(key);
+        value = StringUtils.isBlank(property) ? NOT_CONFIGURED : parser.apply(property.trim());
+        if (property == null || isResolved(property)) {
+            cache.putIfAbsent(cacheKey, value);
+        }
+        return value;
+    }
+
+    private static boolean isResolved(String value) {
+
+        return !StringUtils.contains(value, PLACEHOLDER_PREFIX);
+    }
+
+    private static Duration parseDuration(String value, ChronoUnit unit) {
+
+        if (StringUtils.startsWithIgnoreCase(value, "P")) {
+            return Duration.parse(value);
+        }
+        return Duration.of(Long.parseLong(value), unit);
+    }
+
+    private static List<String> toStringList(Object value) {
+
+        List<String> values = new ArrayList<>();
+        if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                values.add(item instanceof String ? (String) item : String.valueOf(item));
+            }
+        } else {
+            values.add(value instanceof String ? (String) value : String.valueOf(value));
+        }
+        return values;
+    }
+}
@@ -98,6 +98,8 @@ import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.text.ParseException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
@@ -161,7 +163,8 @@ public class IdentityUtil {
     private static final String ENABLE_EMAIL_USERNAME = "EnableEmailUserName";
     private static final String DISABLE_EMAIL_USERNAME_VALIDATION = "DisableEmailUserNameValidation";
     private static Log log = LogFactory.getLog(IdentityUtil.class);
-    private static Map<String, Object> configuration = new HashMap<>();
+    private static volatile Map<String, Object> configuration = new HashMap<>();
+    private static volatile IdentityConfigSnapshot configurationSnapshot = IdentityConfigSnapshot.build(configuration);
     private static Map<IdentityEventListenerConfigKey, IdentityEventListenerConfig> eventListenerConfiguration = new
             HashMap<>();
     private static Map<IdentityCacheConfigKey, IdentityCacheConfig> identityCacheConfigurationHolder = new HashMap<>();
@@ -222,9 +225,62 @@ public class IdentityUtil {
      */
     public static String getProperty(String key) {
 
-        String strValue = getPropertyValue(key);
-        strValue = fillURLPlaceholders(strValue);
-        return strValue;
+        return getConfigurationSnapshot().getProperty(key);
+    }
+
+    /**
+     * Read a boolean configuration element from the identity.xml.
+     *
+     * @param key          Element name as specified from the parent elements in the XML structure.
+     * @param defaultValue Value returned if the element is not configured.
+     * @return Element value parsed as a boolean.
+     */
+    public static boolean getPropertyAsBoolean(String key, boolean defaultValue) {
+
+        return getConfigurationSnapshot().getBoolean(key, defaultValue);
+    }
+
+    /**
+     * Read an integer configuration element from the identity.xml.
+     *
+     * @param key          Element name as specified from the parent elements in the XML structure.
+     * @param defaultValue Value returned if the element is not configured or is not an integer.
+     * @return Element value parsed as an integer.
+     */
+    public static int getPropertyAsInt(String key, int defaultValue) {
+
+        return getConfigurationSnapshot().getInt(key, defaultValue);
+    }
+
+    /**
+     * Read a duration configuration element from the identity.xml. The element can be configured either as a number
+     * of the given unit or in the ISO-8601 duration format.
+     *
+     * @param key          Element name as specified from the parent elements in the XML structure.
+     * @param unit         Unit of the element value when it is configured as a number.
+     * @param defaultValue Value returned if the element is not configured or is not a duration.
+     * @return Element value parsed as a duration.
+     */
+    public static Duration getPropertyAsDuration(String key, ChronoUnit unit, Duration defaultValue) {
+
+        return getConfigurationSnapshot().getDuration(key, unit, defaultValue);
+    }
+
+    /**
+     * Get the snapshot of the current configuration. The snapshot is rebuilt if the configuration was replaced
+     * without populating the properties.
+     *
+     * @return Configuration snapshot.
+     */
+    private static IdentityConfigSnapshot getConfigurationSnapshot() {
+
+        Map<String, Object> currentConfiguration = configuration;
+        IdentityConfigSnapshot snapshot = configurationSnapshot;
+        if (!snapshot.isBuiltFrom(currentConfiguration)) {
+            snapshot = IdentityConfigSnapshot.build(currentConfiguration);
+            configurationSnapshot = snapshot;
+        }
+        return snapshot;
     }
 
     /**
@@ -382,6 +438,7 @@ public class IdentityUtil {
 
     public static void populateProperties() {
         configuration = IdentityConfigParser.getInstance().getConfiguration();
+        configurationSnapshot = IdentityConfigSnapshot.build(configuration);
         eventListenerConfiguration = IdentityConfigParser.getInstance().getEventListenerConfiguration();
         identityCacheConfigurationHolder = IdentityConfigParser.getInstance().getIdentityCacheConfigurationHolder();
         identityCookiesConfigurationHolder = IdentityConfigParser.getIdentityCookieConfigurationHolder();
@@ -2038,27 +2095,7 @@ public class IdentityUtil {
      */
     public static List<String> getPropertyAsList(String key) {
 
-        List<String> propertyList = new ArrayList<>();
-        Object value = configuration.get(key);
-
-        if (value == null) {
-            return propertyList;
-        }
-        if (value instanceof List) {
-            List rawProps = (List) value;
-            for (Object rawProp: rawProps ) {
-                if (rawProp instanceof String) {
-                    propertyList.add((String) rawProp);
-                } else {
-                    propertyList.add(String.valueOf(rawProp));
-                }
-            }
-        } else if (value instanceof String) {
-            propertyList.add((String) value);
-        } else {
-            propertyList.add(String.valueOf(value));
-        }
-        return propertyList;
+        return new ArrayList<>(getConfigurationSnapshot().getPropertyAsList(key));
     }
 
     /**
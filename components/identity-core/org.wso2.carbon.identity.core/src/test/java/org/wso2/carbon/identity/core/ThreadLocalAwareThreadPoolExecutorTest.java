@@ -27,7 +27,11 @@ import org.testng.annotations.Test;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
@@ -92,12 +96,41 @@ public class ThreadLocalAwareThreadPoolExecutorTest {
         executorService.submit(new TestAsyncTask(tenantDomain, tenantID));
     }
 
+    @Test
+    public void testMDCRestoredWhenCallerRuns() throws InterruptedException {
+
+        ThreadPoolExecutor callerRunsExecutor = new ThreadLocalAwareThreadPoolExecutor(1, 1, 0L,
+                TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.CallerRunsPolicy());
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            callerRunsExecutor.execute(() -> awaitQuietly(release));
+            callerRunsExecutor.execute(() -> awaitQuietly(release));
+            callerRunsExecutor.execute(new TestAsyncTask(DEFAULT_TENANT_DOMAIN, DEFAULT_TENANT_ID));
+
+            assertEquals(MDC.get("tenantDomain"), DEFAULT_TENANT_DOMAIN);
+            assertEquals(MDC.get("tenantID"), String.valueOf(DEFAULT_TENANT_ID));
+        } finally {
+            release.countDown();
+            callerRunsExecutor.shutdown();
+            callerRunsExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testExecutorServiceClassType() {
 
         assertTrue(executorService instanceof ThreadLocalAwareThreadPoolExecutor);
     }
 
+    private static void awaitQuietly(CountDownLatch latch) {
+
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static void setupMDC(String tenantDomain, int tenantID) {
         Map<String, String> contextMap = new HashMap<>();
         contextMap.put("tenantDomain", tenantDomain);
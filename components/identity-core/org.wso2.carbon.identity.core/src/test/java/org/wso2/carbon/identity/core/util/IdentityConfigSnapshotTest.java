@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.core.util;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link IdentityConfigSnapshot}.
+ */
+public class IdentityConfigSnapshotTest {
+
+    @Test
+    public void testGetProperty() {
+
+        Map<String, Object> configuration = new HashMap<>();
+        configuration.put("Server.HostName", "localhost");
+        configuration.put("Server.Port", 9443);
+        configuration.put("Server.Hosts", Arrays.asList("host1", "host2"));
+        IdentityConfigSnapshot snapshot = IdentityConfigSnapshot.build(configuration);
+
+        assertEquals(snapshot.getProperty("Server.HostName"), "localhost");
+        assertEquals(snapshot.getProperty("Server.Port"), "9443");
+        assertEquals(snapshot.getProperty("Server.Hosts"), "host1");
+        assertNull(snapshot.getProperty("Server.Unknown"));
+        assertEquals(snapshot.getPropertyAsList("Server.Hosts"), Arrays.asList("host1", "host2"));
+        assertEquals(snapshot.getPropertyAsList("Server.HostName"), Arrays.asList("localhost"));
+        assertTrue(snapshot.getPropertyAsList("Server.Unknown").isEmpty());
+        assertTrue(snapshot.isBuiltFrom(configuration));
+        assertFalse(snapshot.isBuiltFrom(new HashMap<>(configuration)));
+    }
+
+    @Test
+    public void testPlaceholdersResolvedOnce() {
+
+        Map<String, Object> configuration = new HashMap<>();
+        configuration.put("Server.URL", "https://${carbon.host}");
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.fillURLPlaceholders(anyString())).thenReturn("https://localhost");
+            IdentityConfigSnapshot snapshot = IdentityConfigSnapshot.build(configuration);
+
+            assertEquals(snapshot.getProperty("Server.URL"), "https://localhost");
+            assertEquals(snapshot.getProperty("Server.URL"), "https://localhost");
+            identityUtil.verify(() -> IdentityUtil.fillURLPlaceholders(anyString()), times(1));
+        }
+    }
+
+    @Test
+    public void testUnresolvedPlaceholdersResolvedOnRead() {
+
+        Map<String, Object> configuration = new HashMap<>();
+        configuration.put("Server.URL", "https://${carbon.host}");
+        IdentityConfigSnapshot snapshot;
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.fillURLPlaceholders(anyString()))
+                    .thenThrow(new IllegalStateException("Server configuration is not available."));
+            snapshot = IdentityConfigSnapshot.build(configuration);
+        }
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.fillURLPlaceholders(anyString())).thenReturn("https://localhost");
+
+            assertEquals(snapshot.getProperty("Server.URL"), "https://localhost");
+            assertEquals(snapshot.getProperty("Server.URL"), "https://localhost");
+            identityUtil.verify(() -> IdentityUtil.fillURLPlaceholders(anyString()), times(1));
+        }
+    }
+
+    @Test
+    public void testPartiallyResolvedPlaceholdersNotMemoized() {
+
+        Map<String, Object> configuration = new HashMap<>();
+        configuration.put("Server.URL", "https://${carbon.host}:${mgt.transport.https.port}");
+        configuration.put("Feature.Enabled", "${feature.enabled}");
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.fillURLPlaceholders(
+                    "https://${carbon.host}:${mgt.transport.https.port}"))
+                    .thenReturn("https://localhost:${mgt.transport.https.port}")
+                    .thenReturn("https://localhost:${mgt.transport.https.port}")
+                    .thenReturn("https://localhost:9443");
+            identityUtil.when(() -> IdentityUtil.fillURLPlaceholders("${feature.enabled}"))
+                    .thenReturn("${feature.enabled}")
+                    .thenReturn("${feature.enabled}")
+                    .thenReturn("true");
+            IdentityConfigSnapshot snapshot = IdentityConfigSnapshot.build(configuration);
+
+            assertEquals(snapshot.getProperty("Server.URL"), "https://localhost:${mgt.transport.https.port}");
+            assertEquals(snapshot.getProperty("Server.URL"), "https://localhost:9443");
+            assertEquals(snapshot.getProperty("Server.URL"), "https://localhost:9443");
+            identityUtil.verify(() -> IdentityUtil.fillURLPlaceholders(
+                    "https://${carbon.host}:${mgt.transport.https.port}"), times(3));
+
+            assertFalse(snapshot.getBoolean("Feature.Enabled", false));
+            assertTrue(snapshot.getBoolean("Feature.Enabled", false));
+            assertTrue(snapshot.getBoolean("Feature.Enabled", false));
+            identityUtil.verify(() -> IdentityUtil.fillURLPlaceholders("${feature.enabled}"), times(3));
+        }
+    }
+
+    @Test
+    public void testTypedProperties() {
+
+        Map<String, Object> configuration = new HashMap<>();
+        configuration.put("Feature.Enabled", " true ");
+        configuration.put("Feature.Blank", " ");
+        configuration.put("Pool.Size", "25");
+        configuration.put("Pool.Invalid", "NotANumber");
+        configuration.put("Session.Timeout", "15");
+        configuration.put("Session.IdleTimeout", "PT30S");
+        configuration.put("Session.Invalid", "15m");
+        IdentityConfigSnapshot snapshot = IdentityConfigSnapshot.build(configuration);
+
+        assertTrue(snapshot.getBoolean("Feature.Enabled", false));
+        assertTrue(snapshot.getBoolean("Feature.Blank", true));
+        assertFalse(snapshot.getBoolean("Feature.Unknown", false));
+        assertEquals(snapshot.getInt("Pool.Size", 10), 25);
+        assertEquals(snapshot.getInt("Pool.Invalid", 10), 10);
+        assertEquals(snapshot.getInt("Pool.Invalid", 20), 20);
+        assertEquals(snapshot.getInt("Pool.Unknown", 10), 10);
+        assertEquals(snapshot.getDuration("Session.Timeout", ChronoUnit.MINUTES, Duration.ZERO),
+                Duration.ofMinutes(15));
+        assertEquals(snapshot.getDuration("Session.Timeout", ChronoUnit.SECONDS, Duration.ZERO),
+                Duration.ofSeconds(15));
+        assertEquals(snapshot.getDuration("Session.IdleTimeout", ChronoUnit.MINUTES, Duration.ZERO),
+                Duration.ofSeconds(30));
+        assertEquals(snapshot.getDuration("Session.Invalid", ChronoUnit.MINUTES, Duration.ofMinutes(5)),
+                Duration.ofMinutes(5));
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testListPropertyIsUnmodifiable() {
+
+        Map<String, Object> configuration = new HashMap<>();
+        configuration.put("Server.Hosts", Arrays.asList("host1", "host2"));
+        List<String> hosts = IdentityConfigSnapshot.build(configuration).getPropertyAsList("Server.Hosts");
+        hosts.add("host3");
+    }
+}
@@ -20,36 +20,43 @@ package org.wso2.carbon.identity.event;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.bean.EventHandlerBulkheadConfiguration;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceDataHolder;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.BlockingDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingDeque;
 
 /**
- * This has a queue inside. All publishers add events to this queue and this event distribution task is responsible
- * for distributing these events to Notification sending modules
+ * All publishers add asynchronous events to this task and it is responsible for distributing these events to
+ * Notification sending modules. Each module has its own bounded queue and concurrency limit (bulkhead), hence a slow
+ * module cannot hold back the events of the other modules or grow the pending events without a limit.
  */
 public class EventDistributionTask implements Runnable {
 
     private static final Log log = LogFactory.getLog(EventDistributionTask.class);
 
-    /**
-     * Queue used to add events by publishers.
-     */
-    private BlockingDeque<Event> eventQueue;
     /**
      * Registered message sending modules.
      */
     private List<AbstractEventHandler> notificationSendingModules;
     /**
-     * Condition to break event distribution task
+     * Bulkheads of the message sending modules which received asynchronous events.
+     */
+    private final Map<AbstractEventHandler, EventHandlerBulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final EventHandlerBulkheadConfiguration bulkheadConfiguration;
+    private final ExecutorService threadPool;
+    /**
+     * Condition to stop accepting events.
      */
-    private volatile boolean running;
+    private volatile boolean running = true;
 
     /**
      * Overridden constructor to initiate notification sending modules and thread pool size
@@ -58,52 +65,98 @@ public class EventDistributionTask implements Runnable {
      * @param threadPoolSize             Size of thread pool for notification sending components
      */
     public EventDistributionTask(List<AbstractEventHandler> notificationSendingModules, int threadPoolSize) {
+
+        this(notificationSendingModules, threadPoolSize, new EventHandlerBulkheadConfiguration());
+    }
+
+    /**
+     * Overridden constructor to initiate notification sending modules, thread pool size and module bulkheads.
+     *
+     * @param notificationSendingModules List of notification sending modules registered
+     * @param threadPoolSize             Size of thread pool for notification sending components
+     * @param bulkheadConfiguration      Queue and concurrency limits applied to each notification sending module
+     */
+    public EventDistributionTask(List<AbstractEventHandler> notificationSendingModules, int threadPoolSize,
+                                 EventHandlerBulkheadConfiguration bulkheadConfiguration) {
+
         this.notificationSendingModules = notificationSendingModules;
-        this.eventQueue = new LinkedBlockingDeque<Event>();
-        IdentityEventServiceDataHolder.getInstance().setThreadPool(Executors.newFixedThreadPool(threadPoolSize));
+        this.bulkheadConfiguration = bulkheadConfiguration;
+        if (bulkheadConfiguration.isVirtualThreadsEnabled()) {
+            this.threadPool = Executors.newVirtualThreadPerTaskExecutor();
+        } else {
+            this.threadPool = Executors.newFixedThreadPool(threadPoolSize);
+        }
+        IdentityEventServiceDataHolder.getInstance().setThreadPool(threadPool);
     }
 
+    /**
+     * Hand over the event to the bulkheads of the enabled notification sending modules.
+     *
+     * @param publisherEvent Event to be distributed.
+     */
     public void addEventToQueue(Event publisherEvent) {
-        this.eventQueue.add(publisherEvent);
+
+        if (!running) {
+            log.warn("Event distribution task is stopped. Ignoring event " + publisherEvent.getEventName());
+            return;
+        }
+        IdentityEventMessageContext eventContext = new IdentityEventMessageContext(publisherEvent);
+        for (AbstractEventHandler module : notificationSendingModules) {
+            // If the module is enabled, the event will be executed by the module.
+            if (module.isEnabled(eventContext)) {
+                bulkheads.computeIfAbsent(module,
+                        handler -> new EventHandlerBulkhead(handler, threadPool, bulkheadConfiguration))
+                        .submit(publisherEvent);
+            }
+        }
     }
 
+    /**
+     * Get the bulkheads of the notification sending modules, to monitor their queue depth, lag and rejections.
+     *
+     * @return Bulkheads of the notification sending modules.
+     */
+    public Collection<EventHandlerBulkhead> getBulkheads() {
+
+        return Collections.unmodifiableCollection(bulkheads.values());
+    }
+
+    /**
+     * Remove the bulkhead of an unregistered notification sending module. Events queued for the module are discarded.
+     *
+     * @param module Unregistered notification sending module.
+     */
+    public void removeModule(AbstractEventHandler module) {
+
+        EventHandlerBulkhead bulkhead = bulkheads.remove(module);
+        if (bulkhead != null) {
+            bulkhead.shutdown();
+        }
+    }
+
+    /**
+     * Events are handed over to the module bulkheads when they are added, hence there is no distribution loop to run.
+     *
+     * @deprecated The task no longer needs a dedicated thread.
+     */
+    @Deprecated
     @Override
     public void run() {
-        running = true;
-        // Run forever until stop the bundle. Will stop in eventQueue.take()
-        while (running) {
-            try {
-                final Event event = eventQueue.take();
-                IdentityEventMessageContext eventContext = new IdentityEventMessageContext(event);
-                for (final AbstractEventHandler module : notificationSendingModules) {
-                    // If the module is subscribed to the event, module will be executed.
-                    if (module.isEnabled(eventContext)) {
-                        // Create a runnable and submit to the thread pool for sending message.
-                        Runnable msgSender = new Runnable() {
-                            @Override
-                            public void run() {
-                                if (log.isDebugEnabled()) {
-                                    log.debug("Executing " + module.getName() + " on event" + event.
-                                            getEventName());
-                                }
-                                try {
-                                    module.handleEvent(event);
-                                } catch (IdentityEventException e) {
-                                    log.error("Error while invoking notification sending module " + module.
-                                            getName(), e);
-                                }
-                            }
-                        };
-                        IdentityEventServiceDataHolder.getInstance().getThreadPool().submit(msgSender);
-                    }
-                }
-            } catch (InterruptedException e) {
-                log.error("Error while picking up event from event queue", e);
-            }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Event distribution task does not require a dedicated thread.");
         }
     }
 
+    /**
+     * Stop accepting events, shut down the module bulkheads and the thread pool which executes them.
+     */
     public void shutdown() {
+
         this.running = false;
+        for (AbstractEventHandler module : bulkheads.keySet()) {
+            removeModule(module);
+        }
+        threadPool.shutdown();
     }
 }
@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.bean.EventHandlerBulkheadConfiguration;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executes the asynchronous events of a single event handler. Events are kept in a bounded queue of the handler and
+ * at most the configured number of events of the handler are executed concurrently, so that a slow handler only
+ * delays its own events. The overflow policy decides what happens to events published while the queue is full.
+ */
+public class EventHandlerBulkhead {
+
+    private static final Log log = LogFactory.getLog(EventHandlerBulkhead.class);
+
+    /**
+     * Maximum number of events executed by a worker before it releases its thread to the executor.
+     */
+    private static final int MAX_EVENTS_PER_WORKER_RUN = 32;
+    private static final int DROPPED_EVENT_LOG_INTERVAL = 1000;
+
+    private final AbstractEventHandler handler;
+    private final Executor executor;
+    private final EventHandlerBulkheadConfiguration configuration;
+    private final BlockingDeque<QueuedEvent> eventQueue;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+
+    private final LongAdder enqueuedEvents = new LongAdder();
+    private final LongAdder processedEvents = new LongAdder();
+    private final LongAdder failedEvents = new LongAdder();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final LongAdder callerRunsEvents = new LongAdder();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+    private volatile boolean running = true;
+
+    /**
+     * @param handler       Event handler executed by this bulkhead.
+     * @param executor      Executor which provides the threads for the handler.
+     * @param configuration Bulkhead configuration.
+     */
+    public EventHandlerBulkhead(AbstractEventHandler handler, Executor executor,
+                                EventHandlerBulkheadConfiguration configuration) {
+
+        this.handler = handler;
+        this.executor = executor;
+        this.configuration = configuration;
+        this.eventQueue = new LinkedBlockingDeque<>(configuration.getQueueCapacity());
+    }
+
+    /**
+     * Submit an event to be handled asynchronously by the handler.
+     *
+     * @param event Event to be handled.
+     */
+    public void submit(Event event) {
+
+        if (!running) {
+            if (log.isDebugEnabled()) {
+                log.debug("Event handler " + handler.getName() + " is shut down. Ignoring event " +
+                        event.getEventName());
+            }
+            return;
+        }
+        if (enqueue(new QueuedEvent(event))) {
+            scheduleWorker();
+        }
+    }
+
+    /**
+     * Stop accepting events and discard the events waiting in the queue. Events being executed are allowed to
+     * complete.
+     */
+    public void shutdown() {
+
+        running = false;
+        int discardedEvents = 0;
+        while (eventQueue.pollFirst() != null) {
+            discardedEvents++;
+        }
+        if (discardedEvents > 0) {
+            droppedEvents.addAndGet(discardedEvents);
+            log.warn("Event handler " + handler.getName() + " is shut down. Discarded " + discardedEvents +
+                    " queued events.");
+        }
+    }
+
+    public boolean isShutdown() {
+
+        return !running;
+    }
+
+    public String getHandlerName() {
+
+        return handler.getName();
+    }
+
+    /**
+     * Number of events of the handler waiting to be executed.
+     */
+    public int getQueueSize() {
+
+        return eventQueue.size();
+    }
+
+    /**
+     * Number of events of the handler being executed.
+     */
+    public int getActiveWorkerCount() {
+
+        return activeWorkers.get();
+    }
+
+    public long getEnqueuedEventCount() {
+
+        return enqueuedEvents.sum();
+    }
+
+    public long getProcessedEventCount() {
+
+        return processedEvents.sum();
+    }
+
+    public long getFailedEventCount() {
+
+        return failedEvents.sum();
+    }
+
+    /**
+     * Number of events dropped because the queue of the handler was full, or because the handler was shut down.
+     */
+    public long getDroppedEventCount() {
+
+        return droppedEvents.get();
+    }
+
+    /**
+     * Number of events executed on the publishing thread because the queue of the handler was full.
+     */
+    public long getCallerRunsEventCount() {
+
+        return callerRunsEvents.sum();
+    }
+
+    /**
+     * Time the last executed event spent in the queue.
+     */
+    public long getLastLagMillis() {
+
+        return lastLagMillis.get();
+    }
+
+    public long getMaxLagMillis() {
+
+        return maxLagMillis.get();
+    }
+
+    private boolean enqueue(QueuedEvent queuedEvent) {
+
+        if (eventQueue.offerLast(queuedEvent)) {
+            enqueuedEvents.increment();
+            return true;
+        }
+
+        switch (configuration.getOverflowPolicy()) {
+            case BLOCK:
+                try {
+                    if (eventQueue.offerLast(queuedEvent, configuration.getBlockTimeoutMillis(),
+                            TimeUnit.MILLISECONDS)) {
+                        enqueuedEvents.increment();
+                        return true;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                recordDroppedEvent(queuedEvent);
+                return false;
+            case DROP_OLDEST:
+                while (!eventQueue.offerLast(queuedEvent)) {
+                    QueuedEvent oldestEvent = eventQueue.pollFirst();
+                    if (oldestEvent != null) {
+                        recordDroppedEvent(oldestEvent);
+                    }
+                }
+                enqueuedEvents.increment();
+                return true;
+            case CALLER_RUNS:
+            default:
+                if (log.isDebugEnabled()) {
+                    log.debug("Event queue of " + handler.getName() + " is full. Executing event " +
+                            queuedEvent.event.getEventName() + " on the publishing thread.");
+                }
+                callerRunsEvents.increment();
+                execute(queuedEvent);
+                return false;
+        }
+    }
+
+    private void scheduleWorker() {
+
+        while (running && !eventQueue.isEmpty()) {
+            int workers = activeWorkers.get();
+            if (workers >= configuration.getMaxConcurrency()) {
+                return;
+            }
+            if (activeWorkers.compareAndSet(workers, workers + 1)) {
+                try {
+                    executor.execute(this::runWorker);
+                } catch (RejectedExecutionException e) {
+                    activeWorkers.decrementAndGet();
+                    log.error("Error while scheduling the execution of event handler " + handler.getName(), e);
+                }
+                return;
+            }
+        }
+    }
+
+    private void runWorker() {
+
+        try {
+            for (int i = 0; i < MAX_EVENTS_PER_WORKER_RUN; i++) {
+                QueuedEvent queuedEvent = eventQueue.pollFirst();
+                if (queuedEvent == null) {
+                    break;
+                }
+                execute(queuedEvent);
+            }
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+        // Reschedule for the remaining events, and for the events queued while the worker limit was reached.
+        scheduleWorker();
+    }
+
+    private void execute(QueuedEvent queuedEvent) {
+
+        Event event = queuedEvent.event;
+        long lagMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queuedEvent.enqueuedTime);
+        lastLagMillis.set(lagMillis);
+        maxLagMillis.accumulateAndGet(lagMillis, Math::max);
+        if (log.isDebugEnabled()) {
+            log.debug("Executing " + handler.getName() + " on event " + event.getEventName());
+        }
+        try {
+            handler.handleEvent(event);
+            processedEvents.increment();
+        } catch (IdentityEventException | RuntimeException e) {
+            failedEvents.increment();
+            log.error("Error while invoking notification sending module " + handler.getName(), e);
+        }
+    }
+
+    private void recordDroppedEvent(QueuedEvent queuedEvent) {
+
+        long dropped = droppedEvents.incrementAndGet();
+        if (dropped % DROPPED_EVENT_LOG_INTERVAL == 1) {
+            log.warn("Event queue of " + handler.getName() + " is full. Dropped event " +
+                    queuedEvent.event.getEventName() + ". Total dropped events of the handler: " + dropped);
+        } else if (log.isDebugEnabled()) {
+            log.debug("Event queue of " + handler.getName() + " is full. Dropped event " +
+                    queuedEvent.event.getEventName());
+        }
+    }
+
+    /**
+     * Event along with the time it was queued.
+     */
+    private static class QueuedEvent {
+
+        private final Event event;
+        private final long enqueuedTime;
+
+        QueuedEvent(Event event) {
+
+            this.event = event;
+            this.enqueuedTime = System.nanoTime();
+        }
+    }
+}
@@ -18,10 +18,12 @@
 
 package org.wso2.carbon.identity.event;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.event.bean.EventHandlerBulkheadConfiguration;
 import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
 import org.wso2.carbon.identity.event.bean.Subscription;
 import org.wso2.securevault.SecretResolver;
@@ -62,6 +64,10 @@ public class IdentityEventConfigBuilder {
      * Thread pool size for message sending task
      */
     private String threadPoolSize;
+    /**
+     * Queue and concurrency limits of the asynchronous event handlers
+     */
+    private EventHandlerBulkheadConfiguration bulkheadConfiguration;
 
     private static IdentityEventConfigBuilder notificationMgtConfigBuilder = new IdentityEventConfigBuilder();
 
@@ -78,6 +84,7 @@ public class IdentityEventConfigBuilder {
         }
 
         setThreadPoolSize();
+        setBulkheadConfiguration();
         resolveSecrets();
         moduleConfiguration = new HashMap<>();
         build();
@@ -98,6 +105,69 @@ public class IdentityEventConfigBuilder {
         threadPoolSize = (String) notificationMgtConfigProperties.remove("threadPool.size");
     }
 
+    /**
+     * Sets the queue and concurrency limits of the asynchronous event handlers read from configurations
+     */
+    private void setBulkheadConfiguration() {
+
+        int queueCapacity = parseInt(IdentityEventConstants.PropertyConfig.ASYNC_HANDLER_QUEUE_CAPACITY,
+                EventHandlerBulkheadConfiguration.DEFAULT_QUEUE_CAPACITY);
+        // A handler may use the whole thread pool unless a lower limit is configured.
+        int maxConcurrency = parseInt(IdentityEventConstants.PropertyConfig.ASYNC_HANDLER_MAX_CONCURRENCY,
+                getDefaultMaxConcurrency());
+        int blockTimeout = parseInt(IdentityEventConstants.PropertyConfig.ASYNC_HANDLER_BLOCK_TIMEOUT,
+                (int) EventHandlerBulkheadConfiguration.DEFAULT_BLOCK_TIMEOUT_MILLIS);
+        boolean virtualThreadsEnabled = Boolean.parseBoolean((String) notificationMgtConfigProperties.remove(
+                IdentityEventConstants.PropertyConfig.ASYNC_HANDLER_VIRTUAL_THREADS_ENABLE));
+
+        EventHandlerBulkheadConfiguration.OverflowPolicy overflowPolicy =
+                EventHandlerBulkheadConfiguration.OverflowPolicy.CALLER_RUNS;
+        String overflowPolicyValue = (String) notificationMgtConfigProperties.remove(
+                IdentityEventConstants.PropertyConfig.ASYNC_HANDLER_OVERFLOW_POLICY);
+        if (StringUtils.isNotBlank(overflowPolicyValue)) {
+            try {
+                overflowPolicy = EventHandlerBulkheadConfiguration.OverflowPolicy.valueOf(
+                        overflowPolicyValue.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid asynchronous event handler overflow policy: " + overflowPolicyValue +
+                        ". Using the default policy: " + overflowPolicy);
+            }
+        }
+        bulkheadConfiguration = new EventHandlerBulkheadConfiguration(queueCapacity, maxConcurrency, overflowPolicy,
+                blockTimeout, virtualThreadsEnabled);
+    }
+
+    private int getDefaultMaxConcurrency() {
+
+        if (StringUtils.isNotBlank(threadPoolSize)) {
+            try {
+                int poolSize = Integer.parseInt(threadPoolSize.trim());
+                if (poolSize > 0) {
+                    return poolSize;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid thread pool size: " + threadPoolSize + ". Using the default maximum concurrency " +
+                        "of asynchronous event handlers: " + EventHandlerBulkheadConfiguration.DEFAULT_MAX_CONCURRENCY);
+            }
+        }
+        return EventHandlerBulkheadConfiguration.DEFAULT_MAX_CONCURRENCY;
+    }
+
+    private int parseInt(String propertyName, int defaultValue) {
+
+        String value = (String) notificationMgtConfigProperties.remove(propertyName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value: " + value + " for property: " + propertyName + ". Using the default value: " +
+                    defaultValue);
+            return defaultValue;
+        }
+    }
+
     /**
      * Load properties which are defined in msg-mgt.properties file
      *
@@ -222,6 +292,10 @@ public class IdentityEventConfigBuilder {
         return threadPoolSize;
     }
 
+    public EventHandlerBulkheadConfiguration getBulkheadConfiguration() {
+        return bulkheadConfiguration;
+    }
+
     /**
      * There can be sensitive information like passwords in configuration file. If they are encrypted using secure
      * vault, this method will resolve them and replace with original values.
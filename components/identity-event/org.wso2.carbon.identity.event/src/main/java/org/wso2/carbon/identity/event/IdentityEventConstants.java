@@ -41,6 +41,11 @@ public class IdentityEventConstants {
         public static final String NOTIFICATION_LINK_EXPIRE_TIME = "Notification.Expire.Time";
         public static final String ALREADY_WRITTEN_PROPERTY_KEY = "AlreadyWritten";
         public static final String ALREADY_WRITTEN_PROPERTY_VALUE = "true";
+        public static final String ASYNC_HANDLER_QUEUE_CAPACITY = "asyncHandler.queueCapacity";
+        public static final String ASYNC_HANDLER_MAX_CONCURRENCY = "asyncHandler.maxConcurrency";
+        public static final String ASYNC_HANDLER_OVERFLOW_POLICY = "asyncHandler.overflowPolicy";
+        public static final String ASYNC_HANDLER_BLOCK_TIMEOUT = "asyncHandler.blockTimeout";
+        public static final String ASYNC_HANDLER_VIRTUAL_THREADS_ENABLE = "asyncHandler.virtualThreads.enable";
 
     }
 
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.bean;
+
+/**
+ * Configuration of the per handler bulkheads used to execute asynchronous event handlers. Each asynchronous event
+ * handler gets its own bounded queue and concurrency limit, so that a slow handler cannot delay the others.
+ */
+public class EventHandlerBulkheadConfiguration {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+    // Same as the default size of the event thread pool, so that a handler can use the whole pool as before.
+    public static final int DEFAULT_MAX_CONCURRENCY = 10;
+    public static final long DEFAULT_BLOCK_TIMEOUT_MILLIS = 1000;
+
+    /**
+     * Action taken when an event is added to the queue of a handler which is already full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Block the publishing thread until space is available or the block timeout elapses. The event is dropped
+         * if the timeout elapses.
+         */
+        BLOCK,
+        /**
+         * Drop the oldest queued event of the handler to make space for the new event.
+         */
+        DROP_OLDEST,
+        /**
+         * Execute the handler on the publishing thread.
+         */
+        CALLER_RUNS
+    }
+
+    private final int queueCapacity;
+    private final int maxConcurrency;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMillis;
+    private final boolean virtualThreadsEnabled;
+
+    /**
+     * Create a configuration with the default values.
+     */
+    public EventHandlerBulkheadConfiguration() {
+
+        this(DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_CONCURRENCY, OverflowPolicy.CALLER_RUNS,
+                DEFAULT_BLOCK_TIMEOUT_MILLIS, false);
+    }
+
+    /**
+     * @param queueCapacity         Maximum number of queued events per handler.
+     * @param maxConcurrency        Maximum number of events executed concurrently per handler.
+     * @param overflowPolicy        Action taken when the queue of a handler is full.
+     * @param blockTimeoutMillis    Maximum time to wait for queue space with the {@link OverflowPolicy#BLOCK} policy.
+     * @param virtualThreadsEnabled Whether the handlers are executed on virtual threads instead of the thread pool.
+     */
+    public EventHandlerBulkheadConfiguration(int queueCapacity, int maxConcurrency, OverflowPolicy overflowPolicy,
+                                             long blockTimeoutMillis, boolean virtualThreadsEnabled) {
+
+        this.queueCapacity = queueCapacity > 0 ? queueCapacity : DEFAULT_QUEUE_CAPACITY;
+        this.maxConcurrency = maxConcurrency > 0 ? maxConcurrency : DEFAULT_MAX_CONCURRENCY;
+        this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.CALLER_RUNS;
+        this.blockTimeoutMillis = blockTimeoutMillis >= 0 ? blockTimeoutMillis : DEFAULT_BLOCK_TIMEOUT_MILLIS;
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+    }
+
+    public int getQueueCapacity() {
+
+        return queueCapacity;
+    }
+
+    public int getMaxConcurrency() {
+
+        return maxConcurrency;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+
+        return overflowPolicy;
+    }
+
+    public long getBlockTimeoutMillis() {
+
+        return blockTimeoutMillis;
+    }
+
+    public boolean isVirtualThreadsEnabled() {
+
+        return virtualThreadsEnabled;
+    }
+}
@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 public abstract class AbstractEventHandler extends AbstractIdentityMessageHandler {
 
@@ -42,6 +43,11 @@ public abstract class AbstractEventHandler extends AbstractIdentityMessageHandle
 
     private static final Log log = LogFactory.getLog(AbstractEventHandler.class);
 
+    /**
+     * Incremented whenever the configuration of any event handler changes, to invalidate the event dispatch index.
+     */
+    private static final AtomicLong configurationVersion = new AtomicLong();
+
     public boolean canHandle(MessageContext messageContext) throws IdentityRuntimeException {
 
         Event event = ((IdentityEventMessageContext) messageContext).getEvent();
@@ -134,10 +140,22 @@ public abstract class AbstractEventHandler extends AbstractIdentityMessageHandle
 
     public abstract void handleEvent(Event event) throws IdentityEventException;
 
+    /**
+     * Get the version of the event handler configurations. The version changes whenever an event handler is
+     * initialized with a new module configuration.
+     *
+     * @return Event handler configuration version.
+     */
+    public static long getConfigurationVersion() {
+
+        return configurationVersion.get();
+    }
+
     @Override
     public void init(InitConfig configuration) throws IdentityRuntimeException {
         if (configuration instanceof ModuleConfiguration) {
             this.configs = (ModuleConfiguration) configuration;
+            configurationVersion.incrementAndGet();
         } else {
             throw new IdentityRuntimeException("Initial configuration error");
         }
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler;
+
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.bean.Subscription;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable dispatch table from event name to the ordered list of event handlers which may handle the event.
+ * <p>
+ * Handlers which rely on the subscription based {@link AbstractEventHandler#canHandle(MessageContext)} are only
+ * listed against the events they subscribe to, and do not need to be asked again at dispatch time. Handlers which
+ * override canHandle are listed against every event and are asked at dispatch time, as their decision may depend on
+ * the event content. The relative order of the registered handlers is preserved.
+ * <p>
+ * The index does not track the changes to the handler list by itself. The paths registering or unregistering event
+ * handlers invalidate the built indexes with {@link #invalidate()}.
+ */
+public class EventHandlerDispatchIndex {
+
+    /**
+     * Incremented whenever an event handler is registered or unregistered.
+     */
+    private static final AtomicLong handlerListVersion = new AtomicLong();
+
+    private final List<AbstractEventHandler> sourceHandlers;
+    private final long sourceVersion;
+    private final long configurationVersion;
+    private final Map<String, List<DispatchEntry>> entriesByEvent;
+    private final List<DispatchEntry> defaultEntries;
+
+    private EventHandlerDispatchIndex(List<AbstractEventHandler> sourceHandlers, long sourceVersion,
+                                      long configurationVersion, Map<String, List<DispatchEntry>> entriesByEvent,
+                                      List<DispatchEntry> defaultEntries) {
+
+        this.sourceHandlers = sourceHandlers;
+        this.sourceVersion = sourceVersion;
+        this.configurationVersion = configurationVersion;
+        this.entriesByEvent = entriesByEvent;
+        this.defaultEntries = defaultEntries;
+    }
+
+    /**
+     * Build the dispatch index for the given handlers.
+     *
+     * @param handlers Registered event handlers in dispatch order.
+     * @return Dispatch index.
+     */
+    public static EventHandlerDispatchIndex build(List<AbstractEventHandler> handlers) {
+
+        // Read the versions before copying the handlers, so that a concurrent change invalidates the built index.
+        long sourceVersion = handlerListVersion.get();
+        long configurationVersion = AbstractEventHandler.getConfigurationVersion();
+        List<AbstractEventHandler> snapshot = new ArrayList<>(handlers);
+
+        Set<String> eventNames = new LinkedHashSet<>();
+        List<Set<String>> subscribedEvents = new ArrayList<>(snapshot.size());
+        List<Boolean> subscriptionBased = new ArrayList<>(snapshot.size());
+        for (AbstractEventHandler handler : snapshot) {
+            boolean usesSubscriptions = usesSubscriptionBasedCanHandle(handler);
+            Set<String> handlerEvents = usesSubscriptions ? getSubscribedEventNames(handler) :
+                    Collections.emptySet();
+            eventNames.addAll(handlerEvents);
+            subscribedEvents.add(handlerEvents);
+            subscriptionBased.add(usesSubscriptions);
+        }
+
+        List<DispatchEntry> defaultEntries = new ArrayList<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            if (!subscriptionBased.get(i)) {
+                defaultEntries.add(new DispatchEntry(snapshot.get(i), true));
+            }
+        }
+
+        Map<String, List<DispatchEntry>> entriesByEvent = new HashMap<>();
+        for (String eventName : eventNames) {
+            List<DispatchEntry> entries = new ArrayList<>();
+            for (int i = 0; i < snapshot.size(); i++) {
+                if (!subscriptionBased.get(i)) {
+                    entries.add(new DispatchEntry(snapshot.get(i), true));
+                } else if (subscribedEvents.get(i).contains(eventName)) {
+                    entries.add(new DispatchEntry(snapshot.get(i), false));
+                }
+            }
+            entriesByEvent.put(eventName, Collections.unmodifiableList(entries));
+        }
+        return new EventHandlerDispatchIndex(handlers, sourceVersion, configurationVersion,
+                entriesByEvent, Collections.unmodifiableList(defaultEntries));
+    }
+
+    /**
+     * Get the handlers which may handle the given event, in dispatch order.
+     *
+     * @param eventName Event name.
+     * @return Dispatch entries of the event.
+     */
+    public List<DispatchEntry> getDispatchEntries(String eventName) {
+
+        List<DispatchEntry> entries = eventName != null ? entriesByEvent.get(eventName) : null;
+        return entries != null ? entries : defaultEntries;
+    }
+
+    /**
+     * Check whether this index still reflects the given handler list and the current handler configurations.
+     *
+     * @param handlers Registered event handlers.
+     * @return True if the index can be used to dispatch events to the given handlers.
+     */
+    public boolean isCurrent(List<AbstractEventHandler> handlers) {
+
+        return sourceHandlers == handlers && sourceVersion == handlerListVersion.get() &&
+                configurationVersion == AbstractEventHandler.getConfigurationVersion();
+    }
+
+    /**
+     * Invalidate the built dispatch indexes. Must be called after an event handler is registered or unregistered.
+     */
+    public static void invalidate() {
+
+        handlerListVersion.incrementAndGet();
+    }
+
+    private static boolean usesSubscriptionBasedCanHandle(AbstractEventHandler handler) {
+
+        try {
+            Method canHandle = handler.getClass().getMethod("canHandle", MessageContext.class);
+            return canHandle.getDeclaringClass() == AbstractEventHandler.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Set<String> getSubscribedEventNames(AbstractEventHandler handler) {
+
+        if (handler.configs == null || handler.configs.getSubscriptions() == null) {
+            return Collections.emptySet();
+        }
+        Set<String> eventNames = new LinkedHashSet<>();
+        for (Subscription subscription : handler.configs.getSubscriptions()) {
+            eventNames.add(subscription.getSubscriptionName());
+        }
+        return eventNames;
+    }
+
+    /**
+     * Event handler of a dispatch table entry.
+     */
+    public static class DispatchEntry {
+
+        private final AbstractEventHandler handler;
+        private final boolean canHandleCheckRequired;
+
+        DispatchEntry(AbstractEventHandler handler, boolean canHandleCheckRequired) {
+
+            this.handler = handler;
+            this.canHandleCheckRequired = canHandleCheckRequired;
+        }
+
+        public AbstractEventHandler getHandler() {
+
+            return handler;
+        }
+
+        /**
+         * Whether the handler decides at dispatch time if it can handle the event.
+         *
+         * @return True if {@link AbstractEventHandler#canHandle(MessageContext)} has to be invoked.
+         */
+        public boolean isCanHandleCheckRequired() {
+
+            return canHandleCheckRequired;
+        }
+    }
+}
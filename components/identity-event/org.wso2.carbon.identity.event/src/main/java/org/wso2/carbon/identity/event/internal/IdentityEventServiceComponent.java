@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.IdentityEventConfigBuilder;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.handler.EventHandlerDispatchIndex;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.event.services.IdentityEventServiceImpl;
 import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
@@ -58,7 +59,10 @@ public class IdentityEventServiceComponent {
     @Activate
     protected void activate(ComponentContext context) {
         try {
-            IdentityEventServiceDataHolder.getInstance().setEventMgtService(new IdentityEventServiceImpl(eventHandlerList, Integer.parseInt(IdentityEventConfigBuilder.getInstance().getThreadPoolSize())));
+            IdentityEventConfigBuilder configBuilder = IdentityEventConfigBuilder.getInstance();
+            IdentityEventServiceDataHolder.getInstance().setEventMgtService(new IdentityEventServiceImpl(
+                    eventHandlerList, Integer.parseInt(configBuilder.getThreadPoolSize()),
+                    configBuilder.getBulkheadConfiguration()));
             context.getBundleContext().registerService(IdentityEventService.class.getName(), IdentityEventServiceDataHolder.getInstance().getEventMgtService(), null);
         } catch (IdentityEventException e) {
             log.error("Error while initiating IdentityMgtService.");
@@ -70,6 +74,10 @@ public class IdentityEventServiceComponent {
 
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        IdentityEventService eventMgtService = IdentityEventServiceDataHolder.getInstance().getEventMgtService();
+        if (eventMgtService instanceof IdentityEventServiceImpl) {
+            ((IdentityEventServiceImpl) eventMgtService).shutdown();
+        }
         if (log.isDebugEnabled()) {
             log.debug("Identity Management bundle is de-activated");
         }
@@ -91,9 +99,16 @@ public class IdentityEventServiceComponent {
         eventHandlerList.add(eventHandler);
         MessageHandlerComparator messageHandlerComparator = new MessageHandlerComparator(null);
         Collections.sort(eventHandlerList, messageHandlerComparator);
+        EventHandlerDispatchIndex.invalidate();
     }
 
     protected void unRegisterEventHandler(AbstractEventHandler eventHandler) {
+        eventHandlerList.remove(eventHandler);
+        EventHandlerDispatchIndex.invalidate();
+        IdentityEventService eventMgtService = IdentityEventServiceDataHolder.getInstance().getEventMgtService();
+        if (eventMgtService instanceof IdentityEventServiceImpl) {
+            ((IdentityEventServiceImpl) eventMgtService).removeEventHandler(eventHandler);
+        }
     }
 
     @Reference(
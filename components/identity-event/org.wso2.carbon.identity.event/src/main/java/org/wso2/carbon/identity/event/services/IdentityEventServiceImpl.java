@@ -23,12 +23,16 @@ import org.apache.commons.logging.LogFactory;
 
 import org.osgi.annotation.bundle.Capability;
 import org.wso2.carbon.identity.event.EventDistributionTask;
+import org.wso2.carbon.identity.event.EventHandlerBulkhead;
 import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.EventHandlerBulkheadConfiguration;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.handler.EventHandlerDispatchIndex;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceComponent;
 
+import java.util.Collection;
 import java.util.List;
 
 @Capability(
@@ -42,28 +46,96 @@ public class IdentityEventServiceImpl implements IdentityEventService {
 
     private static final Log log = LogFactory.getLog(IdentityEventServiceImpl.class);
     private EventDistributionTask eventDistributionTask;
+    private volatile EventHandlerDispatchIndex dispatchIndex;
 
     public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize) {
-        this.eventDistributionTask = new EventDistributionTask(handlerList, threadPoolSize);
+
+        this(handlerList, threadPoolSize, new EventHandlerBulkheadConfiguration());
+    }
+
+    public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize,
+                                    EventHandlerBulkheadConfiguration bulkheadConfiguration) {
+
         if (log.isDebugEnabled()) {
             log.debug("Starting event distribution task from Notification Management component");
         }
-        new Thread(eventDistributionTask).start();
+        this.eventDistributionTask = new EventDistributionTask(handlerList, threadPoolSize, bulkheadConfiguration);
     }
+
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
+        IdentityEventMessageContext eventContext = null;
+        for (EventHandlerDispatchIndex.DispatchEntry dispatchEntry :
+                getDispatchIndex().getDispatchEntries(event.getEventName())) {
+            AbstractEventHandler handler = dispatchEntry.getHandler();
+            if (dispatchEntry.isCanHandleCheckRequired()) {
+                if (eventContext == null) {
+                    eventContext = new IdentityEventMessageContext(event);
+                }
+                if (!handler.canHandle(eventContext)) {
+                    continue;
+                }
+            }
+            if (handler.isAssociationAsync(event.getEventName())) {
+                eventDistributionTask.addEventToQueue(event);
+            } else {
+                handler.handleEvent(event);
+            }
+        }
+    }
+
+    /**
+     * Get the bulkheads of the asynchronous event handlers, to monitor their queue depth, lag and rejections.
+     *
+     * @return Bulkheads of the asynchronous event handlers.
+     */
+    public Collection<EventHandlerBulkhead> getAsyncEventHandlerBulkheads() {
+
+        return eventDistributionTask.getBulkheads();
+    }
+
+    /**
+     * Release the resources held for an unregistered event handler.
+     *
+     * @param handler Unregistered event handler.
+     */
+    public void removeEventHandler(AbstractEventHandler handler) {
+
+        eventDistributionTask.removeModule(handler);
+    }
+
+    /**
+     * Stop the asynchronous event handling of the service.
+     */
+    public void shutdown() {
+
+        eventDistributionTask.shutdown();
+    }
+
+    /**
+     * Get the event dispatch index of the registered event handlers. The index is rebuilt when event handlers are
+     * registered or unregistered, or when their configurations change.
+     *
+     * @return Event dispatch index.
+     */
+    private EventHandlerDispatchIndex getDispatchIndex() {
+
         List<AbstractEventHandler> eventHandlerList = IdentityEventServiceComponent.eventHandlerList;
-        IdentityEventMessageContext eventContext = new IdentityEventMessageContext(event);
-        for (final AbstractEventHandler handler : eventHandlerList) {
-
-            if (handler.canHandle(eventContext)) {
-                if (handler.isAssociationAsync(event.getEventName())) {
-                    eventDistributionTask.addEventToQueue(event);
-                } else {
-                    handler.handleEvent(event);
+        EventHandlerDispatchIndex index = dispatchIndex;
+        if (index == null || !index.isCurrent(eventHandlerList)) {
+            synchronized (this) {
+                index = dispatchIndex;
+                if (index == null || !index.isCurrent(eventHandlerList)) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Building the event dispatch index for " + eventHandlerList.size() +
+                                " event handlers.");
+                    }
+                    index = EventHandlerDispatchIndex.build(eventHandlerList);
+                    dispatchIndex = index;
                 }
             }
         }
+        return index;
     }
 }
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.event.bean.EventHandlerBulkheadConfiguration;
+import org.wso2.carbon.identity.event.bean.EventHandlerBulkheadConfiguration.OverflowPolicy;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EventHandlerBulkheadTest {
+
+    private static final String BLOCKING_EVENT = "BLOCKING_EVENT";
+
+    private ExecutorService executorService;
+    private BlockingEventHandler handler;
+
+    @BeforeMethod
+    public void setUp() {
+
+        executorService = Executors.newFixedThreadPool(4);
+        handler = new BlockingEventHandler();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        handler.release();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrencyLimit() throws Exception {
+
+        EventHandlerBulkhead bulkhead = createBulkhead(10, 1, OverflowPolicy.CALLER_RUNS);
+        bulkhead.submit(new Event(BLOCKING_EVENT));
+        for (int i = 0; i < 4; i++) {
+            bulkhead.submit(new Event("EVENT_" + i));
+        }
+        Assert.assertTrue(handler.awaitStarted());
+        Assert.assertEquals(bulkhead.getActiveWorkerCount(), 1);
+        Assert.assertEquals(bulkhead.getQueueSize(), 4);
+
+        handler.release();
+        waitForProcessedEvents(bulkhead, 5);
+        Assert.assertEquals(handler.getMaxConcurrency(), 1);
+        Assert.assertEquals(bulkhead.getEnqueuedEventCount(), 5);
+        Assert.assertEquals(bulkhead.getDroppedEventCount(), 0);
+    }
+
+    @Test
+    public void testDropOldestOverflowPolicy() throws Exception {
+
+        EventHandlerBulkhead bulkhead = createBulkhead(2, 1, OverflowPolicy.DROP_OLDEST);
+        bulkhead.submit(new Event(BLOCKING_EVENT));
+        Assert.assertTrue(handler.awaitStarted());
+        bulkhead.submit(new Event("EVENT_1"));
+        bulkhead.submit(new Event("EVENT_2"));
+        bulkhead.submit(new Event("EVENT_3"));
+        Assert.assertEquals(bulkhead.getQueueSize(), 2);
+        Assert.assertEquals(bulkhead.getDroppedEventCount(), 1);
+
+        handler.release();
+        waitForProcessedEvents(bulkhead, 3);
+        Assert.assertFalse(handler.getHandledEvents().contains("EVENT_1"));
+        Assert.assertTrue(handler.getHandledEvents().contains("EVENT_3"));
+    }
+
+    @Test
+    public void testCallerRunsOverflowPolicy() throws Exception {
+
+        EventHandlerBulkhead bulkhead = createBulkhead(1, 1, OverflowPolicy.CALLER_RUNS);
+        bulkhead.submit(new Event(BLOCKING_EVENT));
+        Assert.assertTrue(handler.awaitStarted());
+        bulkhead.submit(new Event("EVENT_1"));
+        bulkhead.submit(new Event("EVENT_2"));
+
+        Assert.assertEquals(bulkhead.getCallerRunsEventCount(), 1);
+        Assert.assertTrue(handler.getHandledEvents().contains("EVENT_2"));
+        Assert.assertEquals(bulkhead.getQueueSize(), 1);
+    }
+
+    @Test
+    public void testBlockOverflowPolicy() throws Exception {
+
+        EventHandlerBulkhead bulkhead = createBulkhead(1, 1, OverflowPolicy.BLOCK);
+        bulkhead.submit(new Event(BLOCKING_EVENT));
+        Assert.assertTrue(handler.awaitStarted());
+        bulkhead.submit(new Event("EVENT_1"));
+        bulkhead.submit(new Event("EVENT_2"));
+
+        Assert.assertEquals(bulkhead.getDroppedEventCount(), 1);
+        Assert.assertEquals(bulkhead.getQueueSize(), 1);
+    }
+
+    @Test
+    public void testShutdown() throws Exception {
+
+        EventHandlerBulkhead bulkhead = createBulkhead(10, 1, OverflowPolicy.CALLER_RUNS);
+        bulkhead.submit(new Event(BLOCKING_EVENT));
+        Assert.assertTrue(handler.awaitStarted());
+        bulkhead.submit(new Event("EVENT_1"));
+        bulkhead.submit(new Event("EVENT_2"));
+
+        bulkhead.shutdown();
+        bulkhead.submit(new Event("EVENT_3"));
+        Assert.assertTrue(bulkhead.isShutdown());
+        Assert.assertEquals(bulkhead.getQueueSize(), 0);
+        Assert.assertEquals(bulkhead.getDroppedEventCount(), 2);
+
+        handler.release();
+        waitForProcessedEvents(bulkhead, 1);
+        Assert.assertEquals(handler.getHandledEvents().size(), 1);
+        Assert.assertEquals(bulkhead.getEnqueuedEventCount(), 3);
+    }
+
+    private EventHandlerBulkhead createBulkhead(int queueCapacity, int maxConcurrency, OverflowPolicy overflowPolicy) {
+
+        return new EventHandlerBulkhead(handler, executorService, new EventHandlerBulkheadConfiguration(
+                queueCapacity, maxConcurrency, overflowPolicy, 10, false));
+    }
+
+    private void waitForProcessedEvents(EventHandlerBulkhead bulkhead, long count) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (bulkhead.getProcessedEventCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(bulkhead.getProcessedEventCount(), count);
+    }
+
+    private static class BlockingEventHandler extends AbstractEventHandler {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final AtomicInteger concurrency = new AtomicInteger();
+        private final AtomicInteger maxConcurrency = new AtomicInteger();
+        private final List<String> handledEvents = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void handleEvent(Event event) throws IdentityEventException {
+
+            maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+            try {
+                if (BLOCKING_EVENT.equals(event.getEventName())) {
+                    started.countDown();
+                    released.await(5, TimeUnit.SECONDS);
+                }
+                handledEvents.add(event.getEventName());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrency.decrementAndGet();
+            }
+        }
+
+        boolean awaitStarted() throws InterruptedException {
+
+            return started.await(5, TimeUnit.SECONDS);
+        }
+
+        void release() {
+
+            released.countDown();
+        }
+
+        int getMaxConcurrency() {
+
+            return maxConcurrency.get();
+        }
+
+        List<String> getHandledEvents() {
+
+            return handledEvents;
+        }
+    }
+}
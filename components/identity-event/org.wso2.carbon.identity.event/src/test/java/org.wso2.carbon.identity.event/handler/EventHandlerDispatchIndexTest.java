@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event.handler;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.ModuleConfiguration;
+import org.wso2.carbon.identity.event.bean.Subscription;
+import org.wso2.carbon.identity.event.event.Event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+public class EventHandlerDispatchIndexTest {
+
+    @Test
+    public void testDispatchEntries() {
+
+        SubscriptionBasedEventHandler preAuthHandler = createHandler("PRE_AUTHENTICATION");
+        CustomEventHandler customHandler = new CustomEventHandler();
+        SubscriptionBasedEventHandler postAuthHandler = createHandler("POST_AUTHENTICATION", "PRE_AUTHENTICATION");
+        List<AbstractEventHandler> handlers = new ArrayList<>(Arrays.asList(preAuthHandler, customHandler,
+                postAuthHandler));
+
+        EventHandlerDispatchIndex index = EventHandlerDispatchIndex.build(handlers);
+
+        List<EventHandlerDispatchIndex.DispatchEntry> preAuthEntries = index.getDispatchEntries("PRE_AUTHENTICATION");
+        Assert.assertEquals(preAuthEntries.size(), 3);
+        Assert.assertSame(preAuthEntries.get(0).getHandler(), preAuthHandler);
+        Assert.assertFalse(preAuthEntries.get(0).isCanHandleCheckRequired());
+        Assert.assertSame(preAuthEntries.get(1).getHandler(), customHandler);
+        Assert.assertTrue(preAuthEntries.get(1).isCanHandleCheckRequired());
+        Assert.assertSame(preAuthEntries.get(2).getHandler(), postAuthHandler);
+
+        List<EventHandlerDispatchIndex.DispatchEntry> postAuthEntries =
+                index.getDispatchEntries("POST_AUTHENTICATION");
+        Assert.assertEquals(postAuthEntries.size(), 2);
+        Assert.assertSame(postAuthEntries.get(0).getHandler(), customHandler);
+        Assert.assertSame(postAuthEntries.get(1).getHandler(), postAuthHandler);
+
+        List<EventHandlerDispatchIndex.DispatchEntry> unknownEntries = index.getDispatchEntries("UNKNOWN_EVENT");
+        Assert.assertEquals(unknownEntries.size(), 1);
+        Assert.assertSame(unknownEntries.get(0).getHandler(), customHandler);
+    }
+
+    @Test
+    public void testIsCurrent() {
+
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        handlers.add(createHandler("PRE_AUTHENTICATION"));
+        EventHandlerDispatchIndex index = EventHandlerDispatchIndex.build(handlers);
+        Assert.assertTrue(index.isCurrent(handlers));
+
+        handlers.add(new CustomEventHandler());
+        EventHandlerDispatchIndex.invalidate();
+        Assert.assertFalse(index.isCurrent(handlers));
+
+        index = EventHandlerDispatchIndex.build(handlers);
+        Assert.assertTrue(index.isCurrent(handlers));
+        Assert.assertFalse(index.isCurrent(new ArrayList<>(handlers)));
+
+        handlers.get(0).init(new ModuleConfiguration());
+        Assert.assertFalse(index.isCurrent(handlers));
+    }
+
+    @Test
+    public void testIsCurrentAfterRegisterAndUnregister() {
+
+        List<AbstractEventHandler> handlers = new ArrayList<>();
+        handlers.add(createHandler("PRE_AUTHENTICATION"));
+        EventHandlerDispatchIndex index = EventHandlerDispatchIndex.build(handlers);
+
+        // The list keeps its size, but the handlers are different.
+        handlers.add(createHandler("POST_AUTHENTICATION"));
+        EventHandlerDispatchIndex.invalidate();
+        handlers.remove(0);
+        EventHandlerDispatchIndex.invalidate();
+
+        Assert.assertFalse(index.isCurrent(handlers));
+        index = EventHandlerDispatchIndex.build(handlers);
+        Assert.assertTrue(index.isCurrent(handlers));
+        Assert.assertEquals(index.getDispatchEntries("POST_AUTHENTICATION").size(), 1);
+        Assert.assertTrue(index.getDispatchEntries("PRE_AUTHENTICATION").isEmpty());
+    }
+
+    private SubscriptionBasedEventHandler createHandler(String... eventNames) {
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        for (String eventName : eventNames) {
+            subscriptions.add(new Subscription(eventName, new Properties()));
+        }
+        SubscriptionBasedEventHandler handler = new SubscriptionBasedEventHandler();
+        handler.init(new ModuleConfiguration(new Properties(), subscriptions));
+        return handler;
+    }
+
+    private static class SubscriptionBasedEventHandler extends AbstractEventHandler {
+
+        @Override
+        public void handleEvent(Event event) throws IdentityEventException {
+            //do nothing
+        }
+    }
+
+    private static class CustomEventHandler extends AbstractEventHandler {
+
+        @Override
+        public boolean canHandle(MessageContext messageContext) {
+
+            return true;
+        }
+
+        @Override
+        public void handleEvent(Event event) throws IdentityEventException {
+            //do nothing
+        }
+    }
+}
@@ -17,10 +17,12 @@
  */
 package org.wso2.carbon.idp.mgt.cache;
 
-import org.wso2.carbon.identity.core.cache.BaseCache;
 import org.wso2.carbon.utils.CarbonUtils;
 
-public class IdPCacheByAuthProperty extends BaseCache<IdPAuthPropertyCacheKey, IdPCacheEntry> {
+/**
+ * IDP resource ID index against a federated authenticator property of the IDP.
+ */
+public class IdPCacheByAuthProperty extends IdPCacheIndex<IdPAuthPropertyCacheKey> {
 
     private static final String CACHE_NAME = "IdPCacheByAuthProperty";
 
@@ -18,10 +18,12 @@
 
 package org.wso2.carbon.idp.mgt.cache;
 
-import org.wso2.carbon.identity.core.cache.BaseCache;
 import org.wso2.carbon.utils.CarbonUtils;
 
-public class IdPCacheByHRI extends BaseCache<IdPHomeRealmIdCacheKey, IdPCacheEntry> {
+/**
+ * IDP resource ID index against IDP home realm ID.
+ */
+public class IdPCacheByHRI extends IdPCacheIndex<IdPHomeRealmIdCacheKey> {
 
     private static final String CACHE_NAME = "IdPCacheByHRI";
 
@@ -18,10 +18,12 @@
 
 package org.wso2.carbon.idp.mgt.cache;
 
-import org.wso2.carbon.identity.core.cache.BaseCache;
 import org.wso2.carbon.utils.CarbonUtils;
 
-public class IdPCacheByName extends BaseCache<IdPNameCacheKey, IdPCacheEntry> {
+/**
+ * IDP resource ID index against IDP name.
+ */
+public class IdPCacheByName extends IdPCacheIndex<IdPNameCacheKey> {
 
     private static final String CACHE_NAME = "IdPCacheByName";
 
@@ -21,8 +21,12 @@ package org.wso2.carbon.idp.mgt.cache;
 import org.wso2.carbon.identity.core.cache.BaseCache;
 import org.wso2.carbon.utils.CarbonUtils;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * IDP Cache against IDP resource ID.
+ * This is the only cache holding the identity providers. The other keys of an identity provider are resolved to the
+ * resource ID through the {@link IdPCacheIndex} implementations.
  */
 public class IdPCacheByResourceId extends BaseCache<IdPResourceIdCacheKey, IdPCacheEntry> {
 
@@ -30,6 +34,9 @@ public class IdPCacheByResourceId extends BaseCache<IdPResourceIdCacheKey, IdPCa
 
     private static final IdPCacheByResourceId instance = new IdPCacheByResourceId();
 
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
     private IdPCacheByResourceId() {
         super(CACHE_NAME);
     }
@@ -38,4 +45,40 @@ public class IdPCacheByResourceId extends BaseCache<IdPResourceIdCacheKey, IdPCa
         CarbonUtils.checkSecurity();
         return instance;
     }
+
+    /**
+     * Record a lookup of the cache.
+     *
+     * @param hit Whether the identity provider was found in the cache.
+     */
+    public void recordLookup(boolean hit) {
+
+        if (hit) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+    }
+
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    /**
+     * Get the ratio of the lookups which found the identity provider in the cache.
+     *
+     * @return Hit ratio, or 0 if the cache has not been looked up yet.
+     */
+    public double getHitRatio() {
+
+        long hits = hitCount.get();
+        long lookups = hits + missCount.get();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.idp.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Secondary key index of the identity provider cache.
+ * An index maps a secondary key of an identity provider, such as the name or the home realm ID, to the resource ID
+ * of the identity provider. The identity provider itself is only kept in {@link IdPCacheByResourceId}.
+ *
+ * @param <K> Secondary key type.
+ */
+public abstract class IdPCacheIndex<K extends CacheKey> extends BaseCache<K, String> {
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    protected IdPCacheIndex(String cacheName) {
+
+        super(cacheName);
+    }
+
+    /**
+     * Record a lookup of the index.
+     *
+     * @param hit Whether the identity provider was resolved through the index.
+     */
+    public void recordLookup(boolean hit) {
+
+        if (hit) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+    }
+
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    /**
+     * Get the ratio of the lookups which resolved the identity provider through the index.
+     *
+     * @return Hit ratio, or 0 if the index has not been looked up yet.
+     */
+    public double getHitRatio() {
+
+        long hits = hitCount.get();
+        long lookups = hits + missCount.get();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
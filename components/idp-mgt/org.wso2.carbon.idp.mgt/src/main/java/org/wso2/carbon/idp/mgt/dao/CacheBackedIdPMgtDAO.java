@@ -27,7 +27,9 @@ import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorC
 import org.wso2.carbon.identity.application.common.model.IdPGroup;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
+import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
+import org.wso2.carbon.identity.core.cache.CacheKey;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
@@ -42,6 +44,7 @@ import org.wso2.carbon.idp.mgt.cache.IdPCacheByMetadataProperty;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByName;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheByResourceId;
 import org.wso2.carbon.idp.mgt.cache.IdPCacheEntry;
+import org.wso2.carbon.idp.mgt.cache.IdPCacheIndex;
 import org.wso2.carbon.idp.mgt.cache.IdPHomeRealmIdCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPMetadataPropertyCacheKey;
 import org.wso2.carbon.idp.mgt.cache.IdPNameCacheKey;
@@ -64,6 +67,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.Predicate;
 
 public class CacheBackedIdPMgtDAO {
 
@@ -231,13 +235,13 @@ public class CacheBackedIdPMgtDAO {
             IdentityProviderManagementException {
 
         IdPNameCacheKey cacheKey = new IdPNameCacheKey(idPName);
-        IdPCacheEntry entry = idPCacheByName.getValueFromCache(cacheKey, tenantDomain);
+        IdentityProvider cachedIdentityProvider = getIdPFromIndex(idPCacheByName, cacheKey, tenantDomain,
+                idp -> StringUtils.equalsIgnoreCase(idPName, idp.getIdentityProviderName()));
 
-        if (entry != null) {
+        if (cachedIdentityProvider != null) {
             log.debug("Cache entry found for Identity Provider " + idPName);
-            IdentityProvider identityProvider = entry.getIdentityProvider();
-            IdPManagementUtil.removeRandomPasswords(identityProvider, false);
-            return identityProvider;
+            IdPManagementUtil.removeRandomPasswords(cachedIdentityProvider, false);
+            return cachedIdentityProvider;
         } else {
             log.debug("Cache entry not found for Identity Provider " + idPName
                     + ". Fetching entry from DB");
@@ -260,12 +264,9 @@ public class CacheBackedIdPMgtDAO {
             }
 
             log.debug("Entry fetched from DB for Identity Provider " + idPName + ". Updating cache");
-            idPCacheByName.addToCacheOnRead(cacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey homeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.addToCacheOnRead(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            }
+            addIdPToCacheOnRead(identityProvider, tenantDomain);
+            addRequestedKeyToIndexOnRead(idPCacheByName, cacheKey, idPName,
+                    identityProvider.getIdentityProviderName(), identityProvider, tenantDomain);
         } else {
             log.debug("Entry for Identity Provider " + idPName + " not found in cache or DB");
         }
@@ -292,13 +293,7 @@ public class CacheBackedIdPMgtDAO {
                 log.debug("Entry fetched from DB for Identity Provider " + identityProvider.getIdentityProviderName()
                         + ". Updating cache");
             }
-            IdPNameCacheKey cacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName());
-            idPCacheByName.addToCacheOnRead(cacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey homeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.addToCacheOnRead(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            }
+            addIdPToCacheOnRead(identityProvider, tenantDomain);
         } else {
             if (log.isDebugEnabled()) {
                 log.debug(String.format("No IDP found with ID: %d either in cache or DB", id));
@@ -318,15 +313,12 @@ public class CacheBackedIdPMgtDAO {
     public IdentityProvider getIdPByResourceId(String resourceId, int tenantId, String tenantDomain) throws
             IdentityProviderManagementException {
 
-        IdentityProvider identityProvider;
-        IdPResourceIdCacheKey cacheKey = new IdPResourceIdCacheKey(resourceId);
-        IdPCacheEntry entry = idPCacheByResourceId.getValueFromCache(cacheKey, tenantDomain);
+        IdentityProvider identityProvider = getIdPFromCache(resourceId, tenantDomain);
 
-        if (entry != null) {
+        if (identityProvider != null) {
             if (log.isDebugEnabled()) {
                 log.debug("Cache entry found for Identity Provider with resource ID:" + resourceId);
             }
-            identityProvider = entry.getIdentityProvider();
             IdPManagementUtil.removeRandomPasswords(identityProvider, false);
             return identityProvider;
         } else {
@@ -427,13 +419,13 @@ public class CacheBackedIdPMgtDAO {
             throws IdentityProviderManagementException {
 
         IdPAuthPropertyCacheKey cacheKey = new IdPAuthPropertyCacheKey(property, value);
-        IdPCacheEntry entry = idPCacheByAuthProperty.getValueFromCache(cacheKey, tenantDomain);
+        IdentityProvider cachedIdentityProvider = getIdPFromIndex(idPCacheByAuthProperty, cacheKey, tenantDomain,
+                idp -> hasAuthenticatorProperty(idp, property, value));
 
-        if (entry != null) {
+        if (cachedIdentityProvider != null) {
             log.debug("Cache entry found for Identity Provider with authenticator property " + property
                     + " and with value " + value);
-            IdentityProvider identityProvider = entry.getIdentityProvider();
-            return identityProvider;
+            return cachedIdentityProvider;
         } else {
             log.debug("Cache entry not found for Identity Provider with authenticator property " + property
                     + " and with value " + value + ". Fetching entry from DB");
@@ -445,14 +437,9 @@ public class CacheBackedIdPMgtDAO {
         if (identityProvider != null) {
             log.debug("Entry fetched from DB for Identity Provider with authenticator property " + property
                     + " and with value " + value + ". Updating cache");
-
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName()
-            );
-            idPCacheByName.addToCacheOnRead(idPNameCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey homeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.addToCacheOnRead(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            addIdPToCacheOnRead(identityProvider, tenantDomain);
+            if (StringUtils.isNotBlank(identityProvider.getResourceId())) {
+                idPCacheByAuthProperty.addToCacheOnRead(cacheKey, identityProvider.getResourceId(), tenantDomain);
             }
         } else {
             log.debug("Entry for Identity Provider with authenticator property " + property + " and with value "
@@ -477,13 +464,13 @@ public class CacheBackedIdPMgtDAO {
             throws IdentityProviderManagementException {
 
         IdPAuthPropertyCacheKey cacheKey = new IdPAuthPropertyCacheKey(property, value);
-        IdPCacheEntry entry = idPCacheByAuthProperty.getValueFromCache(cacheKey, tenantDomain);
+        IdentityProvider cachedIdentityProvider = getIdPFromIndex(idPCacheByAuthProperty, cacheKey, tenantDomain,
+                idp -> hasAuthenticatorProperty(idp, property, value));
 
-        if (entry != null) {
+        if (cachedIdentityProvider != null) {
             log.debug("Cache entry found for Identity Provider with authenticator property " + property
                     + " and with value " + value);
-            IdentityProvider identityProvider = entry.getIdentityProvider();
-            return identityProvider;
+            return cachedIdentityProvider;
         } else {
             log.debug("Cache entry not found for Identity Provider with authenticator property " + property
                     + " and with value " + value + ". Fetching entry from DB");
@@ -495,13 +482,9 @@ public class CacheBackedIdPMgtDAO {
         if (identityProvider != null) {
             log.debug("Entry fetched from DB for Identity Provider with authenticator property " + property
                     + " and with value " + value + ". Updating cache");
-
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName());
-            idPCacheByName.addToCacheOnRead(idPNameCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey homeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.addToCacheOnRead(homeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            addIdPToCacheOnRead(identityProvider, tenantDomain);
+            if (StringUtils.isNotBlank(identityProvider.getResourceId())) {
+                idPCacheByAuthProperty.addToCacheOnRead(cacheKey, identityProvider.getResourceId(), tenantDomain);
             }
         } else {
             log.debug("Entry for Identity Provider with authenticator property " + property + " and with value "
@@ -522,10 +505,11 @@ public class CacheBackedIdPMgtDAO {
                                             String tenantDomain) throws IdentityProviderManagementException {
 
         IdPHomeRealmIdCacheKey cacheKey = new IdPHomeRealmIdCacheKey(realmId);
-        IdPCacheEntry entry = idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain);
-        if (entry != null) {
+        IdentityProvider cachedIdentityProvider = getIdPFromIndex(idPCacheByHRI, cacheKey, tenantDomain,
+                idp -> StringUtils.equalsIgnoreCase(realmId, idp.getHomeRealmId()));
+        if (cachedIdentityProvider != null) {
             log.debug("Cache entry found for Identity Provider with Home Realm ID " + realmId);
-            return entry.getIdentityProvider();
+            return cachedIdentityProvider;
         } else {
             log.debug("Cache entry not found for Identity Provider with Home Realm ID " + realmId
                     + ". Fetching entry from DB");
@@ -536,9 +520,9 @@ public class CacheBackedIdPMgtDAO {
         if (identityProvider != null) {
             log.debug("Entry fetched from DB for Identity Provider with Home Realm ID " + realmId
                     + ". Updating cache");
-            idPCacheByHRI.addToCacheOnRead(cacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName());
-            idPCacheByName.addToCacheOnRead(idPNameCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            addIdPToCacheOnRead(identityProvider, tenantDomain);
+            addRequestedKeyToIndexOnRead(idPCacheByHRI, cacheKey, realmId, identityProvider.getHomeRealmId(),
+                    identityProvider, tenantDomain);
         } else {
             log.debug("Entry for Identity Provider with Home Realm ID " + realmId
                     + " not found in cache or DB");
@@ -560,14 +544,15 @@ public class CacheBackedIdPMgtDAO {
                                             String tenantDomain) throws IdentityProviderManagementException {
 
         IdPHomeRealmIdCacheKey cacheKey = new IdPHomeRealmIdCacheKey(realmId);
-        IdPCacheEntry entry = idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain);
-        if (entry != null) {
+        IdentityProvider cachedIdentityProvider = getIdPFromIndex(idPCacheByHRI, cacheKey, tenantDomain,
+                idp -> StringUtils.equalsIgnoreCase(realmId, idp.getHomeRealmId()));
+        if (cachedIdentityProvider != null) {
             if (log.isDebugEnabled()) {
                 log.debug("Cache entry found for Identity Provider with Home Realm ID " + realmId);
             }
             // Check whether the idp in the cache is enabled.
-            if (entry.getIdentityProvider().isEnable()) {
-                return entry.getIdentityProvider();
+            if (cachedIdentityProvider.isEnable()) {
+                return cachedIdentityProvider;
             }
             if (log.isDebugEnabled()) {
                 log.debug("Identity Provider with Home Realm ID " + realmId + " available in the cache is disabled. " +
@@ -587,9 +572,9 @@ public class CacheBackedIdPMgtDAO {
                 log.debug("Entry fetched from DB for Identity Provider with Home Realm ID " + realmId
                         + ". Updating cache.");
             }
-            idPCacheByHRI.addToCacheOnRead(cacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName());
-            idPCacheByName.addToCacheOnRead(idPNameCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            addIdPToCacheOnRead(identityProvider, tenantDomain);
+            addRequestedKeyToIndexOnRead(idPCacheByHRI, cacheKey, realmId, identityProvider.getHomeRealmId(),
+                    identityProvider, tenantDomain);
         } else {
             if (log.isDebugEnabled()) {
                 log.debug("Entry for Identity Provider with Home Realm ID " + realmId
@@ -787,23 +772,132 @@ public class CacheBackedIdPMgtDAO {
      */
     public void addIdPCache(IdentityProvider identityProvider, String tenantDomain) {
 
-        if (identityProvider != null) {
+        if (identityProvider != null && StringUtils.isNotBlank(identityProvider.getResourceId())) {
             if (log.isDebugEnabled()) {
                 log.debug("Adding new entry for Identity Provider: '" + identityProvider.getIdentityProviderName() +
                         "' to cache.");
             }
+            String resourceId = identityProvider.getResourceId();
+            IdPResourceIdCacheKey idPResourceIdCacheKey = new IdPResourceIdCacheKey(resourceId);
+            idPCacheByResourceId.addToCache(idPResourceIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
             IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProvider.getIdentityProviderName());
-            idPCacheByName.addToCache(idPNameCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+            idPCacheByName.addToCache(idPNameCacheKey, resourceId, tenantDomain);
             if (identityProvider.getHomeRealmId() != null) {
                 IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
                         identityProvider.getHomeRealmId());
-                idPCacheByHRI.addToCache(idPHomeRealmIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
+                idPCacheByHRI.addToCache(idPHomeRealmIdCacheKey, resourceId, tenantDomain);
             }
-            IdPResourceIdCacheKey idPResourceIdCacheKey = new IdPResourceIdCacheKey(identityProvider.getResourceId());
-            idPCacheByResourceId.addToCache(idPResourceIdCacheKey, new IdPCacheEntry(identityProvider), tenantDomain);
         }
     }
 
+    /**
+     * Add the given identity provider to the cache on read, along with its name and home realm ID indexes.
+     *
+     * @param identityProvider Identity Provider information.
+     * @param tenantDomain     Tenant domain of IDP.
+     */
+    private void addIdPToCacheOnRead(IdentityProvider identityProvider, String tenantDomain) {
+
+        String resourceId = identityProvider.getResourceId();
+        if (StringUtils.isBlank(resourceId)) {
+            return;
+        }
+        idPCacheByResourceId.addToCacheOnRead(new IdPResourceIdCacheKey(resourceId),
+                new IdPCacheEntry(identityProvider), tenantDomain);
+        idPCacheByName.addToCacheOnRead(new IdPNameCacheKey(identityProvider.getIdentityProviderName()), resourceId,
+                tenantDomain);
+        if (identityProvider.getHomeRealmId() != null) {
+            idPCacheByHRI.addToCacheOnRead(new IdPHomeRealmIdCacheKey(identityProvider.getHomeRealmId()),
+                    resourceId, tenantDomain);
+        }
+    }
+
+    /**
+     * Index the identity provider under the requested key when it differs from the stored value. The DB may match
+     * names and home realm IDs case-insensitively, and without this entry such a lookup would always miss the cache.
+     *
+     * @param index            Secondary key index.
+     * @param requestedKey     Cache key of the requested value.
+     * @param requestedValue   Requested name or home realm ID.
+     * @param storedValue      Name or home realm ID of the identity provider.
+     * @param identityProvider Identity provider fetched from the DB.
+     * @param tenantDomain     Tenant domain of the identity provider.
+     * @param <K>              Secondary key type.
+     */
+    private <K extends CacheKey> void addRequestedKeyToIndexOnRead(IdPCacheIndex<K> index, K requestedKey,
+                                                                   String requestedValue, String storedValue,
+                                                                   IdentityProvider identityProvider,
+                                                                   String tenantDomain) {
+
+        if (StringUtils.isBlank(identityProvider.getResourceId()) || StringUtils.equals(requestedValue, storedValue)
+                || !StringUtils.equalsIgnoreCase(requestedValue, storedValue)) {
+            return;
+        }
+        index.addToCacheOnRead(requestedKey, identityProvider.getResourceId(), tenantDomain);
+    }
+
+    /**
+     * Get the identity provider with the given resource ID from the cache.
+     *
+     * @param resourceId   Resource ID of the identity provider.
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @return Cached identity provider, or null if it is not cached.
+     */
+    private IdentityProvider getIdPFromCache(String resourceId, String tenantDomain) {
+
+        if (StringUtils.isBlank(resourceId)) {
+            return null;
+        }
+        IdPCacheEntry entry = idPCacheByResourceId.getValueFromCache(new IdPResourceIdCacheKey(resourceId),
+                tenantDomain);
+        idPCacheByResourceId.recordLookup(entry != null);
+        return entry == null ? null : entry.getIdentityProvider();
+    }
+
+    /**
+     * Get the identity provider of the given secondary key from the cache. The identity provider is only returned if
+     * it still matches the key, hence an index entry left behind by an updated identity provider is discarded.
+     *
+     * @param index        Secondary key index.
+     * @param key          Secondary key.
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @param matcher      Checks whether the cached identity provider matches the key.
+     * @param <K>          Secondary key type.
+     * @return Cached identity provider, or null if it is not cached.
+     */
+    private <K extends CacheKey> IdentityProvider getIdPFromIndex(IdPCacheIndex<K> index, K key, String tenantDomain,
+                                                                  Predicate<IdentityProvider> matcher) {
+
+        String resourceId = index.getValueFromCache(key, tenantDomain);
+        IdentityProvider identityProvider = resourceId == null ? null : getIdPFromCache(resourceId, tenantDomain);
+        if (identityProvider != null && !matcher.test(identityProvider)) {
+            index.clearCacheEntry(key, tenantDomain);
+            identityProvider = null;
+        }
+        index.recordLookup(identityProvider != null);
+        return identityProvider;
+    }
+
+    private static boolean hasAuthenticatorProperty(IdentityProvider identityProvider, String property, String value) {
+
+        FederatedAuthenticatorConfig[] authenticatorConfigs = identityProvider.getFederatedAuthenticatorConfigs();
+        if (authenticatorConfigs == null) {
+            return false;
+        }
+        for (FederatedAuthenticatorConfig authenticatorConfig : authenticatorConfigs) {
+            if (authenticatorConfig == null || authenticatorConfig.getProperties() == null) {
+                continue;
+            }
+            for (Property authenticatorProperty : authenticatorConfig.getProperties()) {
+                if (authenticatorProperty != null && StringUtils.equals(property, authenticatorProperty.getName())
+                        && StringUtils.equals(value, authenticatorProperty.getValue())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
 
     public void clearIdpCache(String idPName, int tenantId, String tenantDomain)
             throws IdentityProviderManagementException {
@@ -848,12 +942,8 @@ public class CacheBackedIdPMgtDAO {
     private Optional<IdentityProvider> getCachedIdpByName(String idPName, String tenantDomain) {
 
         IdPNameCacheKey cacheKey = new IdPNameCacheKey(idPName);
-        IdPCacheEntry entry = idPCacheByName.getValueFromCache(cacheKey, tenantDomain);
-
-        if (entry != null) {
-            return Optional.of(entry.getIdentityProvider());
-        }
-        return Optional.empty();
+        return Optional.ofNullable(getIdPFromIndex(idPCacheByName, cacheKey, tenantDomain,
+                idp -> StringUtils.equalsIgnoreCase(idPName, idp.getIdentityProviderName())));
     }
 
     /**
@@ -906,8 +996,22 @@ public class CacheBackedIdPMgtDAO {
     private void clearIdPCacheEntries(IdentityProvider identityProvider, String idPName, String resourceId,
                                       String tenantDomain, int tenantId) {
 
+        if (StringUtils.isBlank(resourceId)) {
+            resourceId = identityProvider.getResourceId();
+        }
+        if (StringUtils.isNotBlank(resourceId)) {
+            IdPResourceIdCacheKey idPResourceIdCacheKey = new IdPResourceIdCacheKey(resourceId);
+            idPCacheByResourceId.clearCacheEntry(idPResourceIdCacheKey, tenantDomain);
+        }
+
+        // The indexes are validated against the identity provider on read. Clear the known keys to free the entries.
         IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(idPName);
         idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
+        if (StringUtils.isNotBlank(identityProvider.getIdentityProviderName())
+                && !StringUtils.equals(idPName, identityProvider.getIdentityProviderName())) {
+            idPCacheByName.clearCacheEntry(new IdPNameCacheKey(identityProvider.getIdentityProviderName()),
+                    tenantDomain);
+        }
 
         if (identityProvider.getHomeRealmId() != null) {
             IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
@@ -915,11 +1019,6 @@ public class CacheBackedIdPMgtDAO {
             idPCacheByHRI.clearCacheEntry(idPHomeRealmIdCacheKey, tenantDomain);
         }
 
-        if (StringUtils.isNotBlank(resourceId)) {
-            IdPResourceIdCacheKey idPResourceIdCacheKey = new IdPResourceIdCacheKey(resourceId);
-            idPCacheByResourceId.clearCacheEntry(idPResourceIdCacheKey, tenantDomain);
-        }
-
         String idPIssuerName = getIDPIssuerName(identityProvider);
         if (StringUtils.isNotBlank(idPIssuerName)) {
             IdPMetadataPropertyCacheKey cacheKey = new IdPMetadataPropertyCacheKey(
@@ -965,12 +1064,9 @@ public class CacheBackedIdPMgtDAO {
                 }
                 continue;
             }
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProviderName);
-            idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.clearCacheEntry(idPHomeRealmIdCacheKey, tenantDomain);
+            if (StringUtils.isNotBlank(identityProvider.getResourceId())) {
+                idPCacheByResourceId.clearCacheEntry(new IdPResourceIdCacheKey(identityProvider.getResourceId()),
+                        tenantDomain);
             }
         }
 
@@ -1002,13 +1098,9 @@ public class CacheBackedIdPMgtDAO {
                 }
                 continue;
             }
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(
-                    identityProvider.getIdentityProviderName());
-            idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.clearCacheEntry(idPHomeRealmIdCacheKey, tenantDomain);
+            if (StringUtils.isNotBlank(identityProvider.getResourceId())) {
+                idPCacheByResourceId.clearCacheEntry(new IdPResourceIdCacheKey(identityProvider.getResourceId()),
+                        tenantDomain);
             }
         }
 
@@ -1038,12 +1130,9 @@ public class CacheBackedIdPMgtDAO {
                 }
                 continue;
             }
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProviderName);
-            idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.clearCacheEntry(idPHomeRealmIdCacheKey, tenantDomain);
+            if (StringUtils.isNotBlank(identityProvider.getResourceId())) {
+                idPCacheByResourceId.clearCacheEntry(new IdPResourceIdCacheKey(identityProvider.getResourceId()),
+                        tenantDomain);
             }
         }
 
@@ -1074,12 +1163,9 @@ public class CacheBackedIdPMgtDAO {
                 }
                 continue;
             }
-            IdPNameCacheKey idPNameCacheKey = new IdPNameCacheKey(identityProviderName);
-            idPCacheByName.clearCacheEntry(idPNameCacheKey, tenantDomain);
-            if (identityProvider.getHomeRealmId() != null) {
-                IdPHomeRealmIdCacheKey idPHomeRealmIdCacheKey = new IdPHomeRealmIdCacheKey(
-                        identityProvider.getHomeRealmId());
-                idPCacheByHRI.clearCacheEntry(idPHomeRealmIdCacheKey, tenantDomain);
+            if (StringUtils.isNotBlank(identityProvider.getResourceId())) {
+                idPCacheByResourceId.clearCacheEntry(new IdPResourceIdCacheKey(identityProvider.getResourceId()),
+                        tenantDomain);
             }
         }
 
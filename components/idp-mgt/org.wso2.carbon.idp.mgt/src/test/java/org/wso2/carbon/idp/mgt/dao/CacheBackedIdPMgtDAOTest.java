@@ -488,6 +488,60 @@ public class CacheBackedIdPMgtDAOTest {
         }
     }
 
+    @Test
+    public void testGetIdPByNameWithStaleIndexEntry() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSourceMap.get(DB_NAME));
+            addTestIdps();
+
+            IdentityProvider idp1 = cacheBackedIdPMgtDAO.getIdPByName(connection, "testIdP1", SUPER_TENANT_ID,
+                    SUPER_TENANT_DOMAIN);
+            IdentityProvider idp2 = cacheBackedIdPMgtDAO.getIdPByName(connection, "testIdP2", SUPER_TENANT_ID,
+                    SUPER_TENANT_DOMAIN);
+            long hitCount = IdPCacheByName.getInstance().getHitCount();
+
+            // Resolving the IDP again should go through the name index.
+            IdentityProvider idpResult = cacheBackedIdPMgtDAO.getIdPByName(connection, "testIdP1", SUPER_TENANT_ID,
+                    SUPER_TENANT_DOMAIN);
+            assertEquals(idpResult.getResourceId(), idp1.getResourceId());
+            assertEquals(IdPCacheByName.getInstance().getHitCount(), hitCount + 1);
+
+            // An index entry pointing to another IDP should be discarded.
+            IdPCacheByName.getInstance().addToCache(new IdPNameCacheKey("testIdP1"), idp2.getResourceId(),
+                    SUPER_TENANT_DOMAIN);
+            idpResult = cacheBackedIdPMgtDAO.getIdPByName(connection, "testIdP1", SUPER_TENANT_ID,
+                    SUPER_TENANT_DOMAIN);
+            assertEquals(idpResult.getIdentityProviderName(), "testIdP1");
+            assertEquals(idpResult.getResourceId(), idp1.getResourceId());
+        }
+    }
+
+    @Test
+    public void testGetIdPByNameWithDifferentCase() throws Exception {
+
+        try (MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+             Connection connection = getConnection(DB_NAME)) {
+            identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            identityDatabaseUtil.when(IdentityDatabaseUtil::getDataSource).thenReturn(dataSourceMap.get(DB_NAME));
+            addTestIdps();
+
+            IdentityProvider idp1 = cacheBackedIdPMgtDAO.getIdPByName(connection, "testIdP1", SUPER_TENANT_ID,
+                    SUPER_TENANT_DOMAIN);
+
+            // An index entry of a name that differs only in case should resolve the IDP from the cache.
+            IdPCacheByName.getInstance().addToCache(new IdPNameCacheKey("TESTIDP1"), idp1.getResourceId(),
+                    SUPER_TENANT_DOMAIN);
+            long hitCount = IdPCacheByName.getInstance().getHitCount();
+            IdentityProvider idpResult = cacheBackedIdPMgtDAO.getIdPByName(connection, "TESTIDP1", SUPER_TENANT_ID,
+                    SUPER_TENANT_DOMAIN);
+            assertEquals(idpResult.getResourceId(), idp1.getResourceId());
+            assertEquals(IdPCacheByName.getInstance().getHitCount(), hitCount + 1);
+        }
+    }
+
     @DataProvider
     public Object[][] getIdPByIdData() {
 
@@ -1105,10 +1159,7 @@ public class CacheBackedIdPMgtDAOTest {
             IdentityProvider idpFromCache = null;
             if (isExist) {
                 // Retrieving IDP from cache using realmID as cache key.
-                IdPCacheByHRI idPCacheByHRI = IdPCacheByHRI.getInstance();
-                IdPHomeRealmIdCacheKey cacheKey = new IdPHomeRealmIdCacheKey(realmId);
-                IdPCacheEntry entry = idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain);
-                idpFromCache = entry.getIdentityProvider();
+                idpFromCache = idpFromCacheByRealmId(realmId, tenantDomain);
             }
             if (isExist) {
                 assertEquals(idpFromCache.getIdentityProviderName(), idpName,
@@ -1146,10 +1197,7 @@ public class CacheBackedIdPMgtDAOTest {
             IdentityProvider idpFromCache = null;
             if (isExist && isEnabled) {
                 // Retrieving IDP from cache using realmID as cache key.
-                IdPCacheByHRI idPCacheByHRI = IdPCacheByHRI.getInstance();
-                IdPHomeRealmIdCacheKey cacheKey = new IdPHomeRealmIdCacheKey(realmId);
-                IdPCacheEntry entry = idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain);
-                idpFromCache = entry.getIdentityProvider();
+                idpFromCache = idpFromCacheByRealmId(realmId, tenantDomain);
             }
             if (isExist && isEnabled) {
                 assertEquals(idpFromCache.getIdentityProviderName(), idpName,
@@ -2204,19 +2252,28 @@ public class CacheBackedIdPMgtDAOTest {
 
         IdPCacheByName idPCacheByName = IdPCacheByName.getInstance();
         IdPNameCacheKey cacheKey = new IdPNameCacheKey(idpName);
-        IdPCacheEntry entry = idPCacheByName.getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN);
-        if (entry != null) {
-            return entry.getIdentityProvider();
-        } else {
-            return null;
-        }
+        String resourceId = idPCacheByName.getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN);
+        return resourceId == null ? null : idpFromCacheByResourceId(resourceId, SUPER_TENANT_DOMAIN);
+    }
+
+    private IdentityProvider idpFromCacheByRealmId(String realmId, String tenantDomain) {
+
+        IdPCacheByHRI idPCacheByHRI = IdPCacheByHRI.getInstance();
+        IdPHomeRealmIdCacheKey cacheKey = new IdPHomeRealmIdCacheKey(realmId);
+        String resourceId = idPCacheByHRI.getValueFromCache(cacheKey, tenantDomain);
+        return resourceId == null ? null : idpFromCacheByResourceId(resourceId, tenantDomain);
     }
 
     private IdentityProvider idpFromCacheByResourceId(String resourceId) {
 
+        return idpFromCacheByResourceId(resourceId, SUPER_TENANT_DOMAIN);
+    }
+
+    private IdentityProvider idpFromCacheByResourceId(String resourceId, String tenantDomain) {
+
         IdPCacheByResourceId idPCacheByResourceId = IdPCacheByResourceId.getInstance();
         IdPResourceIdCacheKey cacheKey = new IdPResourceIdCacheKey(resourceId);
-        IdPCacheEntry entry = idPCacheByResourceId.getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN);
+        IdPCacheEntry entry = idPCacheByResourceId.getValueFromCache(cacheKey, tenantDomain);
         if (entry != null) {
             return entry.getIdentityProvider();
         } else {
@@ -52,6 +52,10 @@ public class IdentityProvisioningConstants {
     public static final String FAIL_ON_BLOCKING_OUTBOUND_PROVISION_FAILURE = "OutboundProvisioning.FailOnBlockingOutboundProvisionFailure";
     public static final String ENABLE_SCIM_PATCH_FOR_UPDATES = "OutboundProvisioning.EnableSCIMPatchForUpdates";
     public static final String ENABLE_SCIM_COMPLIANT_EMAIL_ATTRIBUTE = "OutboundProvisioning.EnableSCIMCompliantEmailAttribute";
+    public static final String CONNECTOR_EXECUTOR_POOL_SIZE = "OutboundProvisioning.ConnectorExecutor.PoolSize";
+    public static final String CONNECTOR_EXECUTOR_QUEUE_SIZE = "OutboundProvisioning.ConnectorExecutor.QueueSize";
+    public static final int DEFAULT_CONNECTOR_EXECUTOR_POOL_SIZE = 10;
+    public static final int DEFAULT_CONNECTOR_EXECUTOR_QUEUE_SIZE = 1000;
 
     public static class SQLQueries {
 
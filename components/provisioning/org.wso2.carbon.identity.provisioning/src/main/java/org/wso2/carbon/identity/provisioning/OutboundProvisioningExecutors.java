@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.ThreadLocalAwareThreadPoolExecutor;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.CONNECTOR_EXECUTOR_POOL_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.CONNECTOR_EXECUTOR_QUEUE_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_CONNECTOR_EXECUTOR_POOL_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_CONNECTOR_EXECUTOR_QUEUE_SIZE;
+
+/**
+ * Long-lived executors for the non-blocking outbound provisioning operations.
+ * <p>
+ * An executor is created per identity provider of a tenant, hence a slow or an unavailable identity provider only
+ * delays the provisioning operations sent to it. Each executor runs a bounded number of operations concurrently and
+ * queues the rest. The threads of an idle executor time out, so an identity provider which is rarely provisioned to
+ * does not hold any thread. When the queue of an identity provider is full, the submitting thread waits for a short
+ * period for space in the queue, and runs the operation itself if there is still no space, so that no provisioning
+ * operation is lost.
+ */
+public class OutboundProvisioningExecutors {
+
+    private static final Log LOG = LogFactory.getLog(OutboundProvisioningExecutors.class);
+    private static final OutboundProvisioningExecutors instance = new OutboundProvisioningExecutors();
+    private static final long KEEP_ALIVE_TIME_SECONDS = 60L;
+    private static final long QUEUE_OFFER_TIMEOUT_MILLIS = 500L;
+
+    private final ConcurrentMap<String, IdPExecutor> executors = new ConcurrentHashMap<>();
+    private final int poolSize;
+    private final int queueSize;
+
+    private OutboundProvisioningExecutors() {
+
+        this.poolSize = getConfiguredValue(CONNECTOR_EXECUTOR_POOL_SIZE, DEFAULT_CONNECTOR_EXECUTOR_POOL_SIZE);
+        this.queueSize = getConfiguredValue(CONNECTOR_EXECUTOR_QUEUE_SIZE, DEFAULT_CONNECTOR_EXECUTOR_QUEUE_SIZE);
+    }
+
+    public static OutboundProvisioningExecutors getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Submit a provisioning operation to the executor of the given identity provider.
+     *
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @param idPName      Name of the identity provider.
+     * @param task         Provisioning operation.
+     */
+    public void submit(String tenantDomain, String idPName, Callable<Boolean> task) {
+
+        IdPExecutor executor = getIdPExecutor(tenantDomain, idPName);
+        executor.submittedTasks.incrementAndGet();
+        executor.threadPoolExecutor.submit(task);
+    }
+
+    /**
+     * Get a view of the executor of the given identity provider. The executor is shared by all the provisioning
+     * operations of the identity provider, hence shutting down the view only stops it from accepting tasks and does
+     * not shut down the shared executor.
+     *
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @param idPName      Name of the identity provider.
+     * @return Executor view of the identity provider.
+     */
+    public ExecutorService getExecutor(String tenantDomain, String idPName) {
+
+        return new SharedExecutorView(getIdPExecutor(tenantDomain, idPName).threadPoolExecutor);
+    }
+
+    /**
+     * Get the number of provisioning operations submitted to the executor of the given identity provider.
+     *
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @param idPName      Name of the identity provider.
+     * @return Number of submitted operations.
+     */
+    public long getSubmittedTaskCount(String tenantDomain, String idPName) {
+
+        IdPExecutor executor = executors.get(getKey(tenantDomain, idPName));
+        return executor == null ? 0 : executor.submittedTasks.get();
+    }
+
+    /**
+     * Get the number of provisioning operations completed by the executor of the given identity provider.
+     *
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @param idPName      Name of the identity provider.
+     * @return Number of completed operations.
+     */
+    public long getCompletedTaskCount(String tenantDomain, String idPName) {
+
+        IdPExecutor executor = executors.get(getKey(tenantDomain, idPName));
+        return executor == null ? 0 : executor.threadPoolExecutor.getCompletedTaskCount();
+    }
+
+    /**
+     * Get the number of provisioning operations waiting in the queue of the given identity provider.
+     *
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @param idPName      Name of the identity provider.
+     * @return Number of queued operations.
+     */
+    public int getQueuedTaskCount(String tenantDomain, String idPName) {
+
+        IdPExecutor executor = executors.get(getKey(tenantDomain, idPName));
+        return executor == null ? 0 : executor.threadPoolExecutor.getQueue().size();
+    }
+
+    /**
+     * Get the number of provisioning operations of the given identity provider which were rejected by its executor
+     * as the queue was full or the executor was shut down. A rejected operation is still run, either after waiting
+     * for space in the queue or in the submitting thread.
+     *
+     * @param tenantDomain Tenant domain of the identity provider.
+     * @param idPName      Name of the identity provider.
+     * @return Number of rejected operations.
+     */
+    public long getRejectedTaskCount(String tenantDomain, String idPName) {
+
+        IdPExecutor executor = executors.get(getKey(tenantDomain, idPName));
+        return executor == null ? 0 : executor.rejectedTasks.get();
+    }
+
+    /**
+     * Shut down all the executors. The queued provisioning operations are still executed.
+     */
+    public void shutdown() {
+
+        for (IdPExecutor executor : executors.values()) {
+            executor.threadPoolExecutor.shutdown();
+        }
+        executors.clear();
+    }
+
+    private IdPExecutor getIdPExecutor(String tenantDomain, String idPName) {
+
+        return executors.computeIfAbsent(getKey(tenantDomain, idPName), IdPExecutor::new);
+    }
+
+    private static String getKey(String tenantDomain, String idPName) {
+
+        return tenantDomain + ":" + idPName;
+    }
+
+    private static int getConfiguredValue(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int configuredValue = Integer.parseInt(value.trim());
+            if (configuredValue > 0) {
+                return configuredValue;
+            }
+            LOG.warn("Invalid value: " + value + " configured for: " + property + ". Defaulting to " +
+                    defaultValue);
+        } catch (NumberFormatException e) {
+            LOG.warn("Error while parsing the value configured for: " + property + ". Defaulting to " +
+                    defaultValue, e);
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Executor of an identity provider along with its metrics.
+     */
+    private class IdPExecutor {
+
+        private final ThreadPoolExecutor threadPoolExecutor;
+        private final AtomicLong submittedTasks = new AtomicLong();
+        private final AtomicLong rejectedTasks = new AtomicLong();
+
+        IdPExecutor(String key) {
+
+            RejectedExecutionHandler rejectionHandler = (runnable, executor) -> {
+                long rejectedCount = rejectedTasks.incrementAndGet();
+                if (!executor.isShutdown()) {
+                    try {
+                        if (executor.getQueue().offer(runnable, QUEUE_OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                            return;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                LOG.warn("Outbound provisioning executor of: " + key + " is " + (executor.isShutdown() ?
+                        "shut down" : "full") + ". Running the provisioning operation in the calling thread. " +
+                        "Total rejected operations: " + rejectedCount);
+                // The executor restores the MDC of the calling thread once the operation completes.
+                runnable.run();
+            };
+            threadPoolExecutor = new ThreadLocalAwareThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_TIME_SECONDS,
+                    TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize), new ProvisioningThreadFactory(key),
+                    rejectionHandler);
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Created outbound provisioning executor for: " + key + " with pool size: " + poolSize +
+                        " and queue size: " + queueSize);
+            }
+        }
+    }
+
+    /**
+     * View of a shared executor which cannot shut down the shared executor.
+     */
+    private static class SharedExecutorView extends AbstractExecutorService {
+
+        private final ExecutorService executor;
+        private volatile boolean shutdown;
+
+        SharedExecutorView(ExecutorService executor) {
+
+            this.executor = executor;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+
+            if (shutdown) {
+                throw new RejectedExecutionException("Outbound provisioning executor view is shut down.");
+            }
+            executor.execute(command);
+        }
+
+        @Override
+        public void shutdown() {
+
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+
+            shutdown = true;
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+
+            return shutdown || executor.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+
+            return isShutdown();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+
+            return isShutdown();
+        }
+    }
+
+    /**
+     * Thread factory naming the provisioning threads after the identity provider.
+     */
+    private static class ProvisioningThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        ProvisioningThreadFactory(String key) {
+
+            this.namePrefix = "OutboundProvisioning-" + key + "-";
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
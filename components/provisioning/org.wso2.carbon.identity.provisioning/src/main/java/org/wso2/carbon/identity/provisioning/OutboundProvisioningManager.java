@@ -73,7 +73,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import org.wso2.carbon.identity.core.ThreadLocalAwareExecutors;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.CONSOLE_APPLICATION_NAME;
@@ -429,7 +428,6 @@ public class OutboundProvisioningManager {
 
             ProvisioningEntity outboundProEntity;
 
-            ExecutorService executors = ThreadLocalAwareExecutors.newFixedThreadPool(connectors.size());
             if (LoggerUtils.isDiagnosticLogsEnabled()) {
                 DiagnosticLog.DiagnosticLogBuilder diagLogBuilder = new DiagnosticLog.DiagnosticLogBuilder(
                         LogConstants.OutboundProvisioning.OUTBOUND_PROVISIONING_COMPONENT,
@@ -606,7 +604,8 @@ public class OutboundProvisioningManager {
                         outboundProEntity.setIdentifier(provisionedIdentifier);
                         outboundProEntity.setJitProvisioning(jitProvisioning);
                         boolean isBlocking = entry.getValue().isBlocking();
-                        executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                        executeOutboundProvisioning(provisioningEntity, spTenantDomainName, connectorType, idPName,
+                                proThread, isBlocking);
 
                     }
 
@@ -632,7 +631,8 @@ public class OutboundProvisioningManager {
                             outboundProEntity.setIdentifier(provisionedUserIdentifier);
                             outboundProEntity.setJitProvisioning(jitProvisioning);
                             boolean isBlocking = entry.getValue().isBlocking();
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            executeOutboundProvisioning(provisioningEntity, spTenantDomainName, connectorType, idPName,
+                                    proThread, isBlocking);
                         }
                     }
 
@@ -687,13 +687,12 @@ public class OutboundProvisioningManager {
                         }
 
                         if (isAllowed) {
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            executeOutboundProvisioning(provisioningEntity, spTenantDomainName, connectorType, idPName,
+                                    proThread, isBlocking);
                         }
                     }
                 }
             }
-
-            executors.shutdown();
         } catch (CarbonException | IdentityApplicationManagementException | IdentityProviderManagementException | UserStoreException e) {
             throw new IdentityProvisioningException("Error occurred while checking for user " +
                                                     "provisioning", e);
@@ -732,11 +731,12 @@ public class OutboundProvisioningManager {
         return true;
     }
 
-    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, ExecutorService executors,
+    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, String tenantDomain,
                                              String connectorType,
                                              String idPName, Callable<Boolean> proThread, boolean isBlocking)
             throws IdentityProvisioningException {
 
+        OutboundProvisioningExecutors executors = OutboundProvisioningExecutors.getInstance();
         if (!isBlocking && needToWaitForUserProvisioning(provisioningEntity)) {
             try {
                 boolean success = proThread.call();
@@ -745,18 +745,16 @@ public class OutboundProvisioningManager {
                     //DO not roll back since non-blocking configuration was enabled.
                 }
             } catch (Exception e) {
-                handleException(idPName, connectorType, provisioningEntity, executors, e);
+                handleException(idPName, connectorType, provisioningEntity,
+                        executors.getExecutor(tenantDomain, idPName), e);
             }
         } else if (!isBlocking) {
-            executors.submit(proThread);
+            executors.submit(tenantDomain, idPName, proThread);
         } else {
             try {
 
                 boolean success = proThread.call();
                 if (!success) {
-                    if (executors != null) {
-                        executors.shutdown();
-                    }
                     throw new IdentityProvisioningException
                             (generateMessageOnFailureProvisioningOperation(idPName,
                                                                            connectorType, provisioningEntity));
@@ -766,7 +764,8 @@ public class OutboundProvisioningManager {
                 if (isFailOnBlockingOutBoundProvisionEnabled()) {
                     throw new IdentityProvisioningException(e.getMessage());
                 }
-                handleException(idPName, connectorType, provisioningEntity, executors, e);
+                handleException(idPName, connectorType, provisioningEntity,
+                        executors.getExecutor(tenantDomain, idPName), e);
             }
         }
     }
@@ -1154,7 +1153,8 @@ public class OutboundProvisioningManager {
      * @param idPName
      * @param connectorType
      * @param provisioningEntity
-     * @param executors
+     * @param executors          View of the shared executor of the identity provider. Shutting it down does not
+     *                           shut down the shared executor.
      * @param e
      */
     protected void handleException(String idPName, String connectorType, ProvisioningEntity provisioningEntity,
@@ -32,6 +32,7 @@ import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorCo
 import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
 import org.wso2.carbon.identity.provisioning.rules.ProvisioningHandler;
 import org.wso2.carbon.identity.provisioning.AbstractProvisioningConnectorFactory;
+import org.wso2.carbon.identity.provisioning.OutboundProvisioningExecutors;
 import org.wso2.carbon.identity.provisioning.listener.DefaultInboundUserProvisioningListener;
 import org.wso2.carbon.identity.provisioning.listener.ProvisioningApplicationMgtListener;
 import org.wso2.carbon.identity.provisioning.listener.ProvisioningErrorListener;
@@ -125,6 +126,7 @@ public class IdentityProvisionServiceComponent {
      */
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        OutboundProvisioningExecutors.getInstance().shutdown();
         if (log.isDebugEnabled()) {
             log.debug("Identity Provision bundle is de-activated");
         }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_CONNECTOR_EXECUTOR_POOL_SIZE;
+import static org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants.DEFAULT_CONNECTOR_EXECUTOR_QUEUE_SIZE;
+
+/**
+ * Test class for OutboundProvisioningExecutors test cases.
+ */
+public class OutboundProvisioningExecutorsTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    @Test
+    public void testExecutorIsSharedPerIdP() throws Exception {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(anyString())).thenReturn(null);
+            OutboundProvisioningExecutors executors = OutboundProvisioningExecutors.getInstance();
+
+            executors.getExecutor(TENANT_DOMAIN, "idp1").submit(() -> true).get(10, TimeUnit.SECONDS);
+            executors.getExecutor(TENANT_DOMAIN, "idp1").submit(() -> true).get(10, TimeUnit.SECONDS);
+            executors.getExecutor(TENANT_DOMAIN, "idp2").submit(() -> true).get(10, TimeUnit.SECONDS);
+
+            assertEquals(executors.getCompletedTaskCount(TENANT_DOMAIN, "idp1"), 2);
+            assertEquals(executors.getCompletedTaskCount(TENANT_DOMAIN, "idp2"), 1);
+            assertEquals(executors.getCompletedTaskCount("wso2.com", "idp1"), 0);
+        }
+    }
+
+    @Test
+    public void testShutdownOfExecutorView() throws Exception {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(anyString())).thenReturn(null);
+            OutboundProvisioningExecutors executors = OutboundProvisioningExecutors.getInstance();
+
+            ExecutorService executorView = executors.getExecutor(TENANT_DOMAIN, "shutdownIdP");
+            executorView.shutdown();
+            assertTrue(executorView.isShutdown());
+
+            ExecutorService newExecutorView = executors.getExecutor(TENANT_DOMAIN, "shutdownIdP");
+            assertFalse(newExecutorView.isShutdown());
+            assertTrue(newExecutorView.submit(() -> true).get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testSubmit() throws Exception {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(anyString())).thenReturn(null);
+            OutboundProvisioningExecutors executors = OutboundProvisioningExecutors.getInstance();
+
+            int taskCount = 5;
+            CountDownLatch latch = new CountDownLatch(taskCount);
+            for (int i = 0; i < taskCount; i++) {
+                executors.submit(TENANT_DOMAIN, "submitIdP", () -> {
+                    latch.countDown();
+                    return true;
+                });
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals(executors.getSubmittedTaskCount(TENANT_DOMAIN, "submitIdP"), taskCount);
+            assertEquals(executors.getRejectedTaskCount(TENANT_DOMAIN, "submitIdP"), 0);
+            assertEquals(executors.getSubmittedTaskCount(TENANT_DOMAIN, "unknownIdP"), 0);
+        }
+    }
+
+    @Test
+    public void testSubmitWhenQueueIsFull() throws Exception {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(anyString())).thenReturn(null);
+            OutboundProvisioningExecutors executors = OutboundProvisioningExecutors.getInstance();
+
+            String idPName = "fullQueueIdP";
+            CountDownLatch release = new CountDownLatch(1);
+            int capacity = DEFAULT_CONNECTOR_EXECUTOR_POOL_SIZE + DEFAULT_CONNECTOR_EXECUTOR_QUEUE_SIZE;
+            for (int i = 0; i < capacity; i++) {
+                executors.submit(TENANT_DOMAIN, idPName, () -> {
+                    release.await();
+                    return true;
+                });
+            }
+            Thread callerThread = Thread.currentThread();
+            boolean[] ranInCallerThread = {false};
+            executors.submit(TENANT_DOMAIN, idPName, () -> {
+                ranInCallerThread[0] = Thread.currentThread() == callerThread;
+                return true;
+            });
+            release.countDown();
+
+            // The queue stays full while the operation waits for space, hence it runs in the caller thread.
+            assertTrue(ranInCallerThread[0]);
+            assertEquals(executors.getRejectedTaskCount(TENANT_DOMAIN, idPName), 1);
+            assertEquals(executors.getSubmittedTaskCount(TENANT_DOMAIN, idPName), capacity + 1);
+        }
+    }
+}
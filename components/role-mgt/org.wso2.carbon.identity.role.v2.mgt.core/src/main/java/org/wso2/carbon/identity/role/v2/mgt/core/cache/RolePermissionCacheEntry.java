@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.List;
+
+/**
+ * Cache entry for role permissions.
+ * The entry of a shared role holds the main role instead of the permissions, as the permissions of a shared role are
+ * the permissions of its main role. Hence an update to the permissions of the main role only invalidates the entry
+ * of the main role.
+ */
+public class RolePermissionCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 2193846571205839473L;
+    private List<String> permissions;
+    private String mainRoleId;
+    private String mainRoleTenantDomain;
+
+    public RolePermissionCacheEntry(List<String> permissions) {
+
+        this.permissions = permissions;
+    }
+
+    public RolePermissionCacheEntry(String mainRoleId, String mainRoleTenantDomain) {
+
+        this.mainRoleId = mainRoleId;
+        this.mainRoleTenantDomain = mainRoleTenantDomain;
+    }
+
+    public List<String> getPermissions() {
+
+        return permissions;
+    }
+
+    public String getMainRoleId() {
+
+        return mainRoleId;
+    }
+
+    public String getMainRoleTenantDomain() {
+
+        return mainRoleTenantDomain;
+    }
+
+    public boolean isSharedRole() {
+
+        return mainRoleId != null;
+    }
+}
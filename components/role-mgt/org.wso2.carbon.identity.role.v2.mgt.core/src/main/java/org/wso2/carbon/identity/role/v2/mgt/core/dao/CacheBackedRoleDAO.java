@@ -20,16 +20,33 @@ package org.wso2.carbon.identity.role.v2.mgt.core.dao;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleAudienceNameCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleAudienceNameCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleAudienceNameCacheKey;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCache;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCacheEntry;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCacheKey;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdCacheByName;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleIdCacheEntry;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleNameCacheKey;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCache;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCacheEntry;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCacheKey;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
+import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementServerException;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.Permission;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
 import org.wso2.carbon.identity.role.v2.mgt.core.util.RoleManagementUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Cache layer implementation of the {@link RoleDAO} interface.
  * Delegates calls to the underlying RoleDAO implementation.
@@ -40,11 +57,15 @@ public class CacheBackedRoleDAO extends RoleDAOImpl {
 
     private final RoleIdCacheByName roleCacheByName;
     private final RoleBasicInfoCache roleBasicInfoCache;
+    private final RolePermissionCache rolePermissionCache;
+    private final RoleAudienceNameCache roleAudienceNameCache;
 
     public CacheBackedRoleDAO() {
 
         roleCacheByName = RoleIdCacheByName.getInstance();
         roleBasicInfoCache = RoleBasicInfoCache.getInstance();
+        rolePermissionCache = RolePermissionCache.getInstance();
+        roleAudienceNameCache = RoleAudienceNameCache.getInstance();
     }
 
     @Override
@@ -108,11 +129,104 @@ public class CacheBackedRoleDAO extends RoleDAOImpl {
         return roleBasicInfo;
     }
 
+    @Override
+    public List<String> getPermissionListOfRoles(List<String> roleIds, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        if (roleIds == null || roleIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> distinctRoleIds = new ArrayList<>(new LinkedHashSet<>(roleIds));
+        Map<String, RolePermissionCacheEntry> roleEntries = getRolePermissionEntries(distinctRoleIds,
+                tenantDomain, true);
+
+        // The permissions of the shared roles are the permissions of their main roles, which may be in any ancestor
+        // organization. Hence the main roles are resolved per tenant domain.
+        Map<String, List<String>> mainRoleIdsByTenant = new HashMap<>();
+        for (RolePermissionCacheEntry entry : roleEntries.values()) {
+            if (entry.isSharedRole()) {
+                mainRoleIdsByTenant.computeIfAbsent(entry.getMainRoleTenantDomain(), k -> new ArrayList<>())
+                        .add(entry.getMainRoleId());
+            }
+        }
+        Map<String, Map<String, RolePermissionCacheEntry>> mainRoleEntriesByTenant = new HashMap<>();
+        for (Map.Entry<String, List<String>> mainRoleIds : mainRoleIdsByTenant.entrySet()) {
+            mainRoleEntriesByTenant.put(mainRoleIds.getKey(), getRolePermissionEntries(
+                    new ArrayList<>(new LinkedHashSet<>(mainRoleIds.getValue())), mainRoleIds.getKey(), false));
+        }
+
+        Set<String> permissions = new LinkedHashSet<>();
+        for (RolePermissionCacheEntry entry : roleEntries.values()) {
+            if (entry.isSharedRole()) {
+                RolePermissionCacheEntry mainRoleEntry = mainRoleEntriesByTenant
+                        .get(entry.getMainRoleTenantDomain()).get(entry.getMainRoleId());
+                permissions.addAll(getSubOrgPermissionNames(mainRoleEntry.getPermissions()));
+            } else {
+                permissions.addAll(entry.getPermissions());
+            }
+        }
+        return new ArrayList<>(permissions);
+    }
+
+    @Override
+    protected Map<String, String> getOrganizationNames(Set<String> organizationIds, String tenantDomain)
+            throws IdentityRoleManagementServerException {
+
+        Map<String, String> organizationNames = new HashMap<>();
+        Set<String> uncachedOrganizationIds = new HashSet<>();
+        for (String organizationId : organizationIds) {
+            RoleAudienceNameCacheEntry entry = roleAudienceNameCache.getValueFromCache(
+                    new RoleAudienceNameCacheKey(organizationId), tenantDomain);
+            if (entry != null) {
+                organizationNames.put(organizationId, entry.getAudienceName());
+            } else {
+                uncachedOrganizationIds.add(organizationId);
+            }
+        }
+        if (uncachedOrganizationIds.isEmpty()) {
+            return organizationNames;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cache miss for " + uncachedOrganizationIds.size() + " role audience names in tenant: " +
+                    tenantDomain + ". Fetching from the organization manager.");
+        }
+        Map<String, String> fetchedOrganizationNames = super.getOrganizationNames(uncachedOrganizationIds,
+                tenantDomain);
+        for (Map.Entry<String, String> organizationName : fetchedOrganizationNames.entrySet()) {
+            roleAudienceNameCache.addToCacheOnRead(new RoleAudienceNameCacheKey(organizationName.getKey()),
+                    new RoleAudienceNameCacheEntry(organizationName.getValue()), tenantDomain);
+        }
+        organizationNames.putAll(fetchedOrganizationNames);
+        return organizationNames;
+    }
+
+    @Override
+    public void updatePermissionListOfRole(String roleId, List<Permission> addedPermissions,
+                                           List<Permission> deletedPermissions, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        super.updatePermissionListOfRole(roleId, addedPermissions, deletedPermissions, tenantDomain);
+        clearRolePermissionCache(roleId, tenantDomain);
+    }
+
+    @Override
+    public void addMainRoleToSharedRoleRelationship(int mainRoleUMId, int sharedRoleUMId, String sharedRoleName,
+                                                    String mainRoleTenantDomain, String sharedRoleTenantDomain)
+            throws IdentityRoleManagementException {
+
+        super.addMainRoleToSharedRoleRelationship(mainRoleUMId, sharedRoleUMId, sharedRoleName, mainRoleTenantDomain,
+                sharedRoleTenantDomain);
+        // The permission cache is keyed by the role UUID, which is not known here. The UUID based overload also
+        // delegates to this method.
+        rolePermissionCache.clear(sharedRoleTenantDomain);
+    }
+
     @Override
     public void deleteRole(String roleId, String tenantDomain) throws IdentityRoleManagementException {
 
         super.deleteRole(roleId, tenantDomain);
         clearRoleBasicInfoCache(roleId, tenantDomain);
+        clearRolePermissionCache(roleId, tenantDomain);
     }
 
     @Override
@@ -129,6 +243,80 @@ public class CacheBackedRoleDAO extends RoleDAOImpl {
 
         super.deleteRolesByApplication(applicationId, tenantDomain);
         clearRoleBasicInfoCacheByTenant(tenantDomain);
+        rolePermissionCache.clear(tenantDomain);
+    }
+
+    /**
+     * Get the permission cache entries of the given roles. The entries which are not in the cache are resolved with
+     * batched queries and added to the cache.
+     *
+     * @param roleIds            Distinct role IDs.
+     * @param tenantDomain       Tenant domain of the roles.
+     * @param resolveSharedRoles Whether the roles may be shared roles. The main roles are never shared roles.
+     * @return Role ID to the permission cache entry of the role, in the order of the given role IDs.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    private Map<String, RolePermissionCacheEntry> getRolePermissionEntries(List<String> roleIds, String tenantDomain,
+                                                                           boolean resolveSharedRoles)
+            throws IdentityRoleManagementException {
+
+        Map<String, RolePermissionCacheEntry> entries = new LinkedHashMap<>();
+        List<String> uncachedRoleIds = new ArrayList<>();
+        for (String roleId : roleIds) {
+            RolePermissionCacheEntry entry = rolePermissionCache.getValueFromCache(
+                    new RolePermissionCacheKey(roleId), tenantDomain);
+            entries.put(roleId, entry);
+            if (entry == null) {
+                uncachedRoleIds.add(roleId);
+            }
+        }
+        if (uncachedRoleIds.isEmpty()) {
+            return entries;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cache miss for permissions of " + uncachedRoleIds.size() + " roles in tenant: " +
+                    tenantDomain + ". Fetching from DB.");
+        }
+
+        Map<String, Map.Entry<String, String>> mainRoles = resolveSharedRoles ?
+                getMainRolesOfSharedRoles(uncachedRoleIds, tenantDomain) : new HashMap<>();
+        List<String> ownPermissionRoleIds = new ArrayList<>();
+        for (String roleId : uncachedRoleIds) {
+            Map.Entry<String, String> mainRole = mainRoles.get(roleId);
+            if (mainRole != null) {
+                addToRolePermissionCache(entries, roleId,
+                        new RolePermissionCacheEntry(mainRole.getKey(), mainRole.getValue()), tenantDomain);
+            } else {
+                ownPermissionRoleIds.add(roleId);
+            }
+        }
+        Map<String, List<String>> permissions = getPermissionNamesOfRoles(ownPermissionRoleIds);
+        for (String roleId : ownPermissionRoleIds) {
+            addToRolePermissionCache(entries, roleId, new RolePermissionCacheEntry(permissions.get(roleId)),
+                    tenantDomain);
+        }
+        return entries;
+    }
+
+    private void addToRolePermissionCache(Map<String, RolePermissionCacheEntry> entries, String roleId,
+                                          RolePermissionCacheEntry entry, String tenantDomain) {
+
+        entries.put(roleId, entry);
+        rolePermissionCache.addToCacheOnRead(new RolePermissionCacheKey(roleId), entry, tenantDomain);
+    }
+
+    /**
+     * Clear role permission cache for a specific role.
+     *
+     * @param roleId       Role ID.
+     * @param tenantDomain Tenant domain.
+     */
+    private void clearRolePermissionCache(String roleId, String tenantDomain) {
+
+        rolePermissionCache.clearCacheEntry(new RolePermissionCacheKey(roleId), tenantDomain);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cleared role permission cache for role ID: " + roleId);
+        }
     }
 
     /**
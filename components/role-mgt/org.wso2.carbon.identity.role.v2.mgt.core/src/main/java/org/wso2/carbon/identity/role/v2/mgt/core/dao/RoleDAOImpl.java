@@ -40,6 +40,7 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 import org.wso2.carbon.identity.role.v2.mgt.core.FilterQueryBuilder;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants;
@@ -83,6 +84,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -155,6 +157,7 @@ import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_LIMIT
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_LIMITED_USER_LIST_OF_ROLE_MSSQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_LIMITED_USER_LIST_OF_ROLE_ORACLE;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_LIMITED_USER_LIST_OF_ROLE_SQL;
+import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_MAIN_ROLES_OF_SHARED_ROLES_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_MAIN_ROLE_TO_SHARED_ROLE_MAPPINGS_BY_SUBORG_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLES_BY_APP_ID_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLES_BY_TENANT_AND_ROLE_NAME_DB2;
@@ -190,6 +193,7 @@ import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_LIST_OF_IDP_GROUPS_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_LIST_OF_USER_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_NAME_BY_ID_SQL;
+import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_SCOPE_NAMES_BY_ROLE_IDS_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_SCOPE_NAMES_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_SCOPE_SQL;
 import static org.wso2.carbon.identity.role.v2.mgt.core.dao.SQLQueries.GET_ROLE_TENANT_DOMAIN_BY_ID;
@@ -228,6 +232,7 @@ public class RoleDAOImpl implements RoleDAO {
     private static final String ASSOCIATED_APPLICATIONS = "associatedApplications";
     private static final String PROPERTIES = "properties";
     private static final String IS_FRAGMENT_APP = "isFragmentApp";
+    protected static final int MAX_ROLE_IDS_PER_QUERY = 1000;
 
     @Override
     public RoleBasicInfo addRole(String roleName, List<String> userList, List<String> groupList,
@@ -633,21 +638,28 @@ public class RoleDAOImpl implements RoleDAO {
     public List<String> getPermissionListOfRoles(List<String> roleIds, String tenantDomain)
             throws IdentityRoleManagementException {
 
-        List<String> permissions = new ArrayList<>();
-        List<Permission> permissionList = new ArrayList<>();
-        for (String roleId : roleIds) {
-            if (isOrganization(tenantDomain) && isSharedRole(roleId, tenantDomain)) {
-                permissionList.addAll(getPermissionsOfSharedRole(roleId, tenantDomain));
+        if (CollectionUtils.isEmpty(roleIds)) {
+            return new ArrayList<>();
+        }
+        List<String> distinctRoleIds = new ArrayList<>(new LinkedHashSet<>(roleIds));
+        Map<String, Map.Entry<String, String>> mainRoles = getMainRolesOfSharedRoles(distinctRoleIds, tenantDomain);
+        Set<String> resolvedRoleIds = new LinkedHashSet<>();
+        for (String roleId : distinctRoleIds) {
+            Map.Entry<String, String> mainRole = mainRoles.get(roleId);
+            resolvedRoleIds.add(mainRole != null ? mainRole.getKey() : roleId);
+        }
+        Map<String, List<String>> permissionsOfRoles = getPermissionNamesOfRoles(new ArrayList<>(resolvedRoleIds));
+
+        Set<String> permissions = new LinkedHashSet<>();
+        for (String roleId : distinctRoleIds) {
+            Map.Entry<String, String> mainRole = mainRoles.get(roleId);
+            if (mainRole != null) {
+                permissions.addAll(getSubOrgPermissionNames(permissionsOfRoles.get(mainRole.getKey())));
             } else {
-                permissionList.addAll(getPermissions(roleId, tenantDomain));
+                permissions.addAll(permissionsOfRoles.get(roleId));
             }
         }
-
-        List<Permission> distinctPermissions = permissionList.stream().distinct().collect(Collectors.toList());
-        for (Permission permission : distinctPermissions) {
-            permissions.add(permission.getName());
-        }
-        return permissions;
+        return new ArrayList<>(permissions);
     }
 
     @Override
@@ -1127,13 +1139,13 @@ public class RoleDAOImpl implements RoleDAO {
                     RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                     roleBasicInfo.setAudience(audience);
                     roleBasicInfo.setAudienceId(audienceId);
-                    roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                     roles.add(roleBasicInfo);
                 }
             }
             if (!isOrganization(tenantDomain)) {
                 roles.add(getEveryOneRole(tenantDomain));
             }
+            resolveAudienceNames(roles, tenantDomain);
         } catch (SQLException e) {
             String errorMessage =
                     "Error while retrieving role list of user by id: " + userId + " and tenantDomain : " + tenantDomain;
@@ -1143,7 +1155,7 @@ public class RoleDAOImpl implements RoleDAO {
     }
 
     /**
-     * Get everyone role basic info.
+     * Get everyone role basic info. The audience name of the role is not resolved.
      *
      * @param tenantDomain Tenant domain.
      * @return basic info of every one role.
@@ -1156,8 +1168,7 @@ public class RoleDAOImpl implements RoleDAO {
         String roleId = getRoleIdByName(everyOneRoleName, ORGANIZATION, orgId, tenantDomain);
         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, everyOneRoleName);
         roleBasicInfo.setAudience(ORGANIZATION);
-        roleBasicInfo.setAudienceId(RoleManagementUtils.getOrganizationId(tenantDomain));
-        roleBasicInfo.setAudienceName(getOrganizationName(orgId));
+        roleBasicInfo.setAudienceId(orgId);
         return roleBasicInfo;
     }
 
@@ -1201,7 +1212,6 @@ public class RoleDAOImpl implements RoleDAO {
                         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                         roleBasicInfo.setAudience(audience);
                         roleBasicInfo.setAudienceId(audienceId);
-                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                         roles.add(roleBasicInfo);
                     }
                 }
@@ -1212,9 +1222,11 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        return new ArrayList<>(roles.stream()
+        List<RoleBasicInfo> distinctRoles = new ArrayList<>(roles.stream()
                 .collect(Collectors.toMap(RoleBasicInfo::getId, role -> role, (existing, replacement) -> existing))
                 .values());
+        resolveAudienceNames(distinctRoles, tenantDomain);
+        return distinctRoles;
     }
 
     @Override
@@ -1238,7 +1250,6 @@ public class RoleDAOImpl implements RoleDAO {
                         RoleBasicInfo roleBasicInfo = new RoleBasicInfo(roleId, roleName);
                         roleBasicInfo.setAudience(audience);
                         roleBasicInfo.setAudienceId(audienceId);
-                        roleBasicInfo.setAudienceName(getAudienceName(audience, audienceId, tenantDomain));
                         roles.add(roleBasicInfo);
                     }
                 }
@@ -1249,9 +1260,11 @@ public class RoleDAOImpl implements RoleDAO {
                             + " and tenantDomain : " + tenantDomain;
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
         }
-        return new ArrayList<>(roles.stream()
+        List<RoleBasicInfo> distinctRoles = new ArrayList<>(roles.stream()
                 .collect(Collectors.toMap(RoleBasicInfo::getId, role -> role, (existing, replacement) -> existing))
                 .values());
+        resolveAudienceNames(distinctRoles, tenantDomain);
+        return distinctRoles;
     }
 
     @Override
@@ -1798,12 +1811,118 @@ public class RoleDAOImpl implements RoleDAO {
      * @param permission Permission.
      * @return is valid sub organization permission.
      */
-    private boolean isValidSubOrgPermission(String permission) {
+    protected boolean isValidSubOrgPermission(String permission) {
 
         return permission.startsWith(INTERNAL_ORG_SCOPE_PREFIX) || permission.startsWith(CONSOLE_ORG_SCOPE_PREFIX) ||
                 (!permission.startsWith(INTERNAL_SCOPE_PREFIX) && !permission.startsWith(CONSOLE_SCOPE_PREFIX));
     }
 
+    /**
+     * Get the permissions of the given main role names which are valid for a shared role of a sub organization.
+     *
+     * @param permissions Permission names of the main role.
+     * @return Valid sub organization permission names.
+     */
+    protected List<String> getSubOrgPermissionNames(List<String> permissions) {
+
+        return permissions.stream().filter(this::isValidSubOrgPermission).collect(Collectors.toList());
+    }
+
+    /**
+     * Get the main roles of the given roles which are shared roles of the given organization. The roles are resolved
+     * with an IN-list query per {@link #MAX_ROLE_IDS_PER_QUERY} roles.
+     *
+     * @param roleIds      Role IDs.
+     * @param tenantDomain Tenant domain of the roles.
+     * @return Shared role ID to the main role ID and the tenant domain of the main role. Roles which are not shared
+     * roles are not included.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    protected Map<String, Map.Entry<String, String>> getMainRolesOfSharedRoles(List<String> roleIds,
+                                                                               String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Map<String, Map.Entry<String, String>> mainRoles = new HashMap<>();
+        if (CollectionUtils.isEmpty(roleIds) || !isOrganization(tenantDomain)) {
+            return mainRoles;
+        }
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        Map<Integer, String> tenantDomains = new HashMap<>();
+        try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false)) {
+            for (int from = 0; from < roleIds.size(); from += MAX_ROLE_IDS_PER_QUERY) {
+                List<String> batch = roleIds.subList(from, Math.min(from + MAX_ROLE_IDS_PER_QUERY, roleIds.size()));
+                String query = GET_MAIN_ROLES_OF_SHARED_ROLES_SQL +
+                        String.join(", ", Collections.nCopies(batch.size(), "?")) + ")";
+                try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, query)) {
+                    statement.setInt(1, tenantId);
+                    for (int i = 0; i < batch.size(); i++) {
+                        statement.setString(i + 2, batch.get(i));
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            String mainTenantDomain = tenantDomains.computeIfAbsent(resultSet.getInt(3),
+                                    IdentityTenantUtil::getTenantDomain);
+                            if (StringUtils.isNotEmpty(mainTenantDomain)) {
+                                mainRoles.put(resultSet.getString(1),
+                                        new AbstractMap.SimpleImmutableEntry<>(resultSet.getString(2),
+                                                mainTenantDomain));
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            String errorMessage = "Error while retrieving main roles of the shared roles in the tenantDomain: "
+                    + tenantDomain;
+            throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
+        }
+        return mainRoles;
+    }
+
+    /**
+     * Get the permission names of the given roles. The permissions are resolved with an IN-list query per
+     * {@link #MAX_ROLE_IDS_PER_QUERY} roles.
+     *
+     * @param roleIds Role IDs.
+     * @return Role ID to the permission names of the role. Every given role is included.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    protected Map<String, List<String>> getPermissionNamesOfRoles(List<String> roleIds)
+            throws IdentityRoleManagementException {
+
+        Map<String, List<String>> permissions = new HashMap<>();
+        if (CollectionUtils.isEmpty(roleIds)) {
+            return permissions;
+        }
+        for (String roleId : roleIds) {
+            permissions.put(roleId, new ArrayList<>());
+        }
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            for (int from = 0; from < roleIds.size(); from += MAX_ROLE_IDS_PER_QUERY) {
+                List<String> batch = roleIds.subList(from, Math.min(from + MAX_ROLE_IDS_PER_QUERY, roleIds.size()));
+                String query = GET_ROLE_SCOPE_NAMES_BY_ROLE_IDS_SQL +
+                        String.join(", ", Collections.nCopies(batch.size(), "?")) + ")";
+                try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, query)) {
+                    for (int i = 0; i < batch.size(); i++) {
+                        statement.setString(i + 1, batch.get(i));
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            List<String> rolePermissions = permissions.get(resultSet.getString(1));
+                            if (rolePermissions != null) {
+                                rolePermissions.add(resultSet.getString(2));
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            String errorMessage = "Error while retrieving permissions of the roles: " + roleIds;
+            throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
+        }
+        return permissions;
+    }
+
     /**
      * Delete application role association.
      *
@@ -2412,6 +2531,64 @@ public class RoleDAOImpl implements RoleDAO {
         }
     }
 
+    /**
+     * Set the audience names of the given roles. The names of the organization audiences are resolved with a single
+     * lookup over the distinct organization IDs of the roles, instead of a lookup per role.
+     *
+     * @param roles        Roles.
+     * @param tenantDomain Tenant domain.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    private void resolveAudienceNames(List<RoleBasicInfo> roles, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Set<String> organizationIds = new HashSet<>();
+        for (RoleBasicInfo role : roles) {
+            if (ORGANIZATION.equalsIgnoreCase(role.getAudience()) && role.getAudienceId() != null) {
+                organizationIds.add(role.getAudienceId());
+            }
+        }
+        if (organizationIds.isEmpty()) {
+            return;
+        }
+        Map<String, String> organizationNames = getOrganizationNames(organizationIds, tenantDomain);
+        for (RoleBasicInfo role : roles) {
+            if (ORGANIZATION.equalsIgnoreCase(role.getAudience())) {
+                role.setAudienceName(organizationNames.getOrDefault(role.getAudienceId(), StringUtils.EMPTY));
+            }
+        }
+    }
+
+    /**
+     * Get the names of the given organizations.
+     *
+     * @param organizationIds Organization IDs.
+     * @param tenantDomain    Tenant domain of the roles of the organizations.
+     * @return Organization ID to the organization name. Organizations which do not exist are not included.
+     * @throws IdentityRoleManagementServerException IdentityRoleManagementServerException.
+     */
+    protected Map<String, String> getOrganizationNames(Set<String> organizationIds, String tenantDomain)
+            throws IdentityRoleManagementServerException {
+
+        Map<String, String> organizationNames = new HashMap<>();
+        try {
+            Map<String, BasicOrganization> organizations = RoleManagementServiceComponentHolder.getInstance()
+                    .getOrganizationManager().getBasicOrganizationDetailsByOrgIDs(new ArrayList<>(organizationIds));
+            if (organizations != null) {
+                for (Map.Entry<String, BasicOrganization> organization : organizations.entrySet()) {
+                    if (organization.getValue() != null) {
+                        organizationNames.put(organization.getKey(), organization.getValue().getName());
+                    }
+                }
+            }
+        } catch (OrganizationManagementException e) {
+            String errorMessage = "Error while retrieving the organization names for the given ids: " +
+                    organizationIds;
+            throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(), errorMessage, e);
+        }
+        return organizationNames;
+    }
+
     /**
      * Get the primary org tenant domain of the org with given tenant domain.
      *
@@ -2718,11 +2895,10 @@ public class RoleDAOImpl implements RoleDAO {
             if (roleAudience != null) {
                 roleBasicInfo.setAudience(roleAudience.getAudience());
                 roleBasicInfo.setAudienceId(roleAudience.getAudienceId());
-                roleBasicInfo.setAudienceName(getAudienceName(roleAudience.getAudience(),
-                        roleAudience.getAudienceId(), tenantDomain));
             }
             roles.add(roleBasicInfo);
         }
+        resolveAudienceNames(roles, tenantDomain);
         return roles;
     }
 
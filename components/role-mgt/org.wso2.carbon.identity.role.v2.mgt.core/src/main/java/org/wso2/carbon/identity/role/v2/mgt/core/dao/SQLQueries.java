@@ -53,6 +53,9 @@ public class SQLQueries {
     public static final String GET_SCOPE_BY_ROLES_SQL = "SELECT NAME FROM ROLE_SCOPE INNER JOIN SCOPE ON " +
             "ROLE_SCOPE.SCOPE_ID = SCOPE.ID WHERE ROLE_ID IN (";
 
+    public static final String GET_ROLE_SCOPE_NAMES_BY_ROLE_IDS_SQL = "SELECT ROLE_ID, NAME FROM ROLE_SCOPE INNER " +
+            "JOIN SCOPE ON ROLE_SCOPE.SCOPE_ID = SCOPE.ID WHERE ROLE_ID IN (";
+
     public static final String GET_ASSOCIATED_APPS_BY_ROLE_ID_SQL = "SELECT APP_ID, APP_NAME FROM " +
             "APP_ROLE_ASSOCIATION INNER JOIN SP_APP ON APP_ROLE_ASSOCIATION.APP_ID = SP_APP.UUID " +
             "WHERE ROLE_ID =:ROLE_ID; AND SP_APP.TENANT_ID=:TENANT_ID;";
@@ -95,6 +98,12 @@ public class SQLQueries {
             "JOIN UM_HYBRID_ROLE m_shared ON s.UM_SHARED_ROLE_ID = m_shared.UM_ID AND s.UM_SHARED_ROLE_TENANT_ID " +
             "= m_shared.UM_TENANT_ID WHERE s.UM_SHARED_ROLE_TENANT_ID = ? AND m_shared.UM_UUID IN (";
 
+    public static final String GET_MAIN_ROLES_OF_SHARED_ROLES_SQL = "SELECT m_shared.UM_UUID, m_main.UM_UUID, " +
+            "m_main.UM_TENANT_ID FROM UM_SHARED_ROLE s JOIN UM_HYBRID_ROLE m_main ON s.UM_MAIN_ROLE_ID = " +
+            "m_main.UM_ID AND s.UM_MAIN_ROLE_TENANT_ID = m_main.UM_TENANT_ID JOIN UM_HYBRID_ROLE m_shared ON " +
+            "s.UM_SHARED_ROLE_ID = m_shared.UM_ID AND s.UM_SHARED_ROLE_TENANT_ID = m_shared.UM_TENANT_ID WHERE " +
+            "s.UM_SHARED_ROLE_TENANT_ID = ? AND m_shared.UM_UUID IN (";
+
     public static final String GET_SHARED_HYBRID_ROLE_WITH_MAIN_ROLE_SQL = "SELECT s.UM_SHARED_ROLE_ID, " +
             "s.UM_SHARED_ROLE_TENANT_ID FROM UM_SHARED_ROLE s INNER JOIN UM_HYBRID_ROLE h ON s.UM_MAIN_ROLE_ID = " +
             "h.UM_ID AND s.UM_MAIN_ROLE_TENANT_ID = h.UM_TENANT_ID WHERE h.UM_UUID =:UM_UUID; AND h.UM_TENANT_ID " +
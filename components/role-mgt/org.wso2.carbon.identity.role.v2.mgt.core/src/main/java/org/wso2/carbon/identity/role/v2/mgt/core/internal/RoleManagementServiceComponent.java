@@ -36,6 +36,7 @@ import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementServiceImpl;
 import org.wso2.carbon.identity.role.v2.mgt.core.listener.RoleManagementListener;
 import org.wso2.carbon.identity.role.v2.mgt.core.listener.RoleManagementOrganizationHandler;
+import org.wso2.carbon.identity.role.v2.mgt.core.listener.RolePermissionCacheHandler;
 import org.wso2.carbon.identity.role.v2.mgt.core.listener.RoleManagementV2AuditLogger;
 import org.wso2.carbon.idp.mgt.IdpManager;
 import org.wso2.carbon.user.core.service.RealmService;
@@ -57,6 +58,7 @@ public class RoleManagementServiceComponent {
             bundleContext.registerService(RoleManagementService.class, new RoleManagementServiceImpl(), null);
             bundleContext.registerService(RoleManagementListener.class, new RoleManagementV2AuditLogger(), null);
             bundleContext.registerService(AbstractEventHandler.class, new RoleManagementOrganizationHandler(), null);
+            bundleContext.registerService(AbstractEventHandler.class, new RolePermissionCacheHandler(), null);
 
             log.debug("Role V2 management service is activated.");
         } catch (Throwable e) {
@@ -32,7 +32,7 @@ import org.wso2.carbon.identity.role.v2.mgt.core.util.RoleManagementUtils;
 import java.util.Map;
 
 /**
- * Event handler for organization management operations to clear role basic info cache.
+ * Event handler for organization management operations to clear role basic info and role audience name caches.
  * This is necessary because RoleBasicInfo contains audienceName (organization name)
  * and when organization name changes or organization is deleted, cached role info becomes stale.
  */
@@ -80,6 +80,7 @@ public class RoleManagementOrganizationHandler extends AbstractEventHandler {
                     .getOrganizationManager();
             String tenantDomain = organizationManager.resolveTenantDomain(organizationId);
             RoleManagementUtils.clearRoleBasicInfoCacheByTenant(tenantDomain);
+            RoleManagementUtils.clearRoleAudienceNameCacheByTenant(tenantDomain);
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Cleared role basic info cache for tenant: " + tenantDomain +
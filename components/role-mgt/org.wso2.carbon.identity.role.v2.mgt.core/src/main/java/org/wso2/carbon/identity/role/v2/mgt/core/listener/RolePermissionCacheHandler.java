@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.role.v2.mgt.core.listener;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.IdentityEventConstants;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RolePermissionCache;
+
+/**
+ * Event handler for API resource management operations to clear the role permission cache.
+ * The permissions of a role are the scopes of the API resources assigned to it. When a scope or an API resource is
+ * deleted, the role scope mappings are removed by the database, hence the cached permissions of the tenant become
+ * stale.
+ */
+public class RolePermissionCacheHandler extends AbstractEventHandler {
+
+    private static final Log LOG = LogFactory.getLog(RolePermissionCacheHandler.class);
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        switch (event.getEventName()) {
+            case IdentityEventConstants.Event.POST_DELETE_API_RESOURCE:
+            case IdentityEventConstants.Event.POST_UPDATE_API_RESOURCE:
+            case IdentityEventConstants.Event.POST_PUT_API_RESOURCE_SCOPES:
+            case IdentityEventConstants.Event.POST_DELETE_API_RESOURCE_SCOPES:
+            case IdentityEventConstants.Event.POST_DELETE_SCOPE:
+                clearRolePermissionCache(
+                        (String) event.getEventProperties().get(IdentityEventConstants.EventProperty.TENANT_DOMAIN));
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Clear the role permission cache of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    private void clearRolePermissionCache(String tenantDomain) {
+
+        if (StringUtils.isBlank(tenantDomain)) {
+            LOG.warn("Tenant domain is missing in event properties. Cannot clear role permission cache.");
+            return;
+        }
+        RolePermissionCache.getInstance().clear(tenantDomain);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cleared role permission cache for tenant: " + tenantDomain);
+        }
+    }
+
+    @Override
+    public String getName() {
+
+        return "RolePermissionCacheHandler";
+    }
+}
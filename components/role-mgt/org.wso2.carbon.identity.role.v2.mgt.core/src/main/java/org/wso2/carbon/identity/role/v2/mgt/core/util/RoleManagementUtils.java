@@ -28,6 +28,7 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants;
+import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleAudienceNameCache;
 import org.wso2.carbon.identity.role.v2.mgt.core.cache.RoleBasicInfoCache;
 import org.wso2.carbon.identity.role.v2.mgt.core.dao.RoleDAO;
 import org.wso2.carbon.identity.role.v2.mgt.core.dao.RoleMgtDAOFactory;
@@ -268,4 +269,15 @@ public class RoleManagementUtils {
 
         RoleBasicInfoCache.getInstance().clear(tenantDomain);
     }
+
+    /**
+     * Clear all role audience name cache entries for a tenant.
+     * This is useful when organization names change, which affects the audience names of the listed roles.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public static void clearRoleAudienceNameCacheByTenant(String tenantDomain) {
+
+        RoleAudienceNameCache.getInstance().clear(tenantDomain);
+    }
 }
@@ -47,6 +47,7 @@ import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementClientException;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
@@ -99,7 +100,10 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -613,6 +617,76 @@ public class RoleDAOTest {
         Assert.assertEquals(rolePermissions, getPermissionNameList(permissions));
     }
 
+    @Test
+    public void testGetPermissionListOfMultipleRoles() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        mockCacheClearing(roleDAO);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(USER_DOMAIN_PRIMARY);
+        identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+        userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                .thenReturn(false);
+        userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+        RoleBasicInfo role1 = addRole(roleNamesList.get(0), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        RoleBasicInfo role2 = addRole(roleNamesList.get(1), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        RoleBasicInfo role3 = addRole(roleNamesList.get(2), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
+        List<Permission> newPermissions = new ArrayList<>();
+        newPermissions.add(new Permission("view", "view"));
+        roleDAO.updatePermissionListOfRole(role2.getId(), newPermissions, permissions, SAMPLE_TENANT_DOMAIN);
+        roleDAO.updatePermissionListOfRole(role3.getId(), new ArrayList<>(), permissions, SAMPLE_TENANT_DOMAIN);
+
+        List<String> roleIds = Arrays.asList(role1.getId(), role2.getId(), role3.getId(), role1.getId());
+        List<String> rolePermissions = roleDAO.getPermissionListOfRoles(roleIds, SAMPLE_TENANT_DOMAIN);
+        Assert.assertEquals(rolePermissions.stream().sorted().collect(Collectors.toList()),
+                Arrays.asList("read", "view", "write"));
+    }
+
+    @Test
+    public void testGetPermissionListOfRolesWithSharedRoleInOrganization() throws Exception {
+
+        RoleDAOImpl roleDAO = spy(new RoleDAOImpl());
+        mockCacheClearing(roleDAO);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getUserDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> getConnection());
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn(USER_DOMAIN_PRIMARY);
+        identityUtil.when(() -> IdentityUtil.extractDomainFromName(anyString())).thenCallRealMethod();
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(SAMPLE_TENANT_ID);
+        userCoreUtil.when(() -> UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class)))
+                .thenReturn(false);
+        userCoreUtil.when(() -> UserCoreUtil.removeDomainFromName(anyString())).thenCallRealMethod();
+
+        // Constructing a shared role scenario
+        RoleBasicInfo roleBasicInfo = addRole(SHARED_ROLE_NAME, ORGANIZATION_AUD, SAMPLE_ORG_ID, roleDAO);
+
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(L1_ORG_TENANT_DOMAIN)).thenReturn(2);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(2)).thenReturn(L1_ORG_TENANT_DOMAIN);
+        RoleBasicInfo sharedRoleBasicInfo = addRole(SHARED_ROLE_NAME, ORGANIZATION_AUD, L1_ORG_TENANT_ORG_ID, roleDAO);
+        RoleBasicInfo subOrgRoleBasicInfo = addRole(roleNamesList.get(0), ORGANIZATION_AUD, L1_ORG_TENANT_ORG_ID,
+                roleDAO);
+        roleDAO.addMainRoleToSharedRoleRelationship(roleBasicInfo.getId(), sharedRoleBasicInfo.getId(),
+                SAMPLE_TENANT_DOMAIN, L1_ORG_TENANT_DOMAIN);
+        organizationManagementUtil.when(() -> OrganizationManagementUtil.isOrganization(L1_ORG_TENANT_DOMAIN))
+                .thenReturn(true);
+
+        List<Permission> newPermissions = new ArrayList<>();
+        newPermissions.add(new Permission("view", "view"));
+        roleDAO.updatePermissionListOfRole(roleBasicInfo.getId(), newPermissions, new ArrayList<>(),
+                SAMPLE_TENANT_DOMAIN);
+
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantDomain(1)).thenReturn(SAMPLE_TENANT_DOMAIN);
+        List<String> roleIds = Arrays.asList(sharedRoleBasicInfo.getId(), subOrgRoleBasicInfo.getId());
+        List<String> rolePermissions = roleDAO.getPermissionListOfRoles(roleIds, L1_ORG_TENANT_DOMAIN);
+        Assert.assertEquals(rolePermissions.stream().sorted().collect(Collectors.toList()),
+                Arrays.asList("read", "view", "write"));
+    }
+
     @Test
     public void testGetPermissionListOfSharedRolesInSubOrganization() throws Exception {
 
@@ -950,9 +1024,25 @@ public class RoleDAOTest {
         addRole(roleNamesList.get(1), APPLICATION_AUD, SAMPLE_APP_ID, roleDAO);
         addRole("everyone", ORGANIZATION_AUD, SAMPLE_ORG_ID, roleDAO);
 
+        OrganizationManager organizationManager = mock(OrganizationManager.class);
+        RoleManagementServiceComponentHolder.getInstance().setOrganizationManager(organizationManager);
+        BasicOrganization organization = new BasicOrganization();
+        organization.setId(SAMPLE_ORG_ID);
+        organization.setName("test-org");
+        when(organizationManager.getBasicOrganizationDetailsByOrgIDs(anyList()))
+                .thenReturn(Collections.singletonMap(SAMPLE_ORG_ID, organization));
+
         mockRealmConfiguration();
         List<RoleBasicInfo> roles = roleDAO.getRoleListOfUser("userID1", SAMPLE_TENANT_DOMAIN);
         assertEquals(roles.size(), 3);
+        for (RoleBasicInfo role : roles) {
+            if (ORGANIZATION_AUD.equals(role.getAudience())) {
+                assertEquals(role.getAudienceName(), "test-org");
+            }
+        }
+        // Audience names are resolved with a single lookup regardless of the number of roles.
+        verify(organizationManager, times(1)).getBasicOrganizationDetailsByOrgIDs(anyList());
+        verify(organizationManager, never()).getOrganizationNameById(anyString());
     }
 
     @Test
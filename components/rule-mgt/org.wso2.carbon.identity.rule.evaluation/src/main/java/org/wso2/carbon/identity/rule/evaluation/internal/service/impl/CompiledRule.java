@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rule.evaluation.internal.service.impl;
+
+import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationException;
+import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
+import org.wso2.carbon.identity.rule.evaluation.api.model.Operator;
+import org.wso2.carbon.identity.rule.evaluation.api.model.ValueType;
+import org.wso2.carbon.identity.rule.management.api.model.ANDCombinedRule;
+import org.wso2.carbon.identity.rule.management.api.model.Expression;
+import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
+import org.wso2.carbon.identity.rule.management.api.model.Rule;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+/**
+ * Compiled form of a rule.
+ * The operators of the expressions are resolved and the expression values are converted to the typed values once,
+ * when the rule is compiled, so that the rule can be evaluated repeatedly without looking them up again.
+ * Instances are immutable and can be shared between threads.
+ */
+public class CompiledRule {
+
+    // Operators
+    private static final String EQUALS = "equals";
+    private static final String NOT_EQUALS = "notEquals";
+    private static final String CONTAINS = "contains";
+
+    private static final BiPredicate<List<?>, Object> LIST_CONTAINS = List::contains;
+    private static final BiPredicate<List<?>, Object> LIST_NOT_CONTAINS = (list, value) -> !list.contains(value);
+
+    private final Rule rule;
+    private final CompiledExpression[][] andCombinedExpressions;
+
+    private CompiledRule(Rule rule, CompiledExpression[][] andCombinedExpressions) {
+
+        this.rule = rule;
+        this.andCombinedExpressions = andCombinedExpressions;
+    }
+
+    /**
+     * Compile the given rule.
+     *
+     * @param rule             Rule to compile.
+     * @param operatorRegistry Operator registry to resolve the operators of the expressions.
+     * @return Compiled rule.
+     */
+    public static CompiledRule compile(Rule rule, OperatorRegistry operatorRegistry) {
+
+        List<ANDCombinedRule> andRules = ((ORCombinedRule) rule).getRules();
+        CompiledExpression[][] andCombinedExpressions = new CompiledExpression[andRules.size()][];
+        for (int i = 0; i < andRules.size(); i++) {
+            List<Expression> expressions = andRules.get(i).getExpressions();
+            CompiledExpression[] compiledExpressions = new CompiledExpression[expressions.size()];
+            for (int j = 0; j < expressions.size(); j++) {
+                compiledExpressions[j] = new CompiledExpression(expressions.get(j), operatorRegistry);
+            }
+            andCombinedExpressions[i] = compiledExpressions;
+        }
+        return new CompiledRule(rule, andCombinedExpressions);
+    }
+
+    /**
+     * Get the rule which was compiled.
+     *
+     * @return Rule.
+     */
+    public Rule getRule() {
+
+        return rule;
+    }
+
+    /**
+     * Evaluate the compiled rule.
+     *
+     * @param evaluationData Evaluation data.
+     * @return Evaluation result.
+     * @throws RuleEvaluationException If an error occurs while evaluating the rule.
+     */
+    public boolean evaluate(Map<String, FieldValue> evaluationData) throws RuleEvaluationException {
+
+        for (CompiledExpression[] expressions : andCombinedExpressions) {
+            if (evaluateANDCombinedExpressions(expressions, evaluationData)) {
+                return true; // If any ANDCombinedRule evaluates to true, the ORCombinedRule passes
+            }
+        }
+        return false; // If none of the ANDCombinedRules pass, the ORCombinedRule fails
+    }
+
+    private static boolean evaluateANDCombinedExpressions(CompiledExpression[] expressions,
+                                                          Map<String, FieldValue> evaluationData)
+            throws RuleEvaluationException {
+
+        for (CompiledExpression expression : expressions) {
+            if (!expression.evaluate(evaluationData)) {
+                return false; // If any expression fails, the ANDCombinedRule fails
+            }
+        }
+        return true; // All expressions passed, the ANDCombinedRule passes
+    }
+
+    /**
+     * Expression with the operator resolved and the value converted to the supported value types.
+     */
+    private static class CompiledExpression {
+
+        private final String field;
+        private final String operatorName;
+        private final Operator operator;
+        private final BiPredicate<List<?>, Object> listPredicate;
+        private final String stringValue;
+        private final Boolean booleanValue;
+        private final Double numberValue;
+
+        CompiledExpression(Expression expression, OperatorRegistry operatorRegistry) {
+
+            this.field = expression.getField();
+            this.operatorName = expression.getOperator();
+            this.operator = operatorRegistry.getOperator(operatorName);
+            this.listPredicate = resolveListPredicate(operatorName);
+            this.stringValue = expression.getValue().getFieldValue();
+            this.booleanValue = Boolean.parseBoolean(stringValue);
+            this.numberValue = parseNumber(stringValue);
+        }
+
+        boolean evaluate(Map<String, FieldValue> evaluationData) throws RuleEvaluationException {
+
+            FieldValue fieldValue = evaluationData.get(field);
+            if (fieldValue == null) {
+                throw new RuleEvaluationException("Field value not found for the field: " + field);
+            }
+
+            // Evaluate based on the value type of the field
+            ValueType valueType = fieldValue.getValueType();
+            if (valueType == ValueType.LIST) {
+                if (listPredicate == null) {
+                    throw new IllegalStateException("Unsupported operator: " + operatorName +
+                            " for LIST value type");
+                }
+                return listPredicate.test((List<?>) fieldValue.getValue(), stringValue);
+            }
+            if (operator == null) {
+                throw new IllegalStateException("Unsupported operator: " + operatorName);
+            }
+            if (valueType == ValueType.STRING || valueType instanceof ValueType.ReferenceValueType) {
+                return operator.apply(fieldValue.getValue(), stringValue);
+            } else if (valueType == ValueType.BOOLEAN) {
+                return operator.apply(fieldValue.getValue(), booleanValue);
+            } else if (valueType == ValueType.NUMBER) {
+                if (numberValue == null) {
+                    throw new NumberFormatException("Invalid number value: " + stringValue + " for the field: " +
+                            field);
+                }
+                return operator.apply(fieldValue.getValue(), numberValue);
+            }
+
+            throw new IllegalStateException("Unsupported value type: " + valueType);
+        }
+
+        private static BiPredicate<List<?>, Object> resolveListPredicate(String operatorName) {
+
+            if (EQUALS.equals(operatorName) || CONTAINS.equals(operatorName)) {
+                return LIST_CONTAINS;
+            } else if (NOT_EQUALS.equals(operatorName)) {
+                return LIST_NOT_CONTAINS;
+            }
+            return null;
+        }
+
+        private static Double parseNumber(String value) {
+
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                // The expression value is not used as a number unless the field is a number.
+                return null;
+            }
+        }
+    }
+}
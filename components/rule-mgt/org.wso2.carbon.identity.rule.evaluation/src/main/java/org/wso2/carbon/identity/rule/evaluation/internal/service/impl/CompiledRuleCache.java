@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rule.evaluation.internal.service.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.rule.management.api.model.Rule;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Node local cache of compiled rules, keyed by the tenant domain and the rule ID.
+ * <p>
+ * A compiled rule is reused only for the same rule instance it was compiled from. Rule management returns a new
+ * rule instance once a rule is updated, hence the updated rule is compiled again and replaces the stale entry.
+ */
+public class CompiledRuleCache {
+
+    private static final Log LOG = LogFactory.getLog(CompiledRuleCache.class);
+    private static final int DEFAULT_CAPACITY = 10000;
+
+    private final ConcurrentMap<String, CompiledRule> compiledRules = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    public CompiledRuleCache() {
+
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CompiledRuleCache(int capacity) {
+
+        this.capacity = capacity;
+    }
+
+    /**
+     * Get the compiled form of the given rule, compiling the rule if it was not compiled before or was updated.
+     *
+     * @param rule             Rule.
+     * @param tenantDomain     Tenant domain of the rule.
+     * @param operatorRegistry Operator registry to resolve the operators of the rule.
+     * @return Compiled rule.
+     */
+    public CompiledRule getCompiledRule(Rule rule, String tenantDomain, OperatorRegistry operatorRegistry) {
+
+        String key = getKey(rule.getId(), tenantDomain);
+        CompiledRule compiledRule = compiledRules.get(key);
+        if (compiledRule != null && compiledRule.getRule() == rule) {
+            return compiledRule;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Compiling rule: " + rule.getId() + " of tenant: " + tenantDomain + ".");
+        }
+        compiledRule = CompiledRule.compile(rule, operatorRegistry);
+        if (compiledRules.size() >= capacity && !compiledRules.containsKey(key)) {
+            LOG.debug("Compiled rule cache reached its capacity. Clearing the cache.");
+            compiledRules.clear();
+        }
+        compiledRules.put(key, compiledRule);
+        return compiledRule;
+    }
+
+    /**
+     * Remove the compiled form of the given rule.
+     *
+     * @param ruleId       Rule ID.
+     * @param tenantDomain Tenant domain of the rule.
+     */
+    public void invalidate(String ruleId, String tenantDomain) {
+
+        compiledRules.remove(getKey(ruleId, tenantDomain));
+    }
+
+    /**
+     * Get the number of compiled rules in the cache.
+     *
+     * @return Number of compiled rules.
+     */
+    public int size() {
+
+        return compiledRules.size();
+    }
+
+    private static String getKey(String ruleId, String tenantDomain) {
+
+        return tenantDomain + ":" + ruleId;
+    }
+}
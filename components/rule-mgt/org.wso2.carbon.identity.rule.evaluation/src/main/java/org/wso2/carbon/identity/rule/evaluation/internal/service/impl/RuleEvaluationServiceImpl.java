@@ -54,6 +54,8 @@ public class RuleEvaluationServiceImpl implements RuleEvaluationService {
 
     private static final Log LOG = LogFactory.getLog(RuleEvaluationServiceImpl.class);
 
+    private final CompiledRuleCache compiledRuleCache = new CompiledRuleCache();
+
     @Override
     public RuleEvaluationResult evaluate(String ruleId, FlowContext flowContext, String tenantDomain)
             throws RuleEvaluationException {
@@ -62,6 +64,7 @@ public class RuleEvaluationServiceImpl implements RuleEvaluationService {
 
         if (!rule.isActive()) {
             LOG.debug("Rule: " + rule.getId() + " is inactive. Skip evaluation of rule.");
+            compiledRuleCache.invalidate(rule.getId(), tenantDomain);
             return new RuleEvaluationResult(ruleId, false);
         }
 
@@ -75,8 +78,8 @@ public class RuleEvaluationServiceImpl implements RuleEvaluationService {
                 getEvaluationData(ruleId, flowContext, tenantDomain, fieldsInRule);
 
         RuleEvaluator ruleEvaluator = new RuleEvaluator(RuleEvaluationComponentServiceHolder.getInstance()
-                .getOperatorRegistry());
-        boolean evaluationStatus = ruleEvaluator.evaluate(rule, evaluationData);
+                .getOperatorRegistry(), compiledRuleCache);
+        boolean evaluationStatus = ruleEvaluator.evaluate(rule, tenantDomain, evaluationData);
         LOG.debug("Evaluated rule: " + rule.getId() + " to: " + evaluationStatus + ".");
 
         return new RuleEvaluationResult(ruleId, evaluationStatus);
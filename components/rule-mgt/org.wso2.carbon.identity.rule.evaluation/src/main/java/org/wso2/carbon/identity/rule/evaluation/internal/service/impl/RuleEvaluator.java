@@ -18,43 +18,32 @@
 
 package org.wso2.carbon.identity.rule.evaluation.internal.service.impl;
 
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationException;
 import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
-import org.wso2.carbon.identity.rule.evaluation.api.model.Operator;
-import org.wso2.carbon.identity.rule.management.api.model.ANDCombinedRule;
-import org.wso2.carbon.identity.rule.management.api.model.Expression;
-import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
 import org.wso2.carbon.identity.rule.management.api.model.Rule;
 
-import java.util.List;
 import java.util.Map;
 
-import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.BOOLEAN;
-import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.LIST;
-import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.NUMBER;
-import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.REFERENCE;
-import static org.wso2.carbon.identity.rule.evaluation.api.model.ValueType.STRING;
-
 /**
  * Rule evaluator.
  * This class is responsible for evaluating rules.
+ * Rules are compiled into a {@link CompiledRule} before evaluation. Compiled rules are kept in the given
+ * {@link CompiledRuleCache} so that a rule is compiled only once until it is updated.
  */
 public class RuleEvaluator {
 
-    private static final Log LOG = LogFactory.getLog(RuleEvaluator.class);
-
     private final OperatorRegistry operatorRegistry;
-
-    // Operators
-    private static final String EQUALS = "equals";
-    private static final String NOT_EQUALS = "notEquals";
-    private static final String CONTAINS = "contains";
+    private final CompiledRuleCache compiledRuleCache;
 
     public RuleEvaluator(OperatorRegistry operatorRegistry) {
 
+        this(operatorRegistry, null);
+    }
+
+    public RuleEvaluator(OperatorRegistry operatorRegistry, CompiledRuleCache compiledRuleCache) {
+
         this.operatorRegistry = operatorRegistry;
+        this.compiledRuleCache = compiledRuleCache;
     }
 
     /**
@@ -67,71 +56,24 @@ public class RuleEvaluator {
      */
     public boolean evaluate(Rule rule, Map<String, FieldValue> evaluationData) throws RuleEvaluationException {
 
-        ORCombinedRule orRule = (ORCombinedRule) rule;
-        return evaluateORCombinedRule(orRule, evaluationData);
+        return evaluate(rule, null, evaluationData);
     }
 
-    private boolean evaluateORCombinedRule(ORCombinedRule orRule, Map<String, FieldValue> evaluationData)
-            throws RuleEvaluationException {
-
-        for (ANDCombinedRule andRule : orRule.getRules()) {
-            if (evaluateANDCombinedRule(andRule, evaluationData)) {
-                return true; // If any ANDCombinedRule evaluates to true, the ORCombinedRule passes
-            }
-        }
-        return false; // If none of the ANDCombinedRules pass, the ORCombinedRule fails
-    }
-
-    private boolean evaluateANDCombinedRule(ANDCombinedRule andRule, Map<String, FieldValue> evaluationData)
-            throws RuleEvaluationException {
-
-        for (Expression expression : andRule.getExpressions()) {
-            if (!evaluateExpression(expression, evaluationData)) {
-                return false; // If any expression fails, the ANDCombinedRule fails
-            }
-        }
-        return true; // All expressions passed, the ANDCombinedRule passes
-    }
-
-    private boolean evaluateExpression(Expression expression, Map<String, FieldValue> evaluationData)
+    /**
+     * Evaluate a given rule of a tenant, reusing the compiled rule if it was compiled before.
+     *
+     * @param rule           Rule to evaluate.
+     * @param tenantDomain   Tenant domain of the rule.
+     * @param evaluationData Evaluation data.
+     * @return Evaluation result.
+     * @throws RuleEvaluationException If an error occurs while evaluating the rule.
+     */
+    public boolean evaluate(Rule rule, String tenantDomain, Map<String, FieldValue> evaluationData)
             throws RuleEvaluationException {
 
-        FieldValue fieldValue = evaluationData.get(expression.getField());
-        if (fieldValue == null) {
-            throw new RuleEvaluationException("Field value not found for the field: " + expression.getField());
-        }
-
-        Operator operator = operatorRegistry.getOperator(expression.getOperator());
-
-        // Evaluate based on the value type of the field
-        if (fieldValue.getValueType().equals(STRING)) {
-            return operator.apply(fieldValue.getValue(), expression.getValue().getFieldValue());
-        } else if (fieldValue.getValueType().equals(BOOLEAN)) {
-            return operator.apply(fieldValue.getValue(),
-                    Boolean.parseBoolean(expression.getValue().getFieldValue()));
-        } else if (fieldValue.getValueType().equals(NUMBER)) {
-            return operator.apply(fieldValue.getValue(), Double.parseDouble(expression.getValue().getFieldValue()));
-        } else if (fieldValue.getValueType().equals(REFERENCE)) {
-            return operator.apply(fieldValue.getValue(), expression.getValue().getFieldValue());
-        } else if (fieldValue.getValueType().equals(LIST)) {
-            return applyOperatorForList(operator, fieldValue.getValue(), expression.getValue().getFieldValue());
-        }
-
-        throw new IllegalStateException("Unsupported value type: " + fieldValue.getValueType());
-    }
-
-    private boolean applyOperatorForList(Operator operator, Object fieldValue, Object expressionValue) {
-
-        List<?> list = (List<?>) fieldValue;
-
-        if (operator.getName().equals(EQUALS)) {
-            return list.contains(expressionValue);
-        } else if (operator.getName().equals(NOT_EQUALS)) {
-            return !list.contains(expressionValue);
-        } else if (operator.getName().equals(CONTAINS)) {
-            return list.contains(expressionValue);
-        }
-
-        throw new IllegalStateException("Unsupported operator: " + operator.getName() + " for LIST value type");
+        CompiledRule compiledRule = (compiledRuleCache != null && tenantDomain != null)
+                ? compiledRuleCache.getCompiledRule(rule, tenantDomain, operatorRegistry)
+                : CompiledRule.compile(rule, operatorRegistry);
+        return compiledRule.evaluate(evaluationData);
     }
 }
@@ -28,10 +28,13 @@ import org.wso2.carbon.identity.rule.evaluation.api.exception.RuleEvaluationExce
 import org.wso2.carbon.identity.rule.evaluation.api.model.FieldValue;
 import org.wso2.carbon.identity.rule.evaluation.api.model.ValueType;
 import org.wso2.carbon.identity.rule.evaluation.internal.component.RuleEvaluationComponentServiceHolder;
+import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.CompiledRule;
+import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.CompiledRuleCache;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.OperatorRegistry;
 import org.wso2.carbon.identity.rule.evaluation.internal.service.impl.RuleEvaluator;
 import org.wso2.carbon.identity.rule.management.api.model.Expression;
 import org.wso2.carbon.identity.rule.management.api.model.FlowType;
+import org.wso2.carbon.identity.rule.management.api.model.ORCombinedRule;
 import org.wso2.carbon.identity.rule.management.api.model.Rule;
 import org.wso2.carbon.identity.rule.management.api.model.Value;
 import org.wso2.carbon.identity.rule.management.api.util.RuleBuilder;
@@ -60,7 +63,10 @@ import java.util.Objects;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class RuleEvaluatorTest {
@@ -177,6 +183,40 @@ public class RuleEvaluatorTest {
                 Collections.emptyMap());
     }
 
+    @Test
+    public void testEvaluateRuleWithCompiledRuleCache() throws Exception {
+
+        CompiledRuleCache compiledRuleCache = new CompiledRuleCache();
+        RuleEvaluator cachingRuleEvaluator = new RuleEvaluator(operatorRegistry, compiledRuleCache);
+        Rule rule = createRuleWithTwoANDExpressionsUsingReferenceAndStringValueTypes();
+
+        assertTrue(cachingRuleEvaluator.evaluate(rule, "tenant1",
+                createEvaluationData("testapp", "authorization_code")));
+        assertFalse(cachingRuleEvaluator.evaluate(rule, "tenant1",
+                createEvaluationData("testapp", "client-credentials")));
+        assertEquals(compiledRuleCache.size(), 1);
+    }
+
+    @Test
+    public void testCompiledRuleIsReplacedOnRuleUpdate() throws Exception {
+
+        CompiledRuleCache compiledRuleCache = new CompiledRuleCache();
+        Rule rule = createRuleWithTwoANDExpressionsUsingReferenceAndStringValueTypes();
+
+        CompiledRule compiledRule = compiledRuleCache.getCompiledRule(rule, "tenant1", operatorRegistry);
+        assertSame(compiledRuleCache.getCompiledRule(rule, "tenant1", operatorRegistry), compiledRule);
+
+        Rule updatedRule = new ORCombinedRule.Builder((ORCombinedRule) rule).build();
+        CompiledRule updatedCompiledRule = compiledRuleCache.getCompiledRule(updatedRule, "tenant1",
+                operatorRegistry);
+        assertNotSame(updatedCompiledRule, compiledRule);
+        assertSame(updatedCompiledRule.getRule(), updatedRule);
+        assertEquals(compiledRuleCache.size(), 1);
+
+        compiledRuleCache.invalidate(rule.getId(), "tenant1");
+        assertEquals(compiledRuleCache.size(), 0);
+    }
+
     private Rule createRuleWithTwoANDExpressionsUsingReferenceAndStringValueTypes() throws Exception {
 
         RuleBuilder ruleBuilder = RuleBuilder.create(FlowType.PRE_ISSUE_ACCESS_TOKEN, "tenant1");
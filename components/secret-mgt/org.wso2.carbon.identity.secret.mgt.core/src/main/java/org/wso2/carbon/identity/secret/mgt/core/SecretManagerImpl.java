@@ -28,6 +28,7 @@ import org.osgi.annotation.bundle.Capability;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.core.util.CryptoException;
 import org.wso2.carbon.core.util.CryptoUtil;
+import org.wso2.carbon.identity.secret.mgt.core.cache.ResolvedSecretCache;
 import org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants;
 import org.wso2.carbon.identity.secret.mgt.core.dao.SecretDAO;
 import org.wso2.carbon.identity.secret.mgt.core.exception.SecretManagementClientException;
@@ -160,7 +161,9 @@ public class SecretManagerImpl implements SecretManager {
         validateSecretDeleteRequest(secretTypeName, secretName);
         SecretType secretType = getSecretType(secretTypeName);
         if (isSecretExist(secretTypeName, secretName)) {
+            String secretId = getSecret(secretTypeName, secretName).getSecretId();
             this.getSecretDAO().deleteSecretByName(secretName, secretType.getId(), getTenantId());
+            ResolvedSecretCache.getInstance().remove(secretId);
             if (log.isDebugEnabled()) {
                 log.debug("Secret: " + secretName + " is deleted successfully.");
             }
@@ -178,6 +181,7 @@ public class SecretManagerImpl implements SecretManager {
         }
         if (isSecretExistsById(secretId)) {
             this.getSecretDAO().deleteSecretById(secretId, getTenantId());
+            ResolvedSecretCache.getInstance().remove(secretId);
             if (log.isDebugEnabled()) {
                 log.debug("Secret id: " + secretId + " in tenant: " + getTenantDomain() + " deleted successfully.");
             }
@@ -196,6 +200,7 @@ public class SecretManagerImpl implements SecretManager {
         secret.setSecretType(secretTypeName);
         secret.setSecretValue(getEncryptedSecret(secret.getSecretValue(), secret.getSecretName()));
         this.getSecretDAO().replaceSecret(secret);
+        ResolvedSecretCache.getInstance().remove(secretId);
         if (log.isDebugEnabled()) {
             log.debug(secret.getSecretName() + " secret replaced successfully.");
         }
@@ -213,6 +218,7 @@ public class SecretManagerImpl implements SecretManager {
         } catch (CryptoException e) {
             throw handleServerException(ERROR_CODE_UPDATE_SECRET, value, e);
         }
+        ResolvedSecretCache.getInstance().remove(secret.getSecretId());
         if (log.isDebugEnabled()) {
             log.debug(secret.getSecretName() + " secret value updated successfully.");
         }
@@ -291,6 +297,7 @@ public class SecretManagerImpl implements SecretManager {
 
         validateSecretTypeDeleteRequest(secretTypeName);
         getSecretDAO().deleteSecretTypeByName(secretTypeName);
+        ResolvedSecretCache.getInstance().clear();
 
         if (log.isDebugEnabled()) {
             log.debug("Secret type: " + secretTypeName + " is successfully deleted.");
@@ -22,6 +22,7 @@ import org.apache.commons.codec.Charsets;
 import org.osgi.annotation.bundle.Capability;
 import org.wso2.carbon.core.util.CryptoException;
 import org.wso2.carbon.core.util.CryptoUtil;
+import org.wso2.carbon.identity.secret.mgt.core.cache.ResolvedSecretCache;
 import org.wso2.carbon.identity.secret.mgt.core.exception.SecretManagementException;
 import org.wso2.carbon.identity.secret.mgt.core.exception.SecretManagementServerException;
 import org.wso2.carbon.identity.secret.mgt.core.model.ResolvedSecret;
@@ -61,10 +62,21 @@ public class SecretResolveManagerImpl implements SecretResolveManager {
         resolvedSecret.setCreatedTime(secret.getCreatedTime());
         resolvedSecret.setLastModified(secret.getLastModified());
         resolvedSecret.setTenantDomain(secret.getTenantDomain());
-        resolvedSecret.setResolvedSecretValue(getDecryptedSecretValue(secret.getSecretValue(), secret.getSecretName()));
+        resolvedSecret.setResolvedSecretValue(getDecryptedSecretValue(secret));
         return resolvedSecret;
     }
 
+    private String getDecryptedSecretValue(Secret secret) throws SecretManagementServerException {
+
+        ResolvedSecretCache resolvedSecretCache = ResolvedSecretCache.getInstance();
+        String secretValue = resolvedSecretCache.get(secret.getSecretId(), secret.getSecretValue());
+        if (secretValue == null) {
+            secretValue = getDecryptedSecretValue(secret.getSecretValue(), secret.getSecretName());
+            resolvedSecretCache.put(secret.getSecretId(), secret.getSecretValue(), secretValue);
+        }
+        return secretValue;
+    }
+
     private String getDecryptedSecretValue(String secretValue, String name) throws SecretManagementServerException {
 
         try {
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.secret.mgt.core.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants.DEFAULT_RESOLVED_SECRET_CACHE_CAPACITY;
+import static org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants.DEFAULT_RESOLVED_SECRET_CACHE_TIME_TO_LIVE;
+import static org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants.RESOLVED_SECRET_CACHE_CAPACITY;
+import static org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants.RESOLVED_SECRET_CACHE_ENABLE;
+import static org.wso2.carbon.identity.secret.mgt.core.constant.SecretConstants.RESOLVED_SECRET_CACHE_TIME_TO_LIVE;
+
+/**
+ * Node local cache of the decrypted secret values, used to avoid decrypting a secret on every resolution.
+ * <p>
+ * The cache is disabled by default. Decrypted values must never leave the node, hence this cache is intentionally not
+ * a {@link org.wso2.carbon.identity.core.cache.BaseCache}, which may be distributed in a cluster. Entries are keyed by
+ * the secret ID and hold the cipher text they were decrypted from, so an entry is only used while the stored secret
+ * is unchanged, including when the secret was updated through another node. Entries expire after a short time to
+ * live, and the least recently used entry is evicted once the cache is full. The character arrays of the evicted,
+ * expired and removed entries are zeroed.
+ */
+public class ResolvedSecretCache {
+
+    private static final Log LOG = LogFactory.getLog(ResolvedSecretCache.class);
+    private static final ResolvedSecretCache instance = new ResolvedSecretCache();
+
+    private final boolean enabled;
+    private final int capacity;
+    private final long timeToLiveMillis;
+    private final Map<String, Entry> entries;
+
+    private ResolvedSecretCache() {
+
+        this(Boolean.parseBoolean(IdentityUtil.getProperty(RESOLVED_SECRET_CACHE_ENABLE)),
+                getConfiguredValue(RESOLVED_SECRET_CACHE_CAPACITY, DEFAULT_RESOLVED_SECRET_CACHE_CAPACITY),
+                TimeUnit.SECONDS.toMillis(getConfiguredValue(RESOLVED_SECRET_CACHE_TIME_TO_LIVE,
+                        DEFAULT_RESOLVED_SECRET_CACHE_TIME_TO_LIVE)));
+    }
+
+    ResolvedSecretCache(boolean enabled, int capacity, long timeToLiveMillis) {
+
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = -2371684937158260942L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+
+                if (size() > ResolvedSecretCache.this.capacity) {
+                    eldest.getValue().clear();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public static ResolvedSecretCache getInstance() {
+
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Get the decrypted value of a secret.
+     *
+     * @param secretId   Secret ID.
+     * @param cipherText Current cipher text of the secret.
+     * @return Decrypted value, or null if the value is not cached, has expired or was decrypted from a different
+     * cipher text.
+     */
+    public String get(String secretId, String cipherText) {
+
+        if (!enabled || secretId == null) {
+            return null;
+        }
+        synchronized (entries) {
+            Entry entry = entries.get(secretId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiryTime <= System.currentTimeMillis() || !entry.cipherText.equals(cipherText)) {
+                entries.remove(secretId);
+                entry.clear();
+                return null;
+            }
+            return new String(entry.value);
+        }
+    }
+
+    /**
+     * Add the decrypted value of a secret.
+     *
+     * @param secretId   Secret ID.
+     * @param cipherText Cipher text the value was decrypted from.
+     * @param value      Decrypted value.
+     */
+    public void put(String secretId, String cipherText, String value) {
+
+        if (!enabled || secretId == null || cipherText == null || value == null) {
+            return;
+        }
+        Entry entry = new Entry(cipherText, value.toCharArray(), System.currentTimeMillis() + timeToLiveMillis);
+        synchronized (entries) {
+            if (entries.size() >= capacity) {
+                // Drop the expired values before evicting the least recently used value.
+                removeExpiredEntries();
+            }
+            Entry previousEntry = entries.put(secretId, entry);
+            if (previousEntry != null) {
+                previousEntry.clear();
+            }
+        }
+    }
+
+    /**
+     * Remove the decrypted value of a secret.
+     *
+     * @param secretId Secret ID.
+     */
+    public void remove(String secretId) {
+
+        if (!enabled || secretId == null) {
+            return;
+        }
+        synchronized (entries) {
+            Entry entry = entries.remove(secretId);
+            if (entry != null) {
+                entry.clear();
+            }
+        }
+    }
+
+    /**
+     * Remove all the decrypted values.
+     */
+    public void clear() {
+
+        if (!enabled) {
+            return;
+        }
+        synchronized (entries) {
+            for (Entry entry : entries.values()) {
+                entry.clear();
+            }
+            entries.clear();
+        }
+    }
+
+    /**
+     * Get the number of cached values.
+     *
+     * @return Number of cached values.
+     */
+    public int size() {
+
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void removeExpiredEntries() {
+
+        long currentTime = System.currentTimeMillis();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.expiryTime <= currentTime) {
+                entry.clear();
+                iterator.remove();
+            }
+        }
+    }
+
+    private static int getConfiguredValue(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int configuredValue = Integer.parseInt(value.trim());
+            if (configuredValue > 0) {
+                return configuredValue;
+            }
+            LOG.warn("Invalid value: " + value + " configured for: " + property + ". Defaulting to " +
+                    defaultValue);
+        } catch (NumberFormatException e) {
+            LOG.warn("Error while parsing the value configured for: " + property + ". Defaulting to " +
+                    defaultValue, e);
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Decrypted value of a secret along with the cipher text it was decrypted from.
+     */
+    private static class Entry {
+
+        private final String cipherText;
+        private final char[] value;
+        private final long expiryTime;
+
+        Entry(String cipherText, char[] value, long expiryTime) {
+
+            this.cipherText = cipherText;
+            this.value = value;
+            this.expiryTime = expiryTime;
+        }
+
+        void clear() {
+
+            Arrays.fill(value, '\0');
+        }
+    }
+}
@@ -37,6 +37,12 @@ public class SecretConstants {
     public static final String DB_TABLE_SECRET_TYPE = "IDN_SECRET_TYPE";
     public static final String IDN_SECRET_TYPE_IDP_SECRETS = "IDP_SECRET_PROPERTIES";
     public static final String IS_SECRET_VALUE_CLOB_COLUMN_EXISTS = "IdentitySecretManager.SecretValueClobColumnExists";
+    public static final String RESOLVED_SECRET_CACHE_ENABLE = "IdentitySecretManager.ResolvedSecretCache.Enable";
+    public static final String RESOLVED_SECRET_CACHE_CAPACITY = "IdentitySecretManager.ResolvedSecretCache.Capacity";
+    public static final String RESOLVED_SECRET_CACHE_TIME_TO_LIVE =
+            "IdentitySecretManager.ResolvedSecretCache.TimeToLive";
+    public static final int DEFAULT_RESOLVED_SECRET_CACHE_CAPACITY = 1000;
+    public static final int DEFAULT_RESOLVED_SECRET_CACHE_TIME_TO_LIVE = 60;
 
     public enum ErrorMessages {
         ERROR_CODE_UNEXPECTED("SECRETM_00001", "Unexpected Error"),
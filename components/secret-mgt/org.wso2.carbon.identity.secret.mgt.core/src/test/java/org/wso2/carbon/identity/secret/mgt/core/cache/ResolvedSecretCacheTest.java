@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.secret.mgt.core.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the node local cache of the decrypted secret values.
+ */
+public class ResolvedSecretCacheTest {
+
+    private static final String SECRET_ID = "secret-id";
+    private static final String CIPHER_TEXT = "cipher-text";
+    private static final String SECRET_VALUE = "secret-value";
+
+    @Test
+    public void testGetCachedValue() {
+
+        ResolvedSecretCache cache = new ResolvedSecretCache(true, 10, 60000L);
+        cache.put(SECRET_ID, CIPHER_TEXT, SECRET_VALUE);
+
+        Assert.assertEquals(cache.get(SECRET_ID, CIPHER_TEXT), SECRET_VALUE);
+    }
+
+    @Test
+    public void testGetWithChangedCipherText() {
+
+        ResolvedSecretCache cache = new ResolvedSecretCache(true, 10, 60000L);
+        cache.put(SECRET_ID, CIPHER_TEXT, SECRET_VALUE);
+
+        Assert.assertNull(cache.get(SECRET_ID, "updated-cipher-text"));
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testGetExpiredValue() throws InterruptedException {
+
+        ResolvedSecretCache cache = new ResolvedSecretCache(true, 10, 1L);
+        cache.put(SECRET_ID, CIPHER_TEXT, SECRET_VALUE);
+        Thread.sleep(5L);
+
+        Assert.assertNull(cache.get(SECRET_ID, CIPHER_TEXT));
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+
+        ResolvedSecretCache cache = new ResolvedSecretCache(true, 10, 60000L);
+        cache.put(SECRET_ID, CIPHER_TEXT, SECRET_VALUE);
+        cache.put("other-secret-id", CIPHER_TEXT, SECRET_VALUE);
+
+        cache.remove(SECRET_ID);
+        Assert.assertNull(cache.get(SECRET_ID, CIPHER_TEXT));
+        Assert.assertEquals(cache.get("other-secret-id", CIPHER_TEXT), SECRET_VALUE);
+
+        cache.clear();
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsedValue() {
+
+        ResolvedSecretCache cache = new ResolvedSecretCache(true, 2, 60000L);
+        cache.put("secret-1", CIPHER_TEXT, SECRET_VALUE);
+        cache.put("secret-2", CIPHER_TEXT, SECRET_VALUE);
+        cache.get("secret-1", CIPHER_TEXT);
+        cache.put("secret-3", CIPHER_TEXT, SECRET_VALUE);
+
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertNull(cache.get("secret-2", CIPHER_TEXT));
+        Assert.assertEquals(cache.get("secret-1", CIPHER_TEXT), SECRET_VALUE);
+        Assert.assertEquals(cache.get("secret-3", CIPHER_TEXT), SECRET_VALUE);
+    }
+
+    @Test
+    public void testDisabledCache() {
+
+        ResolvedSecretCache cache = new ResolvedSecretCache(false, 10, 60000L);
+        cache.put(SECRET_ID, CIPHER_TEXT, SECRET_VALUE);
+
+        Assert.assertNull(cache.get(SECRET_ID, CIPHER_TEXT));
+        Assert.assertEquals(cache.size(), 0);
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.count;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.user.store.count.util.UserStoreCountUtils;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Approximate user and role counts of the user store domains.
+ * <p>
+ * A count is seeded with the exact count of the domain and then maintained incrementally with the user and role
+ * add and delete operations seen by this node. Operations done by the other nodes of a cluster or directly in the
+ * user store are not seen, hence a count is seeded again once the configured refresh interval has passed.
+ * The counts are only kept when enabled with the UserStoreCount.ApproximateCount.Enable property.
+ */
+public class ApproximateUserStoreCounter {
+
+    private static final ApproximateUserStoreCounter instance = new ApproximateUserStoreCounter();
+    private static final String USERS = "USERS";
+    private static final String ROLES = "ROLES";
+
+    private final ConcurrentMap<String, Count> counts = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long refreshIntervalMillis;
+
+    private ApproximateUserStoreCounter() {
+
+        this(Boolean.parseBoolean(IdentityUtil.getProperty(UserStoreCountUtils.APPROXIMATE_COUNT_ENABLE)),
+                TimeUnit.SECONDS.toMillis(UserStoreCountUtils.getConfiguredIntValue(
+                        UserStoreCountUtils.APPROXIMATE_COUNT_REFRESH_INTERVAL,
+                        UserStoreCountUtils.DEFAULT_APPROXIMATE_COUNT_REFRESH_INTERVAL)));
+    }
+
+    ApproximateUserStoreCounter(boolean enabled, long refreshIntervalMillis) {
+
+        this.enabled = enabled;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    public static ApproximateUserStoreCounter getInstance() {
+
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Get the approximate user count of the given domain.
+     *
+     * @param tenantId Tenant ID.
+     * @param domain   User store domain.
+     * @return User count, or null if the count is not seeded or is due for a refresh.
+     */
+    public Long getUserCount(int tenantId, String domain) {
+
+        return getCount(getKey(tenantId, USERS, domain));
+    }
+
+    /**
+     * Seed the approximate user count of the given domain with its exact count.
+     *
+     * @param tenantId Tenant ID.
+     * @param domain   User store domain.
+     * @param count    Exact user count.
+     */
+    public void setUserCount(int tenantId, String domain, long count) {
+
+        setCount(getKey(tenantId, USERS, domain), count);
+    }
+
+    /**
+     * Update the approximate user count of the given domain, if it is seeded.
+     *
+     * @param tenantId Tenant ID.
+     * @param domain   User store domain.
+     * @param delta    Number of users added, or negative number of users deleted.
+     */
+    public void updateUserCount(int tenantId, String domain, long delta) {
+
+        updateCount(getKey(tenantId, USERS, domain), delta);
+    }
+
+    /**
+     * Get the approximate role count of the given domain.
+     *
+     * @param tenantId Tenant ID.
+     * @param domain   User store domain.
+     * @return Role count, or null if the count is not seeded or is due for a refresh.
+     */
+    public Long getRoleCount(int tenantId, String domain) {
+
+        return getCount(getKey(tenantId, ROLES, domain));
+    }
+
+    /**
+     * Seed the approximate role count of the given domain with its exact count.
+     *
+     * @param tenantId Tenant ID.
+     * @param domain   User store domain.
+     * @param count    Exact role count.
+     */
+    public void setRoleCount(int tenantId, String domain, long count) {
+
+        setCount(getKey(tenantId, ROLES, domain), count);
+    }
+
+    /**
+     * Update the approximate role count of the given domain, if it is seeded.
+     *
+     * @param tenantId Tenant ID.
+     * @param domain   User store domain.
+     * @param delta    Number of roles added, or negative number of roles deleted.
+     */
+    public void updateRoleCount(int tenantId, String domain, long delta) {
+
+        updateCount(getKey(tenantId, ROLES, domain), delta);
+    }
+
+    /**
+     * Remove all the approximate counts.
+     */
+    public void clear() {
+
+        counts.clear();
+    }
+
+    private Long getCount(String key) {
+
+        if (!enabled) {
+            return null;
+        }
+        Count count = counts.get(key);
+        if (count == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - count.seededAt > refreshIntervalMillis) {
+            counts.remove(key, count);
+            return null;
+        }
+        return Math.max(0L, count.value.get());
+    }
+
+    private void setCount(String key, long value) {
+
+        if (enabled) {
+            counts.put(key, new Count(value));
+        }
+    }
+
+    private void updateCount(String key, long delta) {
+
+        if (!enabled) {
+            return;
+        }
+        Count count = counts.get(key);
+        if (count != null) {
+            count.value.addAndGet(delta);
+        }
+    }
+
+    private static String getKey(int tenantId, String type, String domain) {
+
+        return tenantId + ":" + type + ":" + StringUtils.upperCase(domain, Locale.ENGLISH);
+    }
+
+    /**
+     * Count of a domain along with the time it was seeded.
+     */
+    private static class Count {
+
+        private final AtomicLong value;
+        private final long seededAt;
+
+        Count(long value) {
+
+            this.value = new AtomicLong(value);
+            this.seededAt = System.currentTimeMillis();
+        }
+    }
+}
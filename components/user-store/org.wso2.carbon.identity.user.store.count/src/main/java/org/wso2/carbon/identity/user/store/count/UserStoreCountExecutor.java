@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.count;
+
+import org.wso2.carbon.identity.core.ThreadLocalAwareThreadPoolExecutor;
+import org.wso2.carbon.identity.user.store.count.util.UserStoreCountUtils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor running the per user store domain count queries of {@link UserStoreCountService}.
+ * The threads of the executor time out when idle, hence the executor does not hold any thread between the count
+ * requests. The number of waiting count queries is bounded, and a query is rejected when the queue is full, so that
+ * hung count queries cannot pile up an unbounded backlog.
+ */
+public class UserStoreCountExecutor {
+
+    private static final long KEEP_ALIVE_TIME_SECONDS = 60L;
+    private static volatile UserStoreCountExecutor instance;
+
+    private final ThreadPoolExecutor threadPoolExecutor;
+
+    private UserStoreCountExecutor() {
+
+        this(UserStoreCountUtils.getConfiguredIntValue(UserStoreCountUtils.COUNT_THREAD_POOL_SIZE,
+                UserStoreCountUtils.DEFAULT_COUNT_THREAD_POOL_SIZE),
+                UserStoreCountUtils.getConfiguredIntValue(UserStoreCountUtils.COUNT_QUEUE_SIZE,
+                        UserStoreCountUtils.DEFAULT_COUNT_QUEUE_SIZE));
+    }
+
+    UserStoreCountExecutor(int poolSize, int queueSize) {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        threadPoolExecutor = new ThreadLocalAwareThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_TIME_SECONDS,
+                TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "UserStoreCount-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    public static UserStoreCountExecutor getInstance() {
+
+        if (instance == null) {
+            synchronized (UserStoreCountExecutor.class) {
+                if (instance == null) {
+                    instance = new UserStoreCountExecutor();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Submit a count query.
+     *
+     * @param task Count query.
+     * @return Future of the count.
+     * @throws RejectedExecutionException If the queue of the executor is full.
+     */
+    public Future<Long> submit(Callable<Long> task) {
+
+        return threadPoolExecutor.submit(task);
+    }
+
+    /**
+     * Shut down the executor if it has been created.
+     */
+    public static void shutdown() {
+
+        synchronized (UserStoreCountExecutor.class) {
+            if (instance != null) {
+                instance.shutdownNow();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Shut down this executor, interrupting the running count queries.
+     */
+    void shutdownNow() {
+
+        threadPoolExecutor.shutdownNow();
+    }
+}
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.user.store.count;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.user.store.count.dto.PairDTO;
 import org.wso2.carbon.identity.user.store.count.exception.UserStoreCounterException;
 import org.wso2.carbon.identity.user.store.count.internal.UserStoreCountDSComponent;
@@ -29,7 +30,15 @@ import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.api.UserStoreManager;
 import org.wso2.carbon.user.core.UserCoreConstants;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Service class that expose count functionality for underline user stores on users, roles and claims.
@@ -37,10 +46,13 @@ import java.util.Set;
 public class UserStoreCountService {
 
     private static final Log log = LogFactory.getLog(UserStoreCountService.class);
+    private static final String WILDCARD_FILTER = "*";
     int tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
 
     /**
-     * Get the count of users having a matching user name for the filter
+     * Get the count of users having a matching user name for the filter.
+     * The domains are counted concurrently. The count of a domain which fails or does not complete within the
+     * configured timeout is reported as an error, while the counts of the other domains are still returned.
      *
      * @param filter the filter for the user name. Use '*' to have all.
      * @return the number of users matching the filter by each domain
@@ -48,62 +60,64 @@ public class UserStoreCountService {
     public PairDTO[] countUsers(String filter) throws UserStoreCounterException {
 
         Set<String> userStoreDomains = UserStoreCountUtils.getCountEnabledUserStores();
+        List<Future<Long>> futures = new ArrayList<>(userStoreDomains.size());
+        for (String userStoreDomain : userStoreDomains) {
+            futures.add(submit(() -> countUsersInDomain(filter, userStoreDomain)));
+        }
+
+        long deadline = getDeadline();
         PairDTO[] userCounts = new PairDTO[userStoreDomains.size()];
         int i = 0;
-
         for (String userStoreDomain : userStoreDomains) {
-            String filterWithDomain = getFilterWithDomain(userStoreDomain, filter);
-            long count = -1L;
-            try {
-                count = getUserCountWithClaims(UserStoreCountUtils.USERNAME_CLAIM, filterWithDomain);
-                userCounts[i] = new PairDTO(userStoreDomain, Long.toString(count));
-            } catch (UserStoreCounterException e) {
-                userCounts[i] = new PairDTO(userStoreDomain, "Error while getting user count");
-                log.error("Error while getting user count from user store domain : " + userStoreDomain, e);
-            }
+            Long count = getCount(futures.get(i), deadline, "user count from user store domain : " + userStoreDomain);
+            userCounts[i] = new PairDTO(userStoreDomain,
+                    count == null ? "Error while getting user count" : Long.toString(count));
             i++;
         }
         return userCounts;
     }
 
     /**
-     * Get the count of roles having a matching role name for the filter
+     * Get the count of roles having a matching role name for the filter.
+     * The domains are counted concurrently. The count of a user store domain which fails or does not complete within
+     * the configured timeout is reported as an error, while the counts of the other domains are still returned. A
+     * failure of the Internal or Application role count fails the whole count, as before.
      *
      * @param filter the filter for the role name. Use '*' to have all.
      * @return the number of roles matching the filter by each domain
      */
     public PairDTO[] countRoles(String filter) throws UserStoreCounterException {
 
-        Set<String> userStoreDomains = UserStoreCountUtils.getCountEnabledUserStores();
-        // Add 2 more for the counts of Internal, Application domains.
-        PairDTO[] roleCounts = new PairDTO[userStoreDomains.size() + 2];
-        int i = 0;
+        List<String> domains = new ArrayList<>(UserStoreCountUtils.getCountEnabledUserStores());
+        // Add the Internal, Application domains as well.
+        domains.add(UserCoreConstants.INTERNAL_DOMAIN);
+        domains.add(InternalStoreCountConstants.APPLICATION_DOMAIN);
+        List<Future<Long>> futures = new ArrayList<>(domains.size());
+        for (String domain : domains) {
+            futures.add(submit(() -> countRolesInDomain(filter, domain)));
+        }
 
-        for (String userStoreDomain : userStoreDomains) {
-            long count = -1L;
-            String filterWithDomain = getFilterWithDomain(userStoreDomain, filter);
-            try {
-                count = getRoleCount(filterWithDomain);
-                roleCounts[i] = new PairDTO(userStoreDomain, Long.toString(count));
-            } catch (UserStoreCounterException e) {
-                roleCounts[i] = new PairDTO(userStoreDomain, "Error while getting role count");
-                log.error("Error while getting role count from user store domain : " + userStoreDomain, e);
+        long deadline = getDeadline();
+        PairDTO[] roleCounts = new PairDTO[domains.size()];
+        int userStoreDomainCount = domains.size() - 2;
+        for (int i = 0; i < domains.size(); i++) {
+            String description = "role count from user store domain : " + domains.get(i);
+            String count;
+            if (i < userStoreDomainCount) {
+                Long userStoreCount = getCount(futures.get(i), deadline, description);
+                count = userStoreCount == null ? "Error while getting role count" : Long.toString(userStoreCount);
+            } else {
+                count = Long.toString(getRequiredCount(futures.get(i), deadline, description));
             }
-            i++;
+            roleCounts[i] = new PairDTO(domains.get(i), count);
         }
-        String internalDomainFilter = UserCoreConstants.INTERNAL_DOMAIN + UserCoreConstants.DOMAIN_SEPARATOR + filter;
-        String applicationDomainFilter = InternalStoreCountConstants.APPLICATION_DOMAIN +
-                UserCoreConstants.DOMAIN_SEPARATOR + filter;
-        roleCounts[i] = new PairDTO(UserCoreConstants.INTERNAL_DOMAIN, String.valueOf(
-                getRoleCount(internalDomainFilter)));
-        roleCounts[++i] = new PairDTO(InternalStoreCountConstants.APPLICATION_DOMAIN, String.valueOf(
-                getRoleCount(applicationDomainFilter)));
-
         return roleCounts;
     }
 
     /**
-     * Get the count of users having claim values matching the given filter for the given claim URI
+     * Get the count of users having claim values matching the given filter for the given claim URI.
+     * The domains are counted concurrently. The count of a domain which fails or does not complete within the
+     * configured timeout is reported as -1, while the counts of the other domains are still returned.
      *
      * @param claimURI    the claim URI
      * @param valueFilter filter for the claim values
@@ -112,19 +126,18 @@ public class UserStoreCountService {
     public PairDTO[] countClaim(String claimURI, String valueFilter) throws UserStoreCounterException {
 
         Set<String> userStoreDomains = UserStoreCountUtils.getCountEnabledUserStores();
+        List<Future<Long>> futures = new ArrayList<>(userStoreDomains.size());
+        for (String userStoreDomain : userStoreDomains) {
+            futures.add(submit(() -> countByClaimInDomain(claimURI, valueFilter, userStoreDomain)));
+        }
+
+        long deadline = getDeadline();
         PairDTO[] claimCounts = new PairDTO[userStoreDomains.size()];
         int i = 0;
-
         for (String userStoreDomain : userStoreDomains) {
-            long count = -1L;
-            String filterWithDomain = getFilterWithDomain(userStoreDomain, valueFilter);
-            try {
-                count = getUserCountWithClaims(claimURI, filterWithDomain);
-            } catch (UserStoreCounterException e) {
-                log.error("Error while getting user count with claim : " + claimURI + ", from user store domain : "
-                        + userStoreDomain, e);
-            }
-            claimCounts[i] = new PairDTO(userStoreDomain, Long.toString(count));
+            Long count = getCount(futures.get(i), deadline, "user count with claim : " + claimURI +
+                    ", from user store domain : " + userStoreDomain);
+            claimCounts[i] = new PairDTO(userStoreDomain, Long.toString(count == null ? -1L : count));
             i++;
         }
         return claimCounts;
@@ -138,8 +151,20 @@ public class UserStoreCountService {
      */
     public long countUsersInDomain(String filter, String domain) throws UserStoreCounterException {
 
+        ApproximateUserStoreCounter approximateCounter = ApproximateUserStoreCounter.getInstance();
+        boolean countAll = approximateCounter.isEnabled() && WILDCARD_FILTER.equals(filter);
+        if (countAll) {
+            Long count = approximateCounter.getUserCount(tenantId, domain);
+            if (count != null) {
+                return count;
+            }
+        }
         String filterWithDomain = getFilterWithDomain(domain, filter);
-        return getUserCountWithClaims(UserStoreCountUtils.USERNAME_CLAIM, filterWithDomain);
+        long count = getUserCountWithClaims(UserStoreCountUtils.USERNAME_CLAIM, filterWithDomain);
+        if (countAll) {
+            approximateCounter.setUserCount(tenantId, domain, count);
+        }
+        return count;
     }
 
     /**
@@ -150,8 +175,24 @@ public class UserStoreCountService {
      */
     public long countRolesInDomain(String filter, String domain) throws UserStoreCounterException {
 
+        ApproximateUserStoreCounter approximateCounter = ApproximateUserStoreCounter.getInstance();
+        // Internal and application roles are also managed without going through the user store managers, hence
+        // their counts are never approximated.
+        boolean countAll = approximateCounter.isEnabled() && WILDCARD_FILTER.equals(filter) &&
+                !UserCoreConstants.INTERNAL_DOMAIN.equalsIgnoreCase(domain) &&
+                !InternalStoreCountConstants.APPLICATION_DOMAIN.equalsIgnoreCase(domain);
+        if (countAll) {
+            Long count = approximateCounter.getRoleCount(tenantId, domain);
+            if (count != null) {
+                return count;
+            }
+        }
         String filterWithDomain = getFilterWithDomain(domain, filter);
-        return getRoleCount(filterWithDomain);
+        long count = getRoleCount(filterWithDomain);
+        if (countAll) {
+            approximateCounter.setRoleCount(tenantId, domain, count);
+        }
+        return count;
     }
 
     /**
@@ -236,6 +277,96 @@ public class UserStoreCountService {
         }
     }
 
+    /**
+     * Submit a count query of a domain to be run in the tenant of this service.
+     *
+     * @param countQuery Count query of the domain.
+     * @return Future of the count.
+     */
+    private Future<Long> submit(CountQuery countQuery) {
+
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        try {
+            return UserStoreCountExecutor.getInstance().submit(() -> {
+                try {
+                    PrivilegedCarbonContext.startTenantFlow();
+                    PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                    carbonContext.setTenantId(tenantId);
+                    carbonContext.setTenantDomain(tenantDomain);
+                    return countQuery.count();
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The count queries are backed up, hence the count of the domain is reported as failed.
+            CompletableFuture<Long> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(new UserStoreCounterException("Too many pending user store count " +
+                    "queries. The count query is rejected.", e));
+            return rejected;
+        }
+    }
+
+    /**
+     * Wait for the count of a domain until the given deadline.
+     *
+     * @param future      Future of the count.
+     * @param deadline    Time in milliseconds until which the count is waited for.
+     * @param description Description of the count used in the logs.
+     * @return Count, or null if the count failed or did not complete before the deadline.
+     */
+    private Long getCount(Future<Long> future, long deadline, String description) {
+
+        try {
+            return future.get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Timed out while getting " + description);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while getting " + description, e);
+        } catch (ExecutionException e) {
+            log.error("Error while getting " + description, e.getCause());
+        }
+        return null;
+    }
+
+    /**
+     * Wait for the count of a domain which is required for the whole count until the given deadline.
+     *
+     * @param future      Future of the count.
+     * @param deadline    Time in milliseconds until which the count is waited for.
+     * @param description Description of the count used in the errors.
+     * @return Count.
+     * @throws UserStoreCounterException If the count failed or did not complete before the deadline.
+     */
+    private long getRequiredCount(Future<Long> future, long deadline, String description)
+            throws UserStoreCounterException {
+
+        try {
+            return future.get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new UserStoreCounterException("Timed out while getting " + description, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new UserStoreCounterException("Interrupted while getting " + description, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UserStoreCounterException) {
+                throw (UserStoreCounterException) e.getCause();
+            }
+            throw new UserStoreCounterException("Error while getting " + description, e.getCause());
+        }
+    }
+
+    private long getDeadline() {
+
+        return System.currentTimeMillis() + UserStoreCountUtils.getConfiguredIntValue(
+                UserStoreCountUtils.DOMAIN_COUNT_TIMEOUT, UserStoreCountUtils.DEFAULT_DOMAIN_COUNT_TIMEOUT);
+    }
+
     private String getFilterWithDomain(String domain, String filter) {
 
         return domain + UserCoreConstants.DOMAIN_SEPARATOR + filter;
@@ -253,4 +384,13 @@ public class UserStoreCountService {
             throw new UserStoreCounterException("Error while retrieving userStoreManager");
         }
     }
+
+    /**
+     * Count query of a domain.
+     */
+    @FunctionalInterface
+    private interface CountQuery {
+
+        long count() throws UserStoreCounterException;
+    }
 }
@@ -29,9 +29,13 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
 import org.wso2.carbon.identity.user.store.count.AbstractCountRetrieverFactory;
+import org.wso2.carbon.identity.user.store.count.ApproximateUserStoreCounter;
+import org.wso2.carbon.identity.user.store.count.UserStoreCountExecutor;
 import org.wso2.carbon.identity.user.store.count.exception.UserStoreCounterException;
 import org.wso2.carbon.identity.user.store.count.jdbc.JDBCCountRetrieverFactory;
 import org.wso2.carbon.identity.user.store.count.jdbc.internal.InternalCountRetrieverFactory;
+import org.wso2.carbon.identity.user.store.count.listener.ApproximateCountUserOperationEventListener;
+import org.wso2.carbon.user.core.listener.UserOperationEventListener;
 import org.wso2.carbon.user.core.service.RealmService;
 
 /**
@@ -102,6 +106,14 @@ public class UserStoreCountDSComponent {
         } else {
             log.error("Identity User Store Count -  JDBCUserStoreCountRetriever could not be registered.");
         }
+
+        if (ApproximateUserStoreCounter.getInstance().isEnabled()) {
+            bundleContext.registerService(UserOperationEventListener.class.getName(),
+                    new ApproximateCountUserOperationEventListener(), null);
+            if (log.isDebugEnabled()) {
+                log.debug("Identity User Store Count - ApproximateCountUserOperationEventListener registered.");
+            }
+        }
     }
 
     protected void deactivate(ComponentContext ctxt) {
@@ -109,6 +121,8 @@ public class UserStoreCountDSComponent {
             log.debug("User store count bundle is deactivated");
         }
 
+        UserStoreCountExecutor.shutdown();
+        ApproximateUserStoreCounter.getInstance().clear();
         UserStoreCountDataHolder.getInstance().setBundleContext(null);
     }
 
@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.user.store.count.AbstractUserStoreCountRetriever;
 import org.wso2.carbon.identity.user.store.count.exception.UserStoreCounterException;
 import org.wso2.carbon.identity.user.store.count.internal.UserStoreCountDSComponent;
+import org.wso2.carbon.identity.user.store.count.util.UserStoreCountUtils;
 import org.wso2.carbon.user.api.RealmConfiguration;
 import org.wso2.carbon.user.api.UserRealm;
 import org.wso2.carbon.user.api.UserStoreException;
@@ -69,6 +70,7 @@ public class JDBCUserStoreCountRetriever extends AbstractUserStoreCountRetriever
             dbConnection = getDBConnection(realmConfiguration);
             sqlStmt = JDBCUserStoreMetricsConstants.COUNT_USERS_SQL;
             prepStmt = dbConnection.prepareStatement(sqlStmt);
+            prepStmt.setQueryTimeout(UserStoreCountUtils.getCountQueryTimeout());
             prepStmt.setString(1, "%" + filter + "%");
             prepStmt.setInt(2, tenantId);
             prepStmt.setQueryTimeout(searchTime);
@@ -106,6 +108,7 @@ public class JDBCUserStoreCountRetriever extends AbstractUserStoreCountRetriever
             dbConnection = getDBConnection(realmConfiguration);
             sqlStmt = JDBCUserStoreMetricsConstants.COUNT_ROLES_SQL;
             prepStmt = dbConnection.prepareStatement(sqlStmt);
+            prepStmt.setQueryTimeout(UserStoreCountUtils.getCountQueryTimeout());
             prepStmt.setString(1, "%" + filter + "%");
             prepStmt.setInt(2, tenantId);
             prepStmt.setQueryTimeout(searchTime);
@@ -156,6 +159,7 @@ public class JDBCUserStoreCountRetriever extends AbstractUserStoreCountRetriever
             dbConnection = getDBConnection(realmConfiguration);
             sqlStmt = JDBCUserStoreMetricsConstants.COUNT_CLAIM_SQL;
             prepStmt = dbConnection.prepareStatement(sqlStmt);
+            prepStmt.setQueryTimeout(UserStoreCountUtils.getCountQueryTimeout());
             prepStmt.setString(1, mappedAttribute);
             prepStmt.setInt(2, tenantId);
             prepStmt.setString(3, "%" + valueFilter + "%");
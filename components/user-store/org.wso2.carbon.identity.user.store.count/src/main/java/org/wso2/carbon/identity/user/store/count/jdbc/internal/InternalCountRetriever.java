@@ -22,6 +22,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.user.store.count.AbstractUserStoreCountRetriever;
 import org.wso2.carbon.identity.user.store.count.exception.UserStoreCounterException;
+import org.wso2.carbon.identity.user.store.count.util.UserStoreCountUtils;
 import org.wso2.carbon.user.api.RealmConfiguration;
 import org.wso2.carbon.user.api.UserStoreException;
 import org.wso2.carbon.user.core.UserCoreConstants;
@@ -64,6 +65,7 @@ public class InternalCountRetriever extends AbstractUserStoreCountRetriever {
                 sqlStmt = InternalStoreCountConstants.COUNT_INTERNAL_ROLES_SQL;
             }
             prepStmt = dbConnection.prepareStatement(sqlStmt);
+            prepStmt.setQueryTimeout(UserStoreCountUtils.getCountQueryTimeout());
             prepStmt.setString(1, filter);
             prepStmt.setInt(2, tenantId);
             prepStmt.setQueryTimeout(searchTime);
@@ -98,6 +100,7 @@ public class InternalCountRetriever extends AbstractUserStoreCountRetriever {
             dbConnection = getDBConnection(false);
             sqlStmt = InternalStoreCountConstants.COUNT_INTERNAL_ROLES_SQL;
             prepStmt = dbConnection.prepareStatement(sqlStmt);
+            prepStmt.setQueryTimeout(UserStoreCountUtils.getCountQueryTimeout());
             prepStmt.setString(1, filter);
             prepStmt.setInt(2, tenantId);
             prepStmt.setQueryTimeout(searchTime);
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.count.listener;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.core.AbstractIdentityUserOperationEventListener;
+import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.user.store.count.ApproximateUserStoreCounter;
+import org.wso2.carbon.identity.user.store.count.jdbc.internal.InternalStoreCountConstants;
+import org.wso2.carbon.user.api.Permission;
+import org.wso2.carbon.user.core.UserCoreConstants;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.UserStoreManager;
+import org.wso2.carbon.user.core.util.UserCoreUtil;
+
+import java.util.Map;
+
+/**
+ * User operation event listener maintaining the approximate user and role counts of the user store domains with the
+ * user and role add and delete operations.
+ */
+public class ApproximateCountUserOperationEventListener extends AbstractIdentityUserOperationEventListener {
+
+    @Override
+    public int getExecutionOrderId() {
+
+        int orderId = getOrderId();
+        if (orderId != IdentityCoreConstants.EVENT_LISTENER_ORDER_ID) {
+            return orderId;
+        }
+        return 120;
+    }
+
+    @Override
+    public boolean doPostAddUser(String userName, Object credential, String[] roleList, Map<String, String> claims,
+                                 String profile, UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (isEnable()) {
+            ApproximateUserStoreCounter.getInstance().updateUserCount(userStoreManager.getTenantId(),
+                    getDomain(userName, userStoreManager), 1);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteUser(String userName, UserStoreManager userStoreManager) throws UserStoreException {
+
+        if (isEnable()) {
+            ApproximateUserStoreCounter.getInstance().updateUserCount(userStoreManager.getTenantId(),
+                    getDomain(userName, userStoreManager), -1);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostAddRole(String roleName, String[] userList, Permission[] permissions,
+                                 UserStoreManager userStoreManager) throws UserStoreException {
+
+        String domain = getDomain(roleName, userStoreManager);
+        if (isEnable() && !isInternalDomain(domain)) {
+            ApproximateUserStoreCounter.getInstance().updateRoleCount(userStoreManager.getTenantId(), domain, 1);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteRole(String roleName, UserStoreManager userStoreManager) throws UserStoreException {
+
+        String domain = getDomain(roleName, userStoreManager);
+        if (isEnable() && !isInternalDomain(domain)) {
+            ApproximateUserStoreCounter.getInstance().updateRoleCount(userStoreManager.getTenantId(), domain, -1);
+        }
+        return true;
+    }
+
+    private String getDomain(String name, UserStoreManager userStoreManager) {
+
+        if (StringUtils.contains(name, UserCoreConstants.DOMAIN_SEPARATOR)) {
+            return UserCoreUtil.extractDomainFromName(name);
+        }
+        return UserCoreUtil.getDomainName(userStoreManager.getRealmConfiguration());
+    }
+
+    private boolean isInternalDomain(String domain) {
+
+        // Internal and application role counts are always retrieved from the database, as the roles of these domains
+        // are also managed without going through the user store managers.
+        return UserCoreConstants.INTERNAL_DOMAIN.equalsIgnoreCase(domain) ||
+                InternalStoreCountConstants.APPLICATION_DOMAIN.equalsIgnoreCase(domain);
+    }
+}
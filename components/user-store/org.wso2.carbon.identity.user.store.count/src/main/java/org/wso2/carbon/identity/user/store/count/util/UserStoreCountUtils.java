@@ -37,6 +37,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Util class for user store counting functionality for users, roles and by claims
@@ -45,6 +46,15 @@ public class UserStoreCountUtils {
     public static final String COUNT_RETRIEVER_CLASS = "CountRetrieverClass";
     private static final Log log = LogFactory.getLog(UserStoreCountUtils.class);
     public static final String USERNAME_CLAIM = "http://wso2.org/claims/username";
+    public static final String COUNT_THREAD_POOL_SIZE = "UserStoreCount.ThreadPoolSize";
+    public static final String COUNT_QUEUE_SIZE = "UserStoreCount.QueueSize";
+    public static final String DOMAIN_COUNT_TIMEOUT = "UserStoreCount.DomainCountTimeout";
+    public static final String APPROXIMATE_COUNT_ENABLE = "UserStoreCount.ApproximateCount.Enable";
+    public static final String APPROXIMATE_COUNT_REFRESH_INTERVAL = "UserStoreCount.ApproximateCount.RefreshInterval";
+    public static final int DEFAULT_COUNT_THREAD_POOL_SIZE = 4;
+    public static final int DEFAULT_COUNT_QUEUE_SIZE = 100;
+    public static final int DEFAULT_DOMAIN_COUNT_TIMEOUT = 10000;
+    public static final int DEFAULT_APPROXIMATE_COUNT_REFRESH_INTERVAL = 300;
 
     /**
      * Get the available list of user store domains
@@ -236,4 +246,42 @@ public class UserStoreCountUtils {
         }
         return isEnabled;
     }
+
+    /**
+     * Get a positive integer value configured in identity.xml.
+     *
+     * @param property     Property name.
+     * @param defaultValue Value used when the property is not configured or invalid.
+     * @return Configured value.
+     */
+    public static int getConfiguredIntValue(String property, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int configuredValue = Integer.parseInt(value.trim());
+            if (configuredValue > 0) {
+                return configuredValue;
+            }
+            log.warn("Invalid value: " + value + " configured for: " + property + ". Defaulting to " +
+                    defaultValue);
+        } catch (NumberFormatException e) {
+            log.warn("Error while parsing the value configured for: " + property + ". Defaulting to " +
+                    defaultValue, e);
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Get the query timeout of the count queries, derived from the domain count timeout.
+     *
+     * @return Query timeout in seconds.
+     */
+    public static int getCountQueryTimeout() {
+
+        int domainCountTimeout = getConfiguredIntValue(DOMAIN_COUNT_TIMEOUT, DEFAULT_DOMAIN_COUNT_TIMEOUT);
+        return (int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(domainCountTimeout + 999L));
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.user.store.count;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Test class for ApproximateUserStoreCounter test cases.
+ */
+public class ApproximateUserStoreCounterTest {
+
+    private static final int TENANT_ID = -1234;
+    private static final String DOMAIN = "PRIMARY";
+
+    @Test
+    public void testCountsAreMaintainedAfterSeeding() {
+
+        ApproximateUserStoreCounter counter = new ApproximateUserStoreCounter(true, 60000L);
+        // Updates before the count is seeded are ignored.
+        counter.updateUserCount(TENANT_ID, DOMAIN, 5);
+        assertNull(counter.getUserCount(TENANT_ID, DOMAIN));
+
+        counter.setUserCount(TENANT_ID, DOMAIN, 10);
+        counter.updateUserCount(TENANT_ID, "primary", 2);
+        counter.updateUserCount(TENANT_ID, DOMAIN, -1);
+        counter.setRoleCount(TENANT_ID, DOMAIN, 3);
+        counter.updateRoleCount(TENANT_ID, DOMAIN, -5);
+
+        assertEquals(counter.getUserCount(TENANT_ID, DOMAIN), Long.valueOf(11));
+        assertEquals(counter.getRoleCount(TENANT_ID, DOMAIN), Long.valueOf(0));
+        assertNull(counter.getUserCount(1, DOMAIN));
+
+        counter.clear();
+        assertNull(counter.getUserCount(TENANT_ID, DOMAIN));
+    }
+
+    @Test
+    public void testCountIsSeededAgainAfterRefreshInterval() throws Exception {
+
+        ApproximateUserStoreCounter counter = new ApproximateUserStoreCounter(true, 0L);
+        counter.setUserCount(TENANT_ID, DOMAIN, 10);
+        Thread.sleep(5);
+
+        assertNull(counter.getUserCount(TENANT_ID, DOMAIN));
+    }
+
+    @Test
+    public void testCountsAreNotKeptWhenDisabled() {
+
+        ApproximateUserStoreCounter counter = new ApproximateUserStoreCounter(false, 60000L);
+        counter.setUserCount(TENANT_ID, DOMAIN, 10);
+        counter.setRoleCount(TENANT_ID, DOMAIN, 10);
+
+        assertNull(counter.getUserCount(TENANT_ID, DOMAIN));
+        assertNull(counter.getRoleCount(TENANT_ID, DOMAIN));
+    }
+}
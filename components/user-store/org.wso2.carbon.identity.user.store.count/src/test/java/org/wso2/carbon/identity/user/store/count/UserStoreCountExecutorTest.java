@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.user.store.count;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Test class for UserStoreCountExecutor test cases.
+ */
+public class UserStoreCountExecutorTest {
+
+    @Test
+    public void testSubmitWhenQueueIsFull() throws Exception {
+
+        UserStoreCountExecutor executor = new UserStoreCountExecutor(1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Future<Long> running = executor.submit(() -> {
+                started.countDown();
+                release.await();
+                return 1L;
+            });
+            started.await(10, TimeUnit.SECONDS);
+            Future<Long> queued = executor.submit(() -> 2L);
+
+            assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> 3L));
+
+            release.countDown();
+            assertEquals(running.get(10, TimeUnit.SECONDS), Long.valueOf(1));
+            assertEquals(queued.get(10, TimeUnit.SECONDS), Long.valueOf(2));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.user.store.count;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.user.store.count.dto.PairDTO;
+import org.wso2.carbon.identity.user.store.count.exception.UserStoreCounterException;
+import org.wso2.carbon.identity.user.store.count.jdbc.internal.InternalStoreCountConstants;
+import org.wso2.carbon.identity.user.store.count.util.UserStoreCountUtils;
+import org.wso2.carbon.user.core.UserCoreConstants;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.concurrent.CountDownLatch;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.spy;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+/**
+ * Test class for UserStoreCountService test cases.
+ */
+public class UserStoreCountServiceTest {
+
+    private static final String FILTER = "*";
+    private static final String PRIMARY_DOMAIN = "PRIMARY";
+    private static final String SECONDARY_DOMAIN = "SECONDARY";
+    private static final int DOMAIN_COUNT_TIMEOUT = 500;
+
+    private MockedStatic<UserStoreCountUtils> userStoreCountUtils;
+    private UserStoreCountService userStoreCountService;
+    private CountDownLatch release;
+
+    @BeforeClass
+    public void setUpClass() {
+
+        System.setProperty("carbon.home", System.getProperty("java.io.tmpdir"));
+    }
+
+    @BeforeMethod
+    public void setUp() {
+
+        userStoreCountUtils = mockStatic(UserStoreCountUtils.class);
+        userStoreCountUtils.when(UserStoreCountUtils::getCountEnabledUserStores)
+                .thenReturn(new LinkedHashSet<>(Arrays.asList(PRIMARY_DOMAIN, SECONDARY_DOMAIN)));
+        userStoreCountUtils.when(() -> UserStoreCountUtils.getConfiguredIntValue(anyString(), anyInt()))
+                .thenAnswer(invocation -> UserStoreCountUtils.DOMAIN_COUNT_TIMEOUT.equals(invocation.getArgument(0)) ?
+                        DOMAIN_COUNT_TIMEOUT : invocation.getArgument(1));
+        userStoreCountService = spy(new UserStoreCountService());
+        release = new CountDownLatch(1);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        release.countDown();
+        userStoreCountUtils.close();
+    }
+
+    @AfterClass
+    public void tearDownClass() {
+
+        UserStoreCountExecutor.shutdown();
+    }
+
+    @Test
+    public void testCountUsersWhenDomainTimesOut() throws Exception {
+
+        doReturn(10L).when(userStoreCountService).countUsersInDomain(FILTER, PRIMARY_DOMAIN);
+        doAnswer(invocation -> {
+            release.await();
+            return 20L;
+        }).when(userStoreCountService).countUsersInDomain(FILTER, SECONDARY_DOMAIN);
+
+        PairDTO[] userCounts = userStoreCountService.countUsers(FILTER);
+
+        assertEquals(userCounts.length, 2);
+        assertEquals(userCounts[0].getKey(), PRIMARY_DOMAIN);
+        assertEquals(userCounts[0].getValue(), "10");
+        assertEquals(userCounts[1].getKey(), SECONDARY_DOMAIN);
+        assertEquals(userCounts[1].getValue(), "Error while getting user count");
+    }
+
+    @Test
+    public void testCountRolesWhenUserStoreDomainFails() throws Exception {
+
+        doThrow(new UserStoreCounterException("Error")).when(userStoreCountService)
+                .countRolesInDomain(FILTER, PRIMARY_DOMAIN);
+        doReturn(5L).when(userStoreCountService).countRolesInDomain(FILTER, SECONDARY_DOMAIN);
+        doReturn(3L).when(userStoreCountService).countRolesInDomain(FILTER, UserCoreConstants.INTERNAL_DOMAIN);
+        doReturn(2L).when(userStoreCountService)
+                .countRolesInDomain(FILTER, InternalStoreCountConstants.APPLICATION_DOMAIN);
+
+        PairDTO[] roleCounts = userStoreCountService.countRoles(FILTER);
+
+        assertEquals(roleCounts.length, 4);
+        assertEquals(roleCounts[0].getValue(), "Error while getting role count");
+        assertEquals(roleCounts[1].getValue(), "5");
+        assertEquals(roleCounts[2].getKey(), UserCoreConstants.INTERNAL_DOMAIN);
+        assertEquals(roleCounts[2].getValue(), "3");
+        assertEquals(roleCounts[3].getKey(), InternalStoreCountConstants.APPLICATION_DOMAIN);
+        assertEquals(roleCounts[3].getValue(), "2");
+    }
+
+    @Test
+    public void testCountRolesWhenInternalDomainFails() throws Exception {
+
+        doReturn(1L).when(userStoreCountService).countRolesInDomain(FILTER, PRIMARY_DOMAIN);
+        doReturn(1L).when(userStoreCountService).countRolesInDomain(FILTER, SECONDARY_DOMAIN);
+        doThrow(new UserStoreCounterException("Error")).when(userStoreCountService)
+                .countRolesInDomain(FILTER, UserCoreConstants.INTERNAL_DOMAIN);
+        doReturn(1L).when(userStoreCountService)
+                .countRolesInDomain(FILTER, InternalStoreCountConstants.APPLICATION_DOMAIN);
+
+        assertThrows(UserStoreCounterException.class, () -> userStoreCountService.countRoles(FILTER));
+    }
+
+    @Test
+    public void testCountClaimWhenDomainFails() throws Exception {
+
+        String claimURI = "http://wso2.org/claims/country";
+        doReturn(7L).when(userStoreCountService).countByClaimInDomain(claimURI, FILTER, PRIMARY_DOMAIN);
+        doThrow(new UserStoreCounterException("Error")).when(userStoreCountService)
+                .countByClaimInDomain(claimURI, FILTER, SECONDARY_DOMAIN);
+
+        PairDTO[] claimCounts = userStoreCountService.countClaim(claimURI, FILTER);
+
+        assertEquals(claimCounts[0].getValue(), "7");
+        assertEquals(claimCounts[1].getValue(), "-1");
+    }
+}
@@ -2713,6 +2713,9 @@ CREATE TABLE IF NOT EXISTS IDN_ASYNC_OPERATION_STATUS (
 	CREATED_AT TIMESTAMP NOT NULL,
 	LAST_MODIFIED TIMESTAMP NOT NULL,
 	POLICY VARCHAR(127),
+	SUCCESS_COUNT INTEGER,
+	FAILED_COUNT INTEGER,
+	PARTIALLY_COMPLETED_COUNT INTEGER,
 
 	PRIMARY KEY (OPERATION_ID),
 	CONSTRAINT ASYNC_OP_STATUS_CK_UNQ UNIQUE (CURSOR_KEY)
@@ -1889,6 +1889,9 @@ CREATE TABLE IDN_ASYNC_OPERATION_STATUS (
     CREATED_AT DATETIME2 NOT NULL,
     LAST_MODIFIED DATETIME2 NOT NULL,
     POLICY VARCHAR(127),
+    SUCCESS_COUNT INT,
+    FAILED_COUNT INT,
+    PARTIALLY_COMPLETED_COUNT INT,
     PRIMARY KEY (OPERATION_ID),
     CONSTRAINT ASYNC_OP_STATUS_CK_UNQ UNIQUE (CURSOR_KEY)
 );